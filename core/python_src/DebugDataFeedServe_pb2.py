@@ -19,7 +19,7 @@ DESCRIPTOR = _descriptor.FileDescriptor(
   name='main/proto/DebugDataFeedServe.proto',
   package='',
   syntax='proto2',
-  serialized_pb=_b('\n#main/proto/DebugDataFeedServe.proto\"D\n\x18SphericalVelocityMessage\x12\n\n\x02\x64r\x18\x01 \x02(\x01\x12\x0e\n\x06\x64theta\x18\x02 \x02(\x01\x12\x0c\n\x04\x64phi\x18\x03 \x02(\x01\"T\n\x1bGeographicCoordinateMessage\x12\x10\n\x08\x61ltitude\x18\x01 \x02(\x01\x12\x10\n\x08latitude\x18\x02 \x02(\x01\x12\x11\n\tlongitude\x18\x03 \x02(\x01\"\xa6\x01\n\x14\x41ircraftStateMessage\x12\x12\n\naircraftID\x18\x01 \x02(\t\x12\x0c\n\x04time\x18\x02 \x02(\x03\x12.\n\x08position\x18\x03 \x02(\x0b\x32\x1c.GeographicCoordinateMessage\x12+\n\x08velocity\x18\x04 \x02(\x0b\x32\x19.SphericalVelocityMessage\x12\x0f\n\x07heading\x18\x05 \x02(\x01\"P\n\x12SystemStateMessage\x12\x0c\n\x04time\x18\x01 \x02(\x03\x12,\n\raircraftState\x18\x02 \x03(\x0b\x32\x15.AircraftStateMessageB7\n!com.atc.simulator.ProtocolBuffersB\x12\x44\x65\x62ugDataFeedServe')
+  serialized_pb=_b('\n#main/proto/DebugDataFeedServe.proto\"D\n\x18SphericalVelocityMessage\x12\n\n\x02\x64r\x18\x01 \x02(\x01\x12\x0e\n\x06\x64theta\x18\x02 \x02(\x01\x12\x0c\n\x04\x64phi\x18\x03 \x02(\x01\"T\n\x1bGeographicCoordinateMessage\x12\x10\n\x08\x61ltitude\x18\x01 \x02(\x01\x12\x10\n\x08latitude\x18\x02 \x02(\x01\x12\x11\n\tlongitude\x18\x03 \x02(\x01\"\xa6\x01\n\x14\x41ircraftStateMessage\x12\x12\n\naircraftID\x18\x01 \x02(\t\x12\x0c\n\x04time\x18\x02 \x02(\x03\x12.\n\x08position\x18\x03 \x02(\x0b\x32\x1c.GeographicCoordinateMessage\x12+\n\x08velocity\x18\x04 \x02(\x0b\x32\x19.SphericalVelocityMessage\x12\x0f\n\x07heading\x18\x05 \x02(\x01\";\n\x15\x41ircraftHandleMessage\x12\x0e\n\x06handle\x18\x01 \x02(\r\x12\x12\n\naircraftID\x18\x02 \x02(\t\"\xd3\x02\n\x12SystemStateMessage\x12\x0c\n\x04time\x18\x01 \x02(\x03\x12,\n\raircraftState\x18\x02 \x03(\x0b\x32\x15.AircraftStateMessage\x12\x17\n\x08keyframe\x18\x03 \x01(\x08:\x05\x66\x61lse\x12.\n\x0e\x61ircraftHandle\x18\x04 \x03(\x0b\x32\x16.AircraftHandleMessage\x12\x12\n\x06handle\x18\x05 \x03(\rB\x02\x10\x01\x12\x16\n\ntimeOffset\x18\x06 \x03(\x12\x42\x02\x10\x01\x12\x14\n\x08\x61ltitude\x18\x07 \x03(\x12\x42\x02\x10\x01\x12\x14\n\x08latitude\x18\x08 \x03(\x12\x42\x02\x10\x01\x12\x15\n\tlongitude\x18\t \x03(\x12\x42\x02\x10\x01\x12\x0e\n\x02\x64r\x18\n \x03(\x12\x42\x02\x10\x01\x12\x12\n\x06\x64theta\x18\x0b \x03(\x12\x42\x02\x10\x01\x12\x10\n\x04\x64phi\x18\x0c \x03(\x12\x42\x02\x10\x01\x12\x13\n\x07heading\x18\r \x03(\x12\x42\x02\x10\x01\x42\x38\n\"com.atc.simulator.protocol_buffersB\x12\x44\x65\x62ugDataFeedServe')
 )
 _sym_db.RegisterFileDescriptor(DESCRIPTOR)
 
@@ -175,6 +175,44 @@ _AIRCRAFTSTATEMESSAGE = _descriptor.Descriptor(
 )
 
 
+_AIRCRAFTHANDLEMESSAGE = _descriptor.Descriptor(
+  name='AircraftHandleMessage',
+  full_name='AircraftHandleMessage',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='handle', full_name='AircraftHandleMessage.handle', index=0,
+      number=1, type=13, cpp_type=3, label=2,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='aircraftID', full_name='AircraftHandleMessage.aircraftID', index=1,
+      number=2, type=9, cpp_type=9, label=2,
+      has_default_value=False, default_value=_b("").decode('utf-8'),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  options=None,
+  is_extendable=False,
+  syntax='proto2',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=364,
+  serialized_end=423,
+)
+
+
 _SYSTEMSTATEMESSAGE = _descriptor.Descriptor(
   name='SystemStateMessage',
   full_name='SystemStateMessage',
@@ -196,6 +234,83 @@ _SYSTEMSTATEMESSAGE = _descriptor.Descriptor(
       message_type=None, enum_type=None, containing_type=None,
       is_extension=False, extension_scope=None,
       options=None),
+    _descriptor.FieldDescriptor(
+      name='keyframe', full_name='SystemStateMessage.keyframe', index=2,
+      number=3, type=8, cpp_type=7, label=1,
+      has_default_value=True, default_value=False,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='aircraftHandle', full_name='SystemStateMessage.aircraftHandle', index=3,
+      number=4, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='handle', full_name='SystemStateMessage.handle', index=4,
+      number=5, type=13, cpp_type=3, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=_descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))),
+    _descriptor.FieldDescriptor(
+      name='timeOffset', full_name='SystemStateMessage.timeOffset', index=5,
+      number=6, type=18, cpp_type=2, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=_descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))),
+    _descriptor.FieldDescriptor(
+      name='altitude', full_name='SystemStateMessage.altitude', index=6,
+      number=7, type=18, cpp_type=2, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=_descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))),
+    _descriptor.FieldDescriptor(
+      name='latitude', full_name='SystemStateMessage.latitude', index=7,
+      number=8, type=18, cpp_type=2, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=_descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))),
+    _descriptor.FieldDescriptor(
+      name='longitude', full_name='SystemStateMessage.longitude', index=8,
+      number=9, type=18, cpp_type=2, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=_descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))),
+    _descriptor.FieldDescriptor(
+      name='dr', full_name='SystemStateMessage.dr', index=9,
+      number=10, type=18, cpp_type=2, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=_descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))),
+    _descriptor.FieldDescriptor(
+      name='dtheta', full_name='SystemStateMessage.dtheta', index=10,
+      number=11, type=18, cpp_type=2, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=_descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))),
+    _descriptor.FieldDescriptor(
+      name='dphi', full_name='SystemStateMessage.dphi', index=11,
+      number=12, type=18, cpp_type=2, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=_descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))),
+    _descriptor.FieldDescriptor(
+      name='heading', full_name='SystemStateMessage.heading', index=12,
+      number=13, type=18, cpp_type=2, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=_descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))),
   ],
   extensions=[
   ],
@@ -208,16 +323,18 @@ _SYSTEMSTATEMESSAGE = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=364,
-  serialized_end=444,
+  serialized_start=426,
+  serialized_end=765,
 )
 
 _AIRCRAFTSTATEMESSAGE.fields_by_name['position'].message_type = _GEOGRAPHICCOORDINATEMESSAGE
 _AIRCRAFTSTATEMESSAGE.fields_by_name['velocity'].message_type = _SPHERICALVELOCITYMESSAGE
 _SYSTEMSTATEMESSAGE.fields_by_name['aircraftState'].message_type = _AIRCRAFTSTATEMESSAGE
+_SYSTEMSTATEMESSAGE.fields_by_name['aircraftHandle'].message_type = _AIRCRAFTHANDLEMESSAGE
 DESCRIPTOR.message_types_by_name['SphericalVelocityMessage'] = _SPHERICALVELOCITYMESSAGE
 DESCRIPTOR.message_types_by_name['GeographicCoordinateMessage'] = _GEOGRAPHICCOORDINATEMESSAGE
 DESCRIPTOR.message_types_by_name['AircraftStateMessage'] = _AIRCRAFTSTATEMESSAGE
+DESCRIPTOR.message_types_by_name['AircraftHandleMessage'] = _AIRCRAFTHANDLEMESSAGE
 DESCRIPTOR.message_types_by_name['SystemStateMessage'] = _SYSTEMSTATEMESSAGE
 
 SphericalVelocityMessage = _reflection.GeneratedProtocolMessageType('SphericalVelocityMessage', (_message.Message,), dict(
@@ -241,6 +358,13 @@ AircraftStateMessage = _reflection.GeneratedProtocolMessageType('AircraftStateMe
   ))
 _sym_db.RegisterMessage(AircraftStateMessage)
 
+AircraftHandleMessage = _reflection.GeneratedProtocolMessageType('AircraftHandleMessage', (_message.Message,), dict(
+  DESCRIPTOR = _AIRCRAFTHANDLEMESSAGE,
+  __module__ = 'main.proto.DebugDataFeedServe_pb2'
+  # @@protoc_insertion_point(class_scope:AircraftHandleMessage)
+  ))
+_sym_db.RegisterMessage(AircraftHandleMessage)
+
 SystemStateMessage = _reflection.GeneratedProtocolMessageType('SystemStateMessage', (_message.Message,), dict(
   DESCRIPTOR = _SYSTEMSTATEMESSAGE,
   __module__ = 'main.proto.DebugDataFeedServe_pb2'
@@ -250,5 +374,23 @@ _sym_db.RegisterMessage(SystemStateMessage)
 
 
 DESCRIPTOR.has_options = True
-DESCRIPTOR._options = _descriptor._ParseOptions(descriptor_pb2.FileOptions(), _b('\n!com.atc.simulator.ProtocolBuffersB\022DebugDataFeedServe'))
+DESCRIPTOR._options = _descriptor._ParseOptions(descriptor_pb2.FileOptions(), _b('\n\"com.atc.simulator.protocol_buffersB\022DebugDataFeedServe'))
+_SYSTEMSTATEMESSAGE.fields_by_name['handle'].has_options = True
+_SYSTEMSTATEMESSAGE.fields_by_name['handle']._options = _descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))
+_SYSTEMSTATEMESSAGE.fields_by_name['timeOffset'].has_options = True
+_SYSTEMSTATEMESSAGE.fields_by_name['timeOffset']._options = _descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))
+_SYSTEMSTATEMESSAGE.fields_by_name['altitude'].has_options = True
+_SYSTEMSTATEMESSAGE.fields_by_name['altitude']._options = _descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))
+_SYSTEMSTATEMESSAGE.fields_by_name['latitude'].has_options = True
+_SYSTEMSTATEMESSAGE.fields_by_name['latitude']._options = _descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))
+_SYSTEMSTATEMESSAGE.fields_by_name['longitude'].has_options = True
+_SYSTEMSTATEMESSAGE.fields_by_name['longitude']._options = _descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))
+_SYSTEMSTATEMESSAGE.fields_by_name['dr'].has_options = True
+_SYSTEMSTATEMESSAGE.fields_by_name['dr']._options = _descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))
+_SYSTEMSTATEMESSAGE.fields_by_name['dtheta'].has_options = True
+_SYSTEMSTATEMESSAGE.fields_by_name['dtheta']._options = _descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))
+_SYSTEMSTATEMESSAGE.fields_by_name['dphi'].has_options = True
+_SYSTEMSTATEMESSAGE.fields_by_name['dphi']._options = _descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))
+_SYSTEMSTATEMESSAGE.fields_by_name['heading'].has_options = True
+_SYSTEMSTATEMESSAGE.fields_by_name['heading']._options = _descriptor._ParseOptions(descriptor_pb2.FieldOptions(), _b('\020\001'))
 # @@protoc_insertion_point(module_scope)
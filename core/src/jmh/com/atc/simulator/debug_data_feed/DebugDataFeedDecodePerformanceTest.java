@@ -0,0 +1,110 @@
+package com.atc.simulator.debug_data_feed;
+
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.SystemState;
+import com.atc.simulator.prediction_service.SystemStateDeltaDecoder;
+import com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage;
+import com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+
+/**
+ * Parsing a keyframe interval's worth of debug data feed messages, and making the AircraftState's from them
+ * as the DebugDataFeedClientThread does, with every aircraft's full state in every message, against
+ * the messages delta encoded by the SystemStateDeltaEncoder.
+ *
+ * @author Luke Frisken
+ */
+@State(Scope.Thread)
+public class DebugDataFeedDecodePerformanceTest {
+    private static final int MESSAGE_COUNT = 50;
+    private static final int AIRCRAFT_COUNT = 20;
+
+    private ArrayList<byte[]> fullMessages;
+    private ArrayList<byte[]> deltaMessages;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        fullMessages = new ArrayList<byte[]>();
+        deltaMessages = new ArrayList<byte[]>();
+        SystemStateDeltaEncoder encoder = new SystemStateDeltaEncoder(MESSAGE_COUNT);
+        long startTime = 1464297675000L;
+        for (int i = 0; i < MESSAGE_COUNT; i++)
+        {
+            ArrayList<AircraftState> aircraftStates = new ArrayList<AircraftState>();
+            for (int aircraft = 0; aircraft < AIRCRAFT_COUNT; aircraft++)
+            {
+                SphericalVelocity velocity = new SphericalVelocity(2.5, 3e-5 + aircraft*1e-7, -1e-5);
+                GeographicCoordinate start = GeographicCoordinate.fromDegrees(3000.0 + aircraft*100.3,
+                        -37.8 + aircraft*0.01, 144.9 - aircraft*0.02);
+                GeographicCoordinate position = new GeographicCoordinate(
+                        velocity.angularVelocityTranslate(start, i*5.0));
+                aircraftStates.add(new AircraftState("QFA" + aircraft, startTime + i*5000L, position,
+                        velocity, 338.0));
+            }
+            SystemState systemState = new SystemState(startTime + i*5000L, aircraftStates);
+            fullMessages.add(DebugDataFeedServerThread.buildMessage(systemState).toByteArray());
+            deltaMessages.add(encoder.encode(systemState).toByteArray());
+        }
+    }
+
+    @Benchmark
+    public int decodeFull() throws InvalidProtocolBufferException
+    {
+        int count = 0;
+        for (byte[] bytes : fullMessages)
+        {
+            SystemStateMessage message = SystemStateMessage.parseFrom(bytes);
+            ArrayList<AircraftState> aircraftStates = new ArrayList<AircraftState>();
+            for (AircraftStateMessage aircraftStateMessage : message.getAircraftStateList())
+            {
+                aircraftStates.add(new AircraftState(
+                        aircraftStateMessage.getAircraftID(),
+                        aircraftStateMessage.getTime(),
+                        new GeographicCoordinate(aircraftStateMessage.getPosition().getAltitude(),
+                                aircraftStateMessage.getPosition().getLatitude(),
+                                aircraftStateMessage.getPosition().getLongitude()),
+                        new SphericalVelocity(aircraftStateMessage.getVelocity().getDr(),
+                                aircraftStateMessage.getVelocity().getDtheta(),
+                                aircraftStateMessage.getVelocity().getDphi()),
+                        aircraftStateMessage.getHeading()));
+            }
+            count += new SystemState(message.getTime(), aircraftStates).getAircraftStates().size();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int decodeDelta() throws InvalidProtocolBufferException
+    {
+        int count = 0;
+        SystemStateDeltaDecoder decoder = new SystemStateDeltaDecoder();
+        for (byte[] bytes : deltaMessages)
+        {
+            count += decoder.decode(SystemStateMessage.parseFrom(bytes)).getAircraftStates().size();
+        }
+        return count;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(DebugDataFeedDecodePerformanceTest.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
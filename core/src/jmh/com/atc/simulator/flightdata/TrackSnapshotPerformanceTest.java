@@ -0,0 +1,74 @@
+package com.atc.simulator.flightdata;
+
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the cost of appending a state to a track and then taking a copy of it
+ * (what the PredictionEngineThread used to do for each update) with appending and taking
+ * a snapshot, for different track lengths.
+ *
+ * @author Luke Frisken
+ */
+@State(Scope.Thread)
+public class TrackSnapshotPerformanceTest {
+    @Param({"100", "1000", "10000"})
+    public int trackLength;
+
+    private Track track;
+    private AircraftState state;
+
+    @Setup(Level.Iteration)
+    public void setup()
+    {
+        track = new Track();
+        state = new AircraftState("A", 0,
+                new GeographicCoordinate(0, 0, 0),
+                new SphericalVelocity(0, 0, 0),
+                0);
+        for (int i = 0; i < trackLength; i++)
+        {
+            track.add(state);
+        }
+    }
+
+    @Benchmark
+    public Track appendAndCopy()
+    {
+        track.add(state);
+        Track copy = new Track();
+        copy.addAll(track);
+        track.remove(track.size()-1);
+        return copy;
+    }
+
+    /**
+     * Unlike {@link #appendAndCopy()} the track keeps growing here (removing from a
+     * track with a snapshot would copy it), which can only make this benchmark slower.
+     */
+    @Benchmark
+    public Track appendAndSnapshot()
+    {
+        track.add(state);
+        return track.snapshot();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(TrackSnapshotPerformanceTest.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
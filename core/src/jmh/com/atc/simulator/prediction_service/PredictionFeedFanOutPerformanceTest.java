@@ -0,0 +1,125 @@
+package com.atc.simulator.prediction_service;
+
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.Prediction;
+import com.atc.simulator.flightdata.Track;
+import com.atc.simulator.prediction_service.engine.algorithms.PredictionAlgorithmType;
+import com.atc.simulator.prediction_service.engine.algorithms.java.JavaPredictionAlgorithm;
+import com.atc.simulator.protocol_buffers.PredictionFeedServe;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Fanning a prediction message out to a number of clients, by serializing it separately for each
+ * client with writeDelimitedTo(), against encoding it once into a pooled {@link EncodedMessage}
+ * and writing a view of it to each client.
+ *
+ * Each client is a sink which copies the bytes written to it into its own buffer, standing in for the
+ * copy into the socket's send buffer, so that the difference is the serialization.
+ *
+ * @author Luke Frisken
+ */
+@State(Scope.Thread)
+public class PredictionFeedFanOutPerformanceTest {
+    /**
+     * A client's socket, as an OutputStream for writeDelimitedTo()
+     */
+    private static class StreamSink extends OutputStream {
+        private final byte[] buffer = new byte[65536];
+        private int position;
+
+        @Override
+        public void write(int b) throws IOException
+        {
+            buffer[position++ & 0xFFFF] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException
+        {
+            System.arraycopy(b, off, buffer, 0, len);
+            position += len;
+        }
+    }
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int clientCount;
+
+    private PredictionFeedServe.AircraftPredictionMessage message;
+    private ByteBufferPool pool;
+    private StreamSink[] streamSinks;
+    private ByteBuffer[] bufferSinks;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        GeographicCoordinate position = GeographicCoordinate.fromDegrees(3000, -37.8, 144.9);
+        Track track = new Track();
+        track.add(new AircraftState("ABC123", 0, position, new SphericalVelocity(0, 3e-5, 1e-5), 0));
+        Prediction prediction = JavaPredictionAlgorithm.getInstance(PredictionAlgorithmType.LINEAR)
+                .makePrediction(track, null);
+        message = PredictionFeedServerThread.buildMessage(prediction, false);
+
+        pool = new ByteBufferPool(16384, 16);
+        streamSinks = new StreamSink[clientCount];
+        bufferSinks = new ByteBuffer[clientCount];
+        for (int i = 0; i < clientCount; i++)
+        {
+            streamSinks[i] = new StreamSink();
+            bufferSinks[i] = ByteBuffer.allocateDirect(65536);
+        }
+    }
+
+    @Benchmark
+    public int serializePerClient() throws IOException
+    {
+        int written = 0;
+        for (StreamSink sink : streamSinks)
+        {
+            sink.position = 0;
+            message.writeDelimitedTo(sink);
+            written += sink.position;
+        }
+        return written;
+    }
+
+    @Benchmark
+    public int encodeOnce()
+    {
+        EncodedMessage encoded = EncodedMessage.encode(message.getAircraftID(), message, pool);
+        int written = 0;
+        for (ByteBuffer sink : bufferSinks)
+        {
+            encoded.retain();
+            sink.clear();
+            sink.put(encoded.getView());
+            written += sink.position();
+            encoded.release();
+        }
+        encoded.release();
+        return written;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(PredictionFeedFanOutPerformanceTest.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,80 @@
+package com.atc.simulator.prediction_service.engine;
+
+import com.atc.simulator.debug_data_feed.scenarios.ADSBRealtimeScenario;
+import com.atc.simulator.debug_data_feed.scenarios.Scenario;
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.Prediction;
+import com.atc.simulator.flightdata.Track;
+import com.atc.simulator.prediction_service.engine.algorithms.PredictionAlgorithmType;
+import com.atc.simulator.prediction_service.engine.algorithms.java.JavaLinear2dAlgorithm;
+import com.atc.simulator.prediction_service.engine.algorithms.java.JavaPredictionAlgorithm;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.GnomonicProjection;
+import com.atc.simulator.vectors.SphericalVelocity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The setup which used to be done for every prediction, when JavaPredictionWorkerThread got a new
+ * algorithm for each work item and the algorithm created its own projection, compared with getting
+ * the shared algorithm and scenario projection, and with a whole prediction for scale.
+ *
+ * @author Luke Frisken
+ */
+@State(Scope.Thread)
+public class AlgorithmSetupPerformanceTest {
+    private GeographicCoordinate projectionReference;
+    private Track track;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        projectionReference = GeographicCoordinate.fromDegrees(0, -37.8136, 144.9631);
+        Scenario.setCurrentScenario(new ADSBRealtimeScenario(projectionReference));
+
+        track = new Track();
+        for (int i = 0; i < 20; i++)
+        {
+            GeographicCoordinate position = GeographicCoordinate.fromDegrees(3000, -37.8 + i*0.001, 144.9 + i*0.001);
+            track.add(new AircraftState("ABC123", i*1000L, position, new SphericalVelocity(0, 1e-5, 1e-5), 0.7));
+        }
+    }
+
+    @Benchmark
+    public void newAlgorithmSetup(Blackhole blackhole)
+    {
+        // what JavaPredictionWorkerThread and the algorithm used to do for each prediction
+        blackhole.consume(new JavaLinear2dAlgorithm());
+        blackhole.consume(new GnomonicProjection(Scenario.getCurrentScenario().getProjectionReference()));
+    }
+
+    @Benchmark
+    public void sharedAlgorithmSetup(Blackhole blackhole)
+    {
+        blackhole.consume(JavaPredictionAlgorithm.getInstance(PredictionAlgorithmType.LINEAR2D));
+        blackhole.consume(Scenario.getCurrentScenario().getProjection());
+    }
+
+    @Benchmark
+    public Prediction linear2dPrediction()
+    {
+        return JavaPredictionAlgorithm.getInstance(PredictionAlgorithmType.LINEAR2D).makePrediction(track);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(AlgorithmSetupPerformanceTest.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,111 @@
+package com.atc.simulator.prediction_service.engine;
+
+import com.atc.simulator.debug_data_feed.scenarios.ADSBRealtimeScenario;
+import com.atc.simulator.debug_data_feed.scenarios.Scenario;
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.Track;
+import com.atc.simulator.prediction_service.engine.algorithms.PredictionAlgorithmType;
+import com.atc.simulator.prediction_service.engine.algorithms.java.JavaBatchPredictionAlgorithm;
+import com.atc.simulator.prediction_service.engine.algorithms.java.JavaPredictionAlgorithm;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A batch of CURVILINEAR2D work items (a third of them turning) predicted one at a time with
+ * JavaCurvilinear2dAlgorithm, as JavaPredictionWorkerThread does, compared with JavaBatchPredictionAlgorithm
+ * on the calling thread and with a ForkJoinPool.
+ *
+ * @author Luke Frisken
+ */
+@State(Scope.Thread)
+public class BatchPredictionPerformanceTest {
+    @Param({"16", "256"})
+    private int batchSize;
+
+    private ArrayList<PredictionWorkItem> batch;
+    private JavaPredictionAlgorithm algorithm;
+    private JavaBatchPredictionAlgorithm batchAlgorithm;
+    private JavaBatchPredictionAlgorithm forkJoinBatchAlgorithm;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        Scenario.setCurrentScenario(new ADSBRealtimeScenario(GeographicCoordinate.fromDegrees(0, -37.8136, 144.9631)));
+
+        batch = new ArrayList<PredictionWorkItem>();
+        for (int k = 0; k < batchSize; k++)
+        {
+            double turnRate = (k % 3 == 0) ? 0.02 : 0;
+            Track track = new Track();
+            for (int i = 0; i < 20; i++)
+            {
+                double t = i * 5.0;
+                double latitude = Math.toRadians(-37.8) + k*1e-4 + 3e-5 * (turnRate == 0 ? t : Math.sin(turnRate*t)/turnRate);
+                double longitude = Math.toRadians(144.9) + (turnRate == 0 ? 3e-5*t : 3e-5*(1 - Math.cos(turnRate*t))/turnRate);
+                track.add(new AircraftState("A" + k, (long) (t*1000),
+                        new GeographicCoordinate(3000, latitude, longitude),
+                        new SphericalVelocity(0, 3e-5, 3e-5), 0));
+            }
+            batch.add(new PredictionWorkItem("A" + k, track, PredictionAlgorithmType.CURVILINEAR2D, null));
+        }
+
+        algorithm = JavaPredictionAlgorithm.getInstance(PredictionAlgorithmType.CURVILINEAR2D);
+        batchAlgorithm = new JavaBatchPredictionAlgorithm(null);
+        pool = new ForkJoinPool(4);
+        forkJoinBatchAlgorithm = new JavaBatchPredictionAlgorithm(pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void perItemPrediction(Blackhole blackhole)
+    {
+        for (PredictionWorkItem workItem : batch)
+        {
+            blackhole.consume(algorithm.makePrediction(workItem.getTrack(), null));
+        }
+    }
+
+    @Benchmark
+    public void batchPrediction(Blackhole blackhole)
+    {
+        batchAlgorithm.run(batch);
+        blackhole.consume(batch.get(batchSize - 1).getPrediction());
+    }
+
+    @Benchmark
+    public void forkJoinBatchPrediction(Blackhole blackhole)
+    {
+        forkJoinBatchAlgorithm.run(batch);
+        blackhole.consume(batch.get(batchSize - 1).getPrediction());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(BatchPredictionPerformanceTest.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
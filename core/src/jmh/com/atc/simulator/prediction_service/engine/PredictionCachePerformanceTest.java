@@ -0,0 +1,83 @@
+package com.atc.simulator.prediction_service.engine;
+
+import com.atc.simulator.debug_data_feed.scenarios.ADSBRealtimeScenario;
+import com.atc.simulator.debug_data_feed.scenarios.Scenario;
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.Prediction;
+import com.atc.simulator.flightdata.Track;
+import com.atc.simulator.prediction_service.engine.algorithms.PredictionAlgorithmType;
+import com.atc.simulator.prediction_service.engine.algorithms.java.JavaPredictionAlgorithm;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Recomputing the straight prediction of an aircraft with JavaLMLeastSquaresAlgorithmV3,
+ * against checking whether its cached prediction in the PredictionCache can be reused.
+ *
+ * @author Luke Frisken
+ */
+@State(Scope.Thread)
+public class PredictionCachePerformanceTest {
+    private Track track;
+    private AircraftState latest;
+    private Object algorithmState;
+    private PredictionCache cache;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        GeographicCoordinate projectionReference = GeographicCoordinate.fromDegrees(0, -37.8136, 144.9631);
+        Scenario.setCurrentScenario(new ADSBRealtimeScenario(projectionReference));
+
+        SphericalVelocity velocity = new SphericalVelocity(0, 3e-5, 1e-5);
+        GeographicCoordinate start = GeographicCoordinate.fromDegrees(3000, -37.8, 144.9);
+        track = new Track();
+        for (int i = 0; i < 20; i++)
+        {
+            GeographicCoordinate position = new GeographicCoordinate(velocity.angularVelocityTranslate(start, i));
+            track.add(new AircraftState("ABC123", i*1000L, position, velocity, 0));
+        }
+        latest = track.getLatest();
+
+        JavaPredictionAlgorithm algorithm = JavaPredictionAlgorithm.getInstance(PredictionAlgorithmType.LMLEASTSQUARESV3);
+        algorithmState = algorithm.getNewStateObject();
+        cache = new PredictionCache(50.0, 2.0, 5000);
+        // cached two seconds before the latest state
+        cache.put(algorithm.makePrediction(new Track(track.subList(0, 18)), algorithm.getNewStateObject()));
+        if (cache.get("ABC123", latest) == null)
+        {
+            throw new IllegalStateException("the cached prediction should be reused");
+        }
+    }
+
+    @Benchmark
+    public Prediction recompute()
+    {
+        JavaPredictionAlgorithm algorithm = JavaPredictionAlgorithm.getInstance(PredictionAlgorithmType.LMLEASTSQUARESV3);
+        return algorithm.makePrediction(track, algorithmState);
+    }
+
+    @Benchmark
+    public Prediction reuseCached()
+    {
+        return cache.get("ABC123", latest);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(PredictionCachePerformanceTest.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,177 @@
+package com.atc.simulator.prediction_service.engine;
+
+import com.atc.simulator.debug_data_feed.scenarios.ADSBRealtimeScenario;
+import com.atc.simulator.debug_data_feed.scenarios.Scenario;
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.Prediction;
+import com.atc.simulator.flightdata.Track;
+import com.atc.simulator.prediction_service.engine.algorithms.PredictionAlgorithmType;
+import com.atc.simulator.prediction_service.engine.algorithms.java.JavaPredictionAlgorithm;
+import com.atc.simulator.prediction_service.engine.algorithms.java.JavaPredictionPropagator;
+import com.atc.simulator.prediction_service.engine.algorithms.java.PredictionBuffers;
+import com.atc.simulator.prediction_service.engine.algorithms.java.ScalarJavaPredictionPropagator;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.GnomonicProjection;
+import com.atc.simulator.vectors.SphericalVelocity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import pythagoras.d.Matrix3;
+import pythagoras.d.Vector3;
+
+/**
+ * The 24 step propagator loops, with the scalar and the Vector API propagators, and the
+ * rotation matrix loop the turn tracks used to be predicted with for comparison.
+ *
+ * The vector propagator needs the vector source set on the classpath and a JDK 16 or newer,
+ * run with -jvmArgsAppend --add-modules=jdk.incubator.vector (the vector benchmarks fail in their
+ * setup otherwise). The predictions use {@link JavaPredictionPropagator#getInstance()}, so they
+ * depend on which propagator the JVM selected.
+ *
+ * @author Luke Frisken
+ */
+@State(Scope.Thread)
+public class PropagatorPerformanceTest {
+    private static final int N = 24;
+    private static final double DT = 5.0;
+
+    @Param({"scalar", "vector"})
+    private String propagatorType;
+
+    private JavaPredictionPropagator propagator;
+    private GnomonicProjection projection;
+    private Vector3 position;
+    private Vector3 axis;
+    private double[] x = new double[N];
+    private double[] y = new double[N];
+    private double[] latitude = new double[N];
+    private double[] longitude = new double[N];
+    private Track track;
+    private PredictionBuffers buffers = new PredictionBuffers();
+    private Object algorithmState;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        if (propagatorType.equals("vector"))
+        {
+            propagator = JavaPredictionPropagator.loadVectorPropagator();
+            if (propagator == null)
+            {
+                throw new IllegalStateException("the vector propagator is not available in this JVM");
+            }
+        } else {
+            propagator = new ScalarJavaPredictionPropagator();
+        }
+
+        GeographicCoordinate projectionReference = GeographicCoordinate.fromDegrees(0, -37.8136, 144.9631);
+        Scenario.setCurrentScenario(new ADSBRealtimeScenario(projectionReference));
+        projection = Scenario.getCurrentScenario().getProjection();
+        position = GeographicCoordinate.fromDegrees(3000, -37.8, 144.9).getCartesian();
+        axis = new Vector3(0.3, -0.5, 0.8).normalize();
+
+        algorithmState = JavaPredictionAlgorithm.getInstance(PredictionAlgorithmType.LMLEASTSQUARESV3).getNewStateObject();
+        track = new Track();
+        for (int i = 0; i < 20; i++)
+        {
+            double angle = i*0.1;
+            GeographicCoordinate trackPosition = GeographicCoordinate.fromDegrees(3000,
+                    -37.8 + 0.01*Math.sin(angle), 144.9 + 0.01*(1 - Math.cos(angle)));
+            track.add(new AircraftState("ABC123", i*5000L, trackPosition,
+                    new SphericalVelocity(0, 3e-5*Math.sin(angle), 3e-5*Math.cos(angle)), 0));
+        }
+    }
+
+    @Benchmark
+    public void greatCircle(Blackhole blackhole)
+    {
+        propagator.propagateGreatCircle(position.x, position.y, position.z, axis.x, axis.y, axis.z,
+                4e-5, DT, N, latitude, longitude, 0);
+        blackhole.consume(latitude);
+        blackhole.consume(longitude);
+    }
+
+    @Benchmark
+    public void lineAndProjectFrom(Blackhole blackhole)
+    {
+        propagator.propagateLine(-4000, 7000, 150, -120, DT, N, x, y, 0);
+        propagator.projectFrom(projection, x, y, N, latitude, longitude, 0);
+        blackhole.consume(latitude);
+        blackhole.consume(longitude);
+    }
+
+    @Benchmark
+    public void turnAndProjectFrom(Blackhole blackhole)
+    {
+        propagator.propagateTurn(12000, -3000, -2500, 4000, -0.03, DT, N, x, y, 0);
+        propagator.projectFrom(projection, x, y, N, latitude, longitude, 0);
+        blackhole.consume(latitude);
+        blackhole.consume(longitude);
+    }
+
+    @Benchmark
+    public void turnTracks(Blackhole blackhole)
+    {
+        propagator.propagateTurnTracks(projection, 0, 0, 0, 200, 6000, 0, 200.0/6000.0, 1.5, -1.0,
+                DT, N, buffers);
+        blackhole.consume(buffers);
+    }
+
+    /**
+     * What JavaLMLeastSquaresAlgorithmV3 used to do for turnTracks, two rotation matrices and
+     * a handful of vectors for each step.
+     */
+    @Benchmark
+    public void matrixTurnTracks(Blackhole blackhole)
+    {
+        Vector3 centre = new Vector3(6000, 0, 0);
+        Vector3 rVec = new Vector3(-6000, 0, 0);
+        Vector3 centreCircleCentre = new Vector3(9000, 0, 0);
+        Vector3 centreCircleRVec = new Vector3(-9000, 0, 0);
+        double w = 200.0/6000.0;
+        double wCentre = w/1.5;
+        for (int i = 0; i < N; i++)
+        {
+            Matrix3 rotation = new Matrix3().setToRotation(-w*(i+1)*DT, new Vector3(0, 0, 1));
+            Vector3 rVecRotated = rotation.transform(rVec);
+            blackhole.consume(projection.transformPositionFrom(new Vector3(centre.add(rVecRotated))));
+            blackhole.consume(new Vector3(0, 0, -1).cross(rVecRotated).normalize());
+
+            Matrix3 centreRotation = new Matrix3().setToRotation(-wCentre*(i+1)*DT, new Vector3(0, 0, 1));
+            Vector3 centreCircleRVecRotated = centreRotation.transform(centreCircleRVec);
+            blackhole.consume(projection.transformPositionFrom(new Vector3(centreCircleCentre.add(centreCircleRVecRotated))));
+            blackhole.consume(new Vector3(0, 0, -1).cross(centreCircleRVecRotated).normalize());
+        }
+    }
+
+    @Benchmark
+    public Prediction linearPrediction()
+    {
+        return JavaPredictionAlgorithm.getInstance(PredictionAlgorithmType.LINEAR).makePrediction(track, null);
+    }
+
+    @Benchmark
+    public Prediction lmLeastSquaresV3Prediction()
+    {
+        JavaPredictionAlgorithm algorithm = JavaPredictionAlgorithm.getInstance(PredictionAlgorithmType.LMLEASTSQUARESV3);
+        return algorithm.makePrediction(track, algorithmState);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(PropagatorPerformanceTest.class.getSimpleName())
+                .forks(1)
+                .jvmArgsAppend("--add-modules=jdk.incubator.vector")
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,194 @@
+package com.atc.simulator.prediction_service.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.PriorityQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Compares the throughput of the lock-free PredictionEngineTodoQueue against the previous
+ * locking heap implementation (which was also wrapped in a second lock by the PredictionEngineThread),
+ * with 1, 4, 16 and 64 worker threads consuming the work items that a single producer adds.
+ *
+ * Each operation is one work item being added by the producer and taken by a worker.
+ *
+ * @author Luke Frisken
+ */
+@State(Scope.Benchmark)
+public class TodoQueuePerformanceTest {
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"1", "4", "16", "64"})
+    public int workers;
+
+    @Param({"lockfree", "locking"})
+    public String implementation;
+
+    private TodoQueue queue;
+    private ArrayList<Thread> workerThreads;
+    private String[] aircraftIDs;
+    private volatile CountDownLatch batchLatch;
+    private volatile boolean continueWorkers;
+
+    /**
+     * The take/add API which both queue implementations share.
+     */
+    private interface TodoQueue {
+        boolean add(PredictionWorkItem workItem);
+        PredictionWorkItem take();
+    }
+
+    /**
+     * The current implementation.
+     */
+    private static class LockFreeTodoQueue implements TodoQueue {
+        private final PredictionEngineTodoQueue queue = new PredictionEngineTodoQueue();
+
+        @Override
+        public boolean add(PredictionWorkItem workItem) {
+            return queue.add(workItem);
+        }
+
+        @Override
+        public PredictionWorkItem take() {
+            return queue.take();
+        }
+    }
+
+    /**
+     * The previous implementation, a heap behind a ReentrantLock, with the
+     * PredictionEngineThread's todoQueueLock around each add.
+     */
+    private static class LockingTodoQueue implements TodoQueue {
+        private final Lock engineLock = new ReentrantLock();
+        private final Condition engineCondition = engineLock.newCondition();
+        private final Lock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final PriorityQueue<PredictionWorkItem> heap = new PriorityQueue<PredictionWorkItem>(
+                64, Collections.reverseOrder(new PredictionWorkItem()));
+
+        @Override
+        public boolean add(PredictionWorkItem workItem) {
+            engineLock.lock();
+            try {
+                lock.lock();
+                try {
+                    heap.add(workItem);
+                    notEmpty.signal();
+                } finally {
+                    lock.unlock();
+                }
+                engineCondition.signalAll();
+            } finally {
+                engineLock.unlock();
+            }
+            return true;
+        }
+
+        @Override
+        public PredictionWorkItem take() {
+            lock.lock();
+            try {
+                while (heap.isEmpty())
+                {
+                    notEmpty.awaitUninterruptibly();
+                }
+                return heap.poll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        if (implementation.equals("lockfree"))
+        {
+            queue = new LockFreeTodoQueue();
+        } else {
+            queue = new LockingTodoQueue();
+        }
+
+        aircraftIDs = new String[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++)
+        {
+            aircraftIDs[i] = "AIRCRAFT" + i;
+        }
+
+        continueWorkers = true;
+        workerThreads = new ArrayList<Thread>();
+        for (int i = 0; i < workers; i++)
+        {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    while (continueWorkers)
+                    {
+                        PredictionWorkItem workItem = queue.take();
+                        if (workItem.getAircraftID() == null)
+                        {
+                            return; // poison pill
+                        }
+                        batchLatch.countDown();
+                    }
+                }
+            }, "TodoQueueBenchmarkWorker " + i);
+            thread.setDaemon(true);
+            thread.start();
+            workerThreads.add(thread);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException
+    {
+        continueWorkers = false;
+        for (int i = 0; i < workers; i++)
+        {
+            queue.add(new PredictionWorkItem(null, null, null, null, 0, 0));
+        }
+        for (Thread thread : workerThreads)
+        {
+            thread.join();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void addAndTakeBatch() throws InterruptedException
+    {
+        batchLatch = new CountDownLatch(BATCH_SIZE);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < BATCH_SIZE; i++)
+        {
+            queue.add(new PredictionWorkItem(aircraftIDs[i], null, null, null, now, now + (i % 400)));
+        }
+        batchLatch.await();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(TodoQueuePerformanceTest.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,112 @@
+package com.atc.simulator.vectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import pythagoras.d.Circle;
+import pythagoras.d.Vector3;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Compares fitting a circle to a moving window of aircraft positions (in a projected coordinate system)
+ * using the ddogleg LM optimizer started from {@link CircleSolver#FromThreePoints(Vector3, Vector3, Vector3)}
+ * (what JavaLMLeastSquaresAlgorithmV3 used to do), against {@link CircleFit}, and against
+ * {@link SlidingCircleFit} sliding along the track by one position per operation.
+ *
+ * @author Luke Frisken
+ */
+@State(Scope.Thread)
+public class CircleFitPerformanceTest {
+    @Param({"10", "50"})
+    public int windowSize;
+
+    private ArrayList<Vector3> points;
+    private CircleFit circleFit;
+
+    private static final int TRACK_LENGTH = 4096;
+    private double[] trackX;
+    private double[] trackY;
+    private int trackIndex;
+    private SlidingCircleFit slidingCircleFit;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        Random random = new Random(42);
+        double radius = 8000;
+        double noise = 2;
+        points = new ArrayList<Vector3>(windowSize);
+        for (int i = 0; i < windowSize; i++)
+        {
+            double angle = 0.05 * i;
+            points.add(new Vector3(
+                    20000 + radius * Math.cos(angle) + random.nextGaussian() * noise,
+                    -5000 + radius * Math.sin(angle) + random.nextGaussian() * noise,
+                    0));
+        }
+        circleFit = new CircleFit();
+
+        trackX = new double[TRACK_LENGTH];
+        trackY = new double[TRACK_LENGTH];
+        for (int i = 0; i < TRACK_LENGTH; i++)
+        {
+            double angle = 0.05 * i;
+            trackX[i] = 20000 + radius * Math.cos(angle) + random.nextGaussian() * noise;
+            trackY[i] = -5000 + radius * Math.sin(angle) + random.nextGaussian() * noise;
+        }
+        slidingCircleFit = new SlidingCircleFit(windowSize);
+        for (trackIndex = 0; trackIndex < windowSize; trackIndex++)
+        {
+            slidingCircleFit.add(trackIndex, trackX[trackIndex], trackY[trackIndex]);
+        }
+    }
+
+    @Benchmark
+    public Circle ddogleg()
+    {
+        Vector3 headPoint = points.get(points.size()-1);
+        Vector3 middlePoint = points.get((points.size()-1)/2);
+        Vector3 tailPoint = points.get(0);
+        Circle betaCircle = CircleSolver.FromThreePoints(headPoint, middlePoint, tailPoint);
+        return CircleSolver.LeastSquares(points, betaCircle);
+    }
+
+    @Benchmark
+    public double circleFit()
+    {
+        circleFit.clear();
+        for (int i = 0; i < points.size(); i++)
+        {
+            circleFit.add(points.get(i));
+        }
+        circleFit.fitGeometric();
+        return circleFit.getRadius();
+    }
+
+    @Benchmark
+    public double slidingCircleFit()
+    {
+        int i = trackIndex++ % TRACK_LENGTH;
+        slidingCircleFit.add(trackIndex, trackX[i], trackY[i]);
+        slidingCircleFit.fit();
+        return slidingCircleFit.getRadius();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(CircleFitPerformanceTest.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,158 @@
+package com.atc.simulator.vectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import pythagoras.d.Plane;
+import pythagoras.d.Ray3;
+import pythagoras.d.Vector3;
+
+import java.util.Random;
+
+/**
+ * Compares the ways of transforming positions with {@link GnomonicProjection}: intersecting a ray with
+ * the projection plane (the way it used to be done), the {@link Projection} api, and the primitive
+ * and batch apis. Each operation transforms a window of {@link #WINDOW_SIZE} positions, about the
+ * number transformed by JavaLMLeastSquaresAlgorithmV3 for one prediction.
+ *
+ * @author Luke Frisken
+ */
+@State(Scope.Thread)
+public class GnomonicProjectionPerformanceTest {
+    private static final int WINDOW_SIZE = 60;
+
+    private GnomonicProjection projection;
+    private GeographicCoordinate[] positions;
+    private Vector3[] projectedPositions;
+    private double[] geographic;
+    private double[] projected;
+    private double[] result;
+
+    // the plane intersection version
+    private Vector3 planePosition;
+    private Plane plane;
+    private Vector3 northNormal;
+    private Vector3 eastNormal;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        GeographicCoordinate reference = GeographicCoordinate.fromDegrees(0, -37.8136, 144.9631);
+        projection = new GnomonicProjection(reference);
+
+        planePosition = reference.getCartesian();
+        plane = new Plane().fromPointNormal(planePosition, planePosition.normalize().negate());
+        SphericalCoordinate sphericalReference = new SphericalCoordinate(reference);
+        northNormal = sphericalReference.phiCartesianUnitVector();
+        eastNormal = sphericalReference.thetaCartesianUnitVector();
+
+        Random random = new Random(42);
+        positions = new GeographicCoordinate[WINDOW_SIZE];
+        projectedPositions = new Vector3[WINDOW_SIZE];
+        geographic = new double[WINDOW_SIZE*3];
+        projected = new double[WINDOW_SIZE*3];
+        result = new double[WINDOW_SIZE*3];
+        for (int i = 0; i < WINDOW_SIZE; i++)
+        {
+            GeographicCoordinate position = GeographicCoordinate.fromDegrees(
+                    random.nextDouble()*12000,
+                    -37.8136 + (random.nextDouble() - 0.5)*4,
+                    144.9631 + (random.nextDouble() - 0.5)*4);
+            positions[i] = position;
+            projectedPositions[i] = projection.transformPositionTo(position);
+            geographic[i*3] = position.getAltitude();
+            geographic[i*3 + 1] = position.getLatitude();
+            geographic[i*3 + 2] = position.getLongitude();
+            projected[i*3] = projectedPositions[i].x;
+            projected[i*3 + 1] = projectedPositions[i].y;
+            projected[i*3 + 2] = projectedPositions[i].z;
+        }
+    }
+
+    @Benchmark
+    public void planeIntersectionTo(Blackhole blackhole)
+    {
+        for (int i = 0; i < WINDOW_SIZE; i++)
+        {
+            Ray3 ray = new Ray3(new Vector3(0, 0, 0), positions[i].getCartesian().normalize());
+            Vector3 intersection = new Vector3();
+            plane.intersection(ray, intersection);
+            Vector3 gnomonicVector = intersection.subtract(planePosition);
+            blackhole.consume(new Vector3(
+                    gnomonicVector.dot(eastNormal),
+                    gnomonicVector.dot(northNormal),
+                    positions[i].getAltitude()));
+        }
+    }
+
+    @Benchmark
+    public void planeIntersectionFrom(Blackhole blackhole)
+    {
+        for (int i = 0; i < WINDOW_SIZE; i++)
+        {
+            Vector3 projectionCoordinate = projectedPositions[i];
+            Vector3 relativeToPlane = northNormal.mult(projectionCoordinate.y).add(eastNormal.mult(projectionCoordinate.x));
+            GeographicCoordinate position = GeographicCoordinate.fromCartesian(planePosition.add(relativeToPlane));
+            position.setAltitude(projectionCoordinate.z);
+            blackhole.consume(position);
+        }
+    }
+
+    @Benchmark
+    public void projectionTo(Blackhole blackhole)
+    {
+        for (int i = 0; i < WINDOW_SIZE; i++)
+        {
+            blackhole.consume(projection.transformPositionTo(positions[i]));
+        }
+    }
+
+    @Benchmark
+    public void projectionFrom(Blackhole blackhole)
+    {
+        for (int i = 0; i < WINDOW_SIZE; i++)
+        {
+            blackhole.consume(projection.transformPositionFrom(projectedPositions[i]));
+        }
+    }
+
+    @Benchmark
+    public double[] primitiveTo()
+    {
+        for (int i = 0; i < WINDOW_SIZE; i++)
+        {
+            projection.transformPositionTo(geographic[i*3], geographic[i*3 + 1], geographic[i*3 + 2], result, i*3);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double[] batchTo()
+    {
+        projection.transformPositionsTo(geographic, 0, result, 0, WINDOW_SIZE);
+        return result;
+    }
+
+    @Benchmark
+    public double[] batchFrom()
+    {
+        projection.transformPositionsFrom(projected, 0, result, 0, WINDOW_SIZE);
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(GnomonicProjectionPerformanceTest.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,106 @@
+package com.atc.simulator.debug_data_feed;
+
+/**
+ * The last two states of an aircraft sent on the delta encoded debug data feed, and the numbers of the messages
+ * they were sent in, which the {@link SystemStateDeltaEncoder} and the
+ * {@link com.atc.simulator.prediction_service.SystemStateDeltaDecoder} keep for each handle, so that they agree on
+ * what each state is sent as the difference from. The states are reused from message to message.
+ *
+ * @author Luke Frisken
+ */
+public class AircraftStateHistory {
+    private static final int NEVER = Integer.MIN_VALUE;
+
+    private FixedPointAircraftState latest;
+    private FixedPointAircraftState before;
+    private int latestMessage;
+    private int beforeMessage;
+    private int fromZeroMessage;
+
+    /**
+     * Constructor for AircraftStateHistory, for an aircraft which hasn't been sent.
+     */
+    public AircraftStateHistory()
+    {
+        latest = new FixedPointAircraftState();
+        before = new FixedPointAircraftState();
+        latestMessage = NEVER;
+        beforeMessage = NEVER;
+        fromZeroMessage = NEVER;
+    }
+
+    /**
+     * Forget the aircraft's states, as it is sent from zero (with its handle) in a message.
+     * @param message the number of the message
+     */
+    public void sendFromZero(int message)
+    {
+        latestMessage = NEVER;
+        beforeMessage = NEVER;
+        fromZeroMessage = message;
+    }
+
+    /**
+     * Get whether the aircraft is sent from zero in a message.
+     * @param message the number of the message
+     * @return whether it is
+     */
+    public boolean isSentFromZero(int message)
+    {
+        return fromZeroMessage == message;
+    }
+
+    /**
+     * Get the state the aircraft's state in a message is sent as the difference from: the extrapolation of its
+     * states in the previous two messages, its state in the previous message if it wasn't in the one before,
+     * or, if it is in the message twice, the one before it.
+     * @param message the number of the message
+     * @param extrapolated the state to extrapolate into
+     * @return the state to send the difference from, or null if the aircraft wasn't in the previous message,
+     *         so is sent from zero
+     */
+    public FixedPointAircraftState getBase(int message, FixedPointAircraftState extrapolated)
+    {
+        if (latestMessage == message)
+        {
+            return latest;
+        }
+        if (latestMessage != message - 1)
+        {
+            return null;
+        }
+        if (beforeMessage != message - 2)
+        {
+            return latest;
+        }
+        latest.extrapolate(before, extrapolated);
+        return extrapolated;
+    }
+
+    /**
+     * Add the aircraft's state in a message.
+     * @param message the number of the message
+     * @param state the state, which is copied
+     */
+    public void add(int message, FixedPointAircraftState state)
+    {
+        if (latestMessage != message)
+        {
+            FixedPointAircraftState swap = before;
+            before = latest;
+            latest = swap;
+            beforeMessage = latestMessage;
+            latestMessage = message;
+        }
+        latest.set(state);
+    }
+
+    /**
+     * Get the aircraft's latest state.
+     * @return the latest state
+     */
+    public FixedPointAircraftState getLatest()
+    {
+        return latest;
+    }
+}
@@ -14,14 +14,21 @@ import java.io.*;
  * Created by Chris, Uros on 8/05/2016.
  *
  * Modified 30/05/16, Chris. Added comments for flow
+ *
+ * The system states are delta encoded by a {@link SystemStateDeltaEncoder} as they are sent (so that the
+ * differences are always from the last message the client was sent), unless settings.debug-data-feed.server
+ * .delta-encoding is turned off, in which case every aircraft's full state is sent in every message.
  */
 public class DebugDataFeedServerThread implements RunnableThread, DataPlaybackListener {
     private static final boolean enableDebugPrint = ApplicationConfig.getBoolean("settings.debug.print-debugdatafeedserver");
     private static final boolean enableDebugPrintQueues = ApplicationConfig.getBoolean("settings.debug.print-queues");
     private static final boolean enableDebugPrintThreading = ApplicationConfig.getBoolean("settings.debug.print-threading");
     private static final int PORT = ApplicationConfig.getInt("settings.debug-data-feed.server.port-number");
+    private static final boolean DELTA_ENCODING = ApplicationConfig.getBoolean("settings.debug-data-feed.server.delta-encoding");
+    private static final int KEYFRAME_INTERVAL = ApplicationConfig.getInt("settings.debug-data-feed.server.keyframe-interval");
 
-    private ArrayBlockingQueue<SystemStateMessage> toBeSentBuffer;
+    private ArrayBlockingQueue<SystemState> toBeSentBuffer;
+    private SystemStateDeltaEncoder encoder;
     private Thread serverThread; //Thread to accept connections by clients
 
     private ServerSocket serverSocket; //ServerSocket that handles connect requests by clients
@@ -32,7 +39,8 @@ public class DebugDataFeedServerThread implements RunnableThread, DataPlaybackLi
 
     public DebugDataFeedServerThread() {
         // using same value as predictionfeedserver thread for capacity, (400).
-        toBeSentBuffer = new ArrayBlockingQueue<SystemStateMessage>(400);
+        toBeSentBuffer = new ArrayBlockingQueue<SystemState>(400);
+        encoder = new SystemStateDeltaEncoder(KEYFRAME_INTERVAL);
         clientSocket = new Socket();
         try
         {
@@ -74,12 +82,16 @@ public class DebugDataFeedServerThread implements RunnableThread, DataPlaybackLi
                 {
                     try
                     {
-                        toBeSentBuffer.take().writeDelimitedTo(clientSocket.getOutputStream()); //Try to send message
+                        SystemState systemState = toBeSentBuffer.take();
+                        SystemStateMessage message = DELTA_ENCODING ? encoder.encode(systemState) : buildMessage(systemState);
+                        message.writeDelimitedTo(clientSocket.getOutputStream()); //Try to send message
                     } catch ( InterruptedException e) {System.err.println("Interrupted process");
                         e.printStackTrace();
                     } catch (IOException i ) {
                         System.err.println("Send to debug_data_feed Client failed");
                         i.printStackTrace();
+                        //we don't know what the client got, so start again from a keyframe
+                        encoder.reset();
                     }
                 }
             }
@@ -96,12 +108,21 @@ public class DebugDataFeedServerThread implements RunnableThread, DataPlaybackLi
 
     /**
      * This method gets called when there is a system update, and gets
-     * passed the new system state
+     * passed the new system state, which is stored ready for sending.
      *
      * @param systemState the updated system state
      */
     @Override
     public void onSystemUpdate(SystemState systemState) {
+        toBeSentBuffer.add(systemState);
+    }
+
+    /**
+     * Build the message with every aircraft's full state in it, for when the feed isn't delta encoded.
+     * @param systemState the system state to send
+     * @return the message
+     */
+    static SystemStateMessage buildMessage(SystemState systemState) {
         //Create a new builder
         SystemStateMessage.Builder systemStateMessageBuilder = SystemStateMessage.newBuilder();
         //Save the time of the SystemState message creation
@@ -136,11 +157,7 @@ public class DebugDataFeedServerThread implements RunnableThread, DataPlaybackLi
             systemStateMessageBuilder.addAircraftState(aircraftStateMessageBuilder);
         }
         //Once that's done, we wrap up the system message nicely
-        SystemStateMessage systemStateMessage = systemStateMessageBuilder.build(); //yay the final message all built
-        //And store it ready for sending
-        toBeSentBuffer.add(systemStateMessage);
-
-        //TODO: send message to client when this is called by placing it in the buffer.
+        return systemStateMessageBuilder.build(); //yay the final message all built
     }
 
     public void start()
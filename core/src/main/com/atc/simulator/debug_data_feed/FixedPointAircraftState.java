@@ -0,0 +1,104 @@
+package com.atc.simulator.debug_data_feed;
+
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+
+/**
+ * The position, velocity and heading of an AircraftState, rounded to fixed point, which is what the
+ * delta encoded debug data feed sends the differences of (see {@link SystemStateDeltaEncoder}).
+ * The rounding is to a centimeter of altitude, a microdegree (about 10cm) of latitude and longitude,
+ * a centimeter per second of climb, 1e-10 radians per second (under a millimeter per second) of angular
+ * velocity and a microdegree of heading, which is much finer than the ADS-B data the feed plays back.
+ *
+ * @author Luke Frisken
+ */
+public class FixedPointAircraftState {
+    public static final double ALTITUDE_SCALE = 100.0;
+    public static final double ANGLE_SCALE = 1e6;
+    public static final double DR_SCALE = 100.0;
+    public static final double ANGULAR_VELOCITY_SCALE = 1e10;
+    public static final double HEADING_SCALE = 1e6;
+
+    public long altitude;
+    public long latitude;
+    public long longitude;
+    public long dr;
+    public long dtheta;
+    public long dphi;
+    public long heading;
+
+    /**
+     * Constructor for FixedPointAircraftState, with everything zero.
+     */
+    public FixedPointAircraftState()
+    {
+    }
+
+    /**
+     * Set this to an AircraftState, rounded.
+     * @param aircraftState the state to round
+     */
+    public void set(AircraftState aircraftState)
+    {
+        GeographicCoordinate position = aircraftState.getPosition();
+        altitude = Math.round(position.getAltitude() * ALTITUDE_SCALE);
+        latitude = Math.round(Math.toDegrees(position.getLatitude()) * ANGLE_SCALE);
+        longitude = Math.round(Math.toDegrees(position.getLongitude()) * ANGLE_SCALE);
+        SphericalVelocity velocity = aircraftState.getVelocity();
+        dr = Math.round(velocity.getDR() * DR_SCALE);
+        dtheta = Math.round(velocity.getDTheta() * ANGULAR_VELOCITY_SCALE);
+        dphi = Math.round(velocity.getDPhi() * ANGULAR_VELOCITY_SCALE);
+        heading = Math.round(aircraftState.getHeading() * HEADING_SCALE);
+    }
+
+    /**
+     * Set this to a copy of another state.
+     * @param other the state to copy
+     */
+    public void set(FixedPointAircraftState other)
+    {
+        altitude = other.altitude;
+        latitude = other.latitude;
+        longitude = other.longitude;
+        dr = other.dr;
+        dtheta = other.dtheta;
+        dphi = other.dphi;
+        heading = other.heading;
+    }
+
+    /**
+     * Extrapolate the next state, if everything keeps changing as it did from the previous state to this one.
+     * @param previous the previous state
+     * @param next the state to set to the extrapolated next state
+     */
+    public void extrapolate(FixedPointAircraftState previous, FixedPointAircraftState next)
+    {
+        next.altitude = 2*altitude - previous.altitude;
+        next.latitude = 2*latitude - previous.latitude;
+        next.longitude = 2*longitude - previous.longitude;
+        next.dr = 2*dr - previous.dr;
+        next.dtheta = 2*dtheta - previous.dtheta;
+        next.dphi = 2*dphi - previous.dphi;
+        next.heading = 2*heading - previous.heading;
+    }
+
+    /**
+     * Make the AircraftState this represents.
+     * @param aircraftID the aircraft's id
+     * @param time the time of the state (milliseconds since epoch)
+     * @return the new AircraftState
+     */
+    public AircraftState toAircraftState(String aircraftID, long time)
+    {
+        GeographicCoordinate position = new GeographicCoordinate(
+                altitude / ALTITUDE_SCALE,
+                Math.toRadians(latitude / ANGLE_SCALE),
+                Math.toRadians(longitude / ANGLE_SCALE));
+        SphericalVelocity velocity = new SphericalVelocity(
+                dr / DR_SCALE,
+                dtheta / ANGULAR_VELOCITY_SCALE,
+                dphi / ANGULAR_VELOCITY_SCALE);
+        return new AircraftState(aircraftID, time, position, velocity, heading / HEADING_SCALE);
+    }
+}
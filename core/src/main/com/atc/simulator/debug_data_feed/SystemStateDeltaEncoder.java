@@ -0,0 +1,130 @@
+package com.atc.simulator.debug_data_feed;
+
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.SystemState;
+import com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage;
+import com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Encodes the SystemState's sent to one client of the debug data feed as delta encoded SystemStateMessage's.
+ *
+ * Each aircraft is given a small integer handle the first time it is sent in the session (which indexes the
+ * {@link AircraftStateHistory}'s kept on both ends), and its aircraftID is
+ * only sent again in keyframes, or when it wasn't in the previous message. The aircraft are sent in packed arrays,
+ * one for each field, rather than a message each, which saves the field tags. Its position, velocity and heading are
+ * sent as the differences of their {@link FixedPointAircraftState} from where they would be if they had kept
+ * changing as they did between the previous two messages (or from the previous message, if the aircraft wasn't
+ * in the one before). The played back states are interpolated, so change steadily, and the differences are
+ * mostly small enough to take a byte or two each as zig-zag varints. Every keyframe interval
+ * messages, a keyframe is sent, with the differences from zero, which a
+ * {@link com.atc.simulator.prediction_service.SystemStateDeltaDecoder} can start decoding from.
+ *
+ * @author Luke Frisken
+ */
+public class SystemStateDeltaEncoder {
+    private static final FixedPointAircraftState ZERO = new FixedPointAircraftState();
+
+    private final int keyframeInterval;
+    private HashMap<String, Integer> handles;
+    private ArrayList<AircraftStateHistory> histories; //by handle
+    private int message;
+    private int messagesSinceKeyframe;
+    private final FixedPointAircraftState state = new FixedPointAircraftState();
+    private final FixedPointAircraftState extrapolated = new FixedPointAircraftState();
+
+    /**
+     * Constructor for SystemStateDeltaEncoder
+     * @param keyframeInterval the number of messages from one keyframe to the next
+     */
+    public SystemStateDeltaEncoder(int keyframeInterval)
+    {
+        this.keyframeInterval = keyframeInterval;
+        handles = new HashMap<String, Integer>();
+        histories = new ArrayList<AircraftStateHistory>();
+        message = 0;
+        reset();
+    }
+
+    /**
+     * Start a new session, forgetting the handles and the previous messages, so that the next
+     * message is a keyframe.
+     */
+    public void reset()
+    {
+        handles.clear();
+        histories.clear();
+        messagesSinceKeyframe = keyframeInterval;
+    }
+
+    /**
+     * Get the number of aircraft which have been given handles in this session.
+     * @return the number of handles
+     */
+    public int getHandleCount()
+    {
+        return handles.size();
+    }
+
+    /**
+     * Encode the next SystemState to be sent in this session.
+     * @param systemState the system state to encode
+     * @return the delta encoded message
+     */
+    public SystemStateMessage encode(SystemState systemState)
+    {
+        boolean keyframe = messagesSinceKeyframe >= keyframeInterval;
+        if (keyframe)
+        {
+            // skip a message number, so that no aircraft was in the previous message
+            message += 2;
+            messagesSinceKeyframe = 0;
+        }
+        else
+        {
+            message++;
+        }
+        messagesSinceKeyframe++;
+
+        SystemStateMessage.Builder systemStateMessageBuilder = SystemStateMessage.newBuilder()
+                .setTime(systemState.getTime())
+                .setKeyframe(keyframe);
+
+        for (AircraftState aircraftState : systemState.getAircraftStates())
+        {
+            String aircraftID = aircraftState.getAircraftID();
+            Integer handle = handles.get(aircraftID);
+            if (handle == null)
+            {
+                handle = handles.size();
+                handles.put(aircraftID, handle);
+                histories.add(new AircraftStateHistory());
+            }
+            AircraftStateHistory history = histories.get(handle);
+
+            state.set(aircraftState);
+            FixedPointAircraftState base = history.getBase(message, extrapolated);
+            if (base == null)
+            {
+                systemStateMessageBuilder.addAircraftHandle(
+                        AircraftHandleMessage.newBuilder().setHandle(handle).setAircraftID(aircraftID));
+                base = ZERO;
+            }
+            systemStateMessageBuilder
+                    .addHandle(handle)
+                    .addTimeOffset(aircraftState.getTime() - systemState.getTime())
+                    .addAltitude(state.altitude - base.altitude)
+                    .addLatitude(state.latitude - base.latitude)
+                    .addLongitude(state.longitude - base.longitude)
+                    .addDr(state.dr - base.dr)
+                    .addDtheta(state.dtheta - base.dtheta)
+                    .addDphi(state.dphi - base.dphi)
+                    .addHeading(state.heading - base.heading);
+            history.add(message, state);
+        }
+
+        return systemStateMessageBuilder.build();
+    }
+}
@@ -3,6 +3,7 @@ package com.atc.simulator.debug_data_feed.scenarios;
 import com.atc.simulator.flightdata.SystemState;
 import com.atc.simulator.flightdata.Track;
 import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.GnomonicProjection;
 
 import java.util.ArrayList;
 
@@ -12,7 +13,8 @@ import java.util.ArrayList;
  * @author Luke Frisken
  */
 public abstract class Scenario {
-    private static Scenario currentScenario = null;
+    private static volatile Scenario currentScenario = null;
+    private volatile GnomonicProjection projection = null;
 
     /**
      * Get the SystemState at a given time as represented by the Scenario.
@@ -78,6 +80,24 @@ public abstract class Scenario {
      */
     public abstract GeographicCoordinate getProjectionReference();
 
+    /**
+     * Get the gnomonic projection about this scenario's projection reference. It is created the
+     * first time it is needed, and then shared by everything using the scenario (it is immutable,
+     * so it can be used from any thread).
+     * @return the projection of this scenario
+     */
+    public GnomonicProjection getProjection()
+    {
+        GnomonicProjection projection = this.projection;
+        if (projection == null)
+        {
+            // if two threads get here at once they create equivalent projections, it doesn't matter which is kept.
+            projection = new GnomonicProjection(getProjectionReference());
+            this.projection = projection;
+        }
+        return projection;
+    }
+
 
     /**
      * Get the current scenario instance
@@ -27,6 +27,7 @@ import com.badlogic.gdx.utils.PerformanceCounter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 
 /**
@@ -41,7 +42,7 @@ import java.util.concurrent.ArrayBlockingQueue;
  *
  * @author Luke Frisken
  */
-public class DisplayApplication extends ApplicationAdapter implements DataPlaybackListener, PredictionListener {
+public class DisplayApplication extends ApplicationAdapter implements DataPlaybackListener, PredictionBatchListener {
     private static final boolean enableTimer = true;
     private static final boolean enableDebugPrint = ApplicationConfig.getBoolean("settings.debug.print-display");
     private static final boolean useMSAA = ApplicationConfig.getBoolean("settings.display.use-msaa");
@@ -196,7 +197,34 @@ public class DisplayApplication extends ApplicationAdapter implements DataPlayba
     @Override
     public void onPredictionUpdate(Prediction newPrediction) {
 //        System.out.println("Received a new prediction update");
-        predictionUpdateQueue.add(newPrediction);
+        offerPrediction(newPrediction);
+    }
+
+    /**
+     * When a client receives a batch of new predictions, it will call this method to notify
+     * listeners of the new data
+     * @param newPredictions the new prediction information
+     */
+    @Override
+    public void onPredictionBatchUpdate(List<Prediction> newPredictions) {
+        for (Prediction newPrediction : newPredictions)
+        {
+            offerPrediction(newPrediction);
+        }
+    }
+
+    /**
+     * Put a prediction in the predictionUpdateQueue for the display thread, dropping the
+     * oldest predictions in the queue if it is full (they are stale by now, and a newer
+     * prediction for the aircraft will follow), rather than throwing on the client's thread.
+     * @param newPrediction the new prediction
+     */
+    private void offerPrediction(Prediction newPrediction)
+    {
+        while (!predictionUpdateQueue.offer(newPrediction))
+        {
+            predictionUpdateQueue.poll();
+        }
     }
 
 
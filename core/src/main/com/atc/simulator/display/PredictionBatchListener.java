@@ -0,0 +1,20 @@
+package com.atc.simulator.display;
+
+import com.atc.simulator.flightdata.Prediction;
+
+import java.util.List;
+
+/**
+ * PredictionBatchListener, a PredictionListener which is given all the predictions which arrived together
+ * in one call, instead of one call per prediction.
+ *
+ * @author Luke Frisken
+ */
+public interface PredictionBatchListener extends PredictionListener {
+    /**
+     * When a client receives a batch of predictions, it will call this method (instead of
+     * {@link #onPredictionUpdate(Prediction)}) to notify listeners of the new data
+     * @param newPredictions the new predictions, at most one per aircraft
+     */
+    void onPredictionBatchUpdate(List<Prediction> newPredictions);
+}
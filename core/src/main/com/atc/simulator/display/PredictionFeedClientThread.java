@@ -7,19 +7,28 @@ import com.atc.simulator.flightdata.Prediction;
 import com.atc.simulator.flightdata.Track;
 import com.atc.simulator.vectors.GeographicCoordinate;
 import com.atc.simulator.vectors.SphericalVelocity;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
 
 import java.net.Socket;
 import java.io.*;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.List;
 
 /**
  * PredictionFeedClientThread connects to and receives messages from a PredictionFeedServerThread, feeding the received messages onto its display
  * These messages are passed as PredictionFeedServe Protocol Buffers
  *
+ * The client sends the server a PredictionFeedHello with the latest version of the feed it understands when it
+ * connects, and the server replies with its own hello. With version 2 the predictions arrive in PredictionBatch's,
+ * and {@link PredictionBatchListener}'s are given each batch in one call. With version 3 the tracks of the
+ * predictions can also be sent as (much smaller) CompactTrack's. A server which replies with a prediction
+ * instead of a hello is an older (version 1) server, which sends each prediction on its own.
+ *
  * PUBLIC FEATURES:
  * // Constructors
  *    PredictionFeedClientThread()
+ *    PredictionFeedClientThread(String, int)
  * // Methods
  *    update() - Thread of checking buffer and passing messages to server
  *    kill() - Clears the flag that the client thread runs off, letting the thread finish gracefully
@@ -40,21 +49,41 @@ public class PredictionFeedClientThread implements RunnableThread {
 
     // External config setup for port number and server IP
     private static final int PORT = ApplicationConfig.getInt("settings.display.prediction-feed-client.port-number");
-    private static final String serverIp = ApplicationConfig.getString("settings.display.prediction-feed-client.server-ip");
+    private static final String SERVER_IP = ApplicationConfig.getString("settings.display.prediction-feed-client.server-ip");
+
+    /**
+     * The latest version of the feed the client understands
+     */
+    public static final int VERSION = 3;
 
     //Socket Definitions
-    private Socket serversSock;
+    private final String serverIp;
+    private final int port;
+    private volatile Socket serversSock;
+    private volatile int version;
     //Thread Definitions
-    private boolean continueThread = true;
+    private volatile boolean continueThread = true;
     private Thread thread;
     private final String threadName = "PredictionFeedClientThread";
     //Output Definitions
     private ArrayList<PredictionListener> myListeners;
 
+    /**
+     * Constructor for PredictionFeedClientThread, connects to the server in the settings
+     */
+    public PredictionFeedClientThread(){this(SERVER_IP, PORT);}
+
     /**
      * Constructor for PredictionFeedClientThread
+     * @param serverIp address of the server
+     * @param port port of the server
      */
-    public PredictionFeedClientThread(){myListeners = new ArrayList<PredictionListener>();}
+    public PredictionFeedClientThread(String serverIp, int port)
+    {
+        this.serverIp = serverIp;
+        this.port = port;
+        myListeners = new ArrayList<PredictionListener>();
+    }
 
     private AircraftState buildAircraftState(
             String aircraftID,
@@ -111,72 +140,214 @@ public class PredictionFeedClientThread implements RunnableThread {
         return new Track(aircraftStates);
     }
 
+    /**
+     * Build a {@link Track} from a {@link PredictionFeedServe.CompactTrack} message
+     * @param messageTrack
+     * @param aircraftID
+     * @return A new track of aircraft states
+     */
+    private Track buildTrack(PredictionFeedServe.CompactTrack messageTrack, String aircraftID)
+    {
+        PredictionFeedServe.SphericalVelocityMessage velocityMessage = messageTrack.getVelocity();
+        SphericalVelocity velocity = new SphericalVelocity(
+                velocityMessage.getDr(),
+                velocityMessage.getDtheta(),
+                velocityMessage.getDphi());
+
+        int n = messageTrack.getAltitudeCount();
+        ArrayList<AircraftState> aircraftStates = new ArrayList<AircraftState>(n);
+
+        //each position is the difference from the previous one, in meters and microdegrees
+        long altitude = 0, latitude = 0, longitude = 0;
+        for (int i = 0; i < n; i++)
+        {
+            altitude += messageTrack.getAltitude(i);
+            latitude += messageTrack.getLatitude(i);
+            longitude += messageTrack.getLongitude(i);
+
+            aircraftStates.add(new AircraftState(
+                    aircraftID,
+                    messageTrack.getStartTime() + i*(long) messageTrack.getTimeStep(),
+                    new GeographicCoordinate(
+                            altitude,
+                            Math.toRadians(latitude * 1e-6),
+                            Math.toRadians(longitude * 1e-6)
+                    ),
+                    velocity,
+                    0.0
+            ));
+        }
+
+        return new Track(aircraftStates);
+    }
+
+    /**
+     * Build a {@link Prediction} from an {@link PredictionFeedServe.AircraftPredictionMessage}
+     * @param predictionMessage
+     * @return
+     */
+    private Prediction buildPrediction(PredictionFeedServe.AircraftPredictionMessage predictionMessage)
+    {
+        String aircraftID = predictionMessage.getAircraftID();
+        Track leftTrack = predictionMessage.hasCompactLeftTrack()
+                ? buildTrack(predictionMessage.getCompactLeftTrack(), aircraftID)
+                : buildTrack(predictionMessage.getLeftTrack(), aircraftID);
+        Track centreTrack = predictionMessage.hasCompactCentreTrack()
+                ? buildTrack(predictionMessage.getCompactCentreTrack(), aircraftID)
+                : buildTrack(predictionMessage.getCentreTrack(), aircraftID);
+        Track rightTrack = predictionMessage.hasCompactRightTrack()
+                ? buildTrack(predictionMessage.getCompactRightTrack(), aircraftID)
+                : buildTrack(predictionMessage.getRightTrack(), aircraftID);
+
+        Prediction.State predictionState = Prediction.State.valueOf(predictionMessage.getState().name());
+
+        AircraftState aircraftState = buildAircraftState(
+                predictionMessage.getAircraftID(),
+                predictionMessage.getAircraftState());
+
+
+        //Made a new Prediction with ID and Time
+        Prediction newPred = new Prediction(
+                predictionMessage.getAircraftID(),
+                System.currentTimeMillis(),
+                aircraftState,
+                leftTrack,
+                centreTrack,
+                rightTrack,
+                predictionState);
+
+        if(enableDebugPrint){ System.out.println("PredictionFeedClient has received AircraftModel " + newPred.getAircraftID()); }
+
+        return newPred;
+    }
+
+    /**
+     * Send the server the client's hello, and read the server's reply, to agree on the version of the feed.
+     * @param inputStream
+     * @return the first prediction, if the server is a version 1 server, which doesn't reply with a hello
+     *          (null otherwise)
+     */
+    private PredictionFeedServe.AircraftPredictionMessage handshake(InputStream inputStream) throws IOException
+    {
+        OutputStream outputStream = serversSock.getOutputStream();
+        PredictionFeedServe.PredictionFeedHello.newBuilder()
+                .setVersion(VERSION)
+                .build()
+                .writeDelimitedTo(outputStream);
+        outputStream.flush();
+
+        int firstByte = inputStream.read();
+        if (firstByte == -1)
+        {
+            throw new EOFException("server closed the connection during the handshake");
+        }
+        byte[] reply = new byte[CodedInputStream.readRawVarint32(firstByte, inputStream)];
+        new DataInputStream(inputStream).readFully(reply);
+
+        try {
+            PredictionFeedServe.PredictionFeedHello hello = PredictionFeedServe.PredictionFeedHello.parseFrom(reply);
+            version = Math.min(VERSION, hello.getVersion());
+            return null;
+        } catch (InvalidProtocolBufferException e) {
+            version = 1;
+            return PredictionFeedServe.AircraftPredictionMessage.parseFrom(reply);
+        }
+    }
+
     /**
      * Threaded routine, pull new data from socket, turn it into a Prediction type, and notify listeners
-     * TODO: Will this need to feed a buffer that is then converted for listeners? Does a Java socket have a buffer inbuilt? :/
      */
     public void run(){
-        PredictionFeedServe.AircraftPredictionMessage predictionMessage = null;
         InputStream inputStream = null;
         //I don't think this should really be here....
         try{
-            serversSock = new Socket(serverIp, PORT);
+            serversSock = new Socket(serverIp, port);
+            serversSock.setTcpNoDelay(true);
+            inputStream = new BufferedInputStream(serversSock.getInputStream());
         }catch(IOException e){System.err.println("PredictionFeedClientThread Initialisation Failed");System.exit(1);}
 
+        try{
+            PredictionFeedServe.AircraftPredictionMessage firstPrediction = handshake(inputStream);
+            if (firstPrediction != null)
+            {
+                notifyAllListeners(buildPrediction(firstPrediction));
+            }
+            if(enableDebugPrint){ System.out.println(threadName + " using version " + version); }
+        }catch(IOException e){
+            System.err.println(threadName + " handshake failed");
+            continueThread = false;
+        }
 
         while(continueThread)
         {
             try{
-                //Get the PredictionMessage from the Socket
-                inputStream = serversSock.getInputStream();
-
                 //here this thread will block while waiting for a message to appear in the inputStream.
-                predictionMessage = PredictionFeedServe.AircraftPredictionMessage.parseDelimitedFrom(inputStream);
-
-                //check to see that stream was not at EOF when the parsing started
-                while(predictionMessage != null)
+                if (version >= 2)
                 {
-                    Track leftTrack = buildTrack(predictionMessage.getLeftTrack(), predictionMessage.getAircraftID());
-                    Track centreTrack = buildTrack(predictionMessage.getCentreTrack(), predictionMessage.getAircraftID());
-                    Track rightTrack = buildTrack(predictionMessage.getRightTrack(), predictionMessage.getAircraftID());
-
-                    Prediction.State predictionState = Prediction.State.valueOf(predictionMessage.getState().name());
-
-                    AircraftState aircraftState = buildAircraftState(
-                            predictionMessage.getAircraftID(),
-                            predictionMessage.getAircraftState());
-
-
-                    //Made a new Prediction with ID and Time
-                    Prediction newPred = new Prediction(
-                            predictionMessage.getAircraftID(),
-                            System.currentTimeMillis(),
-                            aircraftState,
-                            leftTrack,
-                            centreTrack,
-                            rightTrack,
-                            predictionState);
-
-                    if(enableDebugPrint){ System.out.println("PredictionFeedClient has received AircraftModel " + newPred.getAircraftID()); }
-
-                    notifyAllListeners(newPred);
-
-                    predictionMessage = PredictionFeedServe.AircraftPredictionMessage.parseDelimitedFrom(inputStream);
+                    PredictionFeedServe.PredictionBatch batchMessage =
+                            PredictionFeedServe.PredictionBatch.parseDelimitedFrom(inputStream);
+                    //check to see that stream was not at EOF when the parsing started
+                    if (batchMessage == null)
+                    {
+                        break;
+                    }
+
+                    ArrayList<Prediction> predictions = new ArrayList<Prediction>(batchMessage.getPredictionCount());
+                    for (PredictionFeedServe.AircraftPredictionMessage predictionMessage : batchMessage.getPredictionList())
+                    {
+                        predictions.add(buildPrediction(predictionMessage));
+                    }
+                    notifyAllListeners(predictions);
+                } else {
+                    PredictionFeedServe.AircraftPredictionMessage predictionMessage =
+                            PredictionFeedServe.AircraftPredictionMessage.parseDelimitedFrom(inputStream);
+                    //check to see that stream was not at EOF when the parsing started
+                    if (predictionMessage == null)
+                    {
+                        break;
+                    }
+                    notifyAllListeners(buildPrediction(predictionMessage));
+                }
+            }catch(IOException e){
+                if (continueThread)
+                {
+                    System.err.println(threadName + " Message Parse Failed");
                 }
-                System.err.println(threadName + " possibly an empty input stream causing null value");
-                System.err.println(Arrays.toString(Thread.currentThread().getStackTrace()));
-            }catch(IOException e){System.err.println(threadName + " Message Parse Failed");}
+            }catch(RuntimeException e){
+                //a listener failing shouldn't silently kill the feed
+                System.err.println(threadName + " failed to handle a message: " + e);
+                e.printStackTrace();
+            }
+        }
+        if (continueThread)
+        {
+            System.err.println(threadName + " server closed the connection");
         }
         try{serversSock.close();}catch(IOException i){System.err.println("PredictionFeedClientThread Can't close ServerSocket socket");}
         System.out.println(threadName + " killed");
     }
 
+    /**
+     * Get the version of the feed agreed with the server, after the handshake.
+     * @return
+     */
+    public int getVersion()
+    {
+        return version;
+    }
+
     /**
      * Small method called too kill the server's threads when the have update through
      */
     public void kill()
     {
         continueThread = false;
+        //unblock the thread if it is waiting for a message
+        Socket socket = serversSock;
+        if (socket != null)
+        {
+            try{socket.close();}catch(IOException i){System.err.println("PredictionFeedClientThread Can't close ServerSocket socket");}
+        }
     }
 
     /**
@@ -220,4 +391,25 @@ public class PredictionFeedClientThread implements RunnableThread {
         for(PredictionListener listener : myListeners)
             listener.onPredictionUpdate(prediction);
     }
+
+    /**
+     * Notifies all the listeners of a batch of new predictions, the {@link PredictionBatchListener}'s with the
+     * whole batch at once, and the others with each prediction.
+     * @param predictions : The new predictions to be sent around
+     */
+    private void notifyAllListeners(List<Prediction> predictions)
+    {
+        for(PredictionListener listener : myListeners)
+        {
+            if (listener instanceof PredictionBatchListener)
+            {
+                ((PredictionBatchListener) listener).onPredictionBatchUpdate(predictions);
+            } else {
+                for (Prediction prediction : predictions)
+                {
+                    listener.onPredictionUpdate(prediction);
+                }
+            }
+        }
+    }
 }
@@ -5,8 +5,8 @@ import com.atc.simulator.display.model.DisplayAircraft;
 import com.atc.simulator.display.view.display_renderable.GDXDisplayRenderable;
 import com.atc.simulator.display.view.shapes.TrackLineMeshBuilder;
 import com.atc.simulator.prediction_service.engine.algorithms.java.JavaLinearAlgorithm;
-import com.atc.simulator.flightdata.AircraftState;
 import com.atc.simulator.flightdata.Prediction;
+import com.atc.simulator.flightdata.Track;
 import com.atc.simulator.vectors.GeographicCoordinate;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.Color;
@@ -18,7 +18,6 @@ import com.badlogic.gdx.graphics.g3d.ModelInstance;
 import com.badlogic.gdx.graphics.g3d.utils.MeshPartBuilder;
 import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
 
-import java.util.ArrayList;
 
 /**
  * Green velocity arrows
@@ -58,7 +57,7 @@ public class VelocityModel extends SimpleDisplayRenderableProvider {
         Color lightGreen = new Color(Color.rgba8888(0f, 1f, 0f, 1f));
         Color darkerGreen = new Color(Color.rgba8888(0f, 0.5f, 0.1f, 1f));
 
-        ArrayList<AircraftState> states = prediction.getCentreTrack();
+        Track states = prediction.getCentreTrack();
 
         modelBuilder.begin();
         MeshPartBuilder builder = modelBuilder.part(
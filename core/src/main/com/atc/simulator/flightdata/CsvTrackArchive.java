@@ -0,0 +1,103 @@
+package com.atc.simulator.flightdata;
+
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+
+/**
+ * A {@link TrackArchive} which appends the archived states of all the aircraft to a single CSV file,
+ * one state per line, in the order they were archived. Angles are in radians, the altitude is in
+ * metres, and the time is in milliseconds since epoch, so that the states can be read back in exactly.
+ *
+ * Threadsafe, so it can be shared between the tracks of several databases.
+ *
+ * @author Luke Frisken
+ */
+public class CsvTrackArchive implements TrackArchive {
+    public static final String HEADER = "aircraftID,time,altitude,latitude,longitude,dr,dtheta,dphi,heading";
+
+    private final File file;
+    private final PrintStream writer;
+
+    /**
+     * Constructor for CsvTrackArchive
+     * @param file file to append the archived states to, it is created (along with
+     *             its directory) if it does not exist yet.
+     * @throws IOException
+     */
+    public CsvTrackArchive(File file) throws IOException
+    {
+        this.file = file;
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs())
+        {
+            throw new IOException("Unable to create track archive directory " + directory);
+        }
+
+        boolean newFile = !file.exists() || file.length() == 0;
+        writer = new PrintStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+        if (newFile)
+        {
+            writer.println(HEADER);
+        }
+    }
+
+    /**
+     * Get the file which this archive is writing to
+     * @return
+     */
+    public File getFile()
+    {
+        return file;
+    }
+
+    /**
+     * Archive a state which has been dropped from a track.
+     *
+     * @param aircraftState
+     */
+    @Override
+    public synchronized void archive(AircraftState aircraftState)
+    {
+        GeographicCoordinate position = aircraftState.getPosition();
+        SphericalVelocity velocity = aircraftState.getVelocity();
+        StringBuilder line = new StringBuilder(160);
+        line.append(aircraftState.getAircraftID()).append(',')
+                .append(aircraftState.getTime()).append(',')
+                .append(position.getAltitude()).append(',')
+                .append(position.getLatitude()).append(',')
+                .append(position.getLongitude()).append(',')
+                .append(velocity.getDR()).append(',')
+                .append(velocity.getDTheta()).append(',')
+                .append(velocity.getDPhi()).append(',')
+                .append(aircraftState.getHeading());
+        writer.println(line);
+    }
+
+    /**
+     * Make sure everything which has been archived so far has been written out.
+     */
+    @Override
+    public synchronized void flush()
+    {
+        writer.flush();
+        if (writer.checkError())
+        {
+            System.err.println("ERROR: unable to write to track archive " + file);
+        }
+    }
+
+    /**
+     * Flush and close the archive file.
+     */
+    public synchronized void close()
+    {
+        flush();
+        writer.close();
+    }
+}
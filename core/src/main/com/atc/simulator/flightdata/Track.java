@@ -1,5 +1,8 @@
 package com.atc.simulator.flightdata;
 
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.Sphere;
+import com.atc.simulator.vectors.SphericalVelocity;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.VertexAttributes;
@@ -9,29 +12,188 @@ import com.badlogic.gdx.graphics.g3d.utils.MeshPartBuilder;
 import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
 import com.badlogic.gdx.math.Vector3;
 
-import java.util.ArrayList;
-import java.util.Calendar;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * Created by luke on 7/04/16.
  * Represents a continuous track of an aircraft as it flies through the air, with regular
  * TrackEntry's representing the state of the aircraft for each point in time.
  *
+ * The states are stored in columns of primitives (the time, the spherical components of the
+ * position and velocity, and the heading of each state), rather than as AircraftState objects,
+ * which cuts the memory used by each state roughly in half and means that a long track is only a
+ * handful of objects for the garbage collector to deal with. The aircraft ID is shared between
+ * consecutive states with the same ID. {@link #get(int)} creates a new, read only AircraftState
+ * with the values of the stored state, which is detached from the track, so a state in the track is
+ * changed with {@link #set(int, AircraftState)}. Where only part of a state is needed, there are
+ * primitive accessors such as {@link #getTime(int)} which do not create anything.
+ *
+ * The columns are only ever appended to in place, which allows {@link #snapshot()} to create an
+ * immutable view of the track in O(1) by sharing them (and remembering the current length) instead
+ * of copying them. Appending beyond the end of a snapshot never touches the states it can see, and
+ * when the columns need to grow, new ones are allocated, leaving the old ones to any snapshots
+ * still using them. Any other modification (set, insert, remove, clear) of a track which has been
+ * snapshotted copies the columns first.
+ *
+ * A track can optionally be given a history size, in which case it only keeps the latest
+ * historySize states (older states are dropped from the front of the track, and handed to the
+ * {@link TrackArchive} if there is one). The states are then kept in a window of the columns which
+ * slides forward as states are added, and are compacted into new columns of 2*historySize
+ * once the window reaches the end, so appending is still amortised O(1) and the
+ * memory used by a track no longer grows with the time the aircraft has been flying. The states
+ * are never overwritten in place (as in a ring buffer) because snapshots may still be reading them.
+ *
+ * A track must only be modified by one thread at a time. A snapshot can be safely read by any
+ * thread it has been safely published to (e.g. through a concurrent queue).
+ *
  * @author Luke Frisken
  */
-public class Track extends ArrayList<AircraftState> {
+public class Track extends AbstractList<AircraftState> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final String[] EMPTY_IDS = new String[0];
+    private static final long[] EMPTY_TIMES = new long[0];
+    private static final double[] EMPTY_VALUES = new double[0];
+
+    // columns, the state at index i in this track is at offset + i in each column.
+    private String[] aircraftIDs;
+    private long[] times;
+    private double[] positionR;
+    private double[] positionTheta;
+    private double[] positionPhi;
+    private double[] velocityDR;
+    private double[] velocityDTheta;
+    private double[] velocityDPhi;
+    private double[] headings;
+
+    private int offset; // index in the columns of the first state in this track
+    private int size;
+    private final int historySize; // 0 for unbounded
+    private final TrackArchive archive;
+    private boolean statesShared; // whether a snapshot is sharing the columns
+    private final boolean readOnly;
     private long startTime = Long.MAX_VALUE;
     private long endTime = Long.MIN_VALUE;
 
     public Track()
     {
-        super();
+        this(0, null);
+    }
+
+    /**
+     * Constructor for a track which only keeps its latest states.
+     * @param historySize maximum number of states to keep, 0 to keep all of them
+     * @param archive archive to write states to as they are dropped from the track, can be null
+     */
+    public Track(int historySize, TrackArchive archive)
+    {
+        if (historySize < 0)
+        {
+            throw new IllegalArgumentException("historySize cannot be negative: " + historySize);
+        }
+        allocate(0);
+        offset = 0;
+        size = 0;
+        this.historySize = historySize;
+        this.archive = archive;
+        statesShared = false;
+        readOnly = false;
     }
 
     public Track(List<AircraftState> aircraftStates)
     {
-        super(aircraftStates);
+        allocate(aircraftStates.size());
+        offset = 0;
+        size = 0;
+        historySize = 0;
+        archive = null;
+        statesShared = false;
+        readOnly = false;
+        for (AircraftState aircraftState : aircraftStates)
+        {
+            store(size, aircraftState);
+            size++;
+        }
+    }
+
+    /**
+     * Constructor for a read only snapshot of another track.
+     * @param other track to create a snapshot of
+     */
+    private Track(Track other)
+    {
+        aircraftIDs = other.aircraftIDs;
+        times = other.times;
+        positionR = other.positionR;
+        positionTheta = other.positionTheta;
+        positionPhi = other.positionPhi;
+        velocityDR = other.velocityDR;
+        velocityDTheta = other.velocityDTheta;
+        velocityDPhi = other.velocityDPhi;
+        headings = other.headings;
+        offset = other.offset;
+        size = other.size;
+        historySize = other.historySize;
+        archive = null;
+        startTime = other.startTime;
+        endTime = other.endTime;
+        statesShared = true;
+        readOnly = true;
+    }
+
+    /**
+     * Create an immutable view of this track as it is now, in O(1), without copying it.
+     * States which are added to this track afterwards are not visible in the snapshot.
+     * @return read only snapshot
+     */
+    public Track snapshot()
+    {
+        if (readOnly)
+        {
+            return this;
+        }
+
+        statesShared = true;
+        return new Track(this);
+    }
+
+    /**
+     * Whether or not this track is a read only snapshot
+     * @see #snapshot()
+     * @return
+     */
+    public boolean isReadOnly()
+    {
+        return readOnly;
+    }
+
+    /**
+     * Get the maximum number of states this track keeps
+     * @return history size, or 0 if the track keeps all of its states
+     */
+    public int getHistorySize()
+    {
+        return historySize;
+    }
+
+    /**
+     * Write all the states still in this track to its archive (if it has one), e.g. when
+     * the aircraft is being removed. The track itself is not modified.
+     */
+    public void archiveRemaining()
+    {
+        if (archive == null)
+        {
+            return;
+        }
+
+        for (int i = 0; i < size; i++)
+        {
+            archive.archive(load(offset + i));
+        }
+        archive.flush();
     }
 
     /**
@@ -43,8 +205,157 @@ public class Track extends ArrayList<AircraftState> {
         return this.get(this.size()-1);
     }
 
+    /**
+     * Get a new AircraftState with the values of the state at the index. The state is a detached
+     * copy, which is created on every call, and is read only (its setters throw an
+     * UnsupportedOperationException, because changing it would not change the track). Use
+     * {@link #set(int, AircraftState)} to change the state in the track, or the primitive
+     * accessors (e.g. {@link #getTime(int)}) to read part of it without creating anything.
+     * @param index
+     * @return read only copy of the state
+     */
+    @Override
+    public AircraftState get(int index)
+    {
+        checkIndex(index);
+        return load(offset + index);
+    }
+
+    /**
+     * Get the time of the state at the index, without creating an AircraftState.
+     * @param index
+     * @return time in milliseconds since epoch
+     */
+    public long getTime(int index)
+    {
+        checkIndex(index);
+        return times[offset + index];
+    }
+
+    /**
+     * Get the latitude of the state at the index, without creating an AircraftState.
+     * @see GeographicCoordinate#getLatitude()
+     * @param index
+     * @return latitude in radians
+     */
+    public double getLatitude(int index)
+    {
+        checkIndex(index);
+        return positionPhi[offset + index] - Math.PI/2.0;
+    }
+
+    /**
+     * Get the longitude of the state at the index, without creating an AircraftState.
+     * @see GeographicCoordinate#getLongitude()
+     * @param index
+     * @return longitude in radians
+     */
+    public double getLongitude(int index)
+    {
+        checkIndex(index);
+        return positionTheta[offset + index] - Math.PI;
+    }
+
+    /**
+     * Get the radius of the position of the state at the index, without creating an AircraftState.
+     * @see GeographicCoordinate#getRadius()
+     * @param index
+     * @return radius in meters
+     */
+    public double getRadius(int index)
+    {
+        checkIndex(index);
+        return positionR[offset + index];
+    }
+
+    /**
+     * Get the altitude of the position of the state at the index, without creating an AircraftState.
+     * @see GeographicCoordinate#getAltitude()
+     * @param index
+     * @return altitude in meters
+     */
+    public double getAltitude(int index)
+    {
+        checkIndex(index);
+        return positionR[offset + index] - Sphere.EARTH.getRadius();
+    }
+
+    /**
+     * Get the position of the state at the index, without creating an AircraftState.
+     * @param index
+     * @return new GeographicCoordinate
+     */
+    public GeographicCoordinate getPosition(int index)
+    {
+        checkIndex(index);
+        return GeographicCoordinate.fromSpherical(
+                positionR[offset + index],
+                positionTheta[offset + index],
+                positionPhi[offset + index]);
+    }
+
+    /**
+     * Get the rate of climb of the state at the index, without creating an AircraftState.
+     * @see SphericalVelocity#getDR()
+     * @param index
+     * @return rate of climb in meters per second
+     */
+    public double getDR(int index)
+    {
+        checkIndex(index);
+        return velocityDR[offset + index];
+    }
+
+    /**
+     * Get the rate of change of theta of the state at the index, without creating an AircraftState.
+     * @see SphericalVelocity#getDTheta()
+     * @param index
+     * @return angular velocity in radians per second
+     */
+    public double getDTheta(int index)
+    {
+        checkIndex(index);
+        return velocityDTheta[offset + index];
+    }
+
+    /**
+     * Get the rate of change of phi of the state at the index, without creating an AircraftState.
+     * @see SphericalVelocity#getDPhi()
+     * @param index
+     * @return angular velocity in radians per second
+     */
+    public double getDPhi(int index)
+    {
+        checkIndex(index);
+        return velocityDPhi[offset + index];
+    }
+
+    /**
+     * Get the heading of the state at the index, without creating an AircraftState.
+     * @param index
+     * @return heading in radians
+     */
+    public double getHeading(int index)
+    {
+        checkIndex(index);
+        return headings[offset + index];
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
     public boolean add(AircraftState element)
     {
+        checkWritable();
+        if (historySize > 0 && size == historySize)
+        {
+            dropOldest();
+        }
+
         long elementTime = element.getTime();
         if (elementTime < startTime)
         {
@@ -54,7 +365,313 @@ public class Track extends ArrayList<AircraftState> {
             endTime = elementTime;
         }
 
-        return super.add(element);
+        if (offset + size == times.length)
+        {
+            // grow (or compact) into new columns, any snapshots keep the old ones.
+            int capacity = Math.max(DEFAULT_CAPACITY, size * 2);
+            if (historySize > 0)
+            {
+                capacity = Math.min(capacity, historySize * 2);
+            }
+            reallocate(capacity);
+        }
+
+        store(offset + size, element);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Drop the oldest state from the front of the track, and archive it.
+     */
+    private void dropOldest()
+    {
+        if (archive != null)
+        {
+            archive.archive(load(offset));
+        }
+
+        if (!statesShared)
+        {
+            aircraftIDs[offset] = null;
+        }
+        offset++;
+        size--;
+        if (size > 0)
+        {
+            startTime = times[offset];
+        } else {
+            startTime = Long.MAX_VALUE;
+            endTime = Long.MIN_VALUE;
+        }
+    }
+
+    @Override
+    public void add(int index, AircraftState element)
+    {
+        if (index == size)
+        {
+            add(element);
+            return;
+        }
+
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        prepareForModification(size + 1);
+        move(offset + index, offset + index + 1, size - index);
+        store(offset + index, element);
+        size++;
+        modCount++;
+
+        if (historySize > 0 && size > historySize)
+        {
+            dropOldest();
+        }
+    }
+
+    @Override
+    public AircraftState set(int index, AircraftState element)
+    {
+        AircraftState previous = get(index);
+        prepareForModification(size);
+        store(offset + index, element);
+        return previous;
+    }
+
+    @Override
+    public AircraftState remove(int index)
+    {
+        AircraftState previous = get(index);
+        prepareForModification(size);
+        move(offset + index + 1, offset + index, size - index - 1);
+        size--;
+        aircraftIDs[offset + size] = null;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear()
+    {
+        checkWritable();
+        allocate(0);
+        offset = 0;
+        size = 0;
+        statesShared = false;
+        modCount++;
+    }
+
+    /**
+     * Throw an exception if the index is not in this track.
+     * @param index
+     */
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Throw an exception if this track is a read only snapshot.
+     */
+    private void checkWritable()
+    {
+        if (readOnly)
+        {
+            throw new UnsupportedOperationException("Cannot modify a read only Track snapshot");
+        }
+    }
+
+    /**
+     * Make sure that the columns can be modified in place without affecting any snapshots,
+     * and that they have at least the required capacity.
+     * @param capacity required capacity
+     */
+    private void prepareForModification(int capacity)
+    {
+        checkWritable();
+        if (statesShared || offset + capacity > times.length)
+        {
+            reallocate(Math.max(capacity, times.length - offset));
+        }
+    }
+
+    /**
+     * Allocate new empty columns.
+     * @param capacity
+     */
+    private void allocate(int capacity)
+    {
+        if (capacity == 0)
+        {
+            aircraftIDs = EMPTY_IDS;
+            times = EMPTY_TIMES;
+            positionR = positionTheta = positionPhi = EMPTY_VALUES;
+            velocityDR = velocityDTheta = velocityDPhi = EMPTY_VALUES;
+            headings = EMPTY_VALUES;
+            return;
+        }
+
+        aircraftIDs = new String[capacity];
+        times = new long[capacity];
+        positionR = new double[capacity];
+        positionTheta = new double[capacity];
+        positionPhi = new double[capacity];
+        velocityDR = new double[capacity];
+        velocityDTheta = new double[capacity];
+        velocityDPhi = new double[capacity];
+        headings = new double[capacity];
+    }
+
+    /**
+     * Copy the states in this track into new columns, starting at index 0.
+     * @param capacity capacity of the new columns, at least the size of this track
+     */
+    private void reallocate(int capacity)
+    {
+        int end = offset + capacity;
+        aircraftIDs = Arrays.copyOfRange(aircraftIDs, offset, end);
+        times = Arrays.copyOfRange(times, offset, end);
+        positionR = Arrays.copyOfRange(positionR, offset, end);
+        positionTheta = Arrays.copyOfRange(positionTheta, offset, end);
+        positionPhi = Arrays.copyOfRange(positionPhi, offset, end);
+        velocityDR = Arrays.copyOfRange(velocityDR, offset, end);
+        velocityDTheta = Arrays.copyOfRange(velocityDTheta, offset, end);
+        velocityDPhi = Arrays.copyOfRange(velocityDPhi, offset, end);
+        headings = Arrays.copyOfRange(headings, offset, end);
+        offset = 0;
+        statesShared = false;
+    }
+
+    /**
+     * Move states within the columns.
+     * @param from column index of the first state to move
+     * @param to column index to move it to
+     * @param length number of states to move
+     */
+    private void move(int from, int to, int length)
+    {
+        System.arraycopy(aircraftIDs, from, aircraftIDs, to, length);
+        System.arraycopy(times, from, times, to, length);
+        System.arraycopy(positionR, from, positionR, to, length);
+        System.arraycopy(positionTheta, from, positionTheta, to, length);
+        System.arraycopy(positionPhi, from, positionPhi, to, length);
+        System.arraycopy(velocityDR, from, velocityDR, to, length);
+        System.arraycopy(velocityDTheta, from, velocityDTheta, to, length);
+        System.arraycopy(velocityDPhi, from, velocityDPhi, to, length);
+        System.arraycopy(headings, from, headings, to, length);
+    }
+
+    /**
+     * Write a state into the columns.
+     * @param columnIndex
+     * @param aircraftState
+     */
+    private void store(int columnIndex, AircraftState aircraftState)
+    {
+        // share the ID with the previous state, so that one string is kept per aircraft
+        // rather than one per state.
+        String aircraftID = aircraftState.getAircraftID();
+        if (columnIndex > 0 && aircraftID != null && aircraftID.equals(aircraftIDs[columnIndex - 1]))
+        {
+            aircraftID = aircraftIDs[columnIndex - 1];
+        }
+        aircraftIDs[columnIndex] = aircraftID;
+
+        GeographicCoordinate position = aircraftState.getPosition();
+        SphericalVelocity velocity = aircraftState.getVelocity();
+        times[columnIndex] = aircraftState.getTime();
+        positionR[columnIndex] = position.getR();
+        positionTheta[columnIndex] = position.getTheta();
+        positionPhi[columnIndex] = position.getPhi();
+        velocityDR[columnIndex] = velocity.getDR();
+        velocityDTheta[columnIndex] = velocity.getDTheta();
+        velocityDPhi[columnIndex] = velocity.getDPhi();
+        headings[columnIndex] = aircraftState.getHeading();
+    }
+
+    /**
+     * Create a read only AircraftState from the columns.
+     * @param columnIndex
+     * @return
+     */
+    private AircraftState load(int columnIndex)
+    {
+        return new DetachedAircraftState(
+                aircraftIDs[columnIndex],
+                times[columnIndex],
+                GeographicCoordinate.fromSpherical(
+                        positionR[columnIndex],
+                        positionTheta[columnIndex],
+                        positionPhi[columnIndex]),
+                new SphericalVelocity(
+                        velocityDR[columnIndex],
+                        velocityDTheta[columnIndex],
+                        velocityDPhi[columnIndex]),
+                headings[columnIndex]);
+    }
+
+    /**
+     * An AircraftState created from the columns, which is not stored anywhere, so throws an
+     * exception if it is changed instead of losing the change.
+     */
+    private static final class DetachedAircraftState extends AircraftState {
+        private DetachedAircraftState(String aircraftID,
+                                      long time,
+                                      GeographicCoordinate position,
+                                      SphericalVelocity velocity,
+                                      double heading)
+        {
+            super(aircraftID, time, position, velocity, heading);
+        }
+
+        private static UnsupportedOperationException readOnly()
+        {
+            return new UnsupportedOperationException(
+                    "Cannot modify an AircraftState from a Track, it is a detached copy, use Track.set()");
+        }
+
+        @Override
+        public void setPosition(GeographicCoordinate position)
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void setAircraftID(String aircraftID)
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void setVelocity(SphericalVelocity velocity)
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void setHeading(double heading)
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void setTime(long time)
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void copyData(AircraftState other)
+        {
+            throw readOnly();
+        }
     }
 
     /**
@@ -74,12 +691,12 @@ public class Track extends ArrayList<AircraftState> {
         //jump, just in case we want to skip some elements (it was having trouble drawing the entire track)
         //for performance reasons.
         int jump = 1;
-        Vector3 previousPositionDrawVector = this.get(0).getPosition().getModelDrawVector();
+        Vector3 previousPositionDrawVector = this.getPosition(0).getModelDrawVector();
         for(int i = jump; i < this.size(); i+=jump)
         {
-            AircraftState state = this.get(i);
-//            System.out.println(state.getPosition());
-            Vector3 positionDrawVector = state.getPosition().getModelDrawVector();
+            GeographicCoordinate position = this.getPosition(i);
+//            System.out.println(position);
+            Vector3 positionDrawVector = position.getModelDrawVector();
 //            System.out.println(previousPositionDrawVector.len());
 //            System.out.println(positionDrawVector.len());
 //            System.out.println(positionDrawVector);
@@ -101,10 +718,8 @@ public class Track extends ArrayList<AircraftState> {
         long timeMillis = time;
         for(int i = 0; i < this.size()-1; i++)
         {
-            AircraftState i1aircraftState = this.get(i);
-            AircraftState i2aircraftState = this.get(i+1);
-            long i1aircraftStateTimeMillis = i1aircraftState.getTime();
-            long i2aircraftStateTimeMillis = i2aircraftState.getTime();
+            long i1aircraftStateTimeMillis = this.getTime(i);
+            long i2aircraftStateTimeMillis = this.getTime(i+1);
 
             //if this time is between two.
             if (timeMillis >= i1aircraftStateTimeMillis && timeMillis < i2aircraftStateTimeMillis)
@@ -114,7 +729,7 @@ public class Track extends ArrayList<AircraftState> {
 
                 double t = timeDiff/i1i2TimeDiff;
 
-                return i1aircraftState.lerp(i2aircraftState, t);
+                return this.get(i).lerp(this.get(i+1), t);
             }
         }
 
@@ -133,15 +748,13 @@ public class Track extends ArrayList<AircraftState> {
         long timeMillis = time;
         for(int i = 0; i < this.size()-1; i++)
         {
-            AircraftState i1aircraftState = this.get(i);
-            AircraftState i2aircraftState = this.get(i+1);
-            long i1aircraftStateTimeMillis = i1aircraftState.getTime();
-            long i2aircraftStateTimeMillis = i2aircraftState.getTime();
+            long i1aircraftStateTimeMillis = this.getTime(i);
+            long i2aircraftStateTimeMillis = this.getTime(i+1);
 
             //if this time is between two.
             if (timeMillis >= i1aircraftStateTimeMillis && timeMillis <= i2aircraftStateTimeMillis)
             {
-                return i1aircraftState;
+                return this.get(i);
             }
         }
 
@@ -0,0 +1,21 @@
+package com.atc.simulator.flightdata;
+
+/**
+ * An archive for the states which have been dropped from a {@link Track} with
+ * a limited history size, so that the full history of the track can still be kept
+ * without holding all of it in memory.
+ *
+ * @author Luke Frisken
+ */
+public interface TrackArchive {
+    /**
+     * Archive a state which has been dropped from a track.
+     * @param aircraftState
+     */
+    void archive(AircraftState aircraftState);
+
+    /**
+     * Make sure everything which has been archived so far has been written out.
+     */
+    void flush();
+}
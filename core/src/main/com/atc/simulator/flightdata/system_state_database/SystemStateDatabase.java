@@ -1,12 +1,19 @@
 package com.atc.simulator.flightdata.system_state_database;
 
+import com.atc.simulator.config.ApplicationConfig;
 import com.atc.simulator.flightdata.AircraftState;
 import com.atc.simulator.flightdata.SystemState;
 import com.atc.simulator.flightdata.TimeSource;
 import com.atc.simulator.flightdata.Track;
+import com.atc.simulator.flightdata.TrackArchive;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * This is a very simple placeholder SystemStateDatabase, which just keeps track of all items it receives,
@@ -15,18 +22,117 @@ import java.util.HashMap;
  * In the future it will probably want its own thread to cull items which have been sitting in the database
  * for too long without getting used. (e.g. aircraft that have moved to other sectors)
  *
+ * The database is threadsafe, so several threads can submit updates (and cull) at the same time:
+ * <ul>
+ *     <li>The tracks are kept in a {@link ConcurrentHashMap}, and each track is guarded by its own
+ *     monitor (the Track object), so updates to different aircraft don't contend with each other.
+ *     Adding a state to a track, taking a snapshot of it, and removing it from the database all
+ *     happen while holding that track's monitor. A state is never added to a track which has
+ *     already been removed.</li>
+ *     <li>{@link #snapshotTrack(String)} is the safe way for another thread to read a track: the snapshot
+ *     is created under the track's monitor, and is immutable after that (see {@link Track#snapshot()}).
+ *     {@link #getTrack(String)} returns the live track, which must only be read by a thread which
+ *     is not racing with updates to that aircraft (e.g. when there is only one thread updating the database).</li>
+ *     <li>Listeners are kept in a {@link CopyOnWriteArrayList}, and are notified on the thread which
+ *     submitted the update (or culled), after the update has been applied, so everything the update
+ *     did happens-before the notification. Listeners may be notified by several threads at once.</li>
+ * </ul>
+ *
+ * Tracks which have not been updated for longer than the cull timeout are removed by {@link #cull()}.
+ * Rather than checking every track, each track is kept in a priority queue ordered by the time at which
+ * it was last scheduled to expire. Updates don't touch the queue at all, instead when a track reaches the
+ * head of the queue its latest time is checked, and it is either removed or rescheduled to expire
+ * a cull timeout after its latest state. This means that a cull only looks at the tracks which
+ * might have expired, and each track is rescheduled at most once per cull timeout.
+ *
  * @author Luke Frisken
  */
 public class SystemStateDatabase {
-    private HashMap<String, Track> tracks;
-    private ArrayList<SystemStateDatabaseListener> listeners;
-    private TimeSource timeSource;
+    private final ConcurrentHashMap<String, Track> tracks;
+    private final CopyOnWriteArrayList<SystemStateDatabaseListener> listeners;
+    private final TimeSource timeSource;
+    private volatile int trackHistorySize;
+    private volatile TrackArchive trackArchive;
+    private volatile long cullTimeout;
+    private final PriorityQueue<TrackExpiry> expiryQueue; // guarded by itself
+
+    /**
+     * An entry in the expiry queue, the time at which a track is next due to be checked for culling.
+     */
+    private static class TrackExpiry implements Comparable<TrackExpiry> {
+        private final String aircraftID;
+        private final Track track;
+        private final long expiryTime;
+
+        private TrackExpiry(String aircraftID, Track track, long expiryTime)
+        {
+            this.aircraftID = aircraftID;
+            this.track = track;
+            this.expiryTime = expiryTime;
+        }
+
+        @Override
+        public int compareTo(TrackExpiry other) {
+            return expiryTime < other.expiryTime ? -1 : (expiryTime == other.expiryTime ? 0 : 1);
+        }
+    }
 
     public SystemStateDatabase(TimeSource timeSource)
     {
-        tracks = new HashMap<String, Track>();
-        listeners = new ArrayList<SystemStateDatabaseListener>();
+        tracks = new ConcurrentHashMap<String, Track>();
+        listeners = new CopyOnWriteArrayList<SystemStateDatabaseListener>();
         this.timeSource = timeSource;
+        trackHistorySize = 0;
+        trackArchive = null;
+        cullTimeout = ApplicationConfig.getInt("settings.system-state-database.cull-timeout");
+        expiryQueue = new PriorityQueue<TrackExpiry>();
+    }
+
+    /**
+     * Set how long a track can go without an update before it is culled.
+     * @param cullTimeout in milliseconds
+     */
+    public void setCullTimeout(long cullTimeout)
+    {
+        this.cullTimeout = cullTimeout;
+    }
+
+    /**
+     * Get how long a track can go without an update before it is culled.
+     * @return timeout in milliseconds
+     */
+    public long getCullTimeout()
+    {
+        return cullTimeout;
+    }
+
+    /**
+     * Set the maximum number of states to keep in each new track (see {@link Track#Track(int, TrackArchive)}).
+     * Tracks which already exist are not affected.
+     * @param trackHistorySize maximum number of states, 0 to keep all of them
+     */
+    public void setTrackHistorySize(int trackHistorySize)
+    {
+        this.trackHistorySize = trackHistorySize;
+    }
+
+    /**
+     * Get the maximum number of states kept in each track
+     * @return maximum number of states, or 0 if all of them are kept
+     */
+    public int getTrackHistorySize()
+    {
+        return trackHistorySize;
+    }
+
+    /**
+     * Set the archive which states dropped from new tracks are written to, along with the
+     * remaining states of a track when its aircraft is culled.
+     * @param trackArchive archive, or null for no archive
+     */
+    public void setTrackArchive(TrackArchive trackArchive)
+    {
+        this.trackArchive = trackArchive;
     }
 
     /**
@@ -35,36 +141,100 @@ public class SystemStateDatabase {
      */
     public void update(AircraftState aircraftState)
     {
-        String aircraftID = aircraftState.getAircraftID();
-        Track track = tracks.get(aircraftID);
-        if (track != null)
-        {
-            //todo: obviously this assumes that this aircraft state is sequential/after previous update times.
-            //which may well not be the case if it is coming from different sources
-            track.add(aircraftState);
-        } else {
-            track = new Track();
-            track.add(aircraftState);
-            tracks.put(aircraftID, track);
-            triggerOnNewAircraft(aircraftID);
-        }
-        ArrayList<String> aircraftIDs = new ArrayList<String>();
+        String aircraftID = applyUpdate(aircraftState);
+        ArrayList<String> aircraftIDs = new ArrayList<String>(1);
         aircraftIDs.add(aircraftID);
         triggerOnSystemStateUpdate(aircraftIDs);
         triggerOnUpdateAircraft(aircraftID);
     }
 
     /**
-     * not implemented yet
+     * submit a batch of updates to this state database. All the updates are applied
+     * before the listeners are notified, and then onSystemStateUpdate is triggered once
+     * with the IDs of all the aircraft which were updated.
      * @param aircraftStates
      */
     public void update(AircraftState[] aircraftStates)
     {
+        update(Arrays.asList(aircraftStates));
+    }
+
+    /**
+     * submit a batch of updates to this state database.
+     * @see #update(AircraftState[])
+     * @param aircraftStates
+     */
+    public void update(List<AircraftState> aircraftStates)
+    {
+        ArrayList<String> aircraftIDs = new ArrayList<String>(aircraftStates.size());
+        HashSet<String> updatedAircraft = new HashSet<String>(aircraftStates.size() * 2);
+        for (AircraftState aircraftState : aircraftStates)
+        {
+            String aircraftID = applyUpdate(aircraftState);
 
+            // an aircraft which appears more than once in the batch is only reported once
+            if (updatedAircraft.add(aircraftID))
+            {
+                aircraftIDs.add(aircraftID);
+            }
+        }
+
+        if (aircraftIDs.isEmpty())
+        {
+            return;
+        }
+
+        triggerOnSystemStateUpdate(aircraftIDs);
+        for (String aircraftID : aircraftIDs)
+        {
+            triggerOnUpdateAircraft(aircraftID);
+        }
+    }
+
+    /**
+     * Add the aircraft state to its track, creating the track if it doesn't exist yet
+     * (which triggers onNewAircraft).
+     * @param aircraftState
+     * @return the ID of the aircraft which was updated
+     */
+    private String applyUpdate(AircraftState aircraftState)
+    {
+        String aircraftID = aircraftState.getAircraftID();
+        while (true)
+        {
+            Track track = tracks.get(aircraftID);
+            if (track != null)
+            {
+                synchronized (track)
+                {
+                    // retry if the track was culled while we were waiting for it
+                    if (tracks.get(aircraftID) == track)
+                    {
+                        //todo: obviously this assumes that this aircraft state is sequential/after previous update times.
+                        //which may well not be the case if it is coming from different sources
+                        track.add(aircraftState);
+                        return aircraftID;
+                    }
+                }
+            } else {
+                track = new Track(trackHistorySize, trackArchive);
+                track.add(aircraftState);
+                if (tracks.putIfAbsent(aircraftID, track) == null)
+                {
+                    synchronized (expiryQueue)
+                    {
+                        expiryQueue.add(new TrackExpiry(aircraftID, track, aircraftState.getTime() + cullTimeout));
+                    }
+                    triggerOnNewAircraft(aircraftID);
+                    return aircraftID;
+                }
+            }
+        }
     }
 
     /**
-     * Get an aircraft as referenced by its ID
+     * Get an aircraft as referenced by its ID. This is the live track, which is not safe to read
+     * while another thread is updating the aircraft, see {@link #snapshotTrack(String)}.
      * @param aircraftID
      * @return
      */
@@ -74,7 +244,38 @@ public class SystemStateDatabase {
     }
 
     /**
-     * Get a copy of the track
+     * Get the time source used by this database to determine the age of tracks
+     * @return
+     */
+    public TimeSource getTimeSource()
+    {
+        return timeSource;
+    }
+
+    /**
+     * Get a read only snapshot of the track as it is now. This is O(1) and
+     * does not copy the track, see {@link Track#snapshot()}. The snapshot can be safely
+     * read by any thread.
+     * @param aircraftID
+     * @return the snapshot, or null if there is no track for the aircraft (e.g. it has been culled)
+     */
+    public Track snapshotTrack(String aircraftID)
+    {
+        Track track = tracks.get(aircraftID);
+        if (track == null)
+        {
+            return null;
+        }
+
+        synchronized (track)
+        {
+            return track.snapshot();
+        }
+    }
+
+    /**
+     * Get a copy of the track. This is O(n) in the length of the track,
+     * prefer {@link #snapshotTrack(String)} where a read only view will do.
      * @param aircraftID
      * @return
      */
@@ -82,7 +283,10 @@ public class SystemStateDatabase {
     {
         Track track = tracks.get(aircraftID);
         Track newTrack = new Track();
-        newTrack.addAll(track);
+        synchronized (track)
+        {
+            newTrack.addAll(track);
+        }
         return newTrack;
     }
 
@@ -97,14 +301,7 @@ public class SystemStateDatabase {
      * @param systemState the updated system state
      */
     public void systemStateUpdate(SystemState systemState) {
-        //could just use basic array for better performance here
-        ArrayList<String> aircraftIDs = new ArrayList<String>(systemState.getAircraftStates().size());
-        for (AircraftState aircraftState : systemState.getAircraftStates())
-        {
-            this.update(aircraftState);
-            aircraftIDs.add(aircraftState.getAircraftID());
-        }
-
+        this.update(systemState.getAircraftStates());
         cull();
     }
 
@@ -115,9 +312,9 @@ public class SystemStateDatabase {
      */
     public boolean addListener(SystemStateDatabaseListener listener)
     {
-        if (!listeners.contains(listener))
+        if (listeners.addIfAbsent(listener))
         {
-            return listeners.add(listener);
+            return true;
         } else {
             System.err.println("ERROR: cannot add listener, already exists");
             return false;
@@ -170,24 +367,49 @@ public class SystemStateDatabase {
         }
     }
 
+    /**
+     * Remove the aircraft which have not been updated for longer than the cull timeout.
+     * This only looks at the tracks which are due to expire, see {@link SystemStateDatabase}.
+     */
     public void cull()
     {
-        ArrayList<String> removeTracks = new ArrayList<String>();
-        for (Track track : tracks.values())
+        long currentTime = timeSource.getCurrentTime();
+        long timeout = cullTimeout;
+        ArrayList<String> removedAircraft = null;
+        synchronized (expiryQueue)
         {
-            AircraftState latest = track.getLatest();
-            long latestTrackTime = latest.getTime();
-            long timeSinceLatestTrackUpdate = timeSource.getCurrentTime() - latestTrackTime;
-            if (timeSinceLatestTrackUpdate > 20000)
+            TrackExpiry expiry;
+            while ((expiry = expiryQueue.peek()) != null && currentTime - expiry.expiryTime > 0)
             {
-                removeTracks.add(latest.getAircraftID());
+                expiryQueue.poll();
+                Track track = expiry.track;
+                synchronized (track)
+                {
+                    long latestTrackTime = track.getTime(track.size() - 1);
+                    long timeSinceLatestTrackUpdate = currentTime - latestTrackTime;
+                    if (timeSinceLatestTrackUpdate > timeout)
+                    {
+                        tracks.remove(expiry.aircraftID, track);
+                        track.archiveRemaining();
+                        if (removedAircraft == null)
+                        {
+                            removedAircraft = new ArrayList<String>();
+                        }
+                        removedAircraft.add(expiry.aircraftID);
+                    } else {
+                        // has been updated since it was scheduled
+                        expiryQueue.add(new TrackExpiry(expiry.aircraftID, track, latestTrackTime + timeout));
+                    }
+                }
             }
         }
 
-        for (String aircraftID : removeTracks)
+        if (removedAircraft != null)
         {
-            tracks.remove(aircraftID);
-            triggerOnRemoveAircraft(aircraftID);
+            for (String aircraftID : removedAircraft)
+            {
+                triggerOnRemoveAircraft(aircraftID);
+            }
         }
     }
 }
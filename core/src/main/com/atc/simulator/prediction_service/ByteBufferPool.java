@@ -0,0 +1,85 @@
+package com.atc.simulator.prediction_service;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A threadsafe pool of direct ByteBuffer's of the same size, so that the buffers messages are encoded
+ * into for sending can be reused, instead of allocating (and later freeing) a new direct buffer for each
+ * message.
+ *
+ * Requests for more than the buffer size are given a new buffer of their own, which isn't pooled.
+ * At most the maximum pooled number of buffers are kept in the pool, any more released buffers are
+ * left for the garbage collector.
+ *
+ * @author Luke Frisken
+ */
+public class ByteBufferPool {
+    private final int bufferSize;
+    private final int maxPooled;
+    private final ConcurrentLinkedQueue<ByteBuffer> pool;
+    private final AtomicInteger pooledCount;
+
+    /**
+     * Constructor for ByteBufferPool
+     * @param bufferSize capacity of the pooled buffers, in bytes
+     * @param maxPooled maximum number of buffers to keep in the pool
+     */
+    public ByteBufferPool(int bufferSize, int maxPooled)
+    {
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+        pool = new ConcurrentLinkedQueue<ByteBuffer>();
+        pooledCount = new AtomicInteger();
+    }
+
+    /**
+     * Get a cleared buffer, from the pool if it can fit in a pooled buffer.
+     * @param size the minimum capacity of the buffer, in bytes
+     * @return
+     */
+    public ByteBuffer acquire(int size)
+    {
+        if (size > bufferSize)
+        {
+            return ByteBuffer.allocateDirect(size);
+        }
+
+        ByteBuffer buffer = pool.poll();
+        if (buffer == null)
+        {
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+        pooledCount.decrementAndGet();
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Return a buffer to the pool, after which it must no longer be used.
+     * @param buffer a buffer from {@link #acquire(int)}
+     */
+    public void release(ByteBuffer buffer)
+    {
+        if (buffer.capacity() != bufferSize || !buffer.isDirect())
+        {
+            return;
+        }
+        if (pooledCount.incrementAndGet() > maxPooled)
+        {
+            pooledCount.decrementAndGet();
+            return;
+        }
+        pool.offer(buffer);
+    }
+
+    /**
+     * Get the number of buffers currently in the pool
+     * @return
+     */
+    public int getPooledCount()
+    {
+        return pooledCount.get();
+    }
+}
@@ -17,6 +17,9 @@ import java.io.*;
 /**
  * Created by urke on 8/05/2016.
  *
+ * Understands both delta encoded messages (decoded by a {@link SystemStateDeltaDecoder}), and messages with
+ * every aircraft's full state, from a server with delta encoding turned off.
+ *
  * @author Chris Coleman, Uros, Luke Frisken
  */
 public class DebugDataFeedClientThread implements RunnableThread
@@ -32,6 +35,7 @@ public class DebugDataFeedClientThread implements RunnableThread
     private Thread thread;
     private final String threadName = "DebugDataFeedClientThread";
     private ArrayList<DataPlaybackListener> dataPlaybackListeners;
+    private SystemStateDeltaDecoder decoder;
 
     /**
      * Constructor for DebugDataFeedClientThread
@@ -42,6 +46,7 @@ public class DebugDataFeedClientThread implements RunnableThread
         // takes a reference from the aSystemStateDatabase that is being passed in
         this.systemStateDatabase = aSystemStateDatabase;
         dataPlaybackListeners = new ArrayList<DataPlaybackListener>();
+        decoder = new SystemStateDeltaDecoder();
         try
         {
             serversSock = new Socket(serverIp, PORT);
@@ -80,6 +85,15 @@ public class DebugDataFeedClientThread implements RunnableThread
 
                 //Make an Array of all the AircraftStates that were sent:
                 ArrayList<AircraftState> aircraftStatesReceived = new ArrayList<AircraftState>();
+                if (tempMessage.getAircraftStateCount() == 0)
+                {
+                    //A delta encoded message (or an empty one)
+                    SystemState decodedState = decoder.decode(tempMessage);
+                    if (decodedState != null)
+                    {
+                        aircraftStatesReceived = decodedState.getAircraftStates();
+                    }
+                }
                 for (int i = 0; i < tempMessage.getAircraftStateCount(); i++) {
 
                     AircraftState newAircraftState = new AircraftState(
@@ -0,0 +1,158 @@
+package com.atc.simulator.prediction_service;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A protocol buffers message which has been encoded once, prefixed with its varint length (as for
+ * writeDelimitedTo()), into a buffer from a {@link ByteBufferPool}, to be written to any number of clients.
+ *
+ * Each client writes the message from its own {@link #getView() view} of the shared buffer. The message
+ * is reference counted: whoever encodes it holds the first reference, each client it is queued for
+ * {@link #retain() retains} another, and each {@link #release() releases} its reference when it has
+ * finished with the message. The buffer goes back to the pool when the last reference is released.
+ *
+ * The message is serialized into a per thread scratch array and copied into the direct buffer in one go, rather
+ * than with protobuf's direct buffer encoder, which puts one byte at a time (and relies on sun.misc.Unsafe).
+ *
+ * @author Luke Frisken
+ */
+public class EncodedMessage {
+    private static final ThreadLocal<byte[]> threadScratch = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[4096];
+        }
+    };
+
+    private final String key;
+    private final ByteBuffer buffer;
+    private final ByteBufferPool pool;
+    private final AtomicInteger references;
+
+    private EncodedMessage(String key, ByteBuffer buffer, ByteBufferPool pool)
+    {
+        this.key = key;
+        this.buffer = buffer;
+        this.pool = pool;
+        references = new AtomicInteger(1);
+    }
+
+    /**
+     * Encode a message
+     * @param key what the message is about (such as an aircraft id), newer messages with the same key
+     *            replace older ones waiting to be sent
+     * @param message message to encode
+     * @param pool pool to take the buffer from
+     * @return the encoded message, holding one reference
+     */
+    public static EncodedMessage encode(String key, MessageLite message, ByteBufferPool pool)
+    {
+        return encode(key, 0, message, pool);
+    }
+
+    /**
+     * Encode a message as one element of a repeated message field, prefixed with the field's tag and
+     * its length, rather than with just its length. Any number of these for the same field, written one
+     * after another after the enclosing message's varint length, make up the (delimited) enclosing message.
+     * @param key what the message is about (such as an aircraft id), newer messages with the same key
+     *            replace older ones waiting to be sent
+     * @param fieldNumber the number of the enclosing message's field
+     * @param message message to encode
+     * @param pool pool to take the buffer from
+     * @return the encoded message, holding one reference
+     */
+    public static EncodedMessage encodeField(String key, int fieldNumber, MessageLite message, ByteBufferPool pool)
+    {
+        return encode(key, fieldNumber, message, pool);
+    }
+
+    private static EncodedMessage encode(String key, int fieldNumber, MessageLite message, ByteBufferPool pool)
+    {
+        int size = message.getSerializedSize();
+        int length = CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+        if (fieldNumber != 0)
+        {
+            length += CodedOutputStream.computeTagSize(fieldNumber);
+        }
+        byte[] scratch = threadScratch.get();
+        if (scratch.length < length)
+        {
+            scratch = new byte[length];
+            threadScratch.set(scratch);
+        }
+
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(scratch, 0, length);
+            if (fieldNumber != 0)
+            {
+                output.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            }
+            output.writeUInt32NoTag(size);
+            message.writeTo(output);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new IllegalStateException("encoding a message into a buffer failed", e);
+        }
+
+        ByteBuffer buffer = pool.acquire(length);
+        buffer.put(scratch, 0, length);
+        buffer.flip();
+        return new EncodedMessage(key, buffer, pool);
+    }
+
+    /**
+     * Get what the message is about
+     * @return
+     */
+    public String getKey()
+    {
+        return key;
+    }
+
+    /**
+     * Get the length of the encoded message, including its length prefix (and tag)
+     * @return in bytes
+     */
+    public int getLength()
+    {
+        return buffer.limit();
+    }
+
+    /**
+     * Get a new view of the encoded message, with its own position, for writing to a client.
+     * The view must not be used after the reference it was got with has been released.
+     * @return
+     */
+    public ByteBuffer getView()
+    {
+        return buffer.duplicate();
+    }
+
+    /**
+     * Take another reference to the message
+     */
+    public void retain()
+    {
+        references.incrementAndGet();
+    }
+
+    /**
+     * Release a reference to the message, returning its buffer to the pool if it was the last one.
+     */
+    public void release()
+    {
+        int remaining = references.decrementAndGet();
+        if (remaining == 0)
+        {
+            pool.release(buffer);
+        } else if (remaining < 0) {
+            throw new IllegalStateException("message released more times than it was retained");
+        }
+    }
+}
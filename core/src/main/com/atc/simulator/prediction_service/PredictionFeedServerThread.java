@@ -8,64 +8,202 @@ import com.atc.simulator.flightdata.Prediction;
 import com.atc.simulator.flightdata.Track;
 import com.atc.simulator.vectors.GeographicCoordinate;
 import com.atc.simulator.vectors.SphericalVelocity;
+import com.google.protobuf.InvalidProtocolBufferException;
 
 import java.io.IOException;
-import java.net.ServerSocket;
-import java.net.Socket;
-import java.util.ArrayList;
-import java.util.concurrent.ArrayBlockingQueue;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * PredictionFeedServerThread is responsible for the encoding and sending of predictions for display/external systems. Currently able to connect and send
- * to a single client, emptying its buffer if no client has connected.
+ * PredictionFeedServerThread is responsible for the encoding and sending of predictions for display/external systems,
+ * to any number of clients.
+ *
+ * The server is a single thread with a non-blocking NIO selector, which accepts clients, and writes to each of them
+ * only as fast as that client reads, so a slow client can't hold up the others. Each client has its own bounded
+ * queue of messages waiting to be written to it. A queue holds at most one message per aircraft: a newer
+ * prediction for an aircraft replaces the waiting one (in its place in the queue), and when the queue is full of
+ * other aircraft the oldest message is dropped. Clients which disconnect (or fail to be written to) are removed.
+ *
+ * Each message is encoded only once, into a pooled direct buffer (see {@link EncodedMessage}), which is shared
+ * by all the clients it is queued for. Each client writes as many of its waiting messages as it can with one
+ * gathering write.
+ *
+ * Clients say which version of the feed they understand with a {@link PredictionFeedServe.PredictionFeedHello}
+ * when they connect, and are sent the server's hello, with the version they agreed on, in reply. A client which
+ * doesn't send a hello within the handshake timeout is an older (version 1) client, which is sent each
+ * AircraftPredictionMessage on its own, as before. Version 2 clients are sent the predictions in
+ * {@link PredictionFeedServe.PredictionBatch}'s, which hold at most one prediction per aircraft, and are sent
+ * when the client's waiting predictions reach the batch size (in bytes), or the batch interval after the first of
+ * them was queued, whichever comes first. The queue of a version 2 (or 3) client holds single predictions like
+ * any other (so they are replaced and dropped per aircraft in the same way), each encoded once as an element of
+ * the batch's repeated prediction field, and the batch is made when it is written, by gathering the waiting
+ * predictions after the batch's length. Version 3 clients are sent batches too, with the tracks encoded as
+ * {@link PredictionFeedServe.CompactTrack}'s (where the track's states are evenly spaced in time and share the same
+ * velocity, as the predicted tracks are), which makes the messages about seven times smaller. Clients get nothing
+ * until their version has been agreed.
+ *
+ * {@link #sendPrediction(Prediction)} can be called from any thread, and never blocks.
  *
  * @author    Chris Coleman - 7191375, Luke Frisken
- * TODO: implement the PredictionEngineListener functionality
  */
 
 public class PredictionFeedServerThread implements RunnableThread{
     private static final boolean enableTimer = ApplicationConfig.getBoolean("settings.debug.predictionfeedserver-timer");
     private static final boolean enableDebugPrint = ApplicationConfig.getBoolean("settings.debug.print-predictionfeedserver");
-    private static final boolean enableDebugPrintQueues = ApplicationConfig.getBoolean("settings.debug.print-queues");
     private static final boolean enableDebugPrintThreading = ApplicationConfig.getBoolean("settings.debug.print-threading");
 
     private static final int PORT = ApplicationConfig.getInt("settings.prediction-service.server.port-number");
+    private static final int CLIENT_QUEUE_SIZE = ApplicationConfig.getInt("settings.prediction-service.server.client-queue-size");
+    private static final int BUFFER_SIZE = ApplicationConfig.getInt("settings.prediction-service.server.buffer-size");
+    private static final int BUFFER_POOL_SIZE = ApplicationConfig.getInt("settings.prediction-service.server.buffer-pool-size");
+    private static final int BATCH_SIZE = ApplicationConfig.getInt("settings.prediction-service.server.batch-size");
+    private static final int BATCH_INTERVAL = ApplicationConfig.getInt("settings.prediction-service.server.batch-interval");
+    private static final int HANDSHAKE_TIMEOUT = ApplicationConfig.getInt("settings.prediction-service.server.handshake-timeout");
+
+    /**
+     * The latest version of the feed, which the server offers to clients
+     */
+    public static final int VERSION = 3;
+
+    /**
+     * The most messages written to a version 1 client with one gathering write
+     */
+    private static final int MAX_GATHER = 16;
+
+    /**
+     * A connected client, and the messages waiting to be written to it.
+     */
+    private static class ClientConnection {
+        final SocketChannel channel;
+        final LinkedHashMap<String, EncodedMessage> queue;
+        boolean closed;
+
+        /**
+         * for version 2 and 3 clients, the size of the predictions waiting in the queue,
+         * and when the first of them was queued
+         */
+        int queuedBytes;
+        long batchStartTime;
+
+        /**
+         * the version of the feed agreed with the client, 0 until the handshake has finished
+         */
+        volatile int version;
+        final long connectTime;
+        final ByteBuffer helloBuffer;
 
+        /**
+         * the messages currently being written (the first may have been partly written),
+         * and the client's views of them. A batch's length prefix has a view, but no message.
+         */
+        EncodedMessage[] writing;
+        ByteBuffer[] writingViews;
+        int writingCount;
+        final ByteBuffer batchLengthBuffer;
+
+        ClientConnection(SocketChannel channel)
+        {
+            this.channel = channel;
+            queue = new LinkedHashMap<String, EncodedMessage>();
+            connectTime = System.currentTimeMillis();
+            helloBuffer = ByteBuffer.allocate(16);
+            writing = new EncodedMessage[MAX_GATHER];
+            writingViews = new ByteBuffer[MAX_GATHER];
+            batchLengthBuffer = ByteBuffer.allocate(5);
+        }
 
-    private ArrayBlockingQueue<PredictionFeedServe.AircraftPredictionMessage> toBeSentBuffer; //Buffer of encoded messages
-    //Socket definitions
-    private ServerSocket connectionSocket; //ServerSocket that handles connect requests by clients
-    //TODO: Some method of removing clients or handling when they disappear
-    private ArrayList<Socket> connectedClients; //List of successfully connected clients that will be sent the new predictions
+        /**
+         * Add a message to those being written, making room for it if there are already
+         * as many as there is room for (which only a large batch needs).
+         */
+        void addWriting(EncodedMessage message, ByteBuffer view)
+        {
+            if (writingCount == writing.length)
+            {
+                writing = Arrays.copyOf(writing, writing.length * 2);
+                writingViews = Arrays.copyOf(writingViews, writingViews.length * 2);
+            }
+            writing[writingCount] = message;
+            writingViews[writingCount] = view;
+            writingCount++;
+        }
+    }
+
+    private final int clientQueueSize;
+    private final int batchSize;
+    private final int batchInterval;
+    private final int handshakeTimeout;
+    private final ByteBufferPool bufferPool;
+    private final AtomicLong batchCount;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private final CopyOnWriteArrayList<ClientConnection> connectedClients; //clients that will be sent the new predictions
+    private final AtomicLong droppedCount;
+    private final AtomicLong selectCount;
+    private final ByteBuffer readBuffer;
     //Thread definitions
-    private boolean continueThread = true;  //Simple flag that dictates whether the Server threads will keep looping
-    private Thread thread;  //Simple flag that dictates whether the Server threads will keep looping
-    private PredictionFeedServerConnectThread serverConnectThread; //Thread to accept connections by clients
+    private volatile boolean continueThread = true;  //Simple flag that dictates whether the Server threads will keep looping
+    private Thread thread;
     private final String threadName = "PredictionFeedServerThread";
 
 
-
     /**
-     * Constructor, instantiates a new buffer for storing of messages to be sent.
-     * Also creates a separate thread that handles external client connection.
+     * Constructor, listens on the port, and with the client queue size, batching and handshake
+     * timeout from the settings.
      */
     public PredictionFeedServerThread()
     {
-        toBeSentBuffer = new ArrayBlockingQueue<PredictionFeedServe.AircraftPredictionMessage>(400);
-        connectedClients = new ArrayList<Socket>();
+        this(PORT, CLIENT_QUEUE_SIZE, BATCH_SIZE, BATCH_INTERVAL, HANDSHAKE_TIMEOUT);
+    }
+
+    /**
+     * Constructor for PredictionFeedServerThread
+     * @param port port to listen for clients on, 0 for any free port (see {@link #getPort()})
+     * @param clientQueueSize maximum number of messages waiting to be written to each client
+     * @param batchSize size a batch is sent at, in bytes
+     * @param batchInterval longest time a prediction waits in a batch before it is sent, in milliseconds
+     * @param handshakeTimeout how long to wait for a client's hello before treating it as a version 1
+     *                         client, in milliseconds
+     */
+    public PredictionFeedServerThread(int port, int clientQueueSize, int batchSize, int batchInterval,
+                                      int handshakeTimeout)
+    {
+        this.clientQueueSize = clientQueueSize;
+        this.batchSize = batchSize;
+        this.batchInterval = batchInterval;
+        this.handshakeTimeout = handshakeTimeout;
+        connectedClients = new CopyOnWriteArrayList<ClientConnection>();
+        droppedCount = new AtomicLong();
+        selectCount = new AtomicLong();
+        bufferPool = new ByteBufferPool(BUFFER_SIZE, BUFFER_POOL_SIZE);
+        batchCount = new AtomicLong();
+        readBuffer = ByteBuffer.allocate(256);
 
         try{
-            connectionSocket = new ServerSocket(PORT);
+            selector = Selector.open();
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.socket().setReuseAddress(true);
+            serverChannel.socket().bind(new InetSocketAddress(port));
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
         }catch(IOException e){System.out.println("PredictionFeed Server Socket error");}
-        serverConnectThread = new PredictionFeedServerConnectThread(connectionSocket);
 
         if(enableDebugPrint)
         {
-            System.out.println("Server/ArrayList created");
+            System.out.println("Server created");
         }
     }
 
-    private PredictionFeedServe.PredictionAircraftStateMessage buildAircraftStateMessage(AircraftState aircraftState)
+    private static PredictionFeedServe.PredictionAircraftStateMessage buildAircraftStateMessage(AircraftState aircraftState)
     {
         PredictionFeedServe.PredictionAircraftStateMessage.Builder aircraftStateMessageBuilder =
                 PredictionFeedServe.PredictionAircraftStateMessage.newBuilder();
@@ -78,22 +216,25 @@ public class PredictionFeedServerThread implements RunnableThread{
                 buildGeographicCoordinateMessage(position)
         );
         //A super complicated velocity
-        SphericalVelocity velocity = aircraftState.getVelocity();
-        aircraftStateMessageBuilder.setVelocity(
-                PredictionFeedServe.SphericalVelocityMessage.newBuilder()
-                        .setDr(velocity.getDR())
-                        .setDtheta(velocity.getDTheta())
-                        .setDphi(velocity.getDPhi())
-        );
+        aircraftStateMessageBuilder.setVelocity(buildVelocityMessage(aircraftState.getVelocity()));
         return aircraftStateMessageBuilder.build();
     }
 
+    private static PredictionFeedServe.SphericalVelocityMessage buildVelocityMessage(SphericalVelocity velocity)
+    {
+        return PredictionFeedServe.SphericalVelocityMessage.newBuilder()
+                .setDr(velocity.getDR())
+                .setDtheta(velocity.getDTheta())
+                .setDphi(velocity.getDPhi())
+                .build();
+    }
+
     /**
      * Build a {@link com.atc.simulator.protocol_buffers.PredictionFeedServe.Track} message from a {@link Track}
      * @param track track to use to build the message
      * @return new message
      */
-    private PredictionFeedServe.Track buildTrackMessage(Track track)
+    private static PredictionFeedServe.Track buildTrackMessage(Track track)
     {
         PredictionFeedServe.Track.Builder trackMessageBuilder = PredictionFeedServe.Track.newBuilder();
 
@@ -105,8 +246,60 @@ public class PredictionFeedServerThread implements RunnableThread{
         return trackMessageBuilder.build();
     }
 
+    /**
+     * Build a {@link PredictionFeedServe.CompactTrack} message from a {@link Track}, with the altitudes
+     * rounded to meters, and the latitudes and longitudes to microdegrees.
+     * @param track track to use to build the message
+     * @return new message, or null if the track's states aren't evenly spaced in time with the same velocity
+     */
+    static PredictionFeedServe.CompactTrack buildCompactTrackMessage(Track track)
+    {
+        if (track.isEmpty())
+        {
+            return null;
+        }
 
-    PredictionFeedServe.GeographicCoordinateMessage buildGeographicCoordinateMessage(GeographicCoordinate coordinate) {
+        long startTime = track.getTime(0);
+        long timeStep = track.size() > 1 ? track.getTime(1) - startTime : 0;
+        if (timeStep < 0 || timeStep > Integer.MAX_VALUE)
+        {
+            return null;
+        }
+        SphericalVelocity velocity = new SphericalVelocity(track.getDR(0), track.getDTheta(0), track.getDPhi(0));
+
+        PredictionFeedServe.CompactTrack.Builder builder = PredictionFeedServe.CompactTrack.newBuilder()
+                .setStartTime(startTime)
+                .setTimeStep((int) timeStep)
+                .setVelocity(buildVelocityMessage(velocity));
+
+        //each position is sent as the difference from the previous one
+        long altitude = 0, latitude = 0, longitude = 0;
+        for (int i = 0; i < track.size(); i++)
+        {
+            if (track.getTime(i) != startTime + i*timeStep
+                    || track.getDR(i) != velocity.getDR()
+                    || track.getDTheta(i) != velocity.getDTheta()
+                    || track.getDPhi(i) != velocity.getDPhi())
+            {
+                return null;
+            }
+
+            long nextAltitude = Math.round(track.getAltitude(i));
+            long nextLatitude = Math.round(Math.toDegrees(track.getLatitude(i)) * 1e6);
+            long nextLongitude = Math.round(Math.toDegrees(track.getLongitude(i)) * 1e6);
+            builder.addAltitude((int) (nextAltitude - altitude));
+            builder.addLatitude((int) (nextLatitude - latitude));
+            builder.addLongitude((int) (nextLongitude - longitude));
+            altitude = nextAltitude;
+            latitude = nextLatitude;
+            longitude = nextLongitude;
+        }
+
+        return builder.build();
+    }
+
+
+    static PredictionFeedServe.GeographicCoordinateMessage buildGeographicCoordinateMessage(GeographicCoordinate coordinate) {
         PredictionFeedServe.GeographicCoordinateMessage.Builder builder = PredictionFeedServe.GeographicCoordinateMessage.newBuilder();
         if (coordinate == null) {
             System.err.println("Bad coord");
@@ -120,9 +313,10 @@ public class PredictionFeedServerThread implements RunnableThread{
     /**
      * Build an {@link PredictionFeedServe.AircraftPredictionMessage} from a {@link Prediction}
      * @param newPrediction prediction to use to build the message
+     * @param compact whether to send the tracks as {@link PredictionFeedServe.CompactTrack}'s where they can be
      * @return new message
      */
-    private PredictionFeedServe.AircraftPredictionMessage buildMessage(Prediction newPrediction)
+    static PredictionFeedServe.AircraftPredictionMessage buildMessage(Prediction newPrediction, boolean compact)
     {
         PredictionFeedServe.AircraftPredictionMessage.Builder predictionMessageBuilder =
                 PredictionFeedServe.AircraftPredictionMessage.newBuilder(); //PredictionMessage Builder
@@ -137,16 +331,38 @@ public class PredictionFeedServerThread implements RunnableThread{
         //left track is optional
         if (newPrediction.hasLeftTrack())
         {
-            predictionMessageBuilder.setLeftTrack(buildTrackMessage(newPrediction.getLeftTrack()));
+            PredictionFeedServe.CompactTrack compactTrack =
+                    compact ? buildCompactTrackMessage(newPrediction.getLeftTrack()) : null;
+            if (compactTrack != null)
+            {
+                predictionMessageBuilder.setCompactLeftTrack(compactTrack);
+            } else {
+                predictionMessageBuilder.setLeftTrack(buildTrackMessage(newPrediction.getLeftTrack()));
+            }
         }
 
-        //centre track is required
-        predictionMessageBuilder.setCentreTrack(buildTrackMessage(newPrediction.getCentreTrack()));
+        //centre track is required, and is sent empty when it is sent compactly
+        PredictionFeedServe.CompactTrack compactCentreTrack =
+                compact ? buildCompactTrackMessage(newPrediction.getCentreTrack()) : null;
+        if (compactCentreTrack != null)
+        {
+            predictionMessageBuilder.setCompactCentreTrack(compactCentreTrack);
+            predictionMessageBuilder.setCentreTrack(PredictionFeedServe.Track.getDefaultInstance());
+        } else {
+            predictionMessageBuilder.setCentreTrack(buildTrackMessage(newPrediction.getCentreTrack()));
+        }
 
         //right track is optional
         if (newPrediction.hasRightTrack())
         {
-            predictionMessageBuilder.setRightTrack(buildTrackMessage(newPrediction.getRightTrack()));
+            PredictionFeedServe.CompactTrack compactTrack =
+                    compact ? buildCompactTrackMessage(newPrediction.getRightTrack()) : null;
+            if (compactTrack != null)
+            {
+                predictionMessageBuilder.setCompactRightTrack(compactTrack);
+            } else {
+                predictionMessageBuilder.setRightTrack(buildTrackMessage(newPrediction.getRightTrack()));
+            }
         }
 
         predictionMessageBuilder.setAircraftState(buildAircraftStateMessage(newPrediction.getAircraftState()));
@@ -157,62 +373,249 @@ public class PredictionFeedServerThread implements RunnableThread{
 
     /**
      * Creates a new AircraftPredictionMessage. Is given a Prediction, takes the ID and Time, and then loops through
-     * all the positions and builds GeographicCoordinateMessages. Once finished, wraps it all up nicely and places the
-     * new message in the buffer, ready to be sent
+     * all the positions and builds GeographicCoordinateMessages. Once finished, wraps it all up nicely, encodes it
+     * once for each version of the feed with connected clients, and places the encoded message in the queue of
+     * each connected client of that version, ready to be sent (on its own, or in a batch). If no client has
+     * connected the message is discarded.
      * @param newPrediction : The prediction datatype created by the engine
      */
-    public synchronized void sendPrediction(Prediction newPrediction)
+    public void sendPrediction(Prediction newPrediction)
+    {
+        boolean single = false;
+        boolean batched = false;
+        boolean compactBatched = false;
+        for (ClientConnection client : connectedClients)
+        {
+            single |= client.version == 1;
+            batched |= client.version == 2;
+            compactBatched |= client.version == 3;
+        }
+        if (!single && !batched && !compactBatched)
+        {
+            if(enableDebugPrint){ System.out.println(threadName + " No client connected, data not sent"); }
+            return;
+        }
+
+        String aircraftID = newPrediction.getAircraftID();
+        boolean wakeup = false;
+        if (compactBatched)
+        {
+            wakeup |= enqueueAll(3, EncodedMessage.encodeField(aircraftID,
+                    PredictionFeedServe.PredictionBatch.PREDICTION_FIELD_NUMBER,
+                    buildMessage(newPrediction, true), bufferPool));
+        }
+        if (single || batched)
+        {
+            PredictionFeedServe.AircraftPredictionMessage message = buildMessage(newPrediction, false);
+            if (single)
+            {
+                wakeup |= enqueueAll(1, EncodedMessage.encode(aircraftID, message, bufferPool));
+            }
+            if (batched)
+            {
+                wakeup |= enqueueAll(2, EncodedMessage.encodeField(aircraftID,
+                        PredictionFeedServe.PredictionBatch.PREDICTION_FIELD_NUMBER, message, bufferPool));
+            }
+        }
+
+        if (wakeup)
+        {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * Place an encoded message in the queue of each client of a version, and release the reference
+     * it was encoded with.
+     * @param version
+     * @param encoded
+     * @return whether a client has something to send sooner than the selector would wake up for
+     */
+    private boolean enqueueAll(int version, EncodedMessage encoded)
     {
-        com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage message = buildMessage(newPrediction);
+        boolean wakeup = false;
+        for (ClientConnection client : connectedClients)
+        {
+            if (client.version == version)
+            {
+                wakeup |= enqueue(client, encoded);
+            }
+        }
+        encoded.release();
+        return wakeup;
+    }
 
-        if (enableDebugPrint)
+    /**
+     * Add a message to the queue of a client, replacing a waiting message with the same key (aircraft),
+     * or dropping the oldest message if the queue is full.
+     * @param client
+     * @param message
+     * @return whether the client has something to send sooner than the selector would wake up for: always
+     *         for a version 1 client, and for a version 2 or 3 client when its batch is started or filled
+     */
+    private boolean enqueue(ClientConnection client, EncodedMessage message)
+    {
+        synchronized (client)
         {
-            System.out.println(threadName + " adding to toBeSentBuffer which has a size of " + toBeSentBuffer.size());
+            if (client.closed)
+            {
+                return false;
+            }
+
+            boolean batched = client.version >= 2;
+            boolean first = client.queue.isEmpty();
+            String aircraftID = message.getKey();
+            if (!client.queue.containsKey(aircraftID) && client.queue.size() >= clientQueueSize)
+            {
+                Iterator<EncodedMessage> oldest = client.queue.values().iterator();
+                EncodedMessage dropped = oldest.next();
+                oldest.remove();
+                client.queuedBytes -= dropped.getLength();
+                dropped.release();
+                droppedCount.incrementAndGet();
+            }
+            // replacing a waiting message keeps its place in the queue
+            message.retain();
+            EncodedMessage replaced = client.queue.put(aircraftID, message);
+            client.queuedBytes += message.getLength();
+            if (replaced != null)
+            {
+                client.queuedBytes -= replaced.getLength();
+                replaced.release();
+                droppedCount.incrementAndGet();
+            }
+
+            if (!batched)
+            {
+                return true;
+            }
+            if (first)
+            {
+                client.batchStartTime = System.currentTimeMillis();
+                return true;
+            }
+            return client.queuedBytes >= batchSize;
         }
+    }
 
-        toBeSentBuffer.add(message); //Build message and add to buffer
+    /**
+     * Take a batch from the queue of a version 2 or 3 client, if its waiting predictions have reached the batch
+     * size, or have waited for the batch interval, and add it to the messages being written: the batch's length
+     * followed by the predictions, oldest first, up to the batch size (a batch can be over the batch size by
+     * up to one prediction).
+     * @param client
+     * @param now
+     */
+    private void takeBatch(ClientConnection client, long now)
+    {
+        int length = 0;
+        int start = client.writingCount;
+        synchronized (client)
+        {
+            if (client.queue.isEmpty()
+                    || (client.queuedBytes < batchSize && now - client.batchStartTime < batchInterval))
+            {
+                return;
+            }
+
+            client.addWriting(null, null); // the batch's length, once it is known
+            Iterator<EncodedMessage> oldest = client.queue.values().iterator();
+            while (length < batchSize && oldest.hasNext())
+            {
+                EncodedMessage message = oldest.next();
+                oldest.remove();
+                client.queuedBytes -= message.getLength();
+                length += message.getLength();
+                client.addWriting(message, message.getView());
+            }
+            // the rest start the next batch
+            client.batchStartTime = now;
+        }
+
+        ByteBuffer lengthBuffer = client.batchLengthBuffer;
+        lengthBuffer.clear();
+        while ((length & ~0x7F) != 0)
+        {
+            lengthBuffer.put((byte) ((length & 0x7F) | 0x80));
+            length >>>= 7;
+        }
+        lengthBuffer.put((byte) length);
+        lengthBuffer.flip();
+        client.writingViews[start] = lengthBuffer;
+        batchCount.incrementAndGet();
+    }
+
+    /**
+     * Take the oldest message from the queue of a client
+     * @param client
+     * @return the message, or null if the queue is empty
+     */
+    private EncodedMessage dequeue(ClientConnection client)
+    {
+        synchronized (client)
+        {
+            Iterator<EncodedMessage> oldest = client.queue.values().iterator();
+            if (!oldest.hasNext())
+            {
+                return null;
+            }
+            EncodedMessage message = oldest.next();
+            oldest.remove();
+            return message;
+        }
     }
 
     /**
-     * This thread will begin the Server connection thread and then loop; checking its buffer and either sending or deleting
-     * the messages depending on whether a client has connected.
-     * When the continueThread flag is cleared, both the ServerSocket and connecting to Client will be closed.
+     * This thread will loop, accepting new clients, and writing the messages waiting in the queues of the
+     * clients to those which are ready for them, until the continueThread flag is cleared, when the server
+     * and all the clients will be closed.
      */
     public void run() {
-        serverConnectThread.start();
         try {
             while (continueThread) {
                 try {
-                    PredictionFeedServe.AircraftPredictionMessage message = toBeSentBuffer.take();
-                    if (connectedClients.size() == 0) //If nothing is connected
-                    {
-                        if(enableDebugPrint){ System.out.println(threadName + " No client connected, data not sent"); }
+                    selector.select(getSelectTimeout()); //woken up by sendPrediction() and kill()
+                    selectCount.incrementAndGet();
 
-                    } else {
-                        for(Socket clientSocket : connectedClients) {
-                            message.writeDelimitedTo(clientSocket.getOutputStream()); //Try to send message
+                    Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                    while (selectedKeys.hasNext())
+                    {
+                        SelectionKey key = selectedKeys.next();
+                        selectedKeys.remove();
+                        if (!key.isValid())
+                        {
+                            continue;
                         }
 
-                        if(enableDebugPrint){ System.out.println(threadName + " Data sent to Client"); }
+                        if (key.isAcceptable())
+                        {
+                            accept();
+                        } else if (key.isReadable()) {
+                            read((ClientConnection) key.attachment());
+                        }
                     }
 
-                    if(enableDebugPrintQueues){ System.out.println(threadName + " toBeSentBuffer size now " + toBeSentBuffer.size()); }
+                    long now = System.currentTimeMillis();
+                    checkHandshakes(now);
 
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
+                    for (ClientConnection client : connectedClients)
+                    {
+                        write(client, now);
+                    }
                 } catch (IOException e) {
-                    System.err.println("Send to LayerManager failed");
+                    System.err.println(threadName + " selector failed");
                 }
             }
         }
         finally
         {
-            serverConnectThread.kill();
             try{
-                for(Socket temp : connectedClients)
+                serverChannel.close();
+                for(ClientConnection client : connectedClients)
                 {
-                    temp.close();
+                    client.channel.close();
                 }
+                selector.close();
             }catch(IOException i){System.err.println("Can't close clientSocket");}
         }
 
@@ -220,101 +623,364 @@ public class PredictionFeedServerThread implements RunnableThread{
     }
 
     /**
-     * Small method called too kill the server's threads when the have update through
+     * Accept a client which is waiting to connect.
      */
-    public void kill()
+    private void accept() throws IOException
     {
-        continueThread = false;
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null)
+        {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+
+        ClientConnection client = new ClientConnection(channel);
+        channel.register(selector, SelectionKey.OP_READ, client);
+        connectedClients.add(client);
+        if(enableDebugPrint){ System.out.println(threadName + " client connected " + channel.socket().getRemoteSocketAddress()); }
     }
 
     /**
-     * Join this thread.
+     * How long to wait for a client's next batch to be due, or a client's handshake to time out
+     * @return in milliseconds, 0 for no limit
      */
-    @Override
-    public void join() throws InterruptedException {
-        thread.join();
+    private long getSelectTimeout()
+    {
+        long deadline = Long.MAX_VALUE;
+        for (ClientConnection client : connectedClients)
+        {
+            if (client.version == 0)
+            {
+                deadline = Math.min(deadline, client.connectTime + handshakeTimeout);
+            } else if (client.version >= 2) {
+                // a client still writing its batch is woken up by OP_WRITE, and its next batch
+                // can't be taken until then, so its passed batch interval is no deadline
+                synchronized (client)
+                {
+                    if (client.writingCount == 0 && !client.queue.isEmpty())
+                    {
+                        deadline = Math.min(deadline, client.batchStartTime + batchInterval);
+                    }
+                }
+            }
+        }
+
+        if (deadline == Long.MAX_VALUE)
+        {
+            return 0;
+        }
+        return Math.max(1, deadline - System.currentTimeMillis());
     }
 
     /**
-     * Start this thread
+     * Treat the clients which haven't sent a hello within the handshake timeout as version 1 clients.
      */
-    public void start()
+    private void checkHandshakes(long now)
     {
-        if (thread == null)
+        for (ClientConnection client : connectedClients)
         {
-            thread = new Thread(this, threadName);
-            thread.start();
+            if (client.version == 0 && now - client.connectTime >= handshakeTimeout)
+            {
+                setVersion(client, 1);
+            }
+        }
+    }
+
+    /**
+     * Set the version of the feed agreed with a client, sending a version 2 or later client the
+     * server's hello.
+     * @param client
+     * @param version
+     */
+    private void setVersion(ClientConnection client, int version)
+    {
+        if (version >= 2)
+        {
+            PredictionFeedServe.PredictionFeedHello hello = PredictionFeedServe.PredictionFeedHello.newBuilder()
+                    .setVersion(version)
+                    .build();
+            EncodedMessage encoded = EncodedMessage.encode("hello", hello, bufferPool);
+            client.addWriting(encoded, encoded.getView());
         }
+        // after the hello is being written, so that it is sent first
+        client.version = version;
+        if(enableDebugPrint){ System.out.println(threadName + " client is using version " + version); }
     }
 
     /**
-     * Private class that is responsible for handling the connection of sockets with PredictionFeed's Clients
-     * An internal thread will accept connections and inform the server, storing the new clients in an array
-     *
-     * @author Chris Coleman, Luke Frisken
+     * Read a client's hello, which is the only thing a client sends. After the handshake, a client is
+     * only read from to find out if it has disconnected.
+     * @param client
      */
-    private class PredictionFeedServerConnectThread implements RunnableThread
+    private void read(ClientConnection client)
     {
-        private ServerSocket connectionSocket; //The socket that will be listening for, and accepting, connections
-        private Socket connectedClient; //Temp holder for any clients that are connected and need to be given to the server
-        private Thread thread;
-        private final String threadName = "PredictionFeedServerConnectThread";
+        if (client.version == 0)
+        {
+            readHello(client);
+            return;
+        }
 
-        /**
-         * Constructor for PredictionFeedServerConnectThread
-         * @param connectionSocket : The serverSocket this thread will be listening on
-         */
-        public PredictionFeedServerConnectThread(ServerSocket connectionSocket){this.connectionSocket = connectionSocket;}
+        try {
+            readBuffer.clear();
+            if (client.channel.read(readBuffer) < 0)
+            {
+                disconnect(client);
+            }
+        } catch (IOException e) {
+            disconnect(client);
+        }
+    }
 
-        /**
-         * This thread will loop forever, waiting to accept client connection requests.. these clients are added to the list held by the server.
-         * The thread exits via Exceptions, thrown when the connection socket is closed or overarching server is removed
-         */
-        public void run()
+    /**
+     * Read as much of a client's (length delimited) hello as has arrived, and agree on the version
+     * once all of it has.
+     * @param client
+     */
+    private void readHello(ClientConnection client)
+    {
+        ByteBuffer buffer = client.helloBuffer;
+        try {
+            if (client.channel.read(buffer) < 0)
+            {
+                disconnect(client);
+                return;
+            }
+        } catch (IOException e) {
+            disconnect(client);
+            return;
+        }
+
+        if (buffer.position() == 0)
+        {
+            return;
+        }
+        int size = buffer.get(0); // a hello is always shorter than 128 bytes, so its length is one byte
+        if (size < 0 || size + 1 > buffer.capacity())
+        {
+            System.err.println(threadName + " bad hello from client");
+            disconnect(client);
+            return;
+        }
+        if (buffer.position() < size + 1)
         {
-            try {
-                while(true)
+            return;
+        }
+
+        try {
+            PredictionFeedServe.PredictionFeedHello hello =
+                    PredictionFeedServe.PredictionFeedHello.parser().parseFrom(buffer.array(), 1, size);
+            setVersion(client, Math.max(1, Math.min(VERSION, hello.getVersion())));
+        } catch (InvalidProtocolBufferException e) {
+            System.err.println(threadName + " bad hello from client");
+            disconnect(client);
+        }
+    }
+
+    /**
+     * Write as many of the messages waiting for a client as it can take without blocking, and
+     * wait for it to be ready for more if there are any left. Up to {@link #MAX_GATHER} messages
+     * are written to a version 1 client with each gathering write, and a whole batch to a version 2
+     * or 3 client. The next batch isn't taken from a client's queue until the previous one has been
+     * written, so that the predictions waiting for a slow client keep being replaced by newer ones.
+     * @param client
+     * @param now
+     */
+    private void write(ClientConnection client, long now)
+    {
+        long start1=0, start2=0; //required for timer
+        if(enableTimer)
+        {
+            start1 = System.nanoTime();
+            // maybe add here a call to a return to remove call up time, too.
+            // Avoid optimization
+            start2 = System.nanoTime();
+        }
+
+        try {
+            while (true)
+            {
+                if (client.version >= 2)
+                {
+                    if (client.writingCount == 0)
+                    {
+                        takeBatch(client, now);
+                    }
+                } else {
+                    while (client.writingCount < MAX_GATHER)
+                    {
+                        EncodedMessage message = dequeue(client);
+                        if (message == null)
+                        {
+                            break;
+                        }
+                        client.addWriting(message, message.getView());
+                    }
+                }
+                if (client.writingCount == 0)
+                {
+                    break;
+                }
+
+                EncodedMessage[] writing = client.writing;
+                ByteBuffer[] views = client.writingViews;
+                client.channel.write(views, 0, client.writingCount);
+
+                int written = 0;
+                while (written < client.writingCount && !views[written].hasRemaining())
+                {
+                    if (writing[written] != null)
+                    {
+                        writing[written].release();
+                    }
+                    written++;
+                }
+                int remaining = client.writingCount - written;
+                System.arraycopy(writing, written, writing, 0, remaining);
+                System.arraycopy(views, written, views, 0, remaining);
+                for (int i = remaining; i < client.writingCount; i++)
                 {
-                    connectedClient = connectionSocket.accept(); //Wait and accept a connection request
-                    connectedClients.add(connectedClient); //Add the new client to the list of clients
+                    writing[i] = null;
+                    views[i] = null;
+                }
+                client.writingCount = remaining;
+
+                if (remaining > 0)
+                {
+                    break; // the client's socket buffer is full
                 }
-            }catch(IOException e){;}
-            catch (NullPointerException n){;}
-            finally{
-                if(enableDebugPrintThreading){ System.out.println(threadName + " killed"); }
             }
 
+            SelectionKey key = client.channel.keyFor(selector);
+            key.interestOps(client.writingCount == 0 ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        } catch (IOException e) {
+            disconnect(client);
         }
 
-        /**
-         * Start this thread
-         */
-        @Override
-        public void start() {
-            if (thread == null)
+        if(enableTimer)
+        {
+            long stop = System.nanoTime();
+            long diff = stop - 2*start2 + start1;
+            System.out.println(threadName + " write " + (((double) diff)/1000000.0) + " ms");
+        }
+    }
+
+    /**
+     * Remove a client which has disconnected, or can't be written to.
+     * @param client
+     */
+    private void disconnect(ClientConnection client)
+    {
+        connectedClients.remove(client);
+        synchronized (client)
+        {
+            client.closed = true;
+            for (EncodedMessage message : client.queue.values())
             {
-                thread = new Thread(this, threadName);
-                thread.start();
+                message.release();
             }
+            client.queue.clear();
+            client.queuedBytes = 0;
         }
+        for (int i = 0; i < client.writingCount; i++)
+        {
+            if (client.writing[i] != null)
+            {
+                client.writing[i].release();
+            }
+            client.writing[i] = null;
+            client.writingViews[i] = null;
+        }
+        client.writingCount = 0;
 
-        /**
-         * Kill this thread.
-         */
-        @Override
-        public void kill(){
-            try{connectionSocket.close();}catch (IOException e){System.err.println("Closing "+ threadName+ "'s Socket has failed");}
+        try {
+            client.channel.close();
+        } catch (IOException e) {
+            System.err.println(threadName + " can't close client socket");
         }
+        if(enableDebugPrint){ System.out.println(threadName + " client disconnected"); }
+    }
 
-        /**
-         * Join this thread.
-         */
-        @Override
-        public void join() throws InterruptedException {
-            thread.join();
+    /**
+     * Get the port the server is listening on
+     * @return
+     */
+    public int getPort()
+    {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Get the number of clients currently connected, which have finished the handshake.
+     * @return
+     */
+    public int getClientCount()
+    {
+        int count = 0;
+        for (ClientConnection client : connectedClients)
+        {
+            if (client.version != 0)
+            {
+                count++;
+            }
         }
+        return count;
+    }
+
+    /**
+     * Get the number of batches which have been sent to the version 2 and 3 clients
+     * @return
+     */
+    public long getBatchCount()
+    {
+        return batchCount.get();
+    }
 
+    /**
+     * Get the number of messages which were dropped, or replaced by a newer message for the same aircraft,
+     * before they could be written to a client, summed over all the clients.
+     * @return
+     */
+    public long getDroppedCount()
+    {
+        return droppedCount.get();
     }
 
+    /**
+     * Get the number of times the server thread has woken up from waiting for its clients
+     * @return
+     */
+    public long getSelectCount()
+    {
+        return selectCount.get();
+    }
 
-}
\ No newline at end of file
+    /**
+     * Small method called too kill the server's threads when the have update through
+     */
+    public void kill()
+    {
+        continueThread = false;
+        selector.wakeup();
+    }
+
+    /**
+     * Join this thread.
+     */
+    @Override
+    public void join() throws InterruptedException {
+        thread.join();
+    }
+
+    /**
+     * Start this thread
+     */
+    public void start()
+    {
+        if (thread == null)
+        {
+            thread = new Thread(this, threadName);
+            thread.start();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.atc.simulator.prediction_service;
+
+import com.atc.simulator.debug_data_feed.AircraftStateHistory;
+import com.atc.simulator.debug_data_feed.FixedPointAircraftState;
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.SystemState;
+import com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage;
+import com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage;
+
+import java.util.ArrayList;
+
+/**
+ * Decodes the delta encoded SystemStateMessage's made by a
+ * {@link com.atc.simulator.debug_data_feed.SystemStateDeltaEncoder}, keeping the dictionary of aircraft
+ * handles and the {@link AircraftStateHistory} of each, which the differences are from the extrapolation of.
+ * Messages before the first keyframe (or after one which can't be decoded) are skipped until the next keyframe.
+ *
+ * @author Luke Frisken
+ */
+public class SystemStateDeltaDecoder {
+    private static final FixedPointAircraftState ZERO = new FixedPointAircraftState();
+
+    private ArrayList<String> aircraftIDs; //by handle
+    private ArrayList<AircraftStateHistory> histories; //by handle
+    private int message;
+    private boolean synced;
+    private final FixedPointAircraftState state = new FixedPointAircraftState();
+    private final FixedPointAircraftState extrapolated = new FixedPointAircraftState();
+
+    /**
+     * Constructor for SystemStateDeltaDecoder
+     */
+    public SystemStateDeltaDecoder()
+    {
+        aircraftIDs = new ArrayList<String>();
+        histories = new ArrayList<AircraftStateHistory>();
+        message = 0;
+        synced = false;
+    }
+
+    /**
+     * Get whether the decoder has had a keyframe to decode from.
+     * @return whether the decoder is synced with the encoder
+     */
+    public boolean isSynced()
+    {
+        return synced;
+    }
+
+    /**
+     * Decode the next message in the session.
+     * @param systemStateMessage the delta encoded message
+     * @return the decoded system state, or null if the decoder is waiting for a keyframe
+     */
+    public SystemState decode(SystemStateMessage systemStateMessage)
+    {
+        if (systemStateMessage.getKeyframe())
+        {
+            // skip a message number, so that no aircraft was in the previous message
+            message += 2;
+            synced = true;
+        }
+        else if (!synced)
+        {
+            return null;
+        }
+        else
+        {
+            message++;
+        }
+
+        int aircraftCount = systemStateMessage.getHandleCount();
+        if (systemStateMessage.getTimeOffsetCount() != aircraftCount
+                || systemStateMessage.getAltitudeCount() != aircraftCount
+                || systemStateMessage.getLatitudeCount() != aircraftCount
+                || systemStateMessage.getLongitudeCount() != aircraftCount
+                || systemStateMessage.getDrCount() != aircraftCount
+                || systemStateMessage.getDthetaCount() != aircraftCount
+                || systemStateMessage.getDphiCount() != aircraftCount
+                || systemStateMessage.getHeadingCount() != aircraftCount)
+        {
+            synced = false;
+            return null;
+        }
+
+        // the aircraft which are sent from zero
+        for (AircraftHandleMessage aircraftHandle : systemStateMessage.getAircraftHandleList())
+        {
+            int handle = aircraftHandle.getHandle();
+            while (histories.size() <= handle)
+            {
+                aircraftIDs.add(null);
+                histories.add(new AircraftStateHistory());
+            }
+            aircraftIDs.set(handle, aircraftHandle.getAircraftID());
+            histories.get(handle).sendFromZero(message);
+        }
+
+        ArrayList<AircraftState> aircraftStates = new ArrayList<AircraftState>(aircraftCount);
+        for (int i = 0; i < aircraftCount; i++)
+        {
+            int handle = systemStateMessage.getHandle(i);
+            if (handle >= histories.size())
+            {
+                synced = false;
+                return null;
+            }
+            AircraftStateHistory history = histories.get(handle);
+            FixedPointAircraftState base = history.getBase(message, extrapolated);
+            if (base == null)
+            {
+                if (!history.isSentFromZero(message))
+                {
+                    // we've missed the message which told us about this aircraft
+                    synced = false;
+                    return null;
+                }
+                base = ZERO;
+            }
+
+            state.altitude = base.altitude + systemStateMessage.getAltitude(i);
+            state.latitude = base.latitude + systemStateMessage.getLatitude(i);
+            state.longitude = base.longitude + systemStateMessage.getLongitude(i);
+            state.dr = base.dr + systemStateMessage.getDr(i);
+            state.dtheta = base.dtheta + systemStateMessage.getDtheta(i);
+            state.dphi = base.dphi + systemStateMessage.getDphi(i);
+            state.heading = base.heading + systemStateMessage.getHeading(i);
+            history.add(message, state);
+
+            aircraftStates.add(state.toAircraftState(aircraftIDs.get(handle),
+                    systemStateMessage.getTime() + systemStateMessage.getTimeOffset(i)));
+        }
+
+        return new SystemState(systemStateMessage.getTime(), aircraftStates);
+    }
+}
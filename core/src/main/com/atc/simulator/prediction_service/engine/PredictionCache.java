@@ -0,0 +1,376 @@
+package com.atc.simulator.prediction_service.engine;
+
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.Prediction;
+import com.atc.simulator.flightdata.Track;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+import pythagoras.d.Vector3;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A threadsafe per-aircraft cache of the last prediction computed by the PredictionEngineThread's
+ * workers, so that a prediction which would only be the previous one shifted in time doesn't
+ * have to be recomputed.
+ *
+ * The cached prediction is reused ({@link #get(String, AircraftState)}) when:
+ * <ul>
+ *     <li>it is a STOPPED or STRAIGHT prediction,</li>
+ *     <li>it is no older than the maximum age,</li>
+ *     <li>the aircraft's new position is within the position tolerance of where the cached
+ *     velocity would have taken it along its great circle,</li>
+ *     <li>and the new velocity is within the velocity tolerance of the cached velocity.</li>
+ * </ul>
+ * The reused prediction is the cached one shifted in time to the new state: the times of its tracks
+ * are moved forward by the age of the cached prediction, and for a STRAIGHT prediction the positions
+ * are moved along the cached great circle by as far as the aircraft would have flown in that time
+ * (the positions of a STOPPED prediction stay where they are). The maximum age bounds how long a
+ * turn can go unnoticed.
+ *
+ * @author Luke Frisken
+ */
+public class PredictionCache {
+    /**
+     * The last computed prediction of an aircraft, and the position and velocity of the aircraft
+     * state it was computed from, in cartesian coordinates.
+     */
+    private static class Entry {
+        final Prediction prediction;
+        final long time;
+        final double x, y, z;
+        final double velocityX, velocityY, velocityZ;
+        final double axisX, axisY, axisZ;
+        final double angularSpeed;
+
+        Entry(Prediction prediction)
+        {
+            this.prediction = prediction;
+            AircraftState aircraftState = prediction.getAircraftState();
+            time = aircraftState.getTime();
+
+            GeographicCoordinate position = aircraftState.getPosition();
+            double r = position.getR();
+            double sinPhi = Math.sin(position.getPhi());
+            x = r * Math.cos(position.getTheta()) * sinPhi;
+            y = r * Math.sin(position.getTheta()) * sinPhi;
+            z = r * Math.cos(position.getPhi());
+
+            SphericalVelocity velocity = aircraftState.getVelocity();
+            if (velocity.isNaN())
+            {
+                velocityX = velocityY = velocityZ = Double.NaN;
+                axisX = axisY = axisZ = angularSpeed = Double.NaN;
+            } else {
+                Vector3 cartesianVelocity = velocity.getCartesian(position);
+                velocityX = cartesianVelocity.x;
+                velocityY = cartesianVelocity.y;
+                velocityZ = cartesianVelocity.z;
+
+                Vector3 angularVelocity = velocity.getCartesianAngularVelocity(position);
+                angularSpeed = angularVelocity.length();
+                if (angularSpeed > 0)
+                {
+                    axisX = angularVelocity.x/angularSpeed;
+                    axisY = angularVelocity.y/angularSpeed;
+                    axisZ = angularVelocity.z/angularSpeed;
+                } else {
+                    axisX = axisY = 0;
+                    axisZ = 1;
+                }
+            }
+        }
+    }
+
+    private final double positionTolerance;
+    private final double velocityTolerance;
+    private final long maxAge;
+    private final ConcurrentHashMap<String, Entry> entries;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final ThreadLocal<double[]> rotations; // 3x3 rotation matrix for each thread using the cache
+
+    /**
+     * Constructor for PredictionCache
+     * @param positionTolerance how far the aircraft can be from its predicted position for
+     *                          the prediction to be reused, in meters
+     * @param velocityTolerance how much the aircraft's velocity can have changed for the prediction
+     *                          to be reused, in meters per second
+     * @param maxAge how long after the aircraft state it was computed from a prediction can be
+     *               reused for, in milliseconds
+     */
+    public PredictionCache(double positionTolerance, double velocityTolerance, long maxAge)
+    {
+        this.positionTolerance = positionTolerance;
+        this.velocityTolerance = velocityTolerance;
+        this.maxAge = maxAge;
+        entries = new ConcurrentHashMap<String, Entry>();
+        hits = new AtomicLong();
+        misses = new AtomicLong();
+        rotations = new ThreadLocal<double[]>() {
+            @Override
+            protected double[] initialValue()
+            {
+                return new double[9];
+            }
+        };
+    }
+
+    /**
+     * Get the cached prediction of an aircraft shifted in time to its new state, if it can be reused.
+     * @param aircraftID
+     * @param aircraftState the aircraft's latest state
+     * @return the shifted prediction, or null if the prediction needs to be recomputed (and
+     *          {@link #put(Prediction) put} into the cache).
+     */
+    public Prediction get(String aircraftID, AircraftState aircraftState)
+    {
+        Entry entry = entries.get(aircraftID);
+        double[] rotation = rotations.get();
+        if (entry == null || !isReusable(entry, aircraftState, rotation))
+        {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return shift(entry, aircraftState, rotation);
+    }
+
+    /**
+     * Put a newly computed prediction into the cache, replacing the aircraft's previous prediction,
+     * unless that was computed from a newer aircraft state.
+     * @param prediction
+     */
+    public void put(Prediction prediction)
+    {
+        Entry entry = new Entry(prediction);
+        String aircraftID = prediction.getAircraftID();
+        while (true)
+        {
+            Entry previous = entries.get(aircraftID);
+            if (previous == null)
+            {
+                if (entries.putIfAbsent(aircraftID, entry) == null)
+                {
+                    return;
+                }
+            } else if (previous.time > entry.time) {
+                return;
+            } else if (entries.replace(aircraftID, previous, entry)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Remove the cached prediction of an aircraft
+     * @param aircraftID
+     */
+    public void remove(String aircraftID)
+    {
+        entries.remove(aircraftID);
+    }
+
+    /**
+     * Get the number of aircraft with a cached prediction
+     * @return
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Get the number of predictions which were reused instead of recomputed.
+     * @return
+     */
+    public long getHitCount()
+    {
+        return hits.get();
+    }
+
+    /**
+     * Get the number of predictions which had to be recomputed.
+     * @return
+     */
+    public long getMissCount()
+    {
+        return misses.get();
+    }
+
+    /**
+     * Whether the cached prediction can be reused for the aircraft's new state
+     * @param rotation 3x3 matrix to work in
+     */
+    private boolean isReusable(Entry entry, AircraftState aircraftState, double[] rotation)
+    {
+        Prediction.State predictionState = entry.prediction.getPredictionState();
+        if (predictionState != Prediction.State.STOPPED && predictionState != Prediction.State.STRAIGHT)
+        {
+            return false;
+        }
+
+        long age = aircraftState.getTime() - entry.time;
+        SphericalVelocity velocity = aircraftState.getVelocity();
+        if (age < 0 || age > maxAge || velocity.isNaN() || Double.isNaN(entry.angularSpeed))
+        {
+            return false;
+        }
+
+        GeographicCoordinate position = aircraftState.getPosition();
+        double r = position.getR();
+        double sinPhi = Math.sin(position.getPhi());
+        double x = r * Math.cos(position.getTheta()) * sinPhi;
+        double y = r * Math.sin(position.getTheta()) * sinPhi;
+        double z = r * Math.cos(position.getPhi());
+
+        // where the cached velocity would have taken the aircraft along its great circle
+        setRotation(rotation, entry.axisX, entry.axisY, entry.axisZ,
+                Math.cos(entry.angularSpeed * age/1000.0), Math.sin(entry.angularSpeed * age/1000.0));
+        double dx = x - (rotation[0]*entry.x + rotation[1]*entry.y + rotation[2]*entry.z);
+        double dy = y - (rotation[3]*entry.x + rotation[4]*entry.y + rotation[5]*entry.z);
+        double dz = z - (rotation[6]*entry.x + rotation[7]*entry.y + rotation[8]*entry.z);
+        if (dx*dx + dy*dy + dz*dz > positionTolerance*positionTolerance)
+        {
+            return false;
+        }
+
+        // the rotation from the cached position to the new position
+        double entryR = Math.sqrt(entry.x*entry.x + entry.y*entry.y + entry.z*entry.z);
+        double crossX = (entry.y*z - entry.z*y)/(entryR*r);
+        double crossY = (entry.z*x - entry.x*z)/(entryR*r);
+        double crossZ = (entry.x*y - entry.y*x)/(entryR*r);
+        double sin = Math.sqrt(crossX*crossX + crossY*crossY + crossZ*crossZ);
+        double cos = (entry.x*x + entry.y*y + entry.z*z)/(entryR*r);
+        if (sin > 0)
+        {
+            setRotation(rotation, crossX/sin, crossY/sin, crossZ/sin, cos, sin);
+        } else {
+            setRotation(rotation, 0, 0, 1, 1, 0);
+        }
+
+        // the cached velocity, moved along with the aircraft, against the new velocity
+        Vector3 cartesianVelocity = velocity.getCartesian(position);
+        dx = cartesianVelocity.x - (rotation[0]*entry.velocityX + rotation[1]*entry.velocityY + rotation[2]*entry.velocityZ);
+        dy = cartesianVelocity.y - (rotation[3]*entry.velocityX + rotation[4]*entry.velocityY + rotation[5]*entry.velocityZ);
+        dz = cartesianVelocity.z - (rotation[6]*entry.velocityX + rotation[7]*entry.velocityY + rotation[8]*entry.velocityZ);
+        return dx*dx + dy*dy + dz*dz <= velocityTolerance*velocityTolerance;
+    }
+
+    /**
+     * Shift the cached prediction in time to the aircraft's new state.
+     * @param rotation 3x3 matrix to work in
+     */
+    private static Prediction shift(Entry entry, AircraftState aircraftState, double[] rotation)
+    {
+        Prediction prediction = entry.prediction;
+        long age = aircraftState.getTime() - entry.time;
+        if (age == 0)
+        {
+            return prediction;
+        }
+
+        Prediction.State predictionState = prediction.getPredictionState();
+        if (predictionState == Prediction.State.STRAIGHT)
+        {
+            double angle = entry.angularSpeed * age/1000.0;
+            setRotation(rotation, entry.axisX, entry.axisY, entry.axisZ, Math.cos(angle), Math.sin(angle));
+        } else {
+            setRotation(rotation, 0, 0, 1, 1, 0);
+        }
+
+        // the tracks are often the same track, which is only shifted once
+        Track leftTrack = prediction.getLeftTrack();
+        Track centreTrack = prediction.getCentreTrack();
+        Track rightTrack = prediction.getRightTrack();
+        boolean rotate = predictionState == Prediction.State.STRAIGHT;
+        Track shiftedCentreTrack = shiftTrack(centreTrack, prediction.getAircraftID(), age, rotate, rotation);
+        Track shiftedLeftTrack = leftTrack == centreTrack ? shiftedCentreTrack
+                : shiftTrack(leftTrack, prediction.getAircraftID(), age, rotate, rotation);
+        Track shiftedRightTrack = rightTrack == centreTrack ? shiftedCentreTrack
+                : rightTrack == leftTrack ? shiftedLeftTrack
+                : shiftTrack(rightTrack, prediction.getAircraftID(), age, rotate, rotation);
+
+        return new Prediction(
+                prediction.getAircraftID(),
+                aircraftState.getTime(),
+                aircraftState,
+                shiftedLeftTrack,
+                shiftedCentreTrack,
+                shiftedRightTrack,
+                predictionState);
+    }
+
+    /**
+     * Shift the states of a track in time, and optionally rotate their positions.
+     * @param track track to shift, can be null
+     * @param aircraftID the aircraft's ID
+     * @param age time to shift the states forward by, in milliseconds
+     * @param rotate whether to rotate the positions
+     * @param rotation row major rotation matrix to rotate the positions by
+     * @return new track, or null if track is null
+     */
+    private static Track shiftTrack(Track track, String aircraftID, long age, boolean rotate, double[] rotation)
+    {
+        if (track == null)
+        {
+            return null;
+        }
+
+        ArrayList<AircraftState> states = new ArrayList<AircraftState>(track.size());
+        SphericalVelocity velocity = null;
+        for (int i = 0; i < track.size(); i++)
+        {
+            GeographicCoordinate position = track.getPosition(i);
+            if (rotate)
+            {
+                double r = position.getR();
+                double sinPhi = Math.sin(position.getPhi());
+                double x = r * Math.cos(position.getTheta()) * sinPhi;
+                double y = r * Math.sin(position.getTheta()) * sinPhi;
+                double z = r * Math.cos(position.getPhi());
+                double rx = rotation[0]*x + rotation[1]*y + rotation[2]*z;
+                double ry = rotation[3]*x + rotation[4]*y + rotation[5]*z;
+                double rz = rotation[6]*x + rotation[7]*y + rotation[8]*z;
+
+                double theta = Math.atan2(ry, rx);
+                if (theta < 0)
+                {
+                    theta += 2.0*Math.PI;
+                }
+                position = GeographicCoordinate.fromSpherical(r, theta, Math.acos(rz/r));
+            }
+
+            // the states of a predicted track mostly share one velocity
+            if (velocity == null || velocity.getDR() != track.getDR(i)
+                    || velocity.getDTheta() != track.getDTheta(i) || velocity.getDPhi() != track.getDPhi(i))
+            {
+                velocity = new SphericalVelocity(track.getDR(i), track.getDTheta(i), track.getDPhi(i));
+            }
+            states.add(new AircraftState(aircraftID, track.getTime(i) + age, position,
+                    velocity, track.getHeading(i)));
+        }
+        return new Track(states);
+    }
+
+    /**
+     * Set a row major rotation matrix from its axis, and the cosine and sine of its angle,
+     * using rodrigues' rotation formula.
+     */
+    private static void setRotation(double[] rotation, double axisX, double axisY, double axisZ,
+                                    double cos, double sin)
+    {
+        double t = 1.0 - cos;
+        rotation[0] = cos + axisX*axisX*t;
+        rotation[1] = axisX*axisY*t - axisZ*sin;
+        rotation[2] = axisX*axisZ*t + axisY*sin;
+        rotation[3] = axisY*axisX*t + axisZ*sin;
+        rotation[4] = cos + axisY*axisY*t;
+        rotation[5] = axisY*axisZ*t - axisX*sin;
+        rotation[6] = axisZ*axisX*t - axisY*sin;
+        rotation[7] = axisZ*axisY*t + axisX*sin;
+        rotation[8] = cos + axisZ*axisZ*t;
+    }
+}
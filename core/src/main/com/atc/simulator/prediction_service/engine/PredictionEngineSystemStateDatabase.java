@@ -1,19 +1,31 @@
 package com.atc.simulator.prediction_service.engine;
 
+import com.atc.simulator.config.ApplicationConfig;
+import com.atc.simulator.flightdata.CsvTrackArchive;
 import com.atc.simulator.flightdata.system_state_database.SystemStateDatabase;
 import com.atc.simulator.flightdata.system_state_database.SystemStateDatabaseListener;
 import com.atc.simulator.flightdata.TimeSource;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Created by luke on 7/10/16.
  *
+ * The SystemStateDatabase used by the prediction engine, which also keeps the algorithm state of each
+ * aircraft. The algorithm states are kept in a {@link ConcurrentHashMap}, so they can be looked up
+ * and created by any of the threads submitting updates. The algorithm state objects themselves are
+ * modified by the workers, which hold the algorithm state's monitor while they do so.
+ *
  * @author Luke Frisken
  */
 public class PredictionEngineSystemStateDatabase extends SystemStateDatabase implements SystemStateDatabaseListener {
-    private HashMap<String, Object> algorithmStateMap;
+    private static final int trackHistorySize = ApplicationConfig.getInt("settings.prediction-service.prediction-engine.track-history-size");
+    private static final String trackArchiveFile = ApplicationConfig.getString("settings.prediction-service.prediction-engine.track-archive-file");
+
+    private final ConcurrentHashMap<String, Object> algorithmStateMap;
 
     /**
      * Constructor
@@ -21,7 +33,20 @@ public class PredictionEngineSystemStateDatabase extends SystemStateDatabase imp
      */
     public PredictionEngineSystemStateDatabase(TimeSource timeSource) {
         super(timeSource);
-        algorithmStateMap = new HashMap<String, Object>();
+        algorithmStateMap = new ConcurrentHashMap<String, Object>();
+
+        // the algorithms only look at the latest few states of each track,
+        // so the rest can be archived instead of kept in memory.
+        setTrackHistorySize(trackHistorySize);
+        if (!trackArchiveFile.isEmpty())
+        {
+            try {
+                setTrackArchive(new CsvTrackArchive(new File(trackArchiveFile)));
+            } catch (IOException e) {
+                System.err.println("ERROR: unable to open track archive " + trackArchiveFile);
+                e.printStackTrace();
+            }
+        }
 
         //listen to itself.
         this.addListener(this);
@@ -56,7 +81,31 @@ public class PredictionEngineSystemStateDatabase extends SystemStateDatabase imp
      */
     public void setAlgorithmState(String aircraftID, Object algorithmState)
     {
-        algorithmStateMap.put(aircraftID, algorithmState);
+        if (algorithmState == null)
+        {
+            // algorithms without any state use null
+            algorithmStateMap.remove(aircraftID);
+        } else {
+            algorithmStateMap.put(aircraftID, algorithmState);
+        }
+    }
+
+    /**
+     * Set the algorithm state to be associated with a track with the given aircraft ID,
+     * unless another thread has already set one.
+     * @param aircraftID
+     * @param algorithmState
+     * @return the algorithm state which is now associated with the track
+     */
+    public Object setAlgorithmStateIfAbsent(String aircraftID, Object algorithmState)
+    {
+        if (algorithmState == null)
+        {
+            return algorithmStateMap.get(aircraftID);
+        }
+
+        Object existingState = algorithmStateMap.putIfAbsent(aircraftID, algorithmState);
+        return existingState != null ? existingState : algorithmState;
     }
 
     /**
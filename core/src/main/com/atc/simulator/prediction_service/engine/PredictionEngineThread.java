@@ -1,8 +1,10 @@
 package com.atc.simulator.prediction_service.engine;
 
 import com.atc.simulator.config.ApplicationConfig;
+import com.atc.simulator.prediction_service.engine.algorithms.java.JavaBatchPredictionAlgorithm;
 import com.atc.simulator.prediction_service.engine.algorithms.java.JavaPredictionAlgorithm;
 import com.atc.simulator.prediction_service.engine.algorithms.PredictionAlgorithmType;
+import com.atc.simulator.prediction_service.engine.workers.JavaBatchPredictionWorkerThread;
 import com.atc.simulator.prediction_service.engine.workers.JavaPredictionWorkerThread;
 import com.atc.simulator.prediction_service.engine.workers.PredictionWorkerThread;
 import com.atc.simulator.prediction_service.PredictionFeedServerThread;
@@ -13,9 +15,9 @@ import com.atc.simulator.flightdata.Prediction;
 import com.atc.simulator.flightdata.Track;
 
 import java.util.ArrayList;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 /**
 * Basic engine, will receive system states, break them into AircraftStates, create predictions and push to the server
@@ -26,16 +28,19 @@ import java.util.concurrent.locks.ReentrantLock;
 public class PredictionEngineThread implements RunnableThread, SystemStateDatabaseListener{
     private static final boolean enableTimer = ApplicationConfig.getBoolean("settings.debug.engine-timer");
     private static final boolean enableDebugPrintQueues = ApplicationConfig.getBoolean("settings.debug.print-queues");
+    private static final boolean enableDebugPrintLatency = ApplicationConfig.getBoolean("settings.debug.print-engine-latency");
     private static final PredictionAlgorithmType algorithmType = (PredictionAlgorithmType) ApplicationConfig.getEnum("settings.prediction-service.prediction-engine.algorithm-type", PredictionAlgorithmType.class);
+    private static final int workerBatchSize = ApplicationConfig.getInt("settings.prediction-service.prediction-engine.java-worker-batch-size");
+    private static final int workerForkJoinParallelism = ApplicationConfig.getInt("settings.prediction-service.prediction-engine.java-worker-fork-join-parallelism");
+    private static final String predictionCacheSettings = "settings.prediction-service.prediction-engine.prediction-cache.";
 
     private PredictionEngineTodoQueue todoQueue;
     private PredictionEngineSystemStateDatabase systemStateDatabase;
     private ArrayList<PredictionWorkerThread> workerPool;
-    private ArrayList<PredictionWorkItem> todoList;
-    private ArrayList<PredictionWorkItem> previousTodoList;
-
-    private final Lock todoQueueLock = new ReentrantLock();
-    private final Condition todoQueueChangedCondition = todoQueueLock.newCondition();
+    private PredictionInFlightRegistry inFlightRegistry;
+    private ConcurrentHashMap<String, Long> lastPredictionTimes;
+    private PredictionLatencyHistogram latencyHistogram;
+    private PredictionCache predictionCache;
 
     //Internal settings
     private PredictionFeedServerThread predictionFeedServer;
@@ -46,31 +51,81 @@ public class PredictionEngineThread implements RunnableThread, SystemStateDataba
     private int numberOfWorkers;
     private final int todoQueueMaxSize = 500;
     private final long maxLatency = 400;
+    private final long latencyReportPeriod = 5000;
 
 
     /**
-     * Constructor, connect to the server and create a new arrayList
+     * Constructor, connect to the server and create a new arrayList, with the prediction cache
+     * from the settings.
      * @param predictionFeedServer : The server I need to connect to
      */
     public PredictionEngineThread(
             PredictionFeedServerThread predictionFeedServer,
             PredictionEngineSystemStateDatabase systemStateDatabase,
             int numberOfWorkers)
+    {
+        this(predictionFeedServer, systemStateDatabase, numberOfWorkers, newPredictionCache());
+    }
+
+    /**
+     * Constructor, connect to the server and create a new arrayList
+     * @param predictionFeedServer : The server I need to connect to
+     * @param predictionCache the cache for the workers to reuse predictions from, or null to
+     *                        always recompute them
+     */
+    public PredictionEngineThread(
+            PredictionFeedServerThread predictionFeedServer,
+            PredictionEngineSystemStateDatabase systemStateDatabase,
+            int numberOfWorkers,
+            PredictionCache predictionCache)
     {
         this.numberOfWorkers = numberOfWorkers;
         this.predictionFeedServer = predictionFeedServer;
         todoQueue = new PredictionEngineTodoQueue();
 
-        //populate the worker pool with workers
+        //populate the worker pool with workers, which work on batches of work items if configured to
         workerPool = new ArrayList<PredictionWorkerThread>();
+        if (workerBatchSize > 1 && !JavaBatchPredictionAlgorithm.supports(algorithmType))
+        {
+            System.err.println("WARNING: " + threadName + " " + algorithmType
+                    + " predictions can't be batched, the workers will make them one at a time");
+        }
+        ForkJoinPool forkJoinPool = null;
+        if (workerBatchSize > 1 && workerForkJoinParallelism > 0)
+        {
+            forkJoinPool = new ForkJoinPool(workerForkJoinParallelism);
+        }
         for (int i = 0; i<numberOfWorkers; i++)
         {
-            workerPool.add(new JavaPredictionWorkerThread(i, this));
+            if (workerBatchSize > 1)
+            {
+                workerPool.add(new JavaBatchPredictionWorkerThread(i, this, workerBatchSize, forkJoinPool));
+            } else {
+                workerPool.add(new JavaPredictionWorkerThread(i, this));
+            }
         }
         this.systemStateDatabase = systemStateDatabase;
 
-        todoList = new ArrayList<PredictionWorkItem>();
-        previousTodoList = new ArrayList<PredictionWorkItem>();
+        inFlightRegistry = new PredictionInFlightRegistry();
+        lastPredictionTimes = new ConcurrentHashMap<String, Long>();
+        latencyHistogram = new PredictionLatencyHistogram(10000);
+        this.predictionCache = predictionCache;
+    }
+
+    /**
+     * Create the prediction cache from the settings
+     * @return the cache, or null if it is disabled
+     */
+    private static PredictionCache newPredictionCache()
+    {
+        if (!ApplicationConfig.getBoolean(predictionCacheSettings + "enabled"))
+        {
+            return null;
+        }
+        return new PredictionCache(
+                ApplicationConfig.getDouble(predictionCacheSettings + "position-tolerance"),
+                ApplicationConfig.getDouble(predictionCacheSettings + "velocity-tolerance"),
+                ApplicationConfig.getInt(predictionCacheSettings + "max-age"));
     }
 
     /**
@@ -88,14 +143,39 @@ public class PredictionEngineThread implements RunnableThread, SystemStateDataba
         return  workItem;
     }
 
+    /**
+     * Waits for a new work item to be available, and then takes up to maxItems work items
+     * which are available, marking them as started, for a worker which works on batches of them.
+     * @param worker worker who is requesting the work items
+     * @param maxItems maximum number of work items to take
+     * @param workItems list to add the work items to
+     */
+    public void startWorkItems(PredictionWorkerThread worker, int maxItems, List<PredictionWorkItem> workItems)
+    {
+        int start = workItems.size();
+        workItems.add(todoQueue.take());
+        todoQueue.drainTo(workItems, maxItems - 1);
+        for (int i = start; i < workItems.size(); i++)
+        {
+            workItems.get(i).setWorkStarted(worker);
+        }
+    }
+
     /**
      * Tell the PredictionEngineThread that a work item has been
-     * completed by one of its workers.
+     * completed by one of its workers. A prediction reused from the prediction cache
+     * (shifted in time to the aircraft's latest state) is sent like any other, as a client
+     * may not have the cached one (if it connected since the prediction was computed, or the
+     * prediction was dropped before it could be written to the client). The server encodes
+     * it once for all the clients.
      * @param workItem
      */
     public void completeWorkItem(PredictionWorkItem workItem)
     {
         Prediction prediction = workItem.getPrediction();
+        lastPredictionTimes.put(workItem.getAircraftID(), workItem.getCompletedTime());
+        latencyHistogram.record(workItem.getLatency());
+
         long start1=0, start2=0; //required for timer
         if(enableTimer)
         {
@@ -119,16 +199,13 @@ public class PredictionEngineThread implements RunnableThread, SystemStateDataba
             // Avoid optimization
             start2 = System.nanoTime();
         }
-        synchronized (todoList)
-        {
-            todoList.remove(workItem); //remove this workItem from the todoList
-        }
+        inFlightRegistry.complete(workItem);
 
         if(enableTimer)
         {
             long stop = System.nanoTime();
             long diff = stop - 2*start2 + start1;
-            System.out.println(threadName + " removeWorkItemtodoList " + (((double) diff)/1000000.0) + " ms");
+            System.out.println(threadName + " completeInFlight " + (((double) diff)/1000000.0) + " ms");
         }
     }
 
@@ -137,38 +214,20 @@ public class PredictionEngineThread implements RunnableThread, SystemStateDataba
      * to reprioritize items in the queue.
      */
     public void run() {
-        long lastTime = System.currentTimeMillis();
-        long currentTime = 0;
+        long lastLatencyReportTime = System.currentTimeMillis();
+        long currentTime;
         while (continueThread)
         {
             try {
                 /*
-                Check to see whether items are staying on the todo list,
-                indicating that they have been around longer than maxLatency,
-                the maximum allowable latency for this work item.
+                Check to see whether items are staying in flight for longer than maxLatency,
+                the maximum allowable latency for a work item.
                  */
                 currentTime = System.currentTimeMillis();
-                if ((currentTime - lastTime) > (maxLatency-5))
+                ArrayList<PredictionWorkItem> overdueItems = inFlightRegistry.sweepOverdue(currentTime, maxLatency);
+                if (!overdueItems.isEmpty())
                 {
-                    synchronized (todoList)
-                    {
-                        for (PredictionWorkItem item : todoList)
-                        {
-                            if (previousTodoList.contains(item))
-                            {
-//                                System.err.println("ERROR: "
-//                                        + threadName
-//                                        + " item "
-//                                        + item
-//                                        + " is taking too long to complete (>"
-//                                        + (currentTime-lastTime)
-//                                        + "ms)and is exceeding latency constraints");
-                            }
-
-                            previousTodoList.clear();
-                            previousTodoList.addAll(todoList);
-                        }
-                    }
+                    reportOverdue(overdueItems, currentTime);
                 }
 
                 if (todoQueue.size() > todoQueueMaxSize)
@@ -179,14 +238,58 @@ public class PredictionEngineThread implements RunnableThread, SystemStateDataba
                             + todoQueueMaxSize
                             + ")");
                 }
-                Thread.sleep(maxLatency); //sleep for maxLatency between checks of the todoList
+
+                if (enableDebugPrintLatency && (currentTime - lastLatencyReportTime) > latencyReportPeriod)
+                {
+                    System.out.println(threadName + " prediction latency " + latencyHistogram
+                            + ", coalesced work items " + todoQueue.getCoalescedCount()
+                            + (predictionCache == null ? "" : ", prediction cache hits " + predictionCache.getHitCount()
+                                    + " misses " + predictionCache.getMissCount()));
+                    latencyHistogram.reset();
+                    lastLatencyReportTime = currentTime;
+                }
+                Thread.sleep(maxLatency); //sleep for maxLatency between checks of the in flight work items
             } catch (InterruptedException e) {
                 System.err.println("ERROR: Timer interrupted, ignore latency warnings");
                 e.printStackTrace();
             }
-            lastTime = currentTime;
+        }
+    }
 
+    /**
+     * Print an error summarising the work items which have newly exceeded the latency constraints.
+     * @param overdueItems work items which are overdue
+     * @param currentTime current time (system clock, in milliseconds)
+     */
+    private void reportOverdue(ArrayList<PredictionWorkItem> overdueItems, long currentTime)
+    {
+        long oldest = 0;
+        int nStarted = 0;
+        PredictionWorkItem oldestItem = null;
+        for (PredictionWorkItem item : overdueItems)
+        {
+            long age = currentTime - item.getEnqueueTime();
+            if (age > oldest)
+            {
+                oldest = age;
+                oldestItem = item;
+            }
+            if (item.isStarted())
+            {
+                nStarted++;
+            }
         }
+
+        System.err.println("ERROR: "
+                + threadName
+                + " " + overdueItems.size()
+                + " work items are taking too long to complete (>"
+                + maxLatency
+                + "ms) and are exceeding latency constraints. "
+                + nStarted + " started, "
+                + inFlightRegistry.size() + " in flight, oldest "
+                + oldestItem.getAircraftID() + " at "
+                + oldest + "ms");
     }
 
     /**
@@ -230,6 +333,36 @@ public class PredictionEngineThread implements RunnableThread, SystemStateDataba
         }
     }
 
+    /**
+     * Get the histogram of end-to-end latencies (from the creation of a work item,
+     * until its completion) of the work items completed by this engine.
+     * @return
+     */
+    public PredictionLatencyHistogram getLatencyHistogram()
+    {
+        return latencyHistogram;
+    }
+
+    /**
+     * Get the number of work items which were superseded by a newer work item for the
+     * same aircraft before any worker started on them.
+     * @return
+     */
+    public long getCoalescedCount()
+    {
+        return todoQueue.getCoalescedCount();
+    }
+
+    /**
+     * Get the cache of the last prediction computed for each aircraft, which the workers
+     * reuse predictions from instead of recomputing them, along with its hit and miss counts.
+     * @return the cache, or null if it is disabled in the settings
+     */
+    public PredictionCache getPredictionCache()
+    {
+        return predictionCache;
+    }
+
     /**
      * This method is called by the SystemStateDataBase on its listeners
      * whenever the SystemStateDatabase receives updated information.
@@ -239,39 +372,50 @@ public class PredictionEngineThread implements RunnableThread, SystemStateDataba
      */
     @Override
     public void onSystemStateUpdate(SystemStateDatabase stateDatabase, ArrayList<String> aircraftIDs) {
+        long databaseTime = stateDatabase.getTimeSource().getCurrentTime();
+        long now = System.currentTimeMillis();
+        ArrayList<PredictionWorkItem> workItems = new ArrayList<PredictionWorkItem>(aircraftIDs.size());
         for (String aircraftID: aircraftIDs)
         {
-            Track aircraftTrack = stateDatabase.copyTrack(aircraftID);
+            Track aircraftTrack = stateDatabase.snapshotTrack(aircraftID);
+            if (aircraftTrack == null)
+            {
+                continue; // culled by another thread since this update
+            }
 
             // get the algorithm state from the system state database, and create a new one if it doesn't exist yet
             Object algorithmState = systemStateDatabase.getAlgorithmState(aircraftID);
             if (algorithmState == null)
             {
-                algorithmState = JavaPredictionAlgorithm.getInstance(algorithmType).getNewStateObject();
-                systemStateDatabase.setAlgorithmState(aircraftID, algorithmState);
+                algorithmState = systemStateDatabase.setAlgorithmStateIfAbsent(aircraftID,
+                        JavaPredictionAlgorithm.getInstance(algorithmType).getNewStateObject());
             }
 
+            long stateAge = databaseTime - aircraftTrack.getLatest().getTime();
+            Long lastPredictionTime = lastPredictionTimes.get(aircraftID);
+            long timeSinceLastPrediction = lastPredictionTime == null ? Long.MAX_VALUE : now - lastPredictionTime;
+            long deadline = PredictionWorkItem.calculateDeadline(now, stateAge, timeSinceLastPrediction, maxLatency);
+
             PredictionWorkItem workItem = new PredictionWorkItem(
                     aircraftID,
                     aircraftTrack,
                     algorithmType,
-                    algorithmState
+                    algorithmState,
+                    now,
+                    deadline
                     );
-            //TODO: make a seperate buffer for this so it doesn't block while todoQueue is being reordered?
-            if(enableDebugPrintQueues){System.out.println(threadName + " Adding to queue which has a current size of " + todoQueue.size());}
 
-            todoQueueLock.lock();
-            try {
-                todoQueue.add(workItem); //TODO: make this an addinorder call
-                todoQueueChangedCondition.signalAll();
-            } finally {
-                todoQueueLock.unlock();
-            }
+            //register before adding, so that a worker can't complete it before it is registered
+            inFlightRegistry.enqueue(workItem);
+            workItems.add(workItem);
+        }
 
-            synchronized (todoList)
-            {
-                todoList.add(workItem);
-            }
+        if(enableDebugPrintQueues){System.out.println(threadName + " Adding " + workItems.size() + " to queue which has a current size of " + todoQueue.size());}
+
+        //the work items for aircraft which already had a work item waiting were merged into that one instead
+        for (PredictionWorkItem coalescedItem : todoQueue.addAll(workItems))
+        {
+            inFlightRegistry.complete(coalescedItem);
         }
     }
 
@@ -282,7 +426,11 @@ public class PredictionEngineThread implements RunnableThread, SystemStateDataba
 
     @Override
     public void onRemoveAircraft(SystemStateDatabase stateDatabase, String aircraftID) {
-
+        lastPredictionTimes.remove(aircraftID);
+        if (predictionCache != null)
+        {
+            predictionCache.remove(aircraftID);
+        }
     }
 
     @Override
@@ -1,28 +1,246 @@
 package com.atc.simulator.prediction_service.engine;
 
-import com.atc.simulator.flightdata.SortableOrderedQueue;
-
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Created by luke on 7/06/16.
  *
- * An orderable/sortable and threadsafe queue for prediction work items to be used in the PredictionEngine.
+ * A threadsafe earliest-deadline-first queue for prediction work items to be used in the PredictionEngine.
+ * The work item with the highest priority (according to {@link PredictionWorkItem#compare(PredictionWorkItem, PredictionWorkItem)})
+ * is at the head of the queue.
+ *
+ * The queue is lock-free for multiple producers and multiple consumers: the items are kept in a
+ * {@link ConcurrentSkipListSet} (O(log n) add and poll), and a {@link Semaphore} counts the items
+ * available, so that consumers can block in {@link #take()} without a shared lock. Work items must
+ * not change their deadline while they are in the queue.
+ *
+ * At most one work item per aircraft is pending in the queue at any time. When a newer work item
+ * for an aircraft arrives while an older one is still waiting, the older one is superseded in place
+ * (keeping its position in the queue), rather than both being computed. Work items which have
+ * already been taken by a worker are not affected.
  *
  * @author Luke Frisken
  */
-public class PredictionEngineTodoQueue extends SortableOrderedQueue<PredictionWorkItem> {
+public class PredictionEngineTodoQueue {
     private static final PredictionWorkItem SORTER = new PredictionWorkItem();
 
+    private final ConcurrentSkipListSet<PredictionWorkItem> items;
+    private final ConcurrentHashMap<String, PredictionWorkItem> pendingItems;
+    private final Semaphore available;
+    private final AtomicLong coalescedCount;
+
+    /**
+     * Constructor for PredictionEngineTodoQueue
+     */
+    public PredictionEngineTodoQueue()
+    {
+        // SORTER orders the highest priority as the greatest, we want it first.
+        items = new ConcurrentSkipListSet<PredictionWorkItem>(Collections.reverseOrder(SORTER));
+        pendingItems = new ConcurrentHashMap<String, PredictionWorkItem>();
+        available = new Semaphore(0);
+        coalescedCount = new AtomicLong();
+    }
+
+    /**
+     * Insert a work item into the queue, in order of its priority. If there is already
+     * a work item pending for the same aircraft, that item is superseded by this one instead.
+     * @param workItem
+     * @return returns true if the work item was added to the queue, false if it superseded
+     *          a pending work item for the same aircraft.
+     */
+    public boolean add(PredictionWorkItem workItem)
+    {
+        if (!insert(workItem))
+        {
+            return false;
+        }
+
+        available.release();
+        return true;
+    }
+
+    /**
+     * Insert a batch of work items into the queue, see {@link #add(PredictionWorkItem)}.
+     * Waiting consumers are only signalled once, after the whole batch has been inserted.
+     * @param workItems
+     * @return the work items which superseded a pending work item instead of being added to the queue
+     */
+    public ArrayList<PredictionWorkItem> addAll(Collection<PredictionWorkItem> workItems)
+    {
+        ArrayList<PredictionWorkItem> coalescedItems = new ArrayList<PredictionWorkItem>();
+        int addedCount = 0;
+        for (PredictionWorkItem workItem : workItems)
+        {
+            if (insert(workItem))
+            {
+                addedCount++;
+            } else {
+                coalescedItems.add(workItem);
+            }
+        }
+
+        if (addedCount > 0)
+        {
+            available.release(addedCount);
+        }
+        return coalescedItems;
+    }
+
+    /**
+     * Insert a work item into the queue, or supersede the pending work item for
+     * its aircraft. Does not release a permit for it.
+     * @param workItem
+     * @return true if the work item was inserted, false if it was coalesced
+     */
+    private boolean insert(PredictionWorkItem workItem)
+    {
+        String aircraftID = workItem.getAircraftID();
+        if (aircraftID != null)
+        {
+            // claim the pending slot for this aircraft, or supersede whoever has it.
+            // retry if a worker takes the pending item while we are looking at it.
+            while (true)
+            {
+                PredictionWorkItem pendingItem = pendingItems.get(aircraftID);
+                if (pendingItem == null)
+                {
+                    if (pendingItems.putIfAbsent(aircraftID, workItem) == null)
+                    {
+                        break;
+                    }
+                } else if (pendingItem.supersede(workItem)) {
+                    coalescedCount.incrementAndGet();
+                    return false;
+                } else if (pendingItems.replace(aircraftID, pendingItem, workItem)) {
+                    break;
+                }
+            }
+        }
+
+        items.add(workItem);
+        return true;
+    }
+
+    /**
+     * Remove the head of the queue once a permit for it has been acquired,
+     * and release its aircraft's pending slot.
+     * @return the head of the queue
+     */
+    private PredictionWorkItem pollAcquired()
+    {
+        // every permit corresponds to an item which was added before the permit was released,
+        // so this is never null.
+        PredictionWorkItem workItem = items.pollFirst();
+        workItem.setTaken();
+        if (workItem.getAircraftID() != null)
+        {
+            pendingItems.remove(workItem.getAircraftID(), workItem);
+        }
+        return workItem;
+    }
+
+    /**
+     * Get the number of work items which have been superseded by a newer work item for the same
+     * aircraft before a worker could start on them.
+     * @return
+     */
+    public long getCoalescedCount()
+    {
+        return coalescedCount.get();
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, waiting if necessary until an element becomes available.
+     */
+    public PredictionWorkItem take()
+    {
+        available.acquireUninterruptibly();
+        return pollAcquired();
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, waiting up to the specified wait time if necessary for an element to become available.
+     *
+     * @param timeout in milliseconds
+     */
+    public PredictionWorkItem poll(long timeout)
+    {
+        try {
+            if (available.tryAcquire(timeout, TimeUnit.MILLISECONDS))
+            {
+                return pollAcquired();
+            }
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, or returns null if this queue is currently empty.
+     */
+    public PredictionWorkItem poll()
+    {
+        if (available.tryAcquire())
+        {
+            return pollAcquired();
+        }
+        return null;
+    }
+
+    /**
+     * Removes up to maxItems work items from the head of this queue (in order) and adds them to
+     * the collection, without waiting.
+     * @param collection collection to add the work items to
+     * @param maxItems maximum number of work items to remove
+     * @return the number of work items removed
+     */
+    public int drainTo(Collection<PredictionWorkItem> collection, int maxItems)
+    {
+        int count = 0;
+        while (count < maxItems && available.tryAcquire())
+        {
+            collection.add(pollAcquired());
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Retrieves, but does not remove, the head of this queue, or returns null if this queue is empty.
+     */
+    public PredictionWorkItem peek()
+    {
+        Iterator<PredictionWorkItem> iterator = items.iterator();
+        if (iterator.hasNext())
+        {
+            return iterator.next();
+        }
+        return null;
+    }
+
+    /**
+     * Get the number of elements in this queue. O(1), and
+     * does not block producers or consumers.
+     */
+    public int size()
+    {
+        return available.availablePermits();
+    }
+
     /**
-     * Sort the queue using the Comparator interface in T
-     * The queue is orded as high at tail and low at head.
-     * TODO: some gains in performance could be made here by reducing to a single loop
+     * Whether or not this queue is empty
      */
-    @Override
-    protected void sort() {
-        //TODO: check to make sure this is threadsafe, and whether it needs to get the lock
-        Collections.sort(this, SORTER);
-        Collections.reverse(this);
+    public boolean isEmpty()
+    {
+        return size() == 0;
     }
 }
@@ -0,0 +1,92 @@
+package com.atc.simulator.prediction_service.engine;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A threadsafe registry of the work items which the PredictionEngineThread has created but
+ * which have not been completed yet (either waiting in the todo queue or being worked on).
+ *
+ * Work items are keyed by identity, so registering and completing one is O(1).
+ * The enqueue, start and complete timestamps are kept on the {@link PredictionWorkItem} itself.
+ * {@link #sweepOverdue(long, long)} is a single pass over the items in flight, and reports each
+ * overdue item only once.
+ *
+ * @author Luke Frisken
+ */
+public class PredictionInFlightRegistry {
+    /**
+     * in flight work item, and whether it has already been reported as overdue
+     */
+    private final ConcurrentHashMap<PredictionWorkItem, Boolean> inFlight;
+
+    /**
+     * Constructor for PredictionInFlightRegistry
+     */
+    public PredictionInFlightRegistry()
+    {
+        inFlight = new ConcurrentHashMap<PredictionWorkItem, Boolean>();
+    }
+
+    /**
+     * Register a work item which has just been added to the todo queue.
+     * @param workItem
+     */
+    public void enqueue(PredictionWorkItem workItem)
+    {
+        inFlight.put(workItem, Boolean.FALSE);
+    }
+
+    /**
+     * Remove a work item which has been completed.
+     * @param workItem
+     * @return whether or not the work item was in flight
+     */
+    public boolean complete(PredictionWorkItem workItem)
+    {
+        return inFlight.remove(workItem) != null;
+    }
+
+    /**
+     * Whether or not the work item is currently in flight.
+     * @param workItem
+     * @return
+     */
+    public boolean contains(PredictionWorkItem workItem)
+    {
+        return inFlight.containsKey(workItem);
+    }
+
+    /**
+     * Get the number of work items currently in flight.
+     * @return
+     */
+    public int size()
+    {
+        return inFlight.size();
+    }
+
+    /**
+     * Find the work items which have been in flight for longer than the latency budget,
+     * and which have not been reported by a previous sweep.
+     * @param currentTime current time (system clock, in milliseconds)
+     * @param latencyBudget maximum allowable time in flight (milliseconds)
+     * @return the newly overdue work items
+     */
+    public ArrayList<PredictionWorkItem> sweepOverdue(long currentTime, long latencyBudget)
+    {
+        ArrayList<PredictionWorkItem> overdue = new ArrayList<PredictionWorkItem>();
+        for (Map.Entry<PredictionWorkItem, Boolean> entry : inFlight.entrySet())
+        {
+            PredictionWorkItem workItem = entry.getKey();
+            if (!entry.getValue()
+                    && (currentTime - workItem.getEnqueueTime()) > latencyBudget
+                    && inFlight.replace(workItem, Boolean.FALSE, Boolean.TRUE))
+            {
+                overdue.add(workItem);
+            }
+        }
+        return overdue;
+    }
+}
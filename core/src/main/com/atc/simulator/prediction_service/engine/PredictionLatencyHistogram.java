@@ -0,0 +1,116 @@
+package com.atc.simulator.prediction_service.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A threadsafe histogram of end-to-end prediction latencies, with 1 ms buckets
+ * up to a maximum value, and a single overflow bucket above that. Used by the
+ * PredictionEngineThread to measure percentile latencies (e.g. p99) of its
+ * work items without storing every sample.
+ *
+ * @author Luke Frisken
+ */
+public class PredictionLatencyHistogram {
+    private final AtomicLongArray buckets;
+    private final AtomicLong count;
+    private final AtomicLong max;
+    private final int maxValue;
+
+    /**
+     * Constructor for PredictionLatencyHistogram
+     * @param maxValue the maximum latency (milliseconds) that can be measured precisely,
+     *                 latencies greater than this are put into an overflow bucket.
+     */
+    public PredictionLatencyHistogram(int maxValue)
+    {
+        this.maxValue = maxValue;
+        buckets = new AtomicLongArray(maxValue + 2);
+        count = new AtomicLong();
+        max = new AtomicLong();
+    }
+
+    /**
+     * Record a latency sample
+     * @param latency latency in milliseconds
+     */
+    public void record(long latency)
+    {
+        int bucket = (int) Math.min(Math.max(latency, 0), maxValue + 1);
+        buckets.incrementAndGet(bucket);
+        count.incrementAndGet();
+
+        long currentMax = max.get();
+        while (latency > currentMax && !max.compareAndSet(currentMax, latency))
+        {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Get the latency below which the given fraction of samples fall.
+     * @param percentile between 0.0 and 1.0 (e.g. 0.99 for p99)
+     * @return latency in milliseconds, or maxValue+1 if the percentile lies in the overflow bucket,
+     *          or 0 if there are no samples.
+     */
+    public long getPercentile(double percentile)
+    {
+        long total = count.get();
+        if (total == 0)
+        {
+            return 0;
+        }
+
+        long threshold = (long) Math.ceil(percentile * total);
+        long cumulative = 0;
+        for (int i = 0; i < buckets.length(); i++)
+        {
+            cumulative += buckets.get(i);
+            if (cumulative >= threshold)
+            {
+                return i;
+            }
+        }
+        return maxValue + 1;
+    }
+
+    /**
+     * Get the number of samples recorded.
+     * @return
+     */
+    public long getCount()
+    {
+        return count.get();
+    }
+
+    /**
+     * Get the maximum latency recorded.
+     * @return latency in milliseconds
+     */
+    public long getMax()
+    {
+        return max.get();
+    }
+
+    /**
+     * Clear all the recorded samples.
+     */
+    public void reset()
+    {
+        for (int i = 0; i < buckets.length(); i++)
+        {
+            buckets.set(i, 0);
+        }
+        count.set(0);
+        max.set(0);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "n=" + getCount()
+                + " p50=" + getPercentile(0.5) + "ms"
+                + " p99=" + getPercentile(0.99) + "ms"
+                + " max=" + getMax() + "ms";
+    }
+}
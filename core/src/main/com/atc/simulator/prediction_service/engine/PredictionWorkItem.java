@@ -6,20 +6,30 @@ import com.atc.simulator.flightdata.Prediction;
 import com.atc.simulator.flightdata.Track;
 
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A self contained item of work for a PredictionWorkerThread to work on.
  * @author Luke Frisken
  */
 public class PredictionWorkItem implements Comparator<PredictionWorkItem>{
+    private static final AtomicLong sequenceCounter = new AtomicLong();
+
     private String aircraftID;
     private Track aircraftTrack;
     private Object algorithmState;
     private Prediction prediction;
+    private boolean taken;
     private boolean started;
     private boolean completed;
+    private boolean cached;
     private PredictionWorkerThread worker;
     private PredictionAlgorithmType algorithmType;
+    private final long sequence;
+    private long enqueueTime;
+    private long deadline;
+    private long startedTime;
+    private long completedTime;
 
     /**
      * Creates an empty prediction work item, for use specifically
@@ -42,29 +52,122 @@ public class PredictionWorkItem implements Comparator<PredictionWorkItem>{
             Track aircraftTrack,
             PredictionAlgorithmType algorithmType,
             Object algorithmState)
+    {
+        this(aircraftID, aircraftTrack, algorithmType, algorithmState, System.currentTimeMillis(), System.currentTimeMillis());
+    }
+
+    /**
+     * Constructor for PredictionWorkItem with an explicit scheduling deadline.
+     * @param aircraftID
+     * @param aircraftTrack
+     * @param algorithmType the type of algorithm to be used to perform this work
+     * @param algorithmState the state object for the algorithm, which is associated with the aircraftID.
+     * @param enqueueTime the time (system clock, in milliseconds) that this work item was created.
+     * @param deadline the time (system clock, in milliseconds) by which this work item should be completed.
+     * @see #calculateDeadline(long, long, long, long)
+     */
+    public PredictionWorkItem(
+            String aircraftID,
+            Track aircraftTrack,
+            PredictionAlgorithmType algorithmType,
+            Object algorithmState,
+            long enqueueTime,
+            long deadline)
     {
         this.aircraftID = aircraftID;
         this.aircraftTrack = aircraftTrack;
         this.algorithmType = algorithmType;
         this.algorithmState = algorithmState;
 
+        this.enqueueTime = enqueueTime;
+        this.deadline = deadline;
+
+        taken = false;
         started = false;
         completed = false;
+        cached = false;
         worker = null;
+        sequence = sequenceCounter.getAndIncrement();
+        startedTime = 0;
+        completedTime = 0;
+    }
 
+    /**
+     * Calculate the earliest-deadline-first deadline for a new work item.
+     *
+     * Every work item gets maxLatency to complete, minus up to half of maxLatency for the
+     * age of the aircraft state it was created from (the data is already stale by that amount),
+     * and minus up to half of maxLatency for how long the aircraft has gone without a
+     * prediction beyond maxLatency (so that aircraft which are being starved get pulled forward).
+     *
+     * @param now the current time (system clock, in milliseconds)
+     * @param stateAge how old the latest aircraft state was when the work item was created (milliseconds)
+     * @param timeSinceLastPrediction time since the last prediction for this aircraft was completed (milliseconds),
+     *                                or Long.MAX_VALUE if there has not been one yet.
+     * @param maxLatency the maximum allowable latency for a work item (milliseconds)
+     * @return the deadline (system clock, in milliseconds)
+     */
+    public static long calculateDeadline(long now, long stateAge, long timeSinceLastPrediction, long maxLatency)
+    {
+        long halfLatency = maxLatency/2;
+        long stalePenalty = Math.min(Math.max(stateAge, 0), halfLatency);
+        long starvedPenalty = Math.min(Math.max(timeSinceLastPrediction - maxLatency, 0), halfLatency);
+        return now + maxLatency - stalePenalty - starvedPenalty;
     }
 
     /**
      * Compare the priorities of two PredictionWorkItem s for the use in the
-     * PredictionEngineThread priority queue
-     * TODO: implment this!! before sorting the priorities
+     * PredictionEngineThread priority queue.
+     * The item with the earliest deadline has the highest priority, and items
+     * with equal deadlines are ordered by the order in which they were created.
      * @param i0
      * @param i1
-     * @return int based on priority
+     * @return positive if i0 has a higher priority than i1, negative if lower.
      */
     @Override
     public int compare(PredictionWorkItem i0, PredictionWorkItem i1) {
-        return 0;//if it was created earlier then it should be higher
+        if (i0.deadline != i1.deadline)
+        {
+            return i0.deadline < i1.deadline ? 1 : -1;
+        }
+
+        if (i0.sequence != i1.sequence)
+        {
+            return i0.sequence < i1.sequence ? 1 : -1; //if it was created earlier then it should be higher
+        }
+
+        return 0;
+    }
+
+    /**
+     * Replace the contents of this pending work item with those of a newer work item
+     * for the same aircraft. This work item keeps its deadline and position in the queue,
+     * so the aircraft does not lose its place by being updated again.
+     * @param newer the newer work item
+     * @return true if superseded, false if this work item has already been taken from the queue
+     *          by a worker, in which case it is left unchanged.
+     */
+    public synchronized boolean supersede(PredictionWorkItem newer)
+    {
+        if (taken)
+        {
+            return false;
+        }
+
+        aircraftTrack = newer.aircraftTrack;
+        algorithmType = newer.algorithmType;
+        algorithmState = newer.algorithmState;
+        return true;
+    }
+
+    /**
+     * Tell this object that it has been taken from the queue by a worker,
+     * after which it can no longer be superseded.
+     * @see #supersede(PredictionWorkItem)
+     */
+    public synchronized void setTaken()
+    {
+        taken = true;
     }
 
     /**
@@ -77,6 +180,7 @@ public class PredictionWorkItem implements Comparator<PredictionWorkItem>{
         if (started == false && this.worker == null)
         {
             started = true;
+            startedTime = System.currentTimeMillis();
             this.worker = worker;
         }else {
             System.err.println("ERROR: Cannot start working on an item which is already being worked");
@@ -88,10 +192,22 @@ public class PredictionWorkItem implements Comparator<PredictionWorkItem>{
      * @param prediction
      */
     public void complete(Prediction prediction)
+    {
+        complete(prediction, false);
+    }
+
+    /**
+     * Complete the work item by providing a prediction
+     * @param prediction
+     * @param cached whether the prediction was reused from the {@link PredictionCache}
+     *               instead of being computed
+     */
+    public void complete(Prediction prediction, boolean cached)
     {
         this.prediction = prediction;
+        this.cached = cached;
+        completedTime = System.currentTimeMillis();
         completed = true;
-
     }
 
     /**
@@ -138,6 +254,15 @@ public class PredictionWorkItem implements Comparator<PredictionWorkItem>{
         return completed;
     }
 
+    /**
+     * Whether the prediction of this work item was reused from the {@link PredictionCache}
+     * instead of being computed.
+     * @return
+     */
+    public boolean isCached() {
+        return cached;
+    }
+
     /**
      * Get the worker currently assigned to this work item.
      * @return
@@ -163,4 +288,56 @@ public class PredictionWorkItem implements Comparator<PredictionWorkItem>{
     {
         return algorithmState;
     }
+
+    /**
+     * Get the time (system clock, in milliseconds) that this work item was created.
+     * @return
+     */
+    public long getEnqueueTime()
+    {
+        return enqueueTime;
+    }
+
+    /**
+     * Get the time (system clock, in milliseconds) by which this work item should be completed.
+     * @return
+     */
+    public long getDeadline()
+    {
+        return deadline;
+    }
+
+    /**
+     * Get the time (system clock, in milliseconds) that a worker started on this work item,
+     * or 0 if it has not been started yet.
+     * @return
+     */
+    public long getStartedTime()
+    {
+        return startedTime;
+    }
+
+    /**
+     * Get the time (system clock, in milliseconds) that this work item was completed,
+     * or 0 if it has not been completed yet.
+     * @return
+     */
+    public long getCompletedTime()
+    {
+        return completedTime;
+    }
+
+    /**
+     * Get the end-to-end latency of this work item, from when it was created
+     * until when it was completed.
+     * @return latency in milliseconds, or -1 if it has not been completed yet.
+     */
+    public long getLatency()
+    {
+        if (!completed)
+        {
+            return -1;
+        }
+        return completedTime - enqueueTime;
+    }
 }
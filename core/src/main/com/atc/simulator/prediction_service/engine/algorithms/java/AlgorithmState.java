@@ -1,6 +1,7 @@
 package com.atc.simulator.prediction_service.engine.algorithms.java;
 
 import com.atc.simulator.flightdata.Prediction;
+import com.atc.simulator.vectors.SlidingCircleFit;
 
 /**
  * Created by luke on 24/10/16.
@@ -12,6 +13,7 @@ import com.atc.simulator.flightdata.Prediction;
 public class AlgorithmState {
     private Prediction.State currentState;
     private long lastStateTime;
+    private SlidingCircleFit circleFit;
 
     /**
      * Constructor for algorithm state
@@ -45,4 +47,19 @@ public class AlgorithmState {
     {
         return lastStateTime;
     }
+
+    /**
+     * Get the circle fit for the moving window of this aircraft's track, which is kept
+     * between predictions so that it can be updated incrementally.
+     * @param windowSize the number of points in the moving window
+     * @return
+     */
+    public SlidingCircleFit getCircleFit(int windowSize)
+    {
+        if (circleFit == null)
+        {
+            circleFit = new SlidingCircleFit(windowSize);
+        }
+        return circleFit;
+    }
 }
\ No newline at end of file
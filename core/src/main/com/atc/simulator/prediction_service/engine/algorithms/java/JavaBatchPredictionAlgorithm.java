@@ -0,0 +1,412 @@
+package com.atc.simulator.prediction_service.engine.algorithms.java;
+
+import com.atc.simulator.debug_data_feed.scenarios.Scenario;
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.Prediction;
+import com.atc.simulator.flightdata.Track;
+import com.atc.simulator.prediction_service.engine.PredictionWorkItem;
+import com.atc.simulator.prediction_service.engine.algorithms.PredictionAlgorithmType;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.GnomonicProjection;
+import com.atc.simulator.vectors.SphericalVelocity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Makes the predictions for a batch of work items at once, in pure java, using the same models
+ * as {@link JavaLinear2dAlgorithm} (LINEAR2D) and {@link JavaCurvilinear2dAlgorithm} (CURVILINEAR2D):
+ * a straight line in the gnomonic projection, or a circle through the latest three positions when
+ * its radius is small enough for the aircraft to be turning.
+ *
+ * Like {@link com.atc.simulator.prediction_service.engine.algorithms.opencl.OpenCLPredictionAlgorithm},
+ * the work items are packed into flat primitive arrays (one column per value, one row per work item)
+ * first. The predicted positions are then calculated a time step at a time with a loop over all the
+ * work items, which the JIT can vectorize, followed by a loop over only the turning work items which
+ * overwrites their positions with the turn. Prediction objects are only created at the end, when the
+ * predicted positions are transformed back into geographic coordinates.
+ *
+ * If a ForkJoinPool is supplied, large batches are split into ranges of work items which are
+ * predicted in parallel (each range uses its own rows of the arrays).
+ *
+ * The predictions are the same as the single item algorithms make (see JavaBatchPredictionAlgorithmTest),
+ * including their handling of the altitude: LINEAR2D extrapolates it with the vertical velocity, and
+ * CURVILINEAR2D drops it (its predicted positions have zero altitude), and their step times in whole seconds.
+ * Other algorithm types (such as the default LMLEASTSQUARESV3) aren't supported, their work items are
+ * predicted one at a time by the batch workers.
+ *
+ * The number and spacing of each work item's steps come from the {@link PredictionHorizon}, the
+ * same as for the single item algorithms. The step loop runs for as many steps as the work item
+ * with the most steps in the range, the positions beyond the end of a work item's own steps are
+ * calculated along with the others but never used.
+ *
+ * A JavaBatchPredictionAlgorithm reuses its arrays between batches, so it must only be used by one
+ * thread at a time (each batch worker has its own).
+ *
+ * @author Luke Frisken
+ */
+public class JavaBatchPredictionAlgorithm {
+    private static final double MAX_TURN_RADIUS = 100000; // larger radius circles are treated as straight
+    private static final int FORK_THRESHOLD = 64; // the smallest range of work items worth forking
+
+    private final ForkJoinPool pool;
+    private final PredictionHorizon horizon;
+    private final int maxSteps; // the most steps the horizon can give a work item
+    private GnomonicProjection projection;
+
+    private int capacity;
+    private PredictionWorkItem[] workItems;
+    private AircraftState[] states;
+    private boolean[] turnModel;
+    private boolean[] turning;
+
+    // columns, in the gnomonic projection (meters, and meters per second)
+    private double[] x;
+    private double[] y;
+    private double[] altitude;
+    private double[] vx;
+    private double[] vy;
+    private double[] vAltitude;
+    // the time between the steps (milliseconds), and the number of steps
+    private int[] stepTime;
+    private int[] stepCount;
+
+    // turning work items only: centre of the turn, position relative to the centre, and signed angular velocity
+    private double[] centreX;
+    private double[] centreY;
+    private double[] radiusX;
+    private double[] radiusY;
+    private double[] angularVelocity;
+    // indices of the turning work items in each range, starting at the first index of the range
+    private int[] turnIndices;
+
+    // predicted positions, predicted position n of work item k is at n*capacity + k
+    private double[] predictedX;
+    private double[] predictedY;
+    private double[] predictedAltitude;
+
+    /**
+     * Constructor for JavaBatchPredictionAlgorithm
+     * @param pool pool to predict large batches in parallel with, or null to predict them on the calling thread.
+     */
+    public JavaBatchPredictionAlgorithm(ForkJoinPool pool)
+    {
+        this.pool = pool;
+        this.horizon = PredictionHorizon.getInstance();
+        this.maxSteps = horizon.getMaxStepCount();
+        allocate(FORK_THRESHOLD);
+    }
+
+    /**
+     * Whether the batch algorithm can make predictions for the algorithm type
+     * @param type
+     * @return
+     */
+    public static boolean supports(PredictionAlgorithmType type)
+    {
+        return type == PredictionAlgorithmType.LINEAR2D || type == PredictionAlgorithmType.CURVILINEAR2D;
+    }
+
+    private void allocate(int capacity)
+    {
+        this.capacity = capacity;
+        workItems = new PredictionWorkItem[capacity];
+        states = new AircraftState[capacity];
+        turnModel = new boolean[capacity];
+        turning = new boolean[capacity];
+        x = new double[capacity];
+        y = new double[capacity];
+        altitude = new double[capacity];
+        vx = new double[capacity];
+        vy = new double[capacity];
+        vAltitude = new double[capacity];
+        stepTime = new int[capacity];
+        stepCount = new int[capacity];
+        centreX = new double[capacity];
+        centreY = new double[capacity];
+        radiusX = new double[capacity];
+        radiusY = new double[capacity];
+        angularVelocity = new double[capacity];
+        turnIndices = new int[capacity];
+        predictedX = new double[capacity * maxSteps];
+        predictedY = new double[capacity * maxSteps];
+        predictedAltitude = new double[capacity * maxSteps];
+    }
+
+    /**
+     * Make the predictions for a batch of work items, and complete each of them with its prediction
+     * ({@link PredictionWorkItem#complete(Prediction)}).
+     * @param batch work items, all of an algorithm type which is {@link #supports(PredictionAlgorithmType) supported}
+     */
+    public void run(List<PredictionWorkItem> batch)
+    {
+        int n = batch.size();
+        if (n > capacity)
+        {
+            allocate(Math.max(n, capacity * 2));
+        }
+
+        for (int k = 0; k < n; k++)
+        {
+            PredictionWorkItem workItem = batch.get(k);
+            if (!supports(workItem.getAlgorithmType()))
+            {
+                throw new IllegalArgumentException("unsupported algorithm type " + workItem.getAlgorithmType());
+            }
+            workItems[k] = workItem;
+            turnModel[k] = workItem.getAlgorithmType() == PredictionAlgorithmType.CURVILINEAR2D;
+        }
+
+        projection = Scenario.getCurrentScenario().getProjection();
+        if (pool != null && n >= 2 * FORK_THRESHOLD)
+        {
+            pool.invoke(new RangeTask(0, n));
+        } else {
+            predict(0, n);
+        }
+
+        for (int k = 0; k < n; k++)
+        {
+            workItems[k] = null;
+            states[k] = null;
+        }
+    }
+
+    /**
+     * Predict the work items from index from (inclusive) to index to (exclusive)
+     */
+    private void predict(int from, int to)
+    {
+        int turnCount = pack(from, to);
+        int steps = 0;
+        for (int k = from; k < to; k++)
+        {
+            steps = Math.max(steps, stepCount[k]);
+        }
+        propagate(from, to, turnCount, steps);
+        unpack(from, to);
+    }
+
+    /**
+     * Fill the columns for a range of work items from their tracks
+     * @return the number of turning work items in the range
+     */
+    private int pack(int from, int to)
+    {
+        double[] projected = new double[3];
+        int turnCount = 0;
+        for (int k = from; k < to; k++)
+        {
+            Track track = workItems[k].getTrack();
+            AircraftState state = track.getLatest();
+            states[k] = state;
+
+            GeographicCoordinate position = state.getPosition();
+            SphericalVelocity velocity = state.getVelocity();
+            double stateAltitude = position.getAltitude();
+            double latitude = position.getLatitude();
+            double longitude = position.getLongitude();
+
+            projection.transformPositionTo(stateAltitude, latitude, longitude, projected, 0);
+            double px = projected[0];
+            double py = projected[1];
+            x[k] = px;
+            y[k] = py;
+
+            // the velocity in the projection is the difference between the projected position and the
+            // projected position a second later (see GnomonicProjection.tranformVelocityTo())
+            projection.transformPositionTo(
+                    stateAltitude + velocity.getDR(),
+                    latitude + velocity.getDPhi(),
+                    longitude + velocity.getDTheta(),
+                    projected, 0);
+            vx[k] = projected[0] - px;
+            vy[k] = projected[1] - py;
+
+            // the curvilinear algorithm zeroes the altitude (the z component) of the position and velocity
+            if (turnModel[k])
+            {
+                altitude[k] = 0;
+                vAltitude[k] = 0;
+            } else {
+                altitude[k] = stateAltitude;
+                vAltitude[k] = projected[2] - stateAltitude;
+            }
+
+            turning[k] = false;
+            int trackSize = track.size();
+            if (!turnModel[k] || trackSize <= 3)
+            {
+                setSteps(k);
+                continue;
+            }
+
+            // find the circle through the latest three positions, relative to the latest one
+            projection.transformPositionTo(track.getAltitude(trackSize-2),
+                    track.getLatitude(trackSize-2), track.getLongitude(trackSize-2), projected, 0);
+            double bx = projected[0] - px;
+            double by = projected[1] - py;
+            projection.transformPositionTo(track.getAltitude(trackSize-3),
+                    track.getLatitude(trackSize-3), track.getLongitude(trackSize-3), projected, 0);
+            double cx = projected[0] - px;
+            double cy = projected[1] - py;
+
+            double d = 2 * (bx*cy - by*cx);
+            double bb = bx*bx + by*by;
+            double cc = cx*cx + cy*cy;
+            double ux = (cy*bb - by*cc) / d;
+            double uy = (bx*cc - cx*bb) / d;
+            double radius = Math.sqrt(ux*ux + uy*uy);
+
+            //check to see whether the radius is small enough for the aircraft to actually be turning.
+            if (radius < MAX_TURN_RADIUS)
+            {
+                centreX[k] = px + ux;
+                centreY[k] = py + uy;
+                radiusX[k] = -ux;
+                radiusY[k] = -uy;
+
+                // turning left (anticlockwise) if the velocity is anticlockwise around the centre
+                double speed = Math.sqrt(vx[k]*vx[k] + vy[k]*vy[k]);
+                double directionCheck = radiusX[k]*vy[k] - radiusY[k]*vx[k];
+                angularVelocity[k] = (directionCheck > 0.0 ? 1.0 : -1.0) * speed / radius;
+
+                turning[k] = true;
+                turnIndices[from + turnCount] = k;
+                turnCount++;
+            }
+            setSteps(k);
+        }
+        return turnCount;
+    }
+
+    /**
+     * Set the number and spacing of the steps of a work item, once its columns have been filled
+     */
+    private void setSteps(int k)
+    {
+        double speed = Math.sqrt(vx[k]*vx[k] + vy[k]*vy[k]);
+        Prediction.State predictionState = getPredictionState(k);
+        stepTime[k] = horizon.getStepTime(predictionState, speed, Math.sqrt(x[k]*x[k] + y[k]*y[k]));
+        stepCount[k] = horizon.getStepCount(predictionState, speed, stepTime[k]);
+    }
+
+    private Prediction.State getPredictionState(int k)
+    {
+        if (turning[k])
+        {
+            return angularVelocity[k] > 0 ? Prediction.State.LEFT_TURN : Prediction.State.RIGHT_TURN;
+        }
+        return Prediction.State.STRAIGHT;
+    }
+
+    /**
+     * Calculate the predicted positions for a range of work items
+     * @param turnCount the number of turning work items in the range
+     * @param steps the number of steps of the work item with the most steps in the range
+     */
+    private void propagate(int from, int to, int turnCount, int steps)
+    {
+        for (int i = 0; i < steps; i++)
+        {
+            int row = i * capacity;
+
+            // straight line for everyone, the JIT can vectorize this
+            for (int k = from; k < to; k++)
+            {
+                // in whole seconds, as the single item algorithms do
+                double t = ((i + 1) * stepTime[k]) / 1000;
+                predictedX[row + k] = x[k] + vx[k] * t;
+                predictedY[row + k] = y[k] + vy[k] * t;
+                predictedAltitude[row + k] = altitude[k] + vAltitude[k] * t;
+            }
+
+            // then the turning work items, only up to half a circle
+            for (int j = from; j < from + turnCount; j++)
+            {
+                int k = turnIndices[j];
+                if (i >= stepCount[k])
+                {
+                    continue;
+                }
+                double angle = angularVelocity[k] * (((i + 1) * stepTime[k]) / 1000);
+                if (angle > Math.PI)
+                {
+                    angle = Math.PI;
+                } else if (angle < -Math.PI) {
+                    angle = -Math.PI;
+                }
+                double cos = Math.cos(angle);
+                double sin = Math.sin(angle);
+                predictedX[row + k] = centreX[k] + radiusX[k] * cos - radiusY[k] * sin;
+                predictedY[row + k] = centreY[k] + radiusX[k] * sin + radiusY[k] * cos;
+            }
+        }
+    }
+
+    /**
+     * Create the predictions for a range of work items from the predicted positions,
+     * and complete the work items.
+     */
+    private void unpack(int from, int to)
+    {
+        double[] geographic = new double[3];
+        for (int k = from; k < to; k++)
+        {
+            AircraftState state = states[k];
+            long startTime = state.getTime();
+            int n = stepCount[k];
+            ArrayList<AircraftState> predictedStates = new ArrayList<AircraftState>(n);
+            for (int i = 0; i < n; i++)
+            {
+                int index = i * capacity + k;
+                projection.transformPositionFrom(predictedX[index], predictedY[index], predictedAltitude[index], geographic, 0);
+                predictedStates.add(new AircraftState(
+                        state.getAircraftID(),
+                        startTime + (i + 1) * stepTime[k],
+                        new GeographicCoordinate(geographic[0], geographic[1], geographic[2]),
+                        state.getVelocity(),
+                        0));
+            }
+
+            Track predictionTrack = new Track(predictedStates);
+            workItems[k].complete(new Prediction(
+                    state.getAircraftID(),
+                    startTime,
+                    state,
+                    predictionTrack,
+                    predictionTrack,
+                    predictionTrack,
+                    getPredictionState(k)));
+        }
+    }
+
+    /**
+     * Predicts a range of work items, splitting it in half until it is small enough.
+     */
+    private class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        RangeTask(int from, int to)
+        {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < 2 * FORK_THRESHOLD)
+            {
+                predict(from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RangeTask(from, middle), new RangeTask(middle, to));
+            }
+        }
+    }
+}
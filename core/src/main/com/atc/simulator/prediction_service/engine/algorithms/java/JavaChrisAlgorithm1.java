@@ -18,7 +18,6 @@ import java.util.ArrayList;
  */
 public class JavaChrisAlgorithm1 extends JavaPredictionAlgorithm {
 
-    GnomonicProjection projection = null;
 
     /**
      * Method makePrediction ...
@@ -28,12 +27,7 @@ public class JavaChrisAlgorithm1 extends JavaPredictionAlgorithm {
      */
     @Override
     public Prediction makePrediction(Track aircraftTrack, Object algorithmState) {
-        if (projection == null)
-        {
-            GeographicCoordinate projectionReference = Scenario.getCurrentScenario().getProjectionReference();
-            projection = new GnomonicProjection(projectionReference);
-
-        }
+        GnomonicProjection projection = Scenario.getCurrentScenario().getProjection();
 
         AircraftState state = aircraftTrack.getLatest();
         long startTime = state.getTime();
@@ -46,14 +40,21 @@ public class JavaChrisAlgorithm1 extends JavaPredictionAlgorithm {
         Vector3 currentVelocity = projection.tranformVelocityTo(sphericalVelocity, geographicPosition, currentPosition);
 
 
+        // the number and spacing of the steps depends on the speed and distance from the reference
+        PredictionHorizon horizon = PredictionHorizon.getInstance();
+        double speed = Math.sqrt(currentVelocity.x*currentVelocity.x + currentVelocity.y*currentVelocity.y);
+        int stepTime = horizon.getStepTime(Prediction.State.STRAIGHT, speed,
+                Math.sqrt(currentPosition.x*currentPosition.x + currentPosition.y*currentPosition.y));
+        int stepCount = horizon.getStepCount(Prediction.State.STRAIGHT, speed, stepTime);
+
         ArrayList<AircraftState> predictedStates = new ArrayList<AircraftState>(); //an array to store the predicted states
 
         if(aircraftTrack.size() < 3) //If there's only 1 or 2 states, we can't find acceleration
         {//So we will steal Luke's JavaLinearAlgorithm algorithm
 
-            int dt = 5000;
+            int dt = stepTime;
             int totalDT = 0;
-            int n = 24;
+            int n = stepCount;
 
             for (int i = 0; i < n; i++)
             {
@@ -100,11 +101,12 @@ public class JavaChrisAlgorithm1 extends JavaPredictionAlgorithm {
 
             System.out.println("Acceleration:" + acceleration.length());
 
-            for (int numPredictions = 1; numPredictions != 24; numPredictions++)
+            double stepSeconds = stepTime/1000.0;
+            for (int numPredictions = 1; numPredictions <= stepCount; numPredictions++)
             {
                 Vector3 predictedPosition = newPos.add(
-                        currentVelocity.mult(numPredictions*5).add(
-                                acceleration.mult(0.5*numPredictions*5*numPredictions*5)
+                        currentVelocity.mult(numPredictions*stepSeconds).add(
+                                acceleration.mult(0.5*numPredictions*stepSeconds*numPredictions*stepSeconds)
                         )
                 );
 
@@ -113,7 +115,7 @@ public class JavaChrisAlgorithm1 extends JavaPredictionAlgorithm {
 
                 AircraftState predictedState = new AircraftState(
                         state.getAircraftID(),
-                        startTime+(numPredictions*5),
+                        startTime+(numPredictions*stepTime),
                         predictedGeographicPosition,
                         sphericalVelocity,
                         0);
@@ -23,7 +23,6 @@ import java.util.ArrayList;
  * and a linear prediction is used instead.
  */
 public class JavaCurvilinear2dAlgorithm extends JavaPredictionAlgorithm {
-    GnomonicProjection projection = null;
 
     /**
      * Method makePrediction ...
@@ -33,15 +32,7 @@ public class JavaCurvilinear2dAlgorithm extends JavaPredictionAlgorithm {
      */
     @Override
     public Prediction makePrediction(Track aircraftTrack, Object algorithmState) {
-        //TODO: probably need to move this into a singleton
-        //basically have a cached version of the projection
-        //because we don't want to have to generate it every time.
-        if (projection == null)
-        {
-            GeographicCoordinate projectionReference = Scenario.getCurrentScenario().getProjectionReference();
-            projection = new GnomonicProjection(projectionReference);
-
-        }
+        GnomonicProjection projection = Scenario.getCurrentScenario().getProjection();
 
         AircraftState state = aircraftTrack.getLatest();
         long startTime = state.getTime();
@@ -64,10 +55,6 @@ public class JavaCurvilinear2dAlgorithm extends JavaPredictionAlgorithm {
 
         ArrayList<AircraftState> predictedStates = new ArrayList<AircraftState>();
 
-        int dt = 5000;
-        int totalDT = 0;
-        int n = 24;
-
 //        System.out.println();
 //        System.out.println("NEW PREDICTION");
 //        System.out.println("Position: " + currentPosition);
@@ -82,9 +69,9 @@ public class JavaCurvilinear2dAlgorithm extends JavaPredictionAlgorithm {
         if (aircraftTrack.size() > 3)
         {
             //find centre of circle given 3 points
-            Vector3 p1 = projection.transformPositionTo(aircraftTrack.get(aircraftTrack.size()-1).getPosition());
-            Vector3 p2 = projection.transformPositionTo(aircraftTrack.get(aircraftTrack.size()-2).getPosition());
-            Vector3 p3 = projection.transformPositionTo(aircraftTrack.get(aircraftTrack.size()-3).getPosition());
+            Vector3 p1 = projection.transformPositionTo(aircraftTrack.getPosition(aircraftTrack.size()-1));
+            Vector3 p2 = projection.transformPositionTo(aircraftTrack.getPosition(aircraftTrack.size()-2));
+            Vector3 p3 = projection.transformPositionTo(aircraftTrack.getPosition(aircraftTrack.size()-3));
 
             Circle circle = CircleSolver.FromThreePoints(p1, p2, p3);
 
@@ -105,13 +92,11 @@ public class JavaCurvilinear2dAlgorithm extends JavaPredictionAlgorithm {
             }
         }
 
-        Prediction.State predictionState;
-
-        //use the circle prediction
+        Prediction.State predictionState = Prediction.State.STRAIGHT;
+        double directionSign = 0.0;
         if (useCircle)
         {
             Vector3 directionCheck = rVec.cross(velocity);
-            double directionSign;
             if (directionCheck.z > 0.0) {
                 directionSign = 1.0;
                 predictionState = Prediction.State.LEFT_TURN;
@@ -119,6 +104,19 @@ public class JavaCurvilinear2dAlgorithm extends JavaPredictionAlgorithm {
                 directionSign = -1.0;
                 predictionState = Prediction.State.RIGHT_TURN;
             }
+        }
+
+        // the number and spacing of the steps depends on the state, speed and distance from the reference
+        PredictionHorizon horizon = PredictionHorizon.getInstance();
+        double speed = velocity.length();
+        int dt = horizon.getStepTime(predictionState, speed,
+                Math.sqrt(currentPosition.x*currentPosition.x + currentPosition.y*currentPosition.y));
+        int totalDT = 0;
+        int n = horizon.getStepCount(predictionState, speed, dt);
+
+        //use the circle prediction
+        if (useCircle)
+        {
 
             for (int i = 0; i < n; i++)
             {
@@ -151,7 +149,6 @@ public class JavaCurvilinear2dAlgorithm extends JavaPredictionAlgorithm {
             }
         }
         else {
-            predictionState = Prediction.State.STRAIGHT;
             for (int i = 0; i < n; i++)
             {
                 totalDT += dt;
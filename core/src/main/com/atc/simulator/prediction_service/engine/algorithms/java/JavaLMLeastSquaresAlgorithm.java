@@ -23,7 +23,6 @@ import java.util.ArrayList;
  * @author Luke Frisken
  */
 public class JavaLMLeastSquaresAlgorithm extends JavaPredictionAlgorithm {
-    GnomonicProjection projection = null;
 
     /**
      * Method makePrediction ...
@@ -33,15 +32,7 @@ public class JavaLMLeastSquaresAlgorithm extends JavaPredictionAlgorithm {
      */
     @Override
     public Prediction makePrediction(Track aircraftTrack, Object algorithmState) {
-        //TODO: probably need to move this into a singleton
-        //basically have a cached version of the projection
-        //because we don't want to have to generate it every time.
-        if (projection == null)
-        {
-            GeographicCoordinate projectionReference = Scenario.getCurrentScenario().getProjectionReference();
-            projection = new GnomonicProjection(projectionReference);
-
-        }
+        GnomonicProjection projection = Scenario.getCurrentScenario().getProjection();
 
         AircraftState state = aircraftTrack.getLatest();
         long startTime = state.getTime();
@@ -74,10 +65,6 @@ public class JavaLMLeastSquaresAlgorithm extends JavaPredictionAlgorithm {
         ArrayList<AircraftState> predictedStates = new ArrayList<AircraftState>();
         ArrayList<AircraftState> predictedStatesCentre = new ArrayList<AircraftState>();
 
-        int dt = 5000;
-        int totalDT = 0;
-        int n = 24;
-
 //        System.out.println();
 //        System.out.println("NEW PREDICTION");
 //        System.out.println("Position: " + currentPosition);
@@ -98,9 +85,9 @@ public class JavaLMLeastSquaresAlgorithm extends JavaPredictionAlgorithm {
         {
             boolean continuous = continuousLine(aircraftTrack, 0, 2);
             //find centre of circle given 3 points
-            Vector3 p1 = projection.transformPositionTo(aircraftTrack.get(aircraftTrack.size()-1).getPosition());
-            Vector3 p2 = projection.transformPositionTo(aircraftTrack.get(aircraftTrack.size()-2).getPosition());
-            Vector3 p3 = projection.transformPositionTo(aircraftTrack.get(aircraftTrack.size()-3).getPosition());
+            Vector3 p1 = projection.transformPositionTo(aircraftTrack.getPosition(aircraftTrack.size()-1));
+            Vector3 p2 = projection.transformPositionTo(aircraftTrack.getPosition(aircraftTrack.size()-2));
+            Vector3 p3 = projection.transformPositionTo(aircraftTrack.getPosition(aircraftTrack.size()-3));
 
             Circle circle = CircleSolver.FromThreePoints(p1, p2, p3);
 
@@ -140,9 +127,9 @@ public class JavaLMLeastSquaresAlgorithm extends JavaPredictionAlgorithm {
             //find centre of circle given 3 points
 
             //find centre of circle given 3 points
-            Vector3 p1 = projection.transformPositionTo(aircraftTrack.get(trackSize-1).getPosition());
-            Vector3 p2 = projection.transformPositionTo(aircraftTrack.get(trackSize-2).getPosition());
-            Vector3 p3 = projection.transformPositionTo(aircraftTrack.get(trackSize-3).getPosition());
+            Vector3 p1 = projection.transformPositionTo(aircraftTrack.getPosition(trackSize-1));
+            Vector3 p2 = projection.transformPositionTo(aircraftTrack.getPosition(trackSize-2));
+            Vector3 p3 = projection.transformPositionTo(aircraftTrack.getPosition(trackSize-3));
 
             Vector3 headPoint = movingWindowPositions.get(movingWindowPositions.size()-1);
             Vector3 middlePoint = movingWindowPositions.get((movingWindowPositions.size()-1)/2);
@@ -183,13 +170,11 @@ public class JavaLMLeastSquaresAlgorithm extends JavaPredictionAlgorithm {
             }
         }
 
-        Prediction.State predictionState;
-
-        //use the circle prediction
+        Prediction.State predictionState = Prediction.State.STRAIGHT;
+        double directionSign = 0.0;
         if (useCircle)
         {
             Vector3 directionCheck = rVec.cross(velocity);
-            double directionSign;
             if (directionCheck.z > 0.0) {
                 directionSign = 1.0;
                 predictionState = Prediction.State.LEFT_TURN;
@@ -197,6 +182,19 @@ public class JavaLMLeastSquaresAlgorithm extends JavaPredictionAlgorithm {
                 directionSign = -1.0;
                 predictionState = Prediction.State.RIGHT_TURN;
             }
+        }
+
+        // the number and spacing of the steps depends on the state, speed and distance from the reference
+        PredictionHorizon horizon = PredictionHorizon.getInstance();
+        double currentSpeed = velocity.length();
+        int dt = horizon.getStepTime(predictionState, currentSpeed,
+                Math.sqrt(currentPosition.x*currentPosition.x + currentPosition.y*currentPosition.y));
+        int totalDT = 0;
+        int n = horizon.getStepCount(predictionState, currentSpeed, dt);
+
+        //use the circle prediction
+        if (useCircle)
+        {
 
             Vector3 previousPredictedPosition = currentPosition;
             Vector3 previousPredictionVelocityDir = velocity.normalize();
@@ -279,7 +277,6 @@ public class JavaLMLeastSquaresAlgorithm extends JavaPredictionAlgorithm {
             }
         }
         else {
-            predictionState = Prediction.State.STRAIGHT;
             for (int i = 0; i < n; i++)
             {
                 totalDT += dt;
@@ -305,8 +302,7 @@ public class JavaLMLeastSquaresAlgorithm extends JavaPredictionAlgorithm {
 
         Track rightTrack = new Track(predictedStates);
 
-        Prediction linearPrediction = new JavaLinearAlgorithm().makePrediction(aircraftTrack);
-        Track leftTrack = linearPrediction.getCentreTrack();
+        Track leftTrack = JavaLinearAlgorithm.predictTrack(state, dt, n);
 
         Track centreTrack = new Track(predictedStatesCentre);
 
@@ -370,17 +366,18 @@ public class JavaLMLeastSquaresAlgorithm extends JavaPredictionAlgorithm {
             return false;
         }
 
-        GeographicCoordinate p1, p2, p3;
+        GeographicCoordinate p1 = null, p2 = null, p3 = null;
 
         int n = 0;
         for (int i = from; i <= to && i < track.size(); i++)
         {
+            // slide the three positions along the track, so each one is only created once
+            p1 = p2;
+            p2 = p3;
+            p3 = track.getPosition(i);
+
             if (n >= 2)
             {
-                p1 = track.get(i-2).getPosition();
-                p2 = track.get(i-1).getPosition();
-                p3 = track.get(i).getPosition();
-
                 if (p1.cartesianDistance(p3) < p1.cartesianDistance(p2))
                 {
                     return false;
@@ -8,29 +8,28 @@ import com.atc.simulator.flightdata.Track;
 import com.atc.simulator.vectors.CircleSolver;
 import com.atc.simulator.vectors.GeographicCoordinate;
 import com.atc.simulator.vectors.GnomonicProjection;
+import com.atc.simulator.vectors.SlidingCircleFit;
 import com.atc.simulator.vectors.SphericalVelocity;
 import pythagoras.d.Circle;
-import pythagoras.d.Matrix3;
 import pythagoras.d.Vector3;
 
-import java.util.ArrayList;
-
 /**
  * Created by luke on 18/08/16.
  *
  * The current implementation of Levenberg-Marquardt least squares circle fitting
  * prediction algorithm.
  *
+ * The tracks of the prediction are {@link PredictionHypothesis}'s, all predicted from the same
+ * {@link PredictionInput}: the left track goes straight on, and when the aircraft is turning, the
+ * right track follows the fitted circle and the centre track is blended between the two.
+ *
  * @author Luke Frisken
  */
 public class JavaLMLeastSquaresAlgorithmV3 extends JavaPredictionAlgorithm {
     private static final double INTERPOLATION_TRANSITION_TIME = ApplicationConfig.getDouble("settings.prediction-service.prediction-engine.interpolation-transition-time");
     private static final int MOVING_WINDOW_SIZE = 10; // the number of states to use in the least squares fit
-    private static final int N_PREDICTIONS = 24; // the number of predictions to make
-    private static final int DT = 5000; // the change in time between the predictions
     private static final double MAX_PHYSICAL_SPEED = 400.0; // the likely maximum speed in m/s used as a sanity check
 
-    GnomonicProjection projection = null;
 
     /**
      * Method makePrediction ...
@@ -42,15 +41,7 @@ public class JavaLMLeastSquaresAlgorithmV3 extends JavaPredictionAlgorithm {
     public Prediction makePrediction(Track aircraftTrack, Object algorithmState) {
         AlgorithmState as = (AlgorithmState) algorithmState;
 
-        //TODO: probably need to move this into a singleton
-        //basically have a cached version of the projection
-        //because we don't want to have to generate it every time.
-        if (projection == null)
-        {
-            GeographicCoordinate projectionReference = Scenario.getCurrentScenario().getProjectionReference();
-            projection = new GnomonicProjection(projectionReference);
-
-        }
+        GnomonicProjection projection = Scenario.getCurrentScenario().getProjection();
 
         AircraftState aircraftState = aircraftTrack.getLatest();
 
@@ -91,23 +82,16 @@ public class JavaLMLeastSquaresAlgorithmV3 extends JavaPredictionAlgorithm {
         //same deal as with position z component
         velocity.z = 0;
 
-        ArrayList<AircraftState> predictedStates = new ArrayList<AircraftState>();
-        ArrayList<AircraftState> predictedStatesCentre = new ArrayList<AircraftState>();
-
-
 //        System.out.println();
 //        System.out.println("NEW PREDICTION");
 //        System.out.println("Position: " + currentPosition);
 //        System.out.println("Size: " + aircraftTrack.size());
 //        System.out.println("Velocity: " + velocity);
 
-        Vector3 rVec = null;
-        Vector3 centre = null;
-        Vector3 centreCircleCentre = null;
-        Vector3 centreCircleRVec = null;
+        double centreX = 0;
+        double centreY = 0;
         boolean useCircle = false;
         double w = 0;
-        double wCentre = 0;
 
         // percentage of circle track, to make the centre track.
         double offsetAmount = circleRadiusOffsetFactor(stateTransition);
@@ -118,9 +102,9 @@ public class JavaLMLeastSquaresAlgorithmV3 extends JavaPredictionAlgorithm {
         {
             boolean continuous = continuousLine(aircraftTrack, 0, 2);
             //find centre of circle given 3 points
-            Vector3 p1 = projection.transformPositionTo(aircraftTrack.get(aircraftTrack.size()-1).getPosition());
-            Vector3 p2 = projection.transformPositionTo(aircraftTrack.get(aircraftTrack.size()-2).getPosition());
-            Vector3 p3 = projection.transformPositionTo(aircraftTrack.get(aircraftTrack.size()-3).getPosition());
+            Vector3 p1 = projection.transformPositionTo(aircraftTrack.getPosition(aircraftTrack.size()-1));
+            Vector3 p2 = projection.transformPositionTo(aircraftTrack.getPosition(aircraftTrack.size()-2));
+            Vector3 p3 = projection.transformPositionTo(aircraftTrack.getPosition(aircraftTrack.size()-3));
 
             Circle circle = CircleSolver.FromThreePoints(p1, p2, p3);
 
@@ -133,15 +117,11 @@ public class JavaLMLeastSquaresAlgorithmV3 extends JavaPredictionAlgorithm {
             if (circle.radius < 100000 && continuous)
             {
                 useCircle = true;
-                centre = new Vector3(circle.x, circle.y, 0);
-                rVec = currentPosition.subtract(centre);
-
-                centreCircleCentre = currentPosition.add(rVec.mult(-offsetAmount));
-                centreCircleRVec = rVec.mult(offsetAmount);
+                centreX = circle.x;
+                centreY = circle.y;
 
                 //calculate the angular velocity
                 w = velocity.length()/circle.radius;
-                wCentre = velocity.length()/(circle.radius*offsetAmount);
             }
         }
 
@@ -151,63 +131,57 @@ public class JavaLMLeastSquaresAlgorithmV3 extends JavaPredictionAlgorithm {
         {
             boolean continuous = continuousLine(aircraftTrack, trackSize-3, trackSize-1);
             int windowFromIndex = Math.max(aircraftTrack.size()-1-MOVING_WINDOW_SIZE, 0);
-            ArrayList<AircraftState> movingWindow = new ArrayList<AircraftState>(aircraftTrack.subList(windowFromIndex, trackSize-1));
-            ArrayList<Vector3> movingWindowPositions = new ArrayList<Vector3>(movingWindow.size());
 
-            // get the list of moving window positions
-            for(AircraftState windowAircraftState: movingWindow)
+            // fit a circle to the moving window positions (in the flat gnomonic projection).
+            // the fit is kept from the previous prediction for this aircraft, so only the
+            // positions which have entered/left the window since then need to be added/removed.
+            SlidingCircleFit circleFit = as.getCircleFit(MOVING_WINDOW_SIZE);
+            long windowStartTime = aircraftTrack.getTime(windowFromIndex);
+            long windowEndTime = aircraftTrack.getTime(trackSize-2);
+            if (circleFit.size() > 0 && circleFit.getNewestTime() > windowEndTime)
             {
-                movingWindowPositions.add(projection.transformPositionTo(windowAircraftState.getPosition()));
+                circleFit.clear(); // not the same track as last time
             }
-
-            //find centre of circle given 3 points
-//            Vector3 p1 = projection.transformPositionTo(aircraftTrack.get(trackSize-1).getPosition());
-//            Vector3 p2 = projection.transformPositionTo(aircraftTrack.get(trackSize-2).getPosition());
-//            Vector3 p3 = projection.transformPositionTo(aircraftTrack.get(trackSize-3).getPosition());
-            //            Circle frontCircle = CircleSolver.FromThreePoints(p1, p2, p3);
-
-            Vector3 headPoint = movingWindowPositions.get(movingWindowPositions.size()-1);
-            Vector3 middlePoint = movingWindowPositions.get((movingWindowPositions.size()-1)/2);
-            Vector3 tailPoint = movingWindowPositions.get(0);
-            Circle betaCircle = CircleSolver.FromThreePoints(headPoint, middlePoint, tailPoint);
-
-            Circle fitCircle = CircleSolver.LeastSquares(movingWindowPositions, betaCircle);
-
-//            System.out.println("Moving Window Positions:");
-//            for(Vector3 pos : movingWindowPositions)
-//            {
-//                System.out.println("[" + pos.x + "," + pos.y + "]");
-//            }
-//
-//
-//
-//            System.out.println("P1: " + headPoint);
-//            System.out.println("P2: " + middlePoint);
-//            System.out.println("P3: " + tailPoint);
-//            System.out.println("BetaCircle (" + betaCircle.x + "," + betaCircle.y + "," + betaCircle.radius + ")");
-//            System.out.println("FitCircle (" + fitCircle.x + "," + fitCircle.y + "," + fitCircle.radius + ")");
+            while (circleFit.size() > 0 && circleFit.getOldestTime() < windowStartTime)
+            {
+                circleFit.removeOldest();
+            }
+            int newPositionIndex = windowFromIndex;
+            if (circleFit.size() > 0)
+            {
+                while (newPositionIndex < trackSize-1 && aircraftTrack.getTime(newPositionIndex) <= circleFit.getNewestTime())
+                {
+                    newPositionIndex++;
+                }
+            }
+            double[] windowPosition = new double[3];
+            for (int i = newPositionIndex; i < trackSize-1; i++)
+            {
+                projection.transformPositionTo(
+                        aircraftTrack.getAltitude(i),
+                        aircraftTrack.getLatitude(i),
+                        aircraftTrack.getLongitude(i),
+                        windowPosition, 0);
+                circleFit.add(aircraftTrack.getTime(i), windowPosition[0], windowPosition[1]);
+            }
+            circleFit.fit();
+            double fitRadius = circleFit.getRadius();
 
             //check to see whether the radius is small enough for the aircraft to actually be turning.
-            if (fitCircle.radius < 100000 && continuous)
+            if (fitRadius < 100000 && continuous)
             {
                 useCircle = true;
-                centre = new Vector3(fitCircle.x, fitCircle.y, 0);
-                rVec = currentPosition.subtract(centre);
-
-                centreCircleCentre = currentPosition.add(rVec.mult(-offsetAmount));
-                centreCircleRVec = rVec.mult(offsetAmount);
+                centreX = circleFit.getCentreX();
+                centreY = circleFit.getCentreY();
 
                 //calculate the angular velocity
-                w = velocity.length()/fitCircle.radius;
-                wCentre = velocity.length()/(fitCircle.radius*offsetAmount);
+                w = velocity.length()/fitRadius;
 
             }
         }
 
-        //a running total of the time between the latest prediction and the current state time.
-        int totalDT = 0;
-
         //use the circle prediction if we calculated that the aircraft is in a turn in the previous section
+        double directionSign = 0.0;
         if (useCircle)
         {
             // check to see which way the aircraft is turning
@@ -215,147 +189,54 @@ public class JavaLMLeastSquaresAlgorithmV3 extends JavaPredictionAlgorithm {
             // and the rVec (the vector between the current aircraft position,
             // and the centre of the fitted circle). The sign of the z component
             // of this cross product result gives the direction.
-            Vector3 directionCheck = rVec.cross(velocity);
-            double directionSign;
-            if (directionCheck.z > 0.0) {
+            double directionCheck = (currentPosition.x - centreX)*velocity.y - (currentPosition.y - centreY)*velocity.x;
+            if (directionCheck > 0.0) {
                 directionSign = 1.0;
                 as.setState(Prediction.State.LEFT_TURN, aircraftState.getTime());
             } else {
                 directionSign = -1.0;
                 as.setState(Prediction.State.RIGHT_TURN, aircraftState.getTime());
             }
-
-            Vector3 previousPredictedPosition = currentPosition;
-            Vector3 previousPredictionVelocityDir = velocity.normalize();
-            Vector3 previousCentreVelocityDir = velocity.normalize();
-            Vector3 previousCentrePredictedPosition = currentPosition;
-            double speed = velocity.length();
-
-            boolean linear = false;
-            for (int i = 0; i < N_PREDICTIONS; i++)
-            {
-                totalDT += DT;
-
-                // calculate the distance around the circle given
-                // the angular velocity. Only predict up to half a
-                // circle maximum.
-                double dphi = (totalDT/1000)*w;
-                double dphiCentre = (totalDT/1000)*wCentre;
-                if (dphi > Math.PI)
-                {
-                    linear = true;
-                }
-
-                Vector3 predictedPosition;
-                Vector3 predictedCentrePosition;
-                if (!linear)
-                {
-//                    System.out.println("RVEC: " + rVec);
-//                    System.out.println("CentreRVEC: " + centreCircleRVec);
-//                    System.out.println("cp: " + previousCentrePredictedPosition);
-//                    System.out.println("p: " + previousPredictedPosition);
-
-                    Matrix3 rotation = new Matrix3().setToRotation(dphi*directionSign, new Vector3(0,0,1));
-                    Vector3 rVecRotated = rotation.transform(rVec);
-                    predictedPosition = new Vector3(centre.add(rVecRotated));
-                    previousPredictionVelocityDir = (new Vector3(0, 0, directionSign)).cross(rVecRotated).normalize();
-
-                    Matrix3 centreRotation = new Matrix3().setToRotation(dphiCentre*directionSign, new Vector3(0,0,1));
-                    Vector3 centreCircleRVecRotated = centreRotation.transform(centreCircleRVec);
-                    predictedCentrePosition = new Vector3(centreCircleCentre.add(centreCircleRVecRotated));
-                    previousCentreVelocityDir = (new Vector3(0, 0, directionSign)).cross(centreCircleRVecRotated).normalize();
-
-                } else {
-                    predictedPosition = previousPredictedPosition.add(previousPredictionVelocityDir.mult((DT/1000.0)*speed));
-                    predictedCentrePosition = previousCentrePredictedPosition.add(previousCentreVelocityDir.mult((DT/1000.0)*speed));
-                }
-
-                GeographicCoordinate predictedGeographicPosition = projection.transformPositionFrom(predictedPosition);
-                predictedGeographicPosition.setAltitude(currentAltitude);
-                GeographicCoordinate predictedCentreGeographicPosition = projection.transformPositionFrom(predictedCentrePosition);
-                predictedCentreGeographicPosition.setAltitude(currentAltitude);
-                previousPredictedPosition = predictedPosition;
-                previousCentrePredictedPosition = predictedCentrePosition;
-
-                // check to see whether the predictions made in the tracks are physically possible
-                checkPredictionPhysicallyPossible(geographicPosition, predictedGeographicPosition, totalDT/1000);
-                checkPredictionPhysicallyPossible(geographicPosition, predictedCentreGeographicPosition, totalDT/1000);
-
-
-                AircraftState predictedCentreState = new AircraftState(
-                        aircraftState.getAircraftID(),
-                        startTime+totalDT,
-                        predictedCentreGeographicPosition,
-                        sphericalVelocity,
-                        0);
-
-                AircraftState predictedState = new AircraftState(
-                        aircraftState.getAircraftID(),
-                        startTime+totalDT,
-                        predictedGeographicPosition,
-                        sphericalVelocity,
-                        0);
-
-                predictedStates.add(predictedState);
-                predictedStatesCentre.add(predictedCentreState);
-
-            }
         }
         else {
             as.setState(Prediction.State.STRAIGHT, aircraftState.getTime());
-            for (int i = 0; i < N_PREDICTIONS; i++)
-            {
-                totalDT += DT;
-
-                //make a linear prediction based on the current velocity
-                Vector3 predictedPosition = currentPosition.add(velocity.mult(totalDT/1000));
-                GeographicCoordinate predictedGeographicPosition = projection.transformPositionFrom(predictedPosition);
-                predictedGeographicPosition.setAltitude(currentAltitude);
+        }
 
-                AircraftState predictedState = new AircraftState(
-                        aircraftState.getAircraftID(),
-                        startTime+totalDT,
-                        predictedGeographicPosition,
-                        sphericalVelocity,
-                        0);
+        // the number and spacing of the steps depends on the state, speed and distance from the reference
+        PredictionHorizon horizon = PredictionHorizon.getInstance();
+        double speed = velocity.length();
+        int dt = horizon.getStepTime(as.getCurrentState(), speed,
+                Math.sqrt(currentPosition.x*currentPosition.x + currentPosition.y*currentPosition.y));
+        int n = horizon.getStepCount(as.getCurrentState(), speed, dt);
 
-                checkPredictionPhysicallyPossible(geographicPosition, predictedGeographicPosition, totalDT/1000);
-                predictedStates.add(predictedState);
-                predictedStatesCentre.add(predictedState);
+        // everything the hypotheses need is calculated once, here, and shared between them.
+        PredictionInput input = new PredictionInput(aircraftState, projection, currentAltitude,
+                currentPosition.x, currentPosition.y, velocity.x, velocity.y, dt/1000.0, n);
 
-            }
+        Track[] tracks;
+        if (useCircle)
+        {
+            input.setTurn(centreX, centreY, w, directionSign, offsetAmount);
+            tracks = PredictionHypothesis.predictAll(input,
+                    PredictionHypothesis.STRAIGHT, PredictionHypothesis.BLENDED, PredictionHypothesis.TURN);
+        }
+        else {
+            //make a linear prediction based on the current velocity
+            tracks = PredictionHypothesis.predictAll(input,
+                    PredictionHypothesis.STRAIGHT, PredictionHypothesis.STRAIGHT, PredictionHypothesis.STRAIGHT);
         }
 
-        Track rightTrack = new Track(predictedStates);
-
-        Prediction linearPrediction = new JavaLinearAlgorithm().makePrediction(aircraftTrack);
-        Track leftTrack = linearPrediction.getCentreTrack();
-
-        Track centreTrack = new Track(predictedStatesCentre);
+        Track leftTrack = tracks[0];
+        Track centreTrack = tracks[1];
+        Track rightTrack = tracks[2];
 
-        if (leftTrack.size() != rightTrack.size())
+        // check to see whether the predictions made in the tracks are physically possible
+        checkPredictionPhysicallyPossible(geographicPosition, startTime, rightTrack);
+        if (centreTrack != rightTrack)
         {
-            try {
-                throw new Exception("Tracks don't match sizes");
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
+            checkPredictionPhysicallyPossible(geographicPosition, startTime, centreTrack);
         }
 
-//        for(int i = 0; i < leftTrack.size(); i++)
-//        {
-//            AircraftState leftState = leftTrack.get(i);
-//            AircraftState rightState = rightTrack.get(i);
-//
-//            GeographicCoordinate leftPosition = leftState.getPosition();
-//            GeographicCoordinate rightPosition = rightState.getPosition();
-//
-//            GeographicCoordinate centrePosition = new GeographicCoordinate(leftPosition.lerp(rightPosition, 0.5));
-//
-//            AircraftState centreState = new AircraftState(leftState);
-//            centreState.setPosition(centrePosition);
-//            centreTrack.add(centreState);
-//        }
         Prediction prediction = new Prediction(
                 aircraftState.getAircraftID(),
                 startTime,
@@ -403,17 +284,18 @@ public class JavaLMLeastSquaresAlgorithmV3 extends JavaPredictionAlgorithm {
             return false;
         }
 
-        GeographicCoordinate p1, p2, p3;
+        GeographicCoordinate p1 = null, p2 = null, p3 = null;
 
         int n = 0;
         for (int i = from; i <= to && i < track.size(); i++)
         {
+            // slide the three positions along the track, so each one is only created once
+            p1 = p2;
+            p2 = p3;
+            p3 = track.getPosition(i);
+
             if (n >= 2)
             {
-                p1 = track.get(i-2).getPosition();
-                p2 = track.get(i-1).getPosition();
-                p3 = track.get(i).getPosition();
-
                 if (p1.cartesianDistance(p3) < p1.cartesianDistance(p2))
                 {
                     return false;
@@ -426,19 +308,26 @@ public class JavaLMLeastSquaresAlgorithmV3 extends JavaPredictionAlgorithm {
 
 
     /**
-     * check to see whether the prediction is physically possible/likely by seeing
+     * check to see whether the predictions in a track are physically possible/likely by seeing
      * whether the average speed exceeds the MAX_PHYSICAL_SPEED value.
      * If not, print an error message.
      * @param originalPosition
-     * @param predictedPosition
-     * @param dt change in time between the positions
+     * @param startTime time of the original position
+     * @param predictedTrack
      */
-    private void checkPredictionPhysicallyPossible(GeographicCoordinate originalPosition, GeographicCoordinate predictedPosition, double dt)
+    private void checkPredictionPhysicallyPossible(GeographicCoordinate originalPosition, long startTime, Track predictedTrack)
     {
-        double speed = predictedPosition.getCartesian().subtract(originalPosition.getCartesian()).length()/dt;
-        if (speed > MAX_PHYSICAL_SPEED)
+        Vector3 originalCartesian = originalPosition.getCartesian();
+        for (int i = 0; i < predictedTrack.size(); i++)
         {
-            System.err.println("Unlikely average speed for prediction of " + speed + "m/s");
+            GeographicCoordinate predictedPosition = new GeographicCoordinate(
+                    predictedTrack.getAltitude(i), predictedTrack.getLatitude(i), predictedTrack.getLongitude(i));
+            double dt = (predictedTrack.getTime(i) - startTime)/1000;
+            double speed = predictedPosition.getCartesian().subtract(originalCartesian).length()/dt;
+            if (speed > MAX_PHYSICAL_SPEED)
+            {
+                System.err.println("Unlikely average speed for prediction of " + speed + "m/s");
+            }
         }
     }
 }
@@ -17,7 +17,6 @@ import java.util.ArrayList;
  * @author Luke Frisken
  */
 public class JavaLinear2dAlgorithm extends JavaPredictionAlgorithm {
-    GnomonicProjection projection = null;
 
     /**
      * Method makePrediction ...
@@ -27,12 +26,7 @@ public class JavaLinear2dAlgorithm extends JavaPredictionAlgorithm {
      */
     @Override
     public Prediction makePrediction(Track aircraftTrack, Object algorithmState) {
-        if (projection == null)
-        {
-            GeographicCoordinate projectionReference = Scenario.getCurrentScenario().getProjectionReference();
-            projection = new GnomonicProjection(projectionReference);
-
-        }
+        GnomonicProjection projection = Scenario.getCurrentScenario().getProjection();
 
         AircraftState state = aircraftTrack.getLatest();
         long startTime = state.getTime();
@@ -47,9 +41,13 @@ public class JavaLinear2dAlgorithm extends JavaPredictionAlgorithm {
 
         ArrayList<AircraftState> predictedStates = new ArrayList<AircraftState>();
 
-        int dt = 5000;
+        // the number and spacing of the steps depends on the speed and distance from the reference
+        PredictionHorizon horizon = PredictionHorizon.getInstance();
+        double speed = Math.sqrt(velocity.x*velocity.x + velocity.y*velocity.y);
+        int dt = horizon.getStepTime(Prediction.State.STRAIGHT, speed,
+                Math.sqrt(position.x*position.x + position.y*position.y));
         int totalDT = 0;
-        int n = 24;
+        int n = horizon.getStepCount(Prediction.State.STRAIGHT, speed, dt);
 
         for (int i = 0; i < n; i++)
         {
@@ -1,11 +1,11 @@
 package com.atc.simulator.prediction_service.engine.algorithms.java;
 
+import com.atc.simulator.debug_data_feed.scenarios.Scenario;
 import com.atc.simulator.flightdata.AircraftState;
 import com.atc.simulator.flightdata.Prediction;
 import com.atc.simulator.flightdata.Track;
 import com.atc.simulator.vectors.GeographicCoordinate;
 import com.atc.simulator.vectors.SphericalVelocity;
-import pythagoras.d.Matrix3;
 import pythagoras.d.Vector3;
 
 import java.util.ArrayList;
@@ -15,7 +15,7 @@ import java.util.ArrayList;
  *
  * Predicts position based on linear angular velocity
  * and rotating the position vector using that angular
- * velocity.
+ * velocity (see {@link JavaPredictionPropagator#propagateGreatCircle}).
  *
  *
  * If we are to introduce a different shape than a sphere,
@@ -27,52 +27,81 @@ public class JavaLinearAlgorithm extends JavaPredictionAlgorithm {
     @Override
     public Prediction makePrediction(Track aircraftTrack, Object algorithmState) {
         AircraftState state = aircraftTrack.getLatest();
-        long startTime = state.getTime();
         GeographicCoordinate position = state.getPosition();
         Vector3 cartesianPosition = position.getCartesian();
-        SphericalVelocity velocity = state.getVelocity();
-
+        Vector3 angularVelocity = state.getVelocity().getCartesianAngularVelocity(position);
 
-        Vector3 angularVelocity = velocity.getCartesianAngularVelocity(position);
-        double dangle = angularVelocity.length();
-        Vector3 angleAxis = angularVelocity.normalize();
+        // the number and spacing of the steps depends on the speed and distance from the reference.
+        // this algorithm doesn't otherwise need a scenario, without one the aircraft is near enough.
+        double referenceDistance = 0;
+        Scenario scenario = Scenario.getCurrentScenario();
+        if (scenario != null)
+        {
+            referenceDistance = scenario.getProjection().getReferenceDistance(
+                    cartesianPosition.x, cartesianPosition.y, cartesianPosition.z);
+        }
+        PredictionHorizon horizon = PredictionHorizon.getInstance();
+        double speed = angularVelocity.length() * cartesianPosition.length();
+        int dt = horizon.getStepTime(Prediction.State.STRAIGHT, speed, referenceDistance);
+        int n = horizon.getStepCount(Prediction.State.STRAIGHT, speed, dt);
 
-        ArrayList<AircraftState> predictedStates = new ArrayList<AircraftState>();
+        Track predictedTrack = predictTrack(state, cartesianPosition, angularVelocity, dt, n);
+        Prediction prediction = new Prediction(
+                state.getAircraftID(),
+                state.getTime(),
+                state,
+                predictedTrack,
+                predictedTrack,
+                predictedTrack,
+                Prediction.State.STRAIGHT);
+        return prediction;
+    }
 
-        int dt = 5000;
-        int totalDT = 0;
-        int n = 24;
+    /**
+     * Predict the track of an aircraft continuing along its great circle, for algorithms which
+     * use this as one of their tracks.
+     * @param state latest state of the aircraft
+     * @param dt time between the steps, in milliseconds
+     * @param n number of steps
+     * @return
+     */
+    public static Track predictTrack(AircraftState state, int dt, int n)
+    {
+        GeographicCoordinate position = state.getPosition();
+        return predictTrack(state, position.getCartesian(),
+                state.getVelocity().getCartesianAngularVelocity(position), dt, n);
+    }
 
-        for (int i = 0; i < n; i++)
-        {
-            totalDT += dt;
+    private static Track predictTrack(AircraftState state, Vector3 cartesianPosition, Vector3 angularVelocity,
+                                      int dt, int n)
+    {
+        long startTime = state.getTime();
+        SphericalVelocity velocity = state.getVelocity();
 
-            Matrix3 rotation = new Matrix3().setToRotation(dangle*totalDT/1000, angleAxis);
-            Vector3 cartesianPredictedPosition = rotation.transform(cartesianPosition);
+        double dangle = angularVelocity.length();
+        Vector3 angleAxis = dangle > 0 ? angularVelocity.normalize() : new Vector3(0, 0, 1);
 
-            //make a linear prediction based on the current velocity
-            GeographicCoordinate predictedPosition = GeographicCoordinate.fromCartesian(cartesianPredictedPosition);
+        double[] theta = new double[n];
+        double[] phi = new double[n];
+        JavaPredictionPropagator.getInstance().propagateGreatCircle(
+                cartesianPosition.x, cartesianPosition.y, cartesianPosition.z,
+                angleAxis.x, angleAxis.y, angleAxis.z,
+                dangle, dt/1000.0, n, theta, phi, 0);
+        double r = cartesianPosition.length();
 
+        ArrayList<AircraftState> predictedStates = new ArrayList<AircraftState>(n);
+        for (int i = 0; i < n; i++)
+        {
             AircraftState predictedState = new AircraftState(
                     state.getAircraftID(),
-                    startTime+totalDT,
-                    predictedPosition,
+                    startTime+(i+1)*dt,
+                    GeographicCoordinate.fromSpherical(r, theta[i], phi[i]),
                     velocity,
                     0);
             predictedStates.add(predictedState);
-
         }
 
-        Track predictedTrack = new Track(predictedStates);
-        Prediction prediction = new Prediction(
-                state.getAircraftID(),
-                startTime,
-                state,
-                predictedTrack,
-                predictedTrack,
-                predictedTrack,
-                Prediction.State.STRAIGHT);
-        return prediction;
+        return new Track(predictedStates);
     }
 
     /**
@@ -4,11 +4,39 @@ import com.atc.simulator.prediction_service.engine.algorithms.PredictionAlgorith
 import com.atc.simulator.flightdata.Prediction;
 import com.atc.simulator.flightdata.Track;
 
+import java.util.EnumMap;
+
 /**
  * Created by luke on 7/06/16.
+ *
+ * Algorithms are shared between all the worker threads ({@link #getInstance(PredictionAlgorithmType)}
+ * returns the same instance every time), so implementations must be stateless: anything which needs
+ * to be kept between predictions for an aircraft belongs in the algorithm state object
+ * ({@link #getNewStateObject()}), and the projection should come from the current scenario
+ * ({@link com.atc.simulator.debug_data_feed.scenarios.Scenario#getProjection()}).
+ *
  * @author Luke Frisken
  */
 public abstract class JavaPredictionAlgorithm {
+    /**
+     * Registry of the shared algorithm instances. It is in its own class so that it is only
+     * initialized once JavaPredictionAlgorithm has been, the first time an instance is asked for.
+     */
+    private static class Registry {
+        private static final EnumMap<PredictionAlgorithmType, JavaPredictionAlgorithm> instances;
+
+        static {
+            instances = new EnumMap<PredictionAlgorithmType, JavaPredictionAlgorithm>(PredictionAlgorithmType.class);
+            for (PredictionAlgorithmType type : PredictionAlgorithmType.values())
+            {
+                JavaPredictionAlgorithm algorithm = newInstance(type);
+                if (algorithm != null)
+                {
+                    instances.put(type, algorithm);
+                }
+            }
+        }
+    }
 
     /**
      * for inducing a high load on this thread.
@@ -21,7 +49,17 @@ public abstract class JavaPredictionAlgorithm {
         while ((System.nanoTime() - startTime) < sleepTime) {}
     }
 
+    /**
+     * Get the shared instance of an algorithm.
+     * @param type
+     * @return the algorithm, or null if there is no java implementation of the type
+     */
     public static JavaPredictionAlgorithm getInstance(PredictionAlgorithmType type)
+    {
+        return Registry.instances.get(type);
+    }
+
+    private static JavaPredictionAlgorithm newInstance(PredictionAlgorithmType type)
     {
         switch(type)
         {
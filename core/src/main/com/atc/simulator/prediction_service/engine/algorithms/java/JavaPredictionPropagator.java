@@ -0,0 +1,259 @@
+package com.atc.simulator.prediction_service.engine.algorithms.java;
+
+import com.atc.simulator.config.ApplicationConfig;
+import com.atc.simulator.vectors.GnomonicProjection;
+
+/**
+ * The step loops of the java prediction algorithms: the positions of an aircraft at a number of
+ * evenly spaced times in the future, following a great circle, a straight line in the gnomonic
+ * projection, or a circle in the gnomonic projection, and the transform of projected positions
+ * back into geographic coordinates. The steps are independent of each other, and are written
+ * into caller supplied arrays, so implementations are free to calculate several steps at once.
+ *
+ * The prediction for step i (starting from 0) is for time (i+1)*dt after the aircraft's state.
+ *
+ * {@link #getInstance()} returns the implementation to use: the Vector API implementation
+ * (VectorJavaPredictionPropagator, in the optional vector source set, which needs a JDK 16 or newer
+ * started with --add-modules jdk.incubator.vector) if the
+ * settings.prediction-service.prediction-engine.vector-propagator setting is enabled and it can be
+ * loaded, otherwise the plain java {@link ScalarJavaPredictionPropagator}. The project's Gradle
+ * wrapper can't run on JDK 16 or newer, so the vector source set needs a newer Gradle or a manual
+ * build (see core/build.gradle).
+ *
+ * Implementations are stateless, and can be shared between threads.
+ *
+ * @author Luke Frisken
+ */
+public abstract class JavaPredictionPropagator {
+    private static final String VECTOR_PROPAGATOR_CLASS =
+            "com.atc.simulator.prediction_service.engine.algorithms.java.VectorJavaPredictionPropagator";
+
+    /**
+     * Holds the selected implementation, which is only chosen the first time it is needed.
+     */
+    private static class Holder {
+        static final JavaPredictionPropagator instance = select();
+    }
+
+    /**
+     * Get the implementation selected for this JVM.
+     * @return
+     */
+    public static JavaPredictionPropagator getInstance()
+    {
+        return Holder.instance;
+    }
+
+    /**
+     * Load the Vector API implementation.
+     * @return the vector implementation, or null if it isn't available in this JVM.
+     */
+    public static JavaPredictionPropagator loadVectorPropagator()
+    {
+        try {
+            return (JavaPredictionPropagator) Class.forName(VECTOR_PROPAGATOR_CLASS).newInstance();
+        } catch (ClassNotFoundException e) {
+            return null; // not built with the vector source set
+        } catch (LinkageError e) {
+            return null; // the jdk.incubator.vector module isn't available
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static JavaPredictionPropagator select()
+    {
+        JavaPredictionPropagator propagator = null;
+        if (ApplicationConfig.getBoolean("settings.prediction-service.prediction-engine.vector-propagator"))
+        {
+            propagator = loadVectorPropagator();
+        }
+        if (propagator == null)
+        {
+            propagator = new ScalarJavaPredictionPropagator();
+        }
+        return propagator;
+    }
+
+    /**
+     * Get the name of this implementation, for logging.
+     * @return
+     */
+    public abstract String getName();
+
+    /**
+     * Rotate a cartesian position around the centre of the earth at a constant angular velocity
+     * (see {@link JavaLinearAlgorithm}), and write the spherical coordinates of each step
+     * (the same as {@link com.atc.simulator.vectors.SphericalCoordinate#fromCartesian(pythagoras.d.Vector3)},
+     * the radius doesn't change).
+     * @param x cartesian position
+     * @param y
+     * @param z
+     * @param axisX unit axis of rotation
+     * @param axisY
+     * @param axisZ
+     * @param angularSpeed in radians per second, around the axis (anticlockwise)
+     * @param dt time between steps, in seconds
+     * @param n number of steps
+     * @param theta array to put the theta component of each step into
+     * @param phi array to put the phi component of each step into
+     * @param offset index in theta and phi of the first step
+     */
+    public abstract void propagateGreatCircle(double x, double y, double z,
+                                              double axisX, double axisY, double axisZ,
+                                              double angularSpeed, double dt, int n,
+                                              double[] theta, double[] phi, int offset);
+
+    /**
+     * Move a position in the gnomonic projection along a straight line at a constant velocity.
+     * @param x
+     * @param y
+     * @param velocityX in meters per second
+     * @param velocityY in meters per second
+     * @param dt time between steps, in seconds
+     * @param n number of steps
+     * @param resultX array to put the x component of each step into
+     * @param resultY array to put the y component of each step into
+     * @param offset index in resultX and resultY of the first step
+     */
+    public abstract void propagateLine(double x, double y, double velocityX, double velocityY,
+                                       double dt, int n,
+                                       double[] resultX, double[] resultY, int offset);
+
+    /**
+     * Move a position in the gnomonic projection around a circle at a constant angular velocity.
+     * @param centreX centre of the circle
+     * @param centreY
+     * @param radiusX the position, relative to the centre of the circle
+     * @param radiusY
+     * @param angularVelocity in radians per second, positive is anticlockwise (a left turn)
+     * @param dt time between steps, in seconds
+     * @param n number of steps
+     * @param resultX array to put the x component of each step into
+     * @param resultY array to put the y component of each step into
+     * @param offset index in resultX and resultY of the first step
+     */
+    public abstract void propagateTurn(double centreX, double centreY, double radiusX, double radiusY,
+                                       double angularVelocity, double dt, int n,
+                                       double[] resultX, double[] resultY, int offset);
+
+    /**
+     * Predict both tracks of an aircraft in a turn (see {@link JavaLMLeastSquaresAlgorithmV3}) into
+     * buffers, in the gnomonic projection and in geographic coordinates.
+     *
+     * The main track goes around the fitted circle, and the centre track is
+     * {@link #propagateTurnTrack} with a radiusFactor of centreOffset.
+     * @param projection
+     * @param x current position
+     * @param y
+     * @param velocityX current velocity
+     * @param velocityY
+     * @param circleCentreX centre of the fitted circle
+     * @param circleCentreY
+     * @param angularSpeed around the fitted circle, in radians per second
+     * @param centreOffset ratio of the centre track's radius to the fitted radius
+     * @param directionSign 1.0 for anticlockwise (a left turn), -1.0 for clockwise
+     * @param dt time between steps, in seconds
+     * @param n number of steps
+     * @param buffers buffers to put both tracks into, from index 0
+     */
+    public void propagateTurnTracks(GnomonicProjection projection,
+                                    double x, double y, double velocityX, double velocityY,
+                                    double circleCentreX, double circleCentreY, double angularSpeed,
+                                    double centreOffset, double directionSign, double dt, int n,
+                                    PredictionBuffers buffers)
+    {
+        buffers.ensureCapacity(n);
+
+        propagateTurnTrack(x, y, velocityX, velocityY, circleCentreX, circleCentreY, angularSpeed,
+                1.0, directionSign, dt, n, buffers.getX(), buffers.getY());
+        propagateTurnTrack(x, y, velocityX, velocityY, circleCentreX, circleCentreY, angularSpeed,
+                centreOffset, directionSign, dt, n, buffers.getCentreX(), buffers.getCentreY());
+
+        projectFrom(projection, buffers.getX(), buffers.getY(), n,
+                buffers.getLatitude(), buffers.getLongitude(), 0);
+        projectFrom(projection, buffers.getCentreX(), buffers.getCentreY(), n,
+                buffers.getCentreLatitude(), buffers.getCentreLongitude(), 0);
+    }
+
+    /**
+     * Predict the track of an aircraft in a turn, in the gnomonic projection.
+     *
+     * The track goes around a circle through the current position with the same tangent as the
+     * fitted circle, whose radius is radiusFactor times the fitted radius, at the same speed. It
+     * goes around that circle for as long as an aircraft on the fitted circle would have gone
+     * less than half a circle, then carries on in a straight line in its direction of travel at
+     * the end of the turn.
+     * @param x current position
+     * @param y
+     * @param velocityX current velocity
+     * @param velocityY
+     * @param circleCentreX centre of the fitted circle
+     * @param circleCentreY
+     * @param angularSpeed around the fitted circle, in radians per second
+     * @param radiusFactor ratio of the track's radius to the fitted radius
+     * @param directionSign 1.0 for anticlockwise (a left turn), -1.0 for clockwise
+     * @param dt time between steps, in seconds
+     * @param n number of steps
+     * @param resultX array to put the x component of each step into, from index 0
+     * @param resultY array to put the y component of each step into, from index 0
+     */
+    public void propagateTurnTrack(double x, double y, double velocityX, double velocityY,
+                                   double circleCentreX, double circleCentreY, double angularSpeed,
+                                   double radiusFactor, double directionSign, double dt, int n,
+                                   double[] resultX, double[] resultY)
+    {
+        // only predict up to half a circle
+        int nTurn = 0;
+        while (nTurn < n && (nTurn + 1) * dt * angularSpeed <= Math.PI)
+        {
+            nTurn++;
+        }
+
+        double radiusX = x - circleCentreX;
+        double radiusY = y - circleCentreY;
+        double centreX = circleCentreX + radiusX*(1.0 - radiusFactor);
+        double centreY = circleCentreY + radiusY*(1.0 - radiusFactor);
+        radiusX *= radiusFactor;
+        radiusY *= radiusFactor;
+        propagateTurn(centreX, centreY, radiusX, radiusY, angularSpeed*directionSign/radiusFactor,
+                dt, nTurn, resultX, resultY, 0);
+        if (nTurn == n)
+        {
+            return;
+        }
+
+        double speed = Math.sqrt(velocityX*velocityX + velocityY*velocityY);
+        double previousX = x;
+        double previousY = y;
+        double directionX = velocityX/speed;
+        double directionY = velocityY/speed;
+        if (nTurn > 0)
+        {
+            // the direction of travel is the tangent to the circle at the last position in the turn
+            previousX = resultX[nTurn-1];
+            previousY = resultY[nTurn-1];
+            double rx = previousX - centreX;
+            double ry = previousY - centreY;
+            double length = Math.sqrt(rx*rx + ry*ry);
+            directionX = -directionSign*ry/length;
+            directionY = directionSign*rx/length;
+        }
+        propagateLine(previousX, previousY, directionX*speed, directionY*speed, dt, n - nTurn,
+                resultX, resultY, nTurn);
+    }
+
+    /**
+     * Transform positions in the gnomonic projection into geographic coordinates
+     * (the same as {@link GnomonicProjection#transformPositionFrom(double, double, double, double[], int)}).
+     * @param projection
+     * @param x array of x components
+     * @param y array of y components
+     * @param n number of positions
+     * @param latitude array to put the latitude of each position into
+     * @param longitude array to put the longitude of each position into
+     * @param offset index of the first position in all of the arrays
+     */
+    public abstract void projectFrom(GnomonicProjection projection, double[] x, double[] y, int n,
+                                     double[] latitude, double[] longitude, int offset);
+}
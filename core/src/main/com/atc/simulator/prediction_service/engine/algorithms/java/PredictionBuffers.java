@@ -0,0 +1,141 @@
+package com.atc.simulator.prediction_service.engine.algorithms.java;
+
+/**
+ * A reusable workspace for the predicted positions of a prediction's tracks, in the gnomonic
+ * projection (x and y) and in geographic coordinates (latitude and longitude), for the
+ * {@link JavaPredictionPropagator} to write into. Nothing is allocated once it has grown to
+ * the number of steps being predicted.
+ *
+ * The prediction algorithms are shared between the worker threads, so a PredictionBuffers must
+ * only be used by one thread at a time, {@link #getThreadInstance()} provides one for each thread.
+ *
+ * @author Luke Frisken
+ */
+public class PredictionBuffers {
+    private static final int DEFAULT_CAPACITY = 24;
+
+    private static final ThreadLocal<PredictionBuffers> threadInstance = new ThreadLocal<PredictionBuffers>() {
+        @Override
+        protected PredictionBuffers initialValue() {
+            return new PredictionBuffers();
+        }
+    };
+
+    private int capacity;
+    private double[] x;
+    private double[] y;
+    private double[] latitude;
+    private double[] longitude;
+    private double[] centreX;
+    private double[] centreY;
+    private double[] centreLatitude;
+    private double[] centreLongitude;
+
+    /**
+     * Constructor for PredictionBuffers
+     */
+    public PredictionBuffers()
+    {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Get the PredictionBuffers workspace for the current thread
+     * @return
+     */
+    public static PredictionBuffers getThreadInstance()
+    {
+        return threadInstance.get();
+    }
+
+    private void allocate(int capacity)
+    {
+        this.capacity = capacity;
+        x = new double[capacity];
+        y = new double[capacity];
+        latitude = new double[capacity];
+        longitude = new double[capacity];
+        centreX = new double[capacity];
+        centreY = new double[capacity];
+        centreLatitude = new double[capacity];
+        centreLongitude = new double[capacity];
+    }
+
+    /**
+     * Make sure there is room for n steps. The contents are lost if the buffers need to grow.
+     * @param n
+     * @return this
+     */
+    public PredictionBuffers ensureCapacity(int n)
+    {
+        if (n > capacity)
+        {
+            allocate(Math.max(n, capacity * 2));
+        }
+        return this;
+    }
+
+    /**
+     * Get the x components of the main track
+     * @return
+     */
+    public double[] getX() {
+        return x;
+    }
+
+    /**
+     * Get the y components of the main track
+     * @return
+     */
+    public double[] getY() {
+        return y;
+    }
+
+    /**
+     * Get the latitudes of the main track
+     * @return
+     */
+    public double[] getLatitude() {
+        return latitude;
+    }
+
+    /**
+     * Get the longitudes of the main track
+     * @return
+     */
+    public double[] getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Get the x components of the centre track
+     * @return
+     */
+    public double[] getCentreX() {
+        return centreX;
+    }
+
+    /**
+     * Get the y components of the centre track
+     * @return
+     */
+    public double[] getCentreY() {
+        return centreY;
+    }
+
+    /**
+     * Get the latitudes of the centre track
+     * @return
+     */
+    public double[] getCentreLatitude() {
+        return centreLatitude;
+    }
+
+    /**
+     * Get the longitudes of the centre track
+     * @return
+     */
+    public double[] getCentreLongitude() {
+        return centreLongitude;
+    }
+}
@@ -0,0 +1,195 @@
+package com.atc.simulator.prediction_service.engine.algorithms.java;
+
+import com.atc.simulator.config.ApplicationConfig;
+import com.atc.simulator.flightdata.Prediction;
+
+/**
+ * The policy for how far ahead the java prediction algorithms predict (the horizon), and how far
+ * apart in time the predicted steps are.
+ *
+ * Without the adaptive policy every prediction has horizon/step steps, step milliseconds apart.
+ * The adaptive policy spends fewer steps where the track is easy to predict:
+ * <ul>
+ *     <li>an aircraft slower than the stopped speed (or in the STOPPED state) is predicted with
+ *     the stopped horizon and step,</li>
+ *     <li>a straight prediction uses the straight step (a straight line needs fewer points than
+ *     a turn to draw),</li>
+ *     <li>steps are made long enough that the aircraft moves at least the minimum step distance
+ *     between them,</li>
+ *     <li>beyond the far distance from the projection reference, the step is multiplied by the far
+ *     step factor.</li>
+ * </ul>
+ * Step times are rounded up to whole seconds, and are never longer than the horizon, so there is
+ * always at least one step.
+ *
+ * {@link #getInstance()} is the policy in the settings.prediction-service.prediction-engine.prediction-horizon
+ * settings, which all the {@link JavaPredictionAlgorithm}'s (and the {@link JavaBatchPredictionAlgorithm})
+ * use. A PredictionHorizon is immutable, and can be shared between threads.
+ *
+ * @author Luke Frisken
+ */
+public class PredictionHorizon {
+    private static final String SETTINGS = "settings.prediction-service.prediction-engine.prediction-horizon.";
+
+    /**
+     * Holds the policy from the settings, which is only loaded the first time it is needed.
+     */
+    private static class Holder {
+        static final PredictionHorizon instance = new PredictionHorizon(
+                ApplicationConfig.getInt(SETTINGS + "horizon"),
+                ApplicationConfig.getInt(SETTINGS + "step"),
+                ApplicationConfig.getBoolean(SETTINGS + "adaptive"),
+                ApplicationConfig.getInt(SETTINGS + "straight-step"),
+                ApplicationConfig.getDouble(SETTINGS + "stopped-speed"),
+                ApplicationConfig.getInt(SETTINGS + "stopped-horizon"),
+                ApplicationConfig.getInt(SETTINGS + "stopped-step"),
+                ApplicationConfig.getDouble(SETTINGS + "min-step-distance"),
+                ApplicationConfig.getDouble(SETTINGS + "far-distance"),
+                ApplicationConfig.getDouble(SETTINGS + "far-step-factor"));
+    }
+
+    private final int horizon;
+    private final int step;
+    private final boolean adaptive;
+    private final int straightStep;
+    private final double stoppedSpeed;
+    private final int stoppedHorizon;
+    private final int stoppedStep;
+    private final double minStepDistance;
+    private final double farDistance;
+    private final double farStepFactor;
+
+    /**
+     * Get the policy from the settings
+     * @return
+     */
+    public static PredictionHorizon getInstance()
+    {
+        return Holder.instance;
+    }
+
+    /**
+     * Constructor for a fixed PredictionHorizon, which always predicts horizon/step steps.
+     * @param horizon in milliseconds
+     * @param step in milliseconds
+     */
+    public PredictionHorizon(int horizon, int step)
+    {
+        this(horizon, step, false, step, 0, horizon, step, 0, Double.POSITIVE_INFINITY, 1.0);
+    }
+
+    /**
+     * Constructor for PredictionHorizon
+     * @param horizon in milliseconds
+     * @param step time between steps when turning, in milliseconds (and for all predictions if not adaptive)
+     * @param adaptive whether to use the adaptive policy
+     * @param straightStep time between steps when going straight, in milliseconds
+     * @param stoppedSpeed aircraft slower than this are stopped, in meters per second
+     * @param stoppedHorizon horizon for stopped aircraft, in milliseconds
+     * @param stoppedStep time between steps for stopped aircraft, in milliseconds
+     * @param minStepDistance minimum distance between steps, in meters
+     * @param farDistance distance from the projection reference beyond which the steps are longer, in meters
+     * @param farStepFactor how many times longer the steps are beyond the far distance
+     */
+    public PredictionHorizon(int horizon, int step, boolean adaptive, int straightStep,
+                             double stoppedSpeed, int stoppedHorizon, int stoppedStep,
+                             double minStepDistance, double farDistance, double farStepFactor)
+    {
+        if (horizon <= 0 || step <= 0 || straightStep <= 0 || stoppedHorizon <= 0 || stoppedStep <= 0)
+        {
+            throw new IllegalArgumentException("prediction horizons and steps must be positive");
+        }
+        if (farStepFactor < 1.0)
+        {
+            throw new IllegalArgumentException("the far step factor must be at least 1");
+        }
+        this.horizon = horizon;
+        this.step = step;
+        this.adaptive = adaptive;
+        this.straightStep = straightStep;
+        this.stoppedSpeed = stoppedSpeed;
+        this.stoppedHorizon = stoppedHorizon;
+        this.stoppedStep = stoppedStep;
+        this.minStepDistance = minStepDistance;
+        this.farDistance = farDistance;
+        this.farStepFactor = farStepFactor;
+    }
+
+    private boolean isStopped(Prediction.State state, double speed)
+    {
+        return adaptive && (state == Prediction.State.STOPPED || speed < stoppedSpeed);
+    }
+
+    /**
+     * Get the horizon of a prediction
+     * @param state state of the prediction
+     * @param speed of the aircraft, in meters per second
+     * @return in milliseconds
+     */
+    public int getHorizon(Prediction.State state, double speed)
+    {
+        return isStopped(state, speed) ? stoppedHorizon : horizon;
+    }
+
+    /**
+     * Get the time between the steps of a prediction
+     * @param state state of the prediction
+     * @param speed of the aircraft, in meters per second
+     * @param referenceDistance distance of the aircraft from the projection reference, in meters
+     * @return in milliseconds
+     */
+    public int getStepTime(Prediction.State state, double speed, double referenceDistance)
+    {
+        if (!adaptive)
+        {
+            return Math.min(step, horizon);
+        }
+
+        int predictionHorizon = getHorizon(state, speed);
+        if (isStopped(state, speed))
+        {
+            return Math.min(stoppedStep, predictionHorizon);
+        }
+
+        double stepTime = state == Prediction.State.STRAIGHT ? straightStep : step;
+        if (speed * stepTime / 1000.0 < minStepDistance)
+        {
+            stepTime = minStepDistance / speed * 1000.0;
+        }
+        if (referenceDistance > farDistance)
+        {
+            stepTime *= farStepFactor;
+        }
+
+        // whole seconds
+        double seconds = Math.ceil(stepTime / 1000.0);
+        return (int) Math.min(seconds * 1000.0, predictionHorizon);
+    }
+
+    /**
+     * Get the number of steps in a prediction
+     * @param state state of the prediction
+     * @param speed of the aircraft, in meters per second
+     * @param stepTime from {@link #getStepTime(Prediction.State, double, double)}
+     * @return
+     */
+    public int getStepCount(Prediction.State state, double speed, int stepTime)
+    {
+        return Math.max(1, getHorizon(state, speed) / stepTime);
+    }
+
+    /**
+     * Get the largest number of steps any prediction can have with this policy
+     * @return
+     */
+    public int getMaxStepCount()
+    {
+        if (!adaptive)
+        {
+            return Math.max(1, horizon / Math.min(step, horizon));
+        }
+        int turnSteps = horizon / Math.min(Math.min(step, straightStep), horizon);
+        int stoppedSteps = stoppedHorizon / Math.min(stoppedStep, stoppedHorizon);
+        return Math.max(1, Math.max(turnSteps, stoppedSteps));
+    }
+}
@@ -0,0 +1,145 @@
+package com.atc.simulator.prediction_service.engine.algorithms.java;
+
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.Track;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+
+import java.util.ArrayList;
+
+/**
+ * One possible future track of an aircraft (flying straight on, continuing its turn, ...),
+ * predicted from the {@link PredictionInput} shared by all of the hypotheses of a prediction.
+ * A hypothesis only has to move the aircraft's position in the gnomonic projection,
+ * {@link #predict} transforms the positions back into geographic coordinates and creates the track.
+ *
+ * {@link #predictAll} predicts any number of hypotheses from the same input, so adding another
+ * hypothesis to an algorithm costs only the steps of that hypothesis. Hypotheses are stateless,
+ * and can be shared between threads.
+ *
+ * @author Luke Frisken
+ */
+public abstract class PredictionHypothesis {
+    /**
+     * Straight on at the current velocity.
+     */
+    public static final PredictionHypothesis STRAIGHT = new PredictionHypothesis() {
+        @Override
+        protected void propagate(PredictionInput input, JavaPredictionPropagator propagator,
+                                 double[] x, double[] y)
+        {
+            propagator.propagateLine(input.getX(), input.getY(), input.getVelocityX(), input.getVelocityY(),
+                    input.getDt(), input.getN(), x, y, 0);
+        }
+    };
+
+    /**
+     * Around the fitted circle, for up to half a circle (see
+     * {@link JavaPredictionPropagator#propagateTurnTrack}).
+     */
+    public static final PredictionHypothesis TURN = new TurnHypothesis(false);
+
+    /**
+     * Between {@link #TURN} and {@link #STRAIGHT}: around a circle with the same tangent as the
+     * fitted circle but a radius {@link PredictionInput#getCentreOffset()} times larger.
+     */
+    public static final PredictionHypothesis BLENDED = new TurnHypothesis(true);
+
+    private static class TurnHypothesis extends PredictionHypothesis {
+        private final boolean blended;
+
+        TurnHypothesis(boolean blended)
+        {
+            this.blended = blended;
+        }
+
+        @Override
+        protected void propagate(PredictionInput input, JavaPredictionPropagator propagator,
+                                 double[] x, double[] y)
+        {
+            if (!input.isTurning())
+            {
+                throw new IllegalArgumentException("The aircraft is not turning");
+            }
+
+            propagator.propagateTurnTrack(input.getX(), input.getY(), input.getVelocityX(), input.getVelocityY(),
+                    input.getCircleCentreX(), input.getCircleCentreY(), input.getAngularSpeed(),
+                    blended ? input.getCentreOffset() : 1.0, input.getDirectionSign(),
+                    input.getDt(), input.getN(), x, y);
+        }
+    }
+
+    /**
+     * Move the aircraft's position along this hypothesis.
+     * @param input
+     * @param propagator
+     * @param x array to put the x component of each step into, from index 0
+     * @param y array to put the y component of each step into, from index 0
+     */
+    protected abstract void propagate(PredictionInput input, JavaPredictionPropagator propagator,
+                                      double[] x, double[] y);
+
+    /**
+     * Predict the track of this hypothesis.
+     * @param input
+     * @param propagator
+     * @param buffers workspace for the positions of the track, only used by the current thread
+     * @return
+     */
+    public Track predict(PredictionInput input, JavaPredictionPropagator propagator, PredictionBuffers buffers)
+    {
+        int n = input.getN();
+        buffers.ensureCapacity(n);
+        double[] latitude = buffers.getLatitude();
+        double[] longitude = buffers.getLongitude();
+        propagate(input, propagator, buffers.getX(), buffers.getY());
+        propagator.projectFrom(input.getProjection(), buffers.getX(), buffers.getY(), n,
+                latitude, longitude, 0);
+
+        AircraftState aircraftState = input.getAircraftState();
+        String aircraftID = aircraftState.getAircraftID();
+        long startTime = aircraftState.getTime();
+        long dt = Math.round(input.getDt()*1000);
+        SphericalVelocity velocity = aircraftState.getVelocity();
+        ArrayList<AircraftState> predictedStates = new ArrayList<AircraftState>(n);
+        for (int i = 0; i < n; i++)
+        {
+            predictedStates.add(new AircraftState(
+                    aircraftID,
+                    startTime+(i+1)*dt,
+                    new GeographicCoordinate(input.getAltitude(), latitude[i], longitude[i]),
+                    velocity,
+                    0));
+        }
+        return new Track(predictedStates);
+    }
+
+    /**
+     * Predict the tracks of a number of hypotheses, from the same input. A hypothesis which
+     * appears more than once is only predicted once, and its track is shared.
+     * @param input
+     * @param hypotheses
+     * @return the track of each hypothesis, in the same order
+     */
+    public static Track[] predictAll(PredictionInput input, PredictionHypothesis... hypotheses)
+    {
+        JavaPredictionPropagator propagator = JavaPredictionPropagator.getInstance();
+        PredictionBuffers buffers = PredictionBuffers.getThreadInstance();
+        Track[] tracks = new Track[hypotheses.length];
+        for (int i = 0; i < hypotheses.length; i++)
+        {
+            for (int j = 0; j < i && tracks[i] == null; j++)
+            {
+                if (hypotheses[j] == hypotheses[i])
+                {
+                    tracks[i] = tracks[j];
+                }
+            }
+            if (tracks[i] == null)
+            {
+                tracks[i] = hypotheses[i].predict(input, propagator, buffers);
+            }
+        }
+        return tracks;
+    }
+}
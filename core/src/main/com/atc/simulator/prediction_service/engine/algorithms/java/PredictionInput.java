@@ -0,0 +1,172 @@
+package com.atc.simulator.prediction_service.engine.algorithms.java;
+
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.vectors.GnomonicProjection;
+
+/**
+ * The state of an aircraft which is shared by all of the {@link PredictionHypothesis}'s of a
+ * prediction: its latest state, its position and velocity in the gnomonic projection, the number
+ * and spacing of the steps to predict, and (if the aircraft is turning) the circle fitted to its
+ * recent positions. This is calculated once for each prediction (see
+ * {@link JavaLMLeastSquaresAlgorithmV3}), however many hypotheses are predicted from it.
+ *
+ * @author Luke Frisken
+ */
+public class PredictionInput {
+    private final AircraftState aircraftState;
+    private final GnomonicProjection projection;
+    private final double altitude;
+    private final double x;
+    private final double y;
+    private final double velocityX;
+    private final double velocityY;
+    private final double speed;
+    private final double dt;
+    private final int n;
+
+    private boolean turning = false;
+    private double circleCentreX;
+    private double circleCentreY;
+    private double angularSpeed;
+    private double directionSign;
+    private double centreOffset = 1.0;
+
+    /**
+     * Constructor for PredictionInput, for an aircraft which is not turning.
+     * @param aircraftState latest state of the aircraft
+     * @param projection the projection x, y and the velocity are in
+     * @param altitude altitude of the predicted positions
+     * @param x current position
+     * @param y
+     * @param velocityX current velocity, in meters per second
+     * @param velocityY
+     * @param dt time between steps, in seconds
+     * @param n number of steps
+     */
+    public PredictionInput(AircraftState aircraftState, GnomonicProjection projection, double altitude,
+                           double x, double y, double velocityX, double velocityY, double dt, int n)
+    {
+        this.aircraftState = aircraftState;
+        this.projection = projection;
+        this.altitude = altitude;
+        this.x = x;
+        this.y = y;
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+        this.speed = Math.sqrt(velocityX*velocityX + velocityY*velocityY);
+        this.dt = dt;
+        this.n = n;
+    }
+
+    /**
+     * Set the circle the aircraft is turning around.
+     * @param circleCentreX centre of the fitted circle
+     * @param circleCentreY
+     * @param angularSpeed around the fitted circle, in radians per second
+     * @param directionSign 1.0 for anticlockwise (a left turn), -1.0 for clockwise
+     * @param centreOffset ratio of the radius of the circle of the
+     *                     {@link PredictionHypothesis#BLENDED} hypothesis to the fitted radius
+     */
+    public void setTurn(double circleCentreX, double circleCentreY, double angularSpeed,
+                        double directionSign, double centreOffset)
+    {
+        this.turning = true;
+        this.circleCentreX = circleCentreX;
+        this.circleCentreY = circleCentreY;
+        this.angularSpeed = angularSpeed;
+        this.directionSign = directionSign;
+        this.centreOffset = centreOffset;
+    }
+
+    /**
+     * Get the latest state of the aircraft
+     * @return
+     */
+    public AircraftState getAircraftState() {
+        return aircraftState;
+    }
+
+    /**
+     * Get the projection the positions and velocity are in
+     * @return
+     */
+    public GnomonicProjection getProjection() {
+        return projection;
+    }
+
+    /**
+     * Get the altitude of the predicted positions
+     * @return
+     */
+    public double getAltitude() {
+        return altitude;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getVelocityX() {
+        return velocityX;
+    }
+
+    public double getVelocityY() {
+        return velocityY;
+    }
+
+    /**
+     * Get the speed in the projection, in meters per second
+     * @return
+     */
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Get the time between steps, in seconds
+     * @return
+     */
+    public double getDt() {
+        return dt;
+    }
+
+    /**
+     * Get the number of steps to predict
+     * @return
+     */
+    public int getN() {
+        return n;
+    }
+
+    /**
+     * Whether the aircraft is turning, see {@link #setTurn(double, double, double, double, double)}
+     * @return
+     */
+    public boolean isTurning() {
+        return turning;
+    }
+
+    public double getCircleCentreX() {
+        return circleCentreX;
+    }
+
+    public double getCircleCentreY() {
+        return circleCentreY;
+    }
+
+    public double getAngularSpeed() {
+        return angularSpeed;
+    }
+
+    public double getDirectionSign() {
+        return directionSign;
+    }
+
+    public double getCentreOffset() {
+        return centreOffset;
+    }
+}
@@ -0,0 +1,103 @@
+package com.atc.simulator.prediction_service.engine.algorithms.java;
+
+import com.atc.simulator.vectors.GnomonicProjection;
+
+/**
+ * The plain java implementation of the {@link JavaPredictionPropagator}, one step at a time.
+ *
+ * @author Luke Frisken
+ */
+public class ScalarJavaPredictionPropagator extends JavaPredictionPropagator {
+    private static final double TWOPI = Math.PI * 2.0;
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    @Override
+    public void propagateGreatCircle(double x, double y, double z,
+                                     double axisX, double axisY, double axisZ,
+                                     double angularSpeed, double dt, int n,
+                                     double[] theta, double[] phi, int offset)
+    {
+        double r = Math.sqrt(x*x + y*y + z*z);
+
+        // rodrigues' rotation formula: p*cos + (k x p)*sin + k*(k.p)*(1 - cos)
+        double crossX = axisY*z - axisZ*y;
+        double crossY = axisZ*x - axisX*z;
+        double crossZ = axisX*y - axisY*x;
+        double dot = axisX*x + axisY*y + axisZ*z;
+
+        for (int i = 0; i < n; i++)
+        {
+            double angle = angularSpeed * ((i + 1) * dt);
+            double cos = Math.cos(angle);
+            double sin = Math.sin(angle);
+            double parallel = dot * (1.0 - cos);
+            double rx = x*cos + crossX*sin + axisX*parallel;
+            double ry = y*cos + crossY*sin + axisY*parallel;
+            double rz = z*cos + crossZ*sin + axisZ*parallel;
+
+            double stepTheta = Math.atan2(ry, rx);
+            if (stepTheta < 0)
+            {
+                stepTheta += TWOPI;
+            }
+            theta[offset + i] = stepTheta;
+            phi[offset + i] = Math.acos(rz / r);
+        }
+    }
+
+    @Override
+    public void propagateLine(double x, double y, double velocityX, double velocityY,
+                              double dt, int n,
+                              double[] resultX, double[] resultY, int offset)
+    {
+        for (int i = 0; i < n; i++)
+        {
+            double t = (i + 1) * dt;
+            resultX[offset + i] = x + velocityX * t;
+            resultY[offset + i] = y + velocityY * t;
+        }
+    }
+
+    /**
+     * The steps are all multiples of the same angle, so rather than calculating a cos and sin for
+     * each step, the position is rotated by the step angle each step (a complex multiply by
+     * cos + i*sin of the step angle). The rounding error grows by a few ulps each step, which
+     * is much less than a millimetre after the number of steps predicted.
+     */
+    @Override
+    public void propagateTurn(double centreX, double centreY, double radiusX, double radiusY,
+                              double angularVelocity, double dt, int n,
+                              double[] resultX, double[] resultY, int offset)
+    {
+        double stepAngle = angularVelocity * dt;
+        double stepCos = Math.cos(stepAngle);
+        double stepSin = Math.sin(stepAngle);
+        double rx = radiusX;
+        double ry = radiusY;
+        for (int i = 0; i < n; i++)
+        {
+            double rotatedX = rx*stepCos - ry*stepSin;
+            ry = rx*stepSin + ry*stepCos;
+            rx = rotatedX;
+            resultX[offset + i] = centreX + rx;
+            resultY[offset + i] = centreY + ry;
+        }
+    }
+
+    @Override
+    public void projectFrom(GnomonicProjection projection, double[] x, double[] y, int n,
+                            double[] latitude, double[] longitude, int offset)
+    {
+        double[] geographic = new double[3];
+        for (int i = offset; i < offset + n; i++)
+        {
+            projection.transformPositionFrom(x[i], y[i], 0, geographic, 0);
+            latitude[i] = geographic[1];
+            longitude[i] = geographic[2];
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.atc.simulator.prediction_service.engine.algorithms.opencl;
 
 import com.atc.simulator.config.ApplicationConfig;
 import com.atc.simulator.prediction_service.engine.PredictionWorkItem;
-import com.atc.simulator.flightdata.AircraftState;
 import com.atc.simulator.flightdata.Track;
 import org.jocl.*;
 import pythagoras.d.Vector3;
@@ -96,18 +95,16 @@ public class OpenCLPredictionAlgorithm {
             int j = 0;
             for (int i=trackLength-subTrackLength; i<trackLength; i++)
             {
-                AircraftState state = track.get(i);
                 srcLongs[(k*SRC_ITEM_LONGS) + j*SRC_ITEM_LONGS_SIZE] = k*100+j;
 
                 int floatsIndex = (k*SRC_ITEM_FLOATS) + j*SRC_ITEM_FLOATS_SIZE;
-                Vector3 position = state.getPosition();
-                Vector3 velocity = state.getVelocity();
+                Vector3 position = track.getPosition(i);
                 srcFloats[floatsIndex + 0] = (float)position.x;
                 srcFloats[floatsIndex + 1] = (float)position.y;
                 srcFloats[floatsIndex + 2] = (float)position.z;
-                srcFloats[floatsIndex + 3] = (float)velocity.x;
-                srcFloats[floatsIndex + 4] = (float)velocity.y;
-                srcFloats[floatsIndex + 5] = (float)velocity.z;
+                srcFloats[floatsIndex + 3] = (float)track.getDR(i);
+                srcFloats[floatsIndex + 4] = (float)track.getDTheta(i);
+                srcFloats[floatsIndex + 5] = (float)track.getDPhi(i);
 
                 j++;
             }
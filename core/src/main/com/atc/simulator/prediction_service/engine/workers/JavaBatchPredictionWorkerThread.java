@@ -0,0 +1,105 @@
+package com.atc.simulator.prediction_service.engine.workers;
+
+import com.atc.simulator.prediction_service.engine.PredictionEngineThread;
+import com.atc.simulator.prediction_service.engine.PredictionWorkItem;
+import com.atc.simulator.prediction_service.engine.algorithms.java.JavaBatchPredictionAlgorithm;
+import com.atc.simulator.prediction_service.engine.algorithms.java.JavaPredictionAlgorithm;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A worker which takes up to batchSize work items at a time from the PredictionEngineThread.
+ * The work items for algorithms supported by {@link JavaBatchPredictionAlgorithm} are predicted
+ * together as a batch (apart from those whose prediction can be reused from the engine's prediction cache),
+ * and any others are predicted one at a time with their {@link JavaPredictionAlgorithm}.
+ *
+ * @author Luke Frisken
+ */
+public class JavaBatchPredictionWorkerThread extends PredictionWorkerThread {
+    private final int batchSize;
+    private final JavaBatchPredictionAlgorithm batchAlgorithm;
+    private final ArrayList<PredictionWorkItem> workItems;
+    private final ArrayList<PredictionWorkItem> batch;
+
+    /**
+     * Constructor for JavaBatchPredictionWorkerThread
+     * @param workerID
+     * @param predictionEngine
+     * @param batchSize maximum number of work items to take at a time
+     * @param pool pool to predict large batches in parallel with, or null to predict them on this worker's thread.
+     */
+    public JavaBatchPredictionWorkerThread(int workerID, PredictionEngineThread predictionEngine,
+                                           int batchSize, ForkJoinPool pool)
+    {
+        super(workerID, predictionEngine);
+        this.batchSize = batchSize;
+        batchAlgorithm = new JavaBatchPredictionAlgorithm(pool);
+        workItems = new ArrayList<PredictionWorkItem>(batchSize);
+        batch = new ArrayList<PredictionWorkItem>(batchSize);
+        threadName = "JavaBatchPredictionWorkerThread " + workerID;
+    }
+
+    /**
+     * Make the predictions for the work items that have been taken, and send them to the PredictionFeedServerThread
+     */
+    private void makeNewPredictions()
+    {
+        long start1=0, start2=0;
+        if(enableTimer)
+        {
+            start1 = System.nanoTime();
+            // maybe add here a call to a return to remove call up time, too.
+            // Avoid optimization
+            start2 = System.nanoTime();
+        }
+
+        for (PredictionWorkItem workItem : workItems)
+        {
+            if (!JavaBatchPredictionAlgorithm.supports(workItem.getAlgorithmType()))
+            {
+                makePrediction(workItem, JavaPredictionAlgorithm.getInstance(workItem.getAlgorithmType()));
+            } else if (!completeFromCache(workItem)) {
+                batch.add(workItem);
+            }
+        }
+
+        if (!batch.isEmpty())
+        {
+            batchAlgorithm.run(batch);
+            for (PredictionWorkItem workItem : batch)
+            {
+                cachePrediction(workItem.getPrediction());
+            }
+        }
+
+        if(enableTimer)
+        {
+            long stop = System.nanoTime();
+            long diff = stop - 2*start2 + start1;
+            System.out.println(threadName + " makePredictions (" + workItems.size() + ") "
+                    + (((double) diff)/1000000.0) + " ms");
+        }
+
+        for (PredictionWorkItem workItem : workItems)
+        {
+            predictionEngine.completeWorkItem(workItem);
+        }
+
+        workItems.clear();
+        batch.clear();
+    }
+
+    @Override
+    public void run() {
+        while (continueThread)
+        {
+            predictionEngine.startWorkItems(this, batchSize, workItems);
+            if(enableDebugPrint){ System.out.println(threadName + " starting on " + workItems.size() + " work items"); }
+
+            makeNewPredictions();
+
+            if(enableDebugPrint){ System.out.println(threadName + " finished the predictions"); }
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.atc.simulator.prediction_service.engine.workers;
 import com.atc.simulator.prediction_service.engine.algorithms.java.JavaPredictionAlgorithm;
 import com.atc.simulator.prediction_service.engine.PredictionEngineThread;
 import com.atc.simulator.prediction_service.engine.PredictionWorkItem;
-import com.atc.simulator.flightdata.Prediction;
 import com.atc.simulator.flightdata.Track;
 
 import java.util.concurrent.ArrayBlockingQueue;
@@ -66,7 +65,7 @@ public class JavaPredictionWorkerThread extends PredictionWorkerThread {
             // Avoid optimization
             start2 = System.nanoTime();
         }
-        Prediction prediction = algorithm.makePrediction(aircraftTrack, workItem.getAlgorithmState());
+        makePrediction(workItem, algorithm);
         if(enableTimer)
         {
             long stop = System.nanoTime();
@@ -74,21 +73,6 @@ public class JavaPredictionWorkerThread extends PredictionWorkerThread {
             System.out.println(threadName + " makePrediction " + (((double) diff)/1000000.0) + " ms");
         }
 
-        if(enableTimer)
-        {
-            start1 = System.nanoTime();
-            // maybe add here a call to a return to remove call up time, too.
-            // Avoid optimization
-            start2 = System.nanoTime();
-        }
-        workItem.complete(prediction);
-        if(enableTimer)
-        {
-            long stop = System.nanoTime();
-            long diff = stop - 2*start2 + start1;
-            System.out.println(threadName + " workItemComplete " + (((double) diff)/1000000.0) + " ms");
-        }
-
         if(enableTimer)
         {
             start1 = System.nanoTime();
@@ -1,7 +1,12 @@
 package com.atc.simulator.prediction_service.engine.workers;
 
 import com.atc.simulator.config.ApplicationConfig;
+import com.atc.simulator.flightdata.Prediction;
+import com.atc.simulator.prediction_service.engine.PredictionCache;
 import com.atc.simulator.prediction_service.engine.PredictionEngineThread;
+import com.atc.simulator.prediction_service.engine.PredictionWorkItem;
+import com.atc.simulator.prediction_service.engine.algorithms.java.AlgorithmState;
+import com.atc.simulator.prediction_service.engine.algorithms.java.JavaPredictionAlgorithm;
 import com.atc.simulator.RunnableThread;
 
 /**
@@ -30,6 +35,90 @@ public abstract class PredictionWorkerThread implements RunnableThread{
         continueThread = false;
     }
 
+    /**
+     * Make the prediction for a work item with an algorithm, or reuse the prediction from
+     * the engine's prediction cache if it can be, and complete the work item with it.
+     * @param workItem
+     * @param algorithm
+     */
+    protected void makePrediction(PredictionWorkItem workItem, JavaPredictionAlgorithm algorithm)
+    {
+        Object algorithmState = workItem.getAlgorithmState();
+        if (algorithmState != null)
+        {
+            // another worker may be making a prediction for the same aircraft
+            synchronized (algorithmState)
+            {
+                makePrediction(workItem, algorithm, algorithmState);
+            }
+        } else {
+            makePrediction(workItem, algorithm, null);
+        }
+    }
+
+    private void makePrediction(PredictionWorkItem workItem, JavaPredictionAlgorithm algorithm, Object algorithmState)
+    {
+        if (!completeFromCache(workItem))
+        {
+            Prediction prediction = algorithm.makePrediction(workItem.getTrack(), algorithmState);
+            cachePrediction(prediction);
+            workItem.complete(prediction);
+        }
+    }
+
+    /**
+     * Complete a work item with the prediction from the engine's prediction cache, if it
+     * can be reused (see {@link PredictionCache#get}).
+     * @param workItem
+     * @return whether the work item was completed
+     */
+    protected boolean completeFromCache(PredictionWorkItem workItem)
+    {
+        PredictionCache predictionCache = predictionEngine.getPredictionCache();
+        if (predictionCache == null)
+        {
+            return false;
+        }
+
+        Object algorithmState = workItem.getAlgorithmState();
+        Prediction prediction;
+        if (algorithmState != null)
+        {
+            synchronized (algorithmState)
+            {
+                prediction = predictionCache.get(workItem.getAircraftID(), workItem.getTrack().getLatest());
+                if (prediction != null && algorithmState instanceof AlgorithmState)
+                {
+                    // leave the algorithm in the state it would have been in had it made the prediction
+                    ((AlgorithmState) algorithmState).setState(prediction.getPredictionState(),
+                            workItem.getTrack().getLatest().getTime());
+                }
+            }
+        } else {
+            prediction = predictionCache.get(workItem.getAircraftID(), workItem.getTrack().getLatest());
+        }
+
+        if (prediction == null)
+        {
+            return false;
+        }
+        workItem.complete(prediction, true);
+        return true;
+    }
+
+    /**
+     * Put a newly computed prediction into the engine's prediction cache.
+     * @param prediction
+     */
+    protected void cachePrediction(Prediction prediction)
+    {
+        PredictionCache predictionCache = predictionEngine.getPredictionCache();
+        if (predictionCache != null)
+        {
+            predictionCache.put(prediction);
+        }
+    }
+
     /**
      * Start this thread
      */
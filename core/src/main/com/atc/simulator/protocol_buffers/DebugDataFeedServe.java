@@ -2555,57 +2555,52 @@ public final class DebugDataFeedServe {
 
   }
 
-  public interface SystemStateMessageOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:SystemStateMessage)
+  public interface AircraftHandleMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:AircraftHandleMessage)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required int64 time = 1;</code>
+     * <code>required uint32 handle = 1;</code>
      */
-    boolean hasTime();
+    boolean hasHandle();
     /**
-     * <code>required int64 time = 1;</code>
+     * <code>required uint32 handle = 1;</code>
      */
-    long getTime();
+    int getHandle();
 
     /**
-     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
-     */
-    java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage>
-        getAircraftStateList();
-    /**
-     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
-     */
-    com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage getAircraftState(int index);
-    /**
-     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+     * <code>required string aircraftID = 2;</code>
      */
-    int getAircraftStateCount();
+    boolean hasAircraftID();
     /**
-     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+     * <code>required string aircraftID = 2;</code>
      */
-    java.util.List<? extends com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder>
-        getAircraftStateOrBuilderList();
+    java.lang.String getAircraftID();
     /**
-     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+     * <code>required string aircraftID = 2;</code>
      */
-    com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder getAircraftStateOrBuilder(
-        int index);
+    com.google.protobuf.ByteString
+        getAircraftIDBytes();
   }
   /**
-   * Protobuf type {@code SystemStateMessage}
+   * <pre>
+   * An aircraft's handle in the session's dictionary, sent in keyframes, and when the aircraft wasn't in the
+   * previous message.
+   * </pre>
+   *
+   * Protobuf type {@code AircraftHandleMessage}
    */
-  public  static final class SystemStateMessage extends
+  public  static final class AircraftHandleMessage extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:SystemStateMessage)
-      SystemStateMessageOrBuilder {
-    // Use SystemStateMessage.newBuilder() to construct.
-    private SystemStateMessage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:AircraftHandleMessage)
+      AircraftHandleMessageOrBuilder {
+    // Use AircraftHandleMessage.newBuilder() to construct.
+    private AircraftHandleMessage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private SystemStateMessage() {
-      time_ = 0L;
-      aircraftState_ = java.util.Collections.emptyList();
+    private AircraftHandleMessage() {
+      handle_ = 0;
+      aircraftID_ = "";
     }
 
     @java.lang.Override
@@ -2613,7 +2608,7 @@ public final class DebugDataFeedServe {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private SystemStateMessage(
+    private AircraftHandleMessage(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2638,16 +2633,13 @@ public final class DebugDataFeedServe {
             }
             case 8: {
               bitField0_ |= 0x00000001;
-              time_ = input.readInt64();
+              handle_ = input.readUInt32();
               break;
             }
             case 18: {
-              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                aircraftState_ = new java.util.ArrayList<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage>();
-                mutable_bitField0_ |= 0x00000002;
-              }
-              aircraftState_.add(
-                  input.readMessage(com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.PARSER, extensionRegistry));
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              aircraftID_ = bs;
               break;
             }
           }
@@ -2658,74 +2650,78 @@ public final class DebugDataFeedServe {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          aircraftState_ = java.util.Collections.unmodifiableList(aircraftState_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.atc.simulator.protocol_buffers.DebugDataFeedServe.internal_static_SystemStateMessage_descriptor;
+      return com.atc.simulator.protocol_buffers.DebugDataFeedServe.internal_static_AircraftHandleMessage_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.atc.simulator.protocol_buffers.DebugDataFeedServe.internal_static_SystemStateMessage_fieldAccessorTable
+      return com.atc.simulator.protocol_buffers.DebugDataFeedServe.internal_static_AircraftHandleMessage_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage.class, com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage.Builder.class);
+              com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.class, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.Builder.class);
     }
 
     private int bitField0_;
-    public static final int TIME_FIELD_NUMBER = 1;
-    private long time_;
+    public static final int HANDLE_FIELD_NUMBER = 1;
+    private int handle_;
     /**
-     * <code>required int64 time = 1;</code>
+     * <code>required uint32 handle = 1;</code>
      */
-    public boolean hasTime() {
+    public boolean hasHandle() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required int64 time = 1;</code>
+     * <code>required uint32 handle = 1;</code>
      */
-    public long getTime() {
-      return time_;
+    public int getHandle() {
+      return handle_;
     }
 
-    public static final int AIRCRAFTSTATE_FIELD_NUMBER = 2;
-    private java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage> aircraftState_;
-    /**
-     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
-     */
-    public java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage> getAircraftStateList() {
-      return aircraftState_;
-    }
-    /**
-     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
-     */
-    public java.util.List<? extends com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder>
-        getAircraftStateOrBuilderList() {
-      return aircraftState_;
-    }
+    public static final int AIRCRAFTID_FIELD_NUMBER = 2;
+    private volatile java.lang.Object aircraftID_;
     /**
-     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+     * <code>required string aircraftID = 2;</code>
      */
-    public int getAircraftStateCount() {
-      return aircraftState_.size();
+    public boolean hasAircraftID() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+     * <code>required string aircraftID = 2;</code>
      */
-    public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage getAircraftState(int index) {
-      return aircraftState_.get(index);
+    public java.lang.String getAircraftID() {
+      java.lang.Object ref = aircraftID_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          aircraftID_ = s;
+        }
+        return s;
+      }
     }
     /**
-     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+     * <code>required string aircraftID = 2;</code>
      */
-    public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder getAircraftStateOrBuilder(
-        int index) {
-      return aircraftState_.get(index);
+    public com.google.protobuf.ByteString
+        getAircraftIDBytes() {
+      java.lang.Object ref = aircraftID_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        aircraftID_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
     private byte memoizedIsInitialized = -1;
@@ -2734,15 +2730,13 @@ public final class DebugDataFeedServe {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasTime()) {
+      if (!hasHandle()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      for (int i = 0; i < getAircraftStateCount(); i++) {
-        if (!getAircraftState(i).isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
+      if (!hasAircraftID()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
       memoizedIsInitialized = 1;
       return true;
@@ -2751,10 +2745,10 @@ public final class DebugDataFeedServe {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeInt64(1, time_);
+        output.writeUInt32(1, handle_);
       }
-      for (int i = 0; i < aircraftState_.size(); i++) {
-        output.writeMessage(2, aircraftState_.get(i));
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, aircraftID_);
       }
       unknownFields.writeTo(output);
     }
@@ -2766,11 +2760,10 @@ public final class DebugDataFeedServe {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(1, time_);
+          .computeUInt32Size(1, handle_);
       }
-      for (int i = 0; i < aircraftState_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, aircraftState_.get(i));
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, aircraftID_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -2783,19 +2776,22 @@ public final class DebugDataFeedServe {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage)) {
+      if (!(obj instanceof com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage)) {
         return super.equals(obj);
       }
-      com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage other = (com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage) obj;
+      com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage other = (com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage) obj;
 
       boolean result = true;
-      result = result && (hasTime() == other.hasTime());
-      if (hasTime()) {
-        result = result && (getTime()
-            == other.getTime());
+      result = result && (hasHandle() == other.hasHandle());
+      if (hasHandle()) {
+        result = result && (getHandle()
+            == other.getHandle());
+      }
+      result = result && (hasAircraftID() == other.hasAircraftID());
+      if (hasAircraftID()) {
+        result = result && getAircraftID()
+            .equals(other.getAircraftID());
       }
-      result = result && getAircraftStateList()
-          .equals(other.getAircraftStateList());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -2807,72 +2803,71 @@ public final class DebugDataFeedServe {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptorForType().hashCode();
-      if (hasTime()) {
-        hash = (37 * hash) + TIME_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            getTime());
+      if (hasHandle()) {
+        hash = (37 * hash) + HANDLE_FIELD_NUMBER;
+        hash = (53 * hash) + getHandle();
       }
-      if (getAircraftStateCount() > 0) {
-        hash = (37 * hash) + AIRCRAFTSTATE_FIELD_NUMBER;
-        hash = (53 * hash) + getAircraftStateList().hashCode();
+      if (hasAircraftID()) {
+        hash = (37 * hash) + AIRCRAFTID_FIELD_NUMBER;
+        hash = (53 * hash) + getAircraftID().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseFrom(
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseFrom(
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseFrom(byte[] data)
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseFrom(
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseFrom(java.io.InputStream input)
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseFrom(
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseDelimitedFrom(java.io.InputStream input)
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseDelimitedFrom(
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseFrom(
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseFrom(
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2884,7 +2879,7 @@ public final class DebugDataFeedServe {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage prototype) {
+    public static Builder newBuilder(com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -2899,25 +2894,30 @@ public final class DebugDataFeedServe {
       return builder;
     }
     /**
-     * Protobuf type {@code SystemStateMessage}
+     * <pre>
+     * An aircraft's handle in the session's dictionary, sent in keyframes, and when the aircraft wasn't in the
+     * previous message.
+     * </pre>
+     *
+     * Protobuf type {@code AircraftHandleMessage}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:SystemStateMessage)
-        com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessageOrBuilder {
+        // @@protoc_insertion_point(builder_implements:AircraftHandleMessage)
+        com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.atc.simulator.protocol_buffers.DebugDataFeedServe.internal_static_SystemStateMessage_descriptor;
+        return com.atc.simulator.protocol_buffers.DebugDataFeedServe.internal_static_AircraftHandleMessage_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.atc.simulator.protocol_buffers.DebugDataFeedServe.internal_static_SystemStateMessage_fieldAccessorTable
+        return com.atc.simulator.protocol_buffers.DebugDataFeedServe.internal_static_AircraftHandleMessage_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage.class, com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage.Builder.class);
+                com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.class, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.Builder.class);
       }
 
-      // Construct using com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage.newBuilder()
+      // Construct using com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2930,56 +2930,46 @@ public final class DebugDataFeedServe {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getAircraftStateFieldBuilder();
         }
       }
       public Builder clear() {
         super.clear();
-        time_ = 0L;
+        handle_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
-        if (aircraftStateBuilder_ == null) {
-          aircraftState_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000002);
-        } else {
-          aircraftStateBuilder_.clear();
-        }
+        aircraftID_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.atc.simulator.protocol_buffers.DebugDataFeedServe.internal_static_SystemStateMessage_descriptor;
+        return com.atc.simulator.protocol_buffers.DebugDataFeedServe.internal_static_AircraftHandleMessage_descriptor;
       }
 
-      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage getDefaultInstanceForType() {
-        return com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage.getDefaultInstance();
+      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage getDefaultInstanceForType() {
+        return com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.getDefaultInstance();
       }
 
-      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage build() {
-        com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage result = buildPartial();
+      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage build() {
+        com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage buildPartial() {
-        com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage result = new com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage(this);
+      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage buildPartial() {
+        com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage result = new com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.time_ = time_;
-        if (aircraftStateBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) == 0x00000002)) {
-            aircraftState_ = java.util.Collections.unmodifiableList(aircraftState_);
-            bitField0_ = (bitField0_ & ~0x00000002);
-          }
-          result.aircraftState_ = aircraftState_;
-        } else {
-          result.aircraftState_ = aircraftStateBuilder_.build();
+        result.handle_ = handle_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
         }
+        result.aircraftID_ = aircraftID_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -3012,44 +3002,23 @@ public final class DebugDataFeedServe {
         return (Builder) super.addRepeatedField(field, value);
       }
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage) {
-          return mergeFrom((com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage)other);
+        if (other instanceof com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage) {
+          return mergeFrom((com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage other) {
-        if (other == com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage.getDefaultInstance()) return this;
-        if (other.hasTime()) {
-          setTime(other.getTime());
+      public Builder mergeFrom(com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage other) {
+        if (other == com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.getDefaultInstance()) return this;
+        if (other.hasHandle()) {
+          setHandle(other.getHandle());
         }
-        if (aircraftStateBuilder_ == null) {
-          if (!other.aircraftState_.isEmpty()) {
-            if (aircraftState_.isEmpty()) {
-              aircraftState_ = other.aircraftState_;
-              bitField0_ = (bitField0_ & ~0x00000002);
-            } else {
-              ensureAircraftStateIsMutable();
-              aircraftState_.addAll(other.aircraftState_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.aircraftState_.isEmpty()) {
-            if (aircraftStateBuilder_.isEmpty()) {
-              aircraftStateBuilder_.dispose();
-              aircraftStateBuilder_ = null;
-              aircraftState_ = other.aircraftState_;
-              bitField0_ = (bitField0_ & ~0x00000002);
-              aircraftStateBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getAircraftStateFieldBuilder() : null;
-            } else {
-              aircraftStateBuilder_.addAllMessages(other.aircraftState_);
-            }
-          }
+        if (other.hasAircraftID()) {
+          bitField0_ |= 0x00000002;
+          aircraftID_ = other.aircraftID_;
+          onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -3057,13 +3026,11 @@ public final class DebugDataFeedServe {
       }
 
       public final boolean isInitialized() {
-        if (!hasTime()) {
+        if (!hasHandle()) {
           return false;
         }
-        for (int i = 0; i < getAircraftStateCount(); i++) {
-          if (!getAircraftState(i).isInitialized()) {
-            return false;
-          }
+        if (!hasAircraftID()) {
+          return false;
         }
         return true;
       }
@@ -3072,11 +3039,11 @@ public final class DebugDataFeedServe {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parsedMessage = null;
+        com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage) e.getUnfinishedMessage();
+          parsedMessage = (com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -3087,276 +3054,3554 @@ public final class DebugDataFeedServe {
       }
       private int bitField0_;
 
-      private long time_ ;
+      private int handle_ ;
       /**
-       * <code>required int64 time = 1;</code>
+       * <code>required uint32 handle = 1;</code>
        */
-      public boolean hasTime() {
+      public boolean hasHandle() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required int64 time = 1;</code>
+       * <code>required uint32 handle = 1;</code>
        */
-      public long getTime() {
-        return time_;
+      public int getHandle() {
+        return handle_;
       }
       /**
-       * <code>required int64 time = 1;</code>
+       * <code>required uint32 handle = 1;</code>
        */
-      public Builder setTime(long value) {
+      public Builder setHandle(int value) {
         bitField0_ |= 0x00000001;
-        time_ = value;
+        handle_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required int64 time = 1;</code>
+       * <code>required uint32 handle = 1;</code>
        */
-      public Builder clearTime() {
+      public Builder clearHandle() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        time_ = 0L;
+        handle_ = 0;
         onChanged();
         return this;
       }
 
-      private java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage> aircraftState_ =
-        java.util.Collections.emptyList();
-      private void ensureAircraftStateIsMutable() {
-        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
-          aircraftState_ = new java.util.ArrayList<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage>(aircraftState_);
-          bitField0_ |= 0x00000002;
-         }
+      private java.lang.Object aircraftID_ = "";
+      /**
+       * <code>required string aircraftID = 2;</code>
+       */
+      public boolean hasAircraftID() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
-
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder> aircraftStateBuilder_;
-
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <code>required string aircraftID = 2;</code>
        */
-      public java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage> getAircraftStateList() {
-        if (aircraftStateBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(aircraftState_);
+      public java.lang.String getAircraftID() {
+        java.lang.Object ref = aircraftID_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            aircraftID_ = s;
+          }
+          return s;
         } else {
-          return aircraftStateBuilder_.getMessageList();
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string aircraftID = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAircraftIDBytes() {
+        java.lang.Object ref = aircraftID_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          aircraftID_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <code>required string aircraftID = 2;</code>
+       */
+      public Builder setAircraftID(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        aircraftID_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string aircraftID = 2;</code>
+       */
+      public Builder clearAircraftID() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        aircraftID_ = getDefaultInstance().getAircraftID();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string aircraftID = 2;</code>
+       */
+      public Builder setAircraftIDBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        aircraftID_ = value;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:AircraftHandleMessage)
+    }
+
+    // @@protoc_insertion_point(class_scope:AircraftHandleMessage)
+    private static final com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage();
+    }
+
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<AircraftHandleMessage>
+        PARSER = new com.google.protobuf.AbstractParser<AircraftHandleMessage>() {
+      public AircraftHandleMessage parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new AircraftHandleMessage(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<AircraftHandleMessage> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AircraftHandleMessage> getParserForType() {
+      return PARSER;
+    }
+
+    public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SystemStateMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SystemStateMessage)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int64 time = 1;</code>
+     */
+    boolean hasTime();
+    /**
+     * <code>required int64 time = 1;</code>
+     */
+    long getTime();
+
+    /**
+     * <pre>
+     *when the feed isn't delta encoded
+     * </pre>
+     *
+     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+     */
+    java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage>
+        getAircraftStateList();
+    /**
+     * <pre>
+     *when the feed isn't delta encoded
+     * </pre>
+     *
+     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+     */
+    com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage getAircraftState(int index);
+    /**
+     * <pre>
+     *when the feed isn't delta encoded
+     * </pre>
+     *
+     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+     */
+    int getAircraftStateCount();
+    /**
+     * <pre>
+     *when the feed isn't delta encoded
+     * </pre>
+     *
+     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+     */
+    java.util.List<? extends com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder>
+        getAircraftStateOrBuilderList();
+    /**
+     * <pre>
+     *when the feed isn't delta encoded
+     * </pre>
+     *
+     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+     */
+    com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder getAircraftStateOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * When the feed is delta encoded, each of the packed arrays below has an entry for every aircraft in the
+     * system state. The position, velocity and heading are in fixed point, as differences from where they would be
+     * if they had kept changing as they did between the previous two messages (from the previous message, if the
+     * aircraft wasn't in the one before, or from zero, if its handle is in aircraftHandle).
+     * </pre>
+     *
+     * <code>optional bool keyframe = 3 [default = false];</code>
+     */
+    boolean hasKeyframe();
+    /**
+     * <pre>
+     * When the feed is delta encoded, each of the packed arrays below has an entry for every aircraft in the
+     * system state. The position, velocity and heading are in fixed point, as differences from where they would be
+     * if they had kept changing as they did between the previous two messages (from the previous message, if the
+     * aircraft wasn't in the one before, or from zero, if its handle is in aircraftHandle).
+     * </pre>
+     *
+     * <code>optional bool keyframe = 3 [default = false];</code>
+     */
+    boolean getKeyframe();
+
+    /**
+     * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+     */
+    java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage>
+        getAircraftHandleList();
+    /**
+     * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+     */
+    com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage getAircraftHandle(int index);
+    /**
+     * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+     */
+    int getAircraftHandleCount();
+    /**
+     * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+     */
+    java.util.List<? extends com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessageOrBuilder>
+        getAircraftHandleOrBuilderList();
+    /**
+     * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+     */
+    com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessageOrBuilder getAircraftHandleOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated uint32 handle = 5 [packed = true];</code>
+     */
+    java.util.List<java.lang.Integer> getHandleList();
+    /**
+     * <code>repeated uint32 handle = 5 [packed = true];</code>
+     */
+    int getHandleCount();
+    /**
+     * <code>repeated uint32 handle = 5 [packed = true];</code>
+     */
+    int getHandle(int index);
+
+    /**
+     * <pre>
+     *milliseconds from the time
+     * </pre>
+     *
+     * <code>repeated sint64 timeOffset = 6 [packed = true];</code>
+     */
+    java.util.List<java.lang.Long> getTimeOffsetList();
+    /**
+     * <pre>
+     *milliseconds from the time
+     * </pre>
+     *
+     * <code>repeated sint64 timeOffset = 6 [packed = true];</code>
+     */
+    int getTimeOffsetCount();
+    /**
+     * <pre>
+     *milliseconds from the time
+     * </pre>
+     *
+     * <code>repeated sint64 timeOffset = 6 [packed = true];</code>
+     */
+    long getTimeOffset(int index);
+
+    /**
+     * <pre>
+     *centimeters
+     * </pre>
+     *
+     * <code>repeated sint64 altitude = 7 [packed = true];</code>
+     */
+    java.util.List<java.lang.Long> getAltitudeList();
+    /**
+     * <pre>
+     *centimeters
+     * </pre>
+     *
+     * <code>repeated sint64 altitude = 7 [packed = true];</code>
+     */
+    int getAltitudeCount();
+    /**
+     * <pre>
+     *centimeters
+     * </pre>
+     *
+     * <code>repeated sint64 altitude = 7 [packed = true];</code>
+     */
+    long getAltitude(int index);
+
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 latitude = 8 [packed = true];</code>
+     */
+    java.util.List<java.lang.Long> getLatitudeList();
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 latitude = 8 [packed = true];</code>
+     */
+    int getLatitudeCount();
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 latitude = 8 [packed = true];</code>
+     */
+    long getLatitude(int index);
+
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 longitude = 9 [packed = true];</code>
+     */
+    java.util.List<java.lang.Long> getLongitudeList();
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 longitude = 9 [packed = true];</code>
+     */
+    int getLongitudeCount();
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 longitude = 9 [packed = true];</code>
+     */
+    long getLongitude(int index);
+
+    /**
+     * <pre>
+     *centimeters per second
+     * </pre>
+     *
+     * <code>repeated sint64 dr = 10 [packed = true];</code>
+     */
+    java.util.List<java.lang.Long> getDrList();
+    /**
+     * <pre>
+     *centimeters per second
+     * </pre>
+     *
+     * <code>repeated sint64 dr = 10 [packed = true];</code>
+     */
+    int getDrCount();
+    /**
+     * <pre>
+     *centimeters per second
+     * </pre>
+     *
+     * <code>repeated sint64 dr = 10 [packed = true];</code>
+     */
+    long getDr(int index);
+
+    /**
+     * <pre>
+     *1e-10 radians per second
+     * </pre>
+     *
+     * <code>repeated sint64 dtheta = 11 [packed = true];</code>
+     */
+    java.util.List<java.lang.Long> getDthetaList();
+    /**
+     * <pre>
+     *1e-10 radians per second
+     * </pre>
+     *
+     * <code>repeated sint64 dtheta = 11 [packed = true];</code>
+     */
+    int getDthetaCount();
+    /**
+     * <pre>
+     *1e-10 radians per second
+     * </pre>
+     *
+     * <code>repeated sint64 dtheta = 11 [packed = true];</code>
+     */
+    long getDtheta(int index);
+
+    /**
+     * <pre>
+     *1e-10 radians per second
+     * </pre>
+     *
+     * <code>repeated sint64 dphi = 12 [packed = true];</code>
+     */
+    java.util.List<java.lang.Long> getDphiList();
+    /**
+     * <pre>
+     *1e-10 radians per second
+     * </pre>
+     *
+     * <code>repeated sint64 dphi = 12 [packed = true];</code>
+     */
+    int getDphiCount();
+    /**
+     * <pre>
+     *1e-10 radians per second
+     * </pre>
+     *
+     * <code>repeated sint64 dphi = 12 [packed = true];</code>
+     */
+    long getDphi(int index);
+
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 heading = 13 [packed = true];</code>
+     */
+    java.util.List<java.lang.Long> getHeadingList();
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 heading = 13 [packed = true];</code>
+     */
+    int getHeadingCount();
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 heading = 13 [packed = true];</code>
+     */
+    long getHeading(int index);
+  }
+  /**
+   * Protobuf type {@code SystemStateMessage}
+   */
+  public  static final class SystemStateMessage extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:SystemStateMessage)
+      SystemStateMessageOrBuilder {
+    // Use SystemStateMessage.newBuilder() to construct.
+    private SystemStateMessage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SystemStateMessage() {
+      time_ = 0L;
+      aircraftState_ = java.util.Collections.emptyList();
+      keyframe_ = false;
+      aircraftHandle_ = java.util.Collections.emptyList();
+      handle_ = java.util.Collections.emptyList();
+      timeOffset_ = java.util.Collections.emptyList();
+      altitude_ = java.util.Collections.emptyList();
+      latitude_ = java.util.Collections.emptyList();
+      longitude_ = java.util.Collections.emptyList();
+      dr_ = java.util.Collections.emptyList();
+      dtheta_ = java.util.Collections.emptyList();
+      dphi_ = java.util.Collections.emptyList();
+      heading_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SystemStateMessage(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              time_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                aircraftState_ = new java.util.ArrayList<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              aircraftState_.add(
+                  input.readMessage(com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.PARSER, extensionRegistry));
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000002;
+              keyframe_ = input.readBool();
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                aircraftHandle_ = new java.util.ArrayList<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              aircraftHandle_.add(
+                  input.readMessage(com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.PARSER, extensionRegistry));
+              break;
+            }
+            case 40: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                handle_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              handle_.add(input.readUInt32());
+              break;
+            }
+            case 42: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010) && input.getBytesUntilLimit() > 0) {
+                handle_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                handle_.add(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 48: {
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                timeOffset_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              timeOffset_.add(input.readSInt64());
+              break;
+            }
+            case 50: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020) && input.getBytesUntilLimit() > 0) {
+                timeOffset_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                timeOffset_.add(input.readSInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 56: {
+              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+                altitude_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              altitude_.add(input.readSInt64());
+              break;
+            }
+            case 58: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040) && input.getBytesUntilLimit() > 0) {
+                altitude_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                altitude_.add(input.readSInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 64: {
+              if (!((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+                latitude_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000080;
+              }
+              latitude_.add(input.readSInt64());
+              break;
+            }
+            case 66: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000080) == 0x00000080) && input.getBytesUntilLimit() > 0) {
+                latitude_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000080;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                latitude_.add(input.readSInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 72: {
+              if (!((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
+                longitude_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000100;
+              }
+              longitude_.add(input.readSInt64());
+              break;
+            }
+            case 74: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000100) == 0x00000100) && input.getBytesUntilLimit() > 0) {
+                longitude_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000100;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                longitude_.add(input.readSInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 80: {
+              if (!((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
+                dr_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000200;
+              }
+              dr_.add(input.readSInt64());
+              break;
+            }
+            case 82: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000200) == 0x00000200) && input.getBytesUntilLimit() > 0) {
+                dr_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000200;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                dr_.add(input.readSInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 88: {
+              if (!((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
+                dtheta_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000400;
+              }
+              dtheta_.add(input.readSInt64());
+              break;
+            }
+            case 90: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000400) == 0x00000400) && input.getBytesUntilLimit() > 0) {
+                dtheta_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000400;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                dtheta_.add(input.readSInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 96: {
+              if (!((mutable_bitField0_ & 0x00000800) == 0x00000800)) {
+                dphi_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000800;
+              }
+              dphi_.add(input.readSInt64());
+              break;
+            }
+            case 98: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000800) == 0x00000800) && input.getBytesUntilLimit() > 0) {
+                dphi_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000800;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                dphi_.add(input.readSInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 104: {
+              if (!((mutable_bitField0_ & 0x00001000) == 0x00001000)) {
+                heading_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00001000;
+              }
+              heading_.add(input.readSInt64());
+              break;
+            }
+            case 106: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00001000) == 0x00001000) && input.getBytesUntilLimit() > 0) {
+                heading_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00001000;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                heading_.add(input.readSInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          aircraftState_ = java.util.Collections.unmodifiableList(aircraftState_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          aircraftHandle_ = java.util.Collections.unmodifiableList(aircraftHandle_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          handle_ = java.util.Collections.unmodifiableList(handle_);
+        }
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          timeOffset_ = java.util.Collections.unmodifiableList(timeOffset_);
+        }
+        if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+          altitude_ = java.util.Collections.unmodifiableList(altitude_);
+        }
+        if (((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+          latitude_ = java.util.Collections.unmodifiableList(latitude_);
+        }
+        if (((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
+          longitude_ = java.util.Collections.unmodifiableList(longitude_);
+        }
+        if (((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
+          dr_ = java.util.Collections.unmodifiableList(dr_);
+        }
+        if (((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
+          dtheta_ = java.util.Collections.unmodifiableList(dtheta_);
+        }
+        if (((mutable_bitField0_ & 0x00000800) == 0x00000800)) {
+          dphi_ = java.util.Collections.unmodifiableList(dphi_);
+        }
+        if (((mutable_bitField0_ & 0x00001000) == 0x00001000)) {
+          heading_ = java.util.Collections.unmodifiableList(heading_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.atc.simulator.protocol_buffers.DebugDataFeedServe.internal_static_SystemStateMessage_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.atc.simulator.protocol_buffers.DebugDataFeedServe.internal_static_SystemStateMessage_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage.class, com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int TIME_FIELD_NUMBER = 1;
+    private long time_;
+    /**
+     * <code>required int64 time = 1;</code>
+     */
+    public boolean hasTime() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int64 time = 1;</code>
+     */
+    public long getTime() {
+      return time_;
+    }
+
+    public static final int AIRCRAFTSTATE_FIELD_NUMBER = 2;
+    private java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage> aircraftState_;
+    /**
+     * <pre>
+     *when the feed isn't delta encoded
+     * </pre>
+     *
+     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+     */
+    public java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage> getAircraftStateList() {
+      return aircraftState_;
+    }
+    /**
+     * <pre>
+     *when the feed isn't delta encoded
+     * </pre>
+     *
+     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+     */
+    public java.util.List<? extends com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder>
+        getAircraftStateOrBuilderList() {
+      return aircraftState_;
+    }
+    /**
+     * <pre>
+     *when the feed isn't delta encoded
+     * </pre>
+     *
+     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+     */
+    public int getAircraftStateCount() {
+      return aircraftState_.size();
+    }
+    /**
+     * <pre>
+     *when the feed isn't delta encoded
+     * </pre>
+     *
+     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+     */
+    public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage getAircraftState(int index) {
+      return aircraftState_.get(index);
+    }
+    /**
+     * <pre>
+     *when the feed isn't delta encoded
+     * </pre>
+     *
+     * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+     */
+    public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder getAircraftStateOrBuilder(
+        int index) {
+      return aircraftState_.get(index);
+    }
+
+    public static final int KEYFRAME_FIELD_NUMBER = 3;
+    private boolean keyframe_;
+    /**
+     * <pre>
+     * When the feed is delta encoded, each of the packed arrays below has an entry for every aircraft in the
+     * system state. The position, velocity and heading are in fixed point, as differences from where they would be
+     * if they had kept changing as they did between the previous two messages (from the previous message, if the
+     * aircraft wasn't in the one before, or from zero, if its handle is in aircraftHandle).
+     * </pre>
+     *
+     * <code>optional bool keyframe = 3 [default = false];</code>
+     */
+    public boolean hasKeyframe() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <pre>
+     * When the feed is delta encoded, each of the packed arrays below has an entry for every aircraft in the
+     * system state. The position, velocity and heading are in fixed point, as differences from where they would be
+     * if they had kept changing as they did between the previous two messages (from the previous message, if the
+     * aircraft wasn't in the one before, or from zero, if its handle is in aircraftHandle).
+     * </pre>
+     *
+     * <code>optional bool keyframe = 3 [default = false];</code>
+     */
+    public boolean getKeyframe() {
+      return keyframe_;
+    }
+
+    public static final int AIRCRAFTHANDLE_FIELD_NUMBER = 4;
+    private java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage> aircraftHandle_;
+    /**
+     * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+     */
+    public java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage> getAircraftHandleList() {
+      return aircraftHandle_;
+    }
+    /**
+     * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+     */
+    public java.util.List<? extends com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessageOrBuilder>
+        getAircraftHandleOrBuilderList() {
+      return aircraftHandle_;
+    }
+    /**
+     * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+     */
+    public int getAircraftHandleCount() {
+      return aircraftHandle_.size();
+    }
+    /**
+     * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+     */
+    public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage getAircraftHandle(int index) {
+      return aircraftHandle_.get(index);
+    }
+    /**
+     * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+     */
+    public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessageOrBuilder getAircraftHandleOrBuilder(
+        int index) {
+      return aircraftHandle_.get(index);
+    }
+
+    public static final int HANDLE_FIELD_NUMBER = 5;
+    private java.util.List<java.lang.Integer> handle_;
+    /**
+     * <code>repeated uint32 handle = 5 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getHandleList() {
+      return handle_;
+    }
+    /**
+     * <code>repeated uint32 handle = 5 [packed = true];</code>
+     */
+    public int getHandleCount() {
+      return handle_.size();
+    }
+    /**
+     * <code>repeated uint32 handle = 5 [packed = true];</code>
+     */
+    public int getHandle(int index) {
+      return handle_.get(index);
+    }
+    private int handleMemoizedSerializedSize = -1;
+
+    public static final int TIMEOFFSET_FIELD_NUMBER = 6;
+    private java.util.List<java.lang.Long> timeOffset_;
+    /**
+     * <pre>
+     *milliseconds from the time
+     * </pre>
+     *
+     * <code>repeated sint64 timeOffset = 6 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Long>
+        getTimeOffsetList() {
+      return timeOffset_;
+    }
+    /**
+     * <pre>
+     *milliseconds from the time
+     * </pre>
+     *
+     * <code>repeated sint64 timeOffset = 6 [packed = true];</code>
+     */
+    public int getTimeOffsetCount() {
+      return timeOffset_.size();
+    }
+    /**
+     * <pre>
+     *milliseconds from the time
+     * </pre>
+     *
+     * <code>repeated sint64 timeOffset = 6 [packed = true];</code>
+     */
+    public long getTimeOffset(int index) {
+      return timeOffset_.get(index);
+    }
+    private int timeOffsetMemoizedSerializedSize = -1;
+
+    public static final int ALTITUDE_FIELD_NUMBER = 7;
+    private java.util.List<java.lang.Long> altitude_;
+    /**
+     * <pre>
+     *centimeters
+     * </pre>
+     *
+     * <code>repeated sint64 altitude = 7 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Long>
+        getAltitudeList() {
+      return altitude_;
+    }
+    /**
+     * <pre>
+     *centimeters
+     * </pre>
+     *
+     * <code>repeated sint64 altitude = 7 [packed = true];</code>
+     */
+    public int getAltitudeCount() {
+      return altitude_.size();
+    }
+    /**
+     * <pre>
+     *centimeters
+     * </pre>
+     *
+     * <code>repeated sint64 altitude = 7 [packed = true];</code>
+     */
+    public long getAltitude(int index) {
+      return altitude_.get(index);
+    }
+    private int altitudeMemoizedSerializedSize = -1;
+
+    public static final int LATITUDE_FIELD_NUMBER = 8;
+    private java.util.List<java.lang.Long> latitude_;
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 latitude = 8 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Long>
+        getLatitudeList() {
+      return latitude_;
+    }
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 latitude = 8 [packed = true];</code>
+     */
+    public int getLatitudeCount() {
+      return latitude_.size();
+    }
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 latitude = 8 [packed = true];</code>
+     */
+    public long getLatitude(int index) {
+      return latitude_.get(index);
+    }
+    private int latitudeMemoizedSerializedSize = -1;
+
+    public static final int LONGITUDE_FIELD_NUMBER = 9;
+    private java.util.List<java.lang.Long> longitude_;
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 longitude = 9 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Long>
+        getLongitudeList() {
+      return longitude_;
+    }
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 longitude = 9 [packed = true];</code>
+     */
+    public int getLongitudeCount() {
+      return longitude_.size();
+    }
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 longitude = 9 [packed = true];</code>
+     */
+    public long getLongitude(int index) {
+      return longitude_.get(index);
+    }
+    private int longitudeMemoizedSerializedSize = -1;
+
+    public static final int DR_FIELD_NUMBER = 10;
+    private java.util.List<java.lang.Long> dr_;
+    /**
+     * <pre>
+     *centimeters per second
+     * </pre>
+     *
+     * <code>repeated sint64 dr = 10 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Long>
+        getDrList() {
+      return dr_;
+    }
+    /**
+     * <pre>
+     *centimeters per second
+     * </pre>
+     *
+     * <code>repeated sint64 dr = 10 [packed = true];</code>
+     */
+    public int getDrCount() {
+      return dr_.size();
+    }
+    /**
+     * <pre>
+     *centimeters per second
+     * </pre>
+     *
+     * <code>repeated sint64 dr = 10 [packed = true];</code>
+     */
+    public long getDr(int index) {
+      return dr_.get(index);
+    }
+    private int drMemoizedSerializedSize = -1;
+
+    public static final int DTHETA_FIELD_NUMBER = 11;
+    private java.util.List<java.lang.Long> dtheta_;
+    /**
+     * <pre>
+     *1e-10 radians per second
+     * </pre>
+     *
+     * <code>repeated sint64 dtheta = 11 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Long>
+        getDthetaList() {
+      return dtheta_;
+    }
+    /**
+     * <pre>
+     *1e-10 radians per second
+     * </pre>
+     *
+     * <code>repeated sint64 dtheta = 11 [packed = true];</code>
+     */
+    public int getDthetaCount() {
+      return dtheta_.size();
+    }
+    /**
+     * <pre>
+     *1e-10 radians per second
+     * </pre>
+     *
+     * <code>repeated sint64 dtheta = 11 [packed = true];</code>
+     */
+    public long getDtheta(int index) {
+      return dtheta_.get(index);
+    }
+    private int dthetaMemoizedSerializedSize = -1;
+
+    public static final int DPHI_FIELD_NUMBER = 12;
+    private java.util.List<java.lang.Long> dphi_;
+    /**
+     * <pre>
+     *1e-10 radians per second
+     * </pre>
+     *
+     * <code>repeated sint64 dphi = 12 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Long>
+        getDphiList() {
+      return dphi_;
+    }
+    /**
+     * <pre>
+     *1e-10 radians per second
+     * </pre>
+     *
+     * <code>repeated sint64 dphi = 12 [packed = true];</code>
+     */
+    public int getDphiCount() {
+      return dphi_.size();
+    }
+    /**
+     * <pre>
+     *1e-10 radians per second
+     * </pre>
+     *
+     * <code>repeated sint64 dphi = 12 [packed = true];</code>
+     */
+    public long getDphi(int index) {
+      return dphi_.get(index);
+    }
+    private int dphiMemoizedSerializedSize = -1;
+
+    public static final int HEADING_FIELD_NUMBER = 13;
+    private java.util.List<java.lang.Long> heading_;
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 heading = 13 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Long>
+        getHeadingList() {
+      return heading_;
+    }
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 heading = 13 [packed = true];</code>
+     */
+    public int getHeadingCount() {
+      return heading_.size();
+    }
+    /**
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint64 heading = 13 [packed = true];</code>
+     */
+    public long getHeading(int index) {
+      return heading_.get(index);
+    }
+    private int headingMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasTime()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getAircraftStateCount(); i++) {
+        if (!getAircraftState(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getAircraftHandleCount(); i++) {
+        if (!getAircraftHandle(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt64(1, time_);
+      }
+      for (int i = 0; i < aircraftState_.size(); i++) {
+        output.writeMessage(2, aircraftState_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(3, keyframe_);
+      }
+      for (int i = 0; i < aircraftHandle_.size(); i++) {
+        output.writeMessage(4, aircraftHandle_.get(i));
+      }
+      if (getHandleList().size() > 0) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(handleMemoizedSerializedSize);
+      }
+      for (int i = 0; i < handle_.size(); i++) {
+        output.writeUInt32NoTag(handle_.get(i));
+      }
+      if (getTimeOffsetList().size() > 0) {
+        output.writeUInt32NoTag(50);
+        output.writeUInt32NoTag(timeOffsetMemoizedSerializedSize);
+      }
+      for (int i = 0; i < timeOffset_.size(); i++) {
+        output.writeSInt64NoTag(timeOffset_.get(i));
+      }
+      if (getAltitudeList().size() > 0) {
+        output.writeUInt32NoTag(58);
+        output.writeUInt32NoTag(altitudeMemoizedSerializedSize);
+      }
+      for (int i = 0; i < altitude_.size(); i++) {
+        output.writeSInt64NoTag(altitude_.get(i));
+      }
+      if (getLatitudeList().size() > 0) {
+        output.writeUInt32NoTag(66);
+        output.writeUInt32NoTag(latitudeMemoizedSerializedSize);
+      }
+      for (int i = 0; i < latitude_.size(); i++) {
+        output.writeSInt64NoTag(latitude_.get(i));
+      }
+      if (getLongitudeList().size() > 0) {
+        output.writeUInt32NoTag(74);
+        output.writeUInt32NoTag(longitudeMemoizedSerializedSize);
+      }
+      for (int i = 0; i < longitude_.size(); i++) {
+        output.writeSInt64NoTag(longitude_.get(i));
+      }
+      if (getDrList().size() > 0) {
+        output.writeUInt32NoTag(82);
+        output.writeUInt32NoTag(drMemoizedSerializedSize);
+      }
+      for (int i = 0; i < dr_.size(); i++) {
+        output.writeSInt64NoTag(dr_.get(i));
+      }
+      if (getDthetaList().size() > 0) {
+        output.writeUInt32NoTag(90);
+        output.writeUInt32NoTag(dthetaMemoizedSerializedSize);
+      }
+      for (int i = 0; i < dtheta_.size(); i++) {
+        output.writeSInt64NoTag(dtheta_.get(i));
+      }
+      if (getDphiList().size() > 0) {
+        output.writeUInt32NoTag(98);
+        output.writeUInt32NoTag(dphiMemoizedSerializedSize);
+      }
+      for (int i = 0; i < dphi_.size(); i++) {
+        output.writeSInt64NoTag(dphi_.get(i));
+      }
+      if (getHeadingList().size() > 0) {
+        output.writeUInt32NoTag(106);
+        output.writeUInt32NoTag(headingMemoizedSerializedSize);
+      }
+      for (int i = 0; i < heading_.size(); i++) {
+        output.writeSInt64NoTag(heading_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, time_);
+      }
+      for (int i = 0; i < aircraftState_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, aircraftState_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, keyframe_);
+      }
+      for (int i = 0; i < aircraftHandle_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, aircraftHandle_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < handle_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(handle_.get(i));
+        }
+        size += dataSize;
+        if (!getHandleList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        handleMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < timeOffset_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt64SizeNoTag(timeOffset_.get(i));
+        }
+        size += dataSize;
+        if (!getTimeOffsetList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        timeOffsetMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < altitude_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt64SizeNoTag(altitude_.get(i));
+        }
+        size += dataSize;
+        if (!getAltitudeList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        altitudeMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < latitude_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt64SizeNoTag(latitude_.get(i));
+        }
+        size += dataSize;
+        if (!getLatitudeList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        latitudeMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < longitude_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt64SizeNoTag(longitude_.get(i));
+        }
+        size += dataSize;
+        if (!getLongitudeList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        longitudeMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < dr_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt64SizeNoTag(dr_.get(i));
+        }
+        size += dataSize;
+        if (!getDrList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        drMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < dtheta_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt64SizeNoTag(dtheta_.get(i));
+        }
+        size += dataSize;
+        if (!getDthetaList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        dthetaMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < dphi_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt64SizeNoTag(dphi_.get(i));
+        }
+        size += dataSize;
+        if (!getDphiList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        dphiMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < heading_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt64SizeNoTag(heading_.get(i));
+        }
+        size += dataSize;
+        if (!getHeadingList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        headingMemoizedSerializedSize = dataSize;
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage)) {
+        return super.equals(obj);
+      }
+      com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage other = (com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage) obj;
+
+      boolean result = true;
+      result = result && (hasTime() == other.hasTime());
+      if (hasTime()) {
+        result = result && (getTime()
+            == other.getTime());
+      }
+      result = result && getAircraftStateList()
+          .equals(other.getAircraftStateList());
+      result = result && (hasKeyframe() == other.hasKeyframe());
+      if (hasKeyframe()) {
+        result = result && (getKeyframe()
+            == other.getKeyframe());
+      }
+      result = result && getAircraftHandleList()
+          .equals(other.getAircraftHandleList());
+      result = result && getHandleList()
+          .equals(other.getHandleList());
+      result = result && getTimeOffsetList()
+          .equals(other.getTimeOffsetList());
+      result = result && getAltitudeList()
+          .equals(other.getAltitudeList());
+      result = result && getLatitudeList()
+          .equals(other.getLatitudeList());
+      result = result && getLongitudeList()
+          .equals(other.getLongitudeList());
+      result = result && getDrList()
+          .equals(other.getDrList());
+      result = result && getDthetaList()
+          .equals(other.getDthetaList());
+      result = result && getDphiList()
+          .equals(other.getDphiList());
+      result = result && getHeadingList()
+          .equals(other.getHeadingList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasTime()) {
+        hash = (37 * hash) + TIME_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTime());
+      }
+      if (getAircraftStateCount() > 0) {
+        hash = (37 * hash) + AIRCRAFTSTATE_FIELD_NUMBER;
+        hash = (53 * hash) + getAircraftStateList().hashCode();
+      }
+      if (hasKeyframe()) {
+        hash = (37 * hash) + KEYFRAME_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getKeyframe());
+      }
+      if (getAircraftHandleCount() > 0) {
+        hash = (37 * hash) + AIRCRAFTHANDLE_FIELD_NUMBER;
+        hash = (53 * hash) + getAircraftHandleList().hashCode();
+      }
+      if (getHandleCount() > 0) {
+        hash = (37 * hash) + HANDLE_FIELD_NUMBER;
+        hash = (53 * hash) + getHandleList().hashCode();
+      }
+      if (getTimeOffsetCount() > 0) {
+        hash = (37 * hash) + TIMEOFFSET_FIELD_NUMBER;
+        hash = (53 * hash) + getTimeOffsetList().hashCode();
+      }
+      if (getAltitudeCount() > 0) {
+        hash = (37 * hash) + ALTITUDE_FIELD_NUMBER;
+        hash = (53 * hash) + getAltitudeList().hashCode();
+      }
+      if (getLatitudeCount() > 0) {
+        hash = (37 * hash) + LATITUDE_FIELD_NUMBER;
+        hash = (53 * hash) + getLatitudeList().hashCode();
+      }
+      if (getLongitudeCount() > 0) {
+        hash = (37 * hash) + LONGITUDE_FIELD_NUMBER;
+        hash = (53 * hash) + getLongitudeList().hashCode();
+      }
+      if (getDrCount() > 0) {
+        hash = (37 * hash) + DR_FIELD_NUMBER;
+        hash = (53 * hash) + getDrList().hashCode();
+      }
+      if (getDthetaCount() > 0) {
+        hash = (37 * hash) + DTHETA_FIELD_NUMBER;
+        hash = (53 * hash) + getDthetaList().hashCode();
+      }
+      if (getDphiCount() > 0) {
+        hash = (37 * hash) + DPHI_FIELD_NUMBER;
+        hash = (53 * hash) + getDphiList().hashCode();
+      }
+      if (getHeadingCount() > 0) {
+        hash = (37 * hash) + HEADING_FIELD_NUMBER;
+        hash = (53 * hash) + getHeadingList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code SystemStateMessage}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:SystemStateMessage)
+        com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessageOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.atc.simulator.protocol_buffers.DebugDataFeedServe.internal_static_SystemStateMessage_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.atc.simulator.protocol_buffers.DebugDataFeedServe.internal_static_SystemStateMessage_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage.class, com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage.Builder.class);
+      }
+
+      // Construct using com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getAircraftStateFieldBuilder();
+          getAircraftHandleFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        time_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (aircraftStateBuilder_ == null) {
+          aircraftState_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          aircraftStateBuilder_.clear();
+        }
+        keyframe_ = false;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (aircraftHandleBuilder_ == null) {
+          aircraftHandle_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          aircraftHandleBuilder_.clear();
+        }
+        handle_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        timeOffset_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        altitude_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        latitude_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000080);
+        longitude_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        dr_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000200);
+        dtheta_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000400);
+        dphi_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000800);
+        heading_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00001000);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.atc.simulator.protocol_buffers.DebugDataFeedServe.internal_static_SystemStateMessage_descriptor;
+      }
+
+      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage getDefaultInstanceForType() {
+        return com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage.getDefaultInstance();
+      }
+
+      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage build() {
+        com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage buildPartial() {
+        com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage result = new com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.time_ = time_;
+        if (aircraftStateBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            aircraftState_ = java.util.Collections.unmodifiableList(aircraftState_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.aircraftState_ = aircraftState_;
+        } else {
+          result.aircraftState_ = aircraftStateBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.keyframe_ = keyframe_;
+        if (aircraftHandleBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            aircraftHandle_ = java.util.Collections.unmodifiableList(aircraftHandle_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.aircraftHandle_ = aircraftHandle_;
+        } else {
+          result.aircraftHandle_ = aircraftHandleBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          handle_ = java.util.Collections.unmodifiableList(handle_);
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.handle_ = handle_;
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          timeOffset_ = java.util.Collections.unmodifiableList(timeOffset_);
+          bitField0_ = (bitField0_ & ~0x00000020);
+        }
+        result.timeOffset_ = timeOffset_;
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          altitude_ = java.util.Collections.unmodifiableList(altitude_);
+          bitField0_ = (bitField0_ & ~0x00000040);
+        }
+        result.altitude_ = altitude_;
+        if (((bitField0_ & 0x00000080) == 0x00000080)) {
+          latitude_ = java.util.Collections.unmodifiableList(latitude_);
+          bitField0_ = (bitField0_ & ~0x00000080);
+        }
+        result.latitude_ = latitude_;
+        if (((bitField0_ & 0x00000100) == 0x00000100)) {
+          longitude_ = java.util.Collections.unmodifiableList(longitude_);
+          bitField0_ = (bitField0_ & ~0x00000100);
+        }
+        result.longitude_ = longitude_;
+        if (((bitField0_ & 0x00000200) == 0x00000200)) {
+          dr_ = java.util.Collections.unmodifiableList(dr_);
+          bitField0_ = (bitField0_ & ~0x00000200);
+        }
+        result.dr_ = dr_;
+        if (((bitField0_ & 0x00000400) == 0x00000400)) {
+          dtheta_ = java.util.Collections.unmodifiableList(dtheta_);
+          bitField0_ = (bitField0_ & ~0x00000400);
+        }
+        result.dtheta_ = dtheta_;
+        if (((bitField0_ & 0x00000800) == 0x00000800)) {
+          dphi_ = java.util.Collections.unmodifiableList(dphi_);
+          bitField0_ = (bitField0_ & ~0x00000800);
+        }
+        result.dphi_ = dphi_;
+        if (((bitField0_ & 0x00001000) == 0x00001000)) {
+          heading_ = java.util.Collections.unmodifiableList(heading_);
+          bitField0_ = (bitField0_ & ~0x00001000);
+        }
+        result.heading_ = heading_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage) {
+          return mergeFrom((com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage other) {
+        if (other == com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage.getDefaultInstance()) return this;
+        if (other.hasTime()) {
+          setTime(other.getTime());
+        }
+        if (aircraftStateBuilder_ == null) {
+          if (!other.aircraftState_.isEmpty()) {
+            if (aircraftState_.isEmpty()) {
+              aircraftState_ = other.aircraftState_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureAircraftStateIsMutable();
+              aircraftState_.addAll(other.aircraftState_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.aircraftState_.isEmpty()) {
+            if (aircraftStateBuilder_.isEmpty()) {
+              aircraftStateBuilder_.dispose();
+              aircraftStateBuilder_ = null;
+              aircraftState_ = other.aircraftState_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              aircraftStateBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getAircraftStateFieldBuilder() : null;
+            } else {
+              aircraftStateBuilder_.addAllMessages(other.aircraftState_);
+            }
+          }
+        }
+        if (other.hasKeyframe()) {
+          setKeyframe(other.getKeyframe());
+        }
+        if (aircraftHandleBuilder_ == null) {
+          if (!other.aircraftHandle_.isEmpty()) {
+            if (aircraftHandle_.isEmpty()) {
+              aircraftHandle_ = other.aircraftHandle_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureAircraftHandleIsMutable();
+              aircraftHandle_.addAll(other.aircraftHandle_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.aircraftHandle_.isEmpty()) {
+            if (aircraftHandleBuilder_.isEmpty()) {
+              aircraftHandleBuilder_.dispose();
+              aircraftHandleBuilder_ = null;
+              aircraftHandle_ = other.aircraftHandle_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              aircraftHandleBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getAircraftHandleFieldBuilder() : null;
+            } else {
+              aircraftHandleBuilder_.addAllMessages(other.aircraftHandle_);
+            }
+          }
+        }
+        if (!other.handle_.isEmpty()) {
+          if (handle_.isEmpty()) {
+            handle_ = other.handle_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureHandleIsMutable();
+            handle_.addAll(other.handle_);
+          }
+          onChanged();
+        }
+        if (!other.timeOffset_.isEmpty()) {
+          if (timeOffset_.isEmpty()) {
+            timeOffset_ = other.timeOffset_;
+            bitField0_ = (bitField0_ & ~0x00000020);
+          } else {
+            ensureTimeOffsetIsMutable();
+            timeOffset_.addAll(other.timeOffset_);
+          }
+          onChanged();
+        }
+        if (!other.altitude_.isEmpty()) {
+          if (altitude_.isEmpty()) {
+            altitude_ = other.altitude_;
+            bitField0_ = (bitField0_ & ~0x00000040);
+          } else {
+            ensureAltitudeIsMutable();
+            altitude_.addAll(other.altitude_);
+          }
+          onChanged();
+        }
+        if (!other.latitude_.isEmpty()) {
+          if (latitude_.isEmpty()) {
+            latitude_ = other.latitude_;
+            bitField0_ = (bitField0_ & ~0x00000080);
+          } else {
+            ensureLatitudeIsMutable();
+            latitude_.addAll(other.latitude_);
+          }
+          onChanged();
+        }
+        if (!other.longitude_.isEmpty()) {
+          if (longitude_.isEmpty()) {
+            longitude_ = other.longitude_;
+            bitField0_ = (bitField0_ & ~0x00000100);
+          } else {
+            ensureLongitudeIsMutable();
+            longitude_.addAll(other.longitude_);
+          }
+          onChanged();
+        }
+        if (!other.dr_.isEmpty()) {
+          if (dr_.isEmpty()) {
+            dr_ = other.dr_;
+            bitField0_ = (bitField0_ & ~0x00000200);
+          } else {
+            ensureDrIsMutable();
+            dr_.addAll(other.dr_);
+          }
+          onChanged();
+        }
+        if (!other.dtheta_.isEmpty()) {
+          if (dtheta_.isEmpty()) {
+            dtheta_ = other.dtheta_;
+            bitField0_ = (bitField0_ & ~0x00000400);
+          } else {
+            ensureDthetaIsMutable();
+            dtheta_.addAll(other.dtheta_);
+          }
+          onChanged();
+        }
+        if (!other.dphi_.isEmpty()) {
+          if (dphi_.isEmpty()) {
+            dphi_ = other.dphi_;
+            bitField0_ = (bitField0_ & ~0x00000800);
+          } else {
+            ensureDphiIsMutable();
+            dphi_.addAll(other.dphi_);
+          }
+          onChanged();
+        }
+        if (!other.heading_.isEmpty()) {
+          if (heading_.isEmpty()) {
+            heading_ = other.heading_;
+            bitField0_ = (bitField0_ & ~0x00001000);
+          } else {
+            ensureHeadingIsMutable();
+            heading_.addAll(other.heading_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasTime()) {
+          return false;
+        }
+        for (int i = 0; i < getAircraftStateCount(); i++) {
+          if (!getAircraftState(i).isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getAircraftHandleCount(); i++) {
+          if (!getAircraftHandle(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long time_ ;
+      /**
+       * <code>required int64 time = 1;</code>
+       */
+      public boolean hasTime() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required int64 time = 1;</code>
+       */
+      public long getTime() {
+        return time_;
+      }
+      /**
+       * <code>required int64 time = 1;</code>
+       */
+      public Builder setTime(long value) {
+        bitField0_ |= 0x00000001;
+        time_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 time = 1;</code>
+       */
+      public Builder clearTime() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        time_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage> aircraftState_ =
+        java.util.Collections.emptyList();
+      private void ensureAircraftStateIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          aircraftState_ = new java.util.ArrayList<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage>(aircraftState_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder> aircraftStateBuilder_;
+
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage> getAircraftStateList() {
+        if (aircraftStateBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(aircraftState_);
+        } else {
+          return aircraftStateBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public int getAircraftStateCount() {
+        if (aircraftStateBuilder_ == null) {
+          return aircraftState_.size();
+        } else {
+          return aircraftStateBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage getAircraftState(int index) {
+        if (aircraftStateBuilder_ == null) {
+          return aircraftState_.get(index);
+        } else {
+          return aircraftStateBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public Builder setAircraftState(
+          int index, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage value) {
+        if (aircraftStateBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAircraftStateIsMutable();
+          aircraftState_.set(index, value);
+          onChanged();
+        } else {
+          aircraftStateBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public Builder setAircraftState(
+          int index, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder builderForValue) {
+        if (aircraftStateBuilder_ == null) {
+          ensureAircraftStateIsMutable();
+          aircraftState_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          aircraftStateBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public Builder addAircraftState(com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage value) {
+        if (aircraftStateBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAircraftStateIsMutable();
+          aircraftState_.add(value);
+          onChanged();
+        } else {
+          aircraftStateBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public Builder addAircraftState(
+          int index, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage value) {
+        if (aircraftStateBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAircraftStateIsMutable();
+          aircraftState_.add(index, value);
+          onChanged();
+        } else {
+          aircraftStateBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public Builder addAircraftState(
+          com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder builderForValue) {
+        if (aircraftStateBuilder_ == null) {
+          ensureAircraftStateIsMutable();
+          aircraftState_.add(builderForValue.build());
+          onChanged();
+        } else {
+          aircraftStateBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public Builder addAircraftState(
+          int index, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder builderForValue) {
+        if (aircraftStateBuilder_ == null) {
+          ensureAircraftStateIsMutable();
+          aircraftState_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          aircraftStateBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public Builder addAllAircraftState(
+          java.lang.Iterable<? extends com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage> values) {
+        if (aircraftStateBuilder_ == null) {
+          ensureAircraftStateIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, aircraftState_);
+          onChanged();
+        } else {
+          aircraftStateBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public Builder clearAircraftState() {
+        if (aircraftStateBuilder_ == null) {
+          aircraftState_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          aircraftStateBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public Builder removeAircraftState(int index) {
+        if (aircraftStateBuilder_ == null) {
+          ensureAircraftStateIsMutable();
+          aircraftState_.remove(index);
+          onChanged();
+        } else {
+          aircraftStateBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder getAircraftStateBuilder(
+          int index) {
+        return getAircraftStateFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder getAircraftStateOrBuilder(
+          int index) {
+        if (aircraftStateBuilder_ == null) {
+          return aircraftState_.get(index);  } else {
+          return aircraftStateBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public java.util.List<? extends com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder>
+           getAircraftStateOrBuilderList() {
+        if (aircraftStateBuilder_ != null) {
+          return aircraftStateBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(aircraftState_);
+        }
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder addAircraftStateBuilder() {
+        return getAircraftStateFieldBuilder().addBuilder(
+            com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder addAircraftStateBuilder(
+          int index) {
+        return getAircraftStateFieldBuilder().addBuilder(
+            index, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       *when the feed isn't delta encoded
+       * </pre>
+       *
+       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       */
+      public java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder>
+           getAircraftStateBuilderList() {
+        return getAircraftStateFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder>
+          getAircraftStateFieldBuilder() {
+        if (aircraftStateBuilder_ == null) {
+          aircraftStateBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder>(
+                  aircraftState_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          aircraftState_ = null;
+        }
+        return aircraftStateBuilder_;
+      }
+
+      private boolean keyframe_ ;
+      /**
+       * <pre>
+       * When the feed is delta encoded, each of the packed arrays below has an entry for every aircraft in the
+       * system state. The position, velocity and heading are in fixed point, as differences from where they would be
+       * if they had kept changing as they did between the previous two messages (from the previous message, if the
+       * aircraft wasn't in the one before, or from zero, if its handle is in aircraftHandle).
+       * </pre>
+       *
+       * <code>optional bool keyframe = 3 [default = false];</code>
+       */
+      public boolean hasKeyframe() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <pre>
+       * When the feed is delta encoded, each of the packed arrays below has an entry for every aircraft in the
+       * system state. The position, velocity and heading are in fixed point, as differences from where they would be
+       * if they had kept changing as they did between the previous two messages (from the previous message, if the
+       * aircraft wasn't in the one before, or from zero, if its handle is in aircraftHandle).
+       * </pre>
+       *
+       * <code>optional bool keyframe = 3 [default = false];</code>
+       */
+      public boolean getKeyframe() {
+        return keyframe_;
+      }
+      /**
+       * <pre>
+       * When the feed is delta encoded, each of the packed arrays below has an entry for every aircraft in the
+       * system state. The position, velocity and heading are in fixed point, as differences from where they would be
+       * if they had kept changing as they did between the previous two messages (from the previous message, if the
+       * aircraft wasn't in the one before, or from zero, if its handle is in aircraftHandle).
+       * </pre>
+       *
+       * <code>optional bool keyframe = 3 [default = false];</code>
+       */
+      public Builder setKeyframe(boolean value) {
+        bitField0_ |= 0x00000004;
+        keyframe_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * When the feed is delta encoded, each of the packed arrays below has an entry for every aircraft in the
+       * system state. The position, velocity and heading are in fixed point, as differences from where they would be
+       * if they had kept changing as they did between the previous two messages (from the previous message, if the
+       * aircraft wasn't in the one before, or from zero, if its handle is in aircraftHandle).
+       * </pre>
+       *
+       * <code>optional bool keyframe = 3 [default = false];</code>
+       */
+      public Builder clearKeyframe() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        keyframe_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage> aircraftHandle_ =
+        java.util.Collections.emptyList();
+      private void ensureAircraftHandleIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          aircraftHandle_ = new java.util.ArrayList<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage>(aircraftHandle_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.Builder, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessageOrBuilder> aircraftHandleBuilder_;
+
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage> getAircraftHandleList() {
+        if (aircraftHandleBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(aircraftHandle_);
+        } else {
+          return aircraftHandleBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public int getAircraftHandleCount() {
+        if (aircraftHandleBuilder_ == null) {
+          return aircraftHandle_.size();
+        } else {
+          return aircraftHandleBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage getAircraftHandle(int index) {
+        if (aircraftHandleBuilder_ == null) {
+          return aircraftHandle_.get(index);
+        } else {
+          return aircraftHandleBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public Builder setAircraftHandle(
+          int index, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage value) {
+        if (aircraftHandleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAircraftHandleIsMutable();
+          aircraftHandle_.set(index, value);
+          onChanged();
+        } else {
+          aircraftHandleBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public Builder setAircraftHandle(
+          int index, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.Builder builderForValue) {
+        if (aircraftHandleBuilder_ == null) {
+          ensureAircraftHandleIsMutable();
+          aircraftHandle_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          aircraftHandleBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public Builder addAircraftHandle(com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage value) {
+        if (aircraftHandleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAircraftHandleIsMutable();
+          aircraftHandle_.add(value);
+          onChanged();
+        } else {
+          aircraftHandleBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public Builder addAircraftHandle(
+          int index, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage value) {
+        if (aircraftHandleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAircraftHandleIsMutable();
+          aircraftHandle_.add(index, value);
+          onChanged();
+        } else {
+          aircraftHandleBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public Builder addAircraftHandle(
+          com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.Builder builderForValue) {
+        if (aircraftHandleBuilder_ == null) {
+          ensureAircraftHandleIsMutable();
+          aircraftHandle_.add(builderForValue.build());
+          onChanged();
+        } else {
+          aircraftHandleBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public Builder addAircraftHandle(
+          int index, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.Builder builderForValue) {
+        if (aircraftHandleBuilder_ == null) {
+          ensureAircraftHandleIsMutable();
+          aircraftHandle_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          aircraftHandleBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public Builder addAllAircraftHandle(
+          java.lang.Iterable<? extends com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage> values) {
+        if (aircraftHandleBuilder_ == null) {
+          ensureAircraftHandleIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, aircraftHandle_);
+          onChanged();
+        } else {
+          aircraftHandleBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public Builder clearAircraftHandle() {
+        if (aircraftHandleBuilder_ == null) {
+          aircraftHandle_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          aircraftHandleBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public Builder removeAircraftHandle(int index) {
+        if (aircraftHandleBuilder_ == null) {
+          ensureAircraftHandleIsMutable();
+          aircraftHandle_.remove(index);
+          onChanged();
+        } else {
+          aircraftHandleBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.Builder getAircraftHandleBuilder(
+          int index) {
+        return getAircraftHandleFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessageOrBuilder getAircraftHandleOrBuilder(
+          int index) {
+        if (aircraftHandleBuilder_ == null) {
+          return aircraftHandle_.get(index);  } else {
+          return aircraftHandleBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public java.util.List<? extends com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessageOrBuilder>
+           getAircraftHandleOrBuilderList() {
+        if (aircraftHandleBuilder_ != null) {
+          return aircraftHandleBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(aircraftHandle_);
+        }
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.Builder addAircraftHandleBuilder() {
+        return getAircraftHandleFieldBuilder().addBuilder(
+            com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.Builder addAircraftHandleBuilder(
+          int index) {
+        return getAircraftHandleFieldBuilder().addBuilder(
+            index, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .AircraftHandleMessage aircraftHandle = 4;</code>
+       */
+      public java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.Builder>
+           getAircraftHandleBuilderList() {
+        return getAircraftHandleFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.Builder, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessageOrBuilder>
+          getAircraftHandleFieldBuilder() {
+        if (aircraftHandleBuilder_ == null) {
+          aircraftHandleBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessage.Builder, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftHandleMessageOrBuilder>(
+                  aircraftHandle_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          aircraftHandle_ = null;
+        }
+        return aircraftHandleBuilder_;
+      }
+
+      private java.util.List<java.lang.Integer> handle_ = java.util.Collections.emptyList();
+      private void ensureHandleIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          handle_ = new java.util.ArrayList<java.lang.Integer>(handle_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+      /**
+       * <code>repeated uint32 handle = 5 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getHandleList() {
+        return java.util.Collections.unmodifiableList(handle_);
+      }
+      /**
+       * <code>repeated uint32 handle = 5 [packed = true];</code>
+       */
+      public int getHandleCount() {
+        return handle_.size();
+      }
+      /**
+       * <code>repeated uint32 handle = 5 [packed = true];</code>
+       */
+      public int getHandle(int index) {
+        return handle_.get(index);
+      }
+      /**
+       * <code>repeated uint32 handle = 5 [packed = true];</code>
+       */
+      public Builder setHandle(
+          int index, int value) {
+        ensureHandleIsMutable();
+        handle_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 handle = 5 [packed = true];</code>
+       */
+      public Builder addHandle(int value) {
+        ensureHandleIsMutable();
+        handle_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 handle = 5 [packed = true];</code>
+       */
+      public Builder addAllHandle(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureHandleIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, handle_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 handle = 5 [packed = true];</code>
+       */
+      public Builder clearHandle() {
+        handle_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Long> timeOffset_ = java.util.Collections.emptyList();
+      private void ensureTimeOffsetIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          timeOffset_ = new java.util.ArrayList<java.lang.Long>(timeOffset_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+      /**
+       * <pre>
+       *milliseconds from the time
+       * </pre>
+       *
+       * <code>repeated sint64 timeOffset = 6 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Long>
+          getTimeOffsetList() {
+        return java.util.Collections.unmodifiableList(timeOffset_);
+      }
+      /**
+       * <pre>
+       *milliseconds from the time
+       * </pre>
+       *
+       * <code>repeated sint64 timeOffset = 6 [packed = true];</code>
+       */
+      public int getTimeOffsetCount() {
+        return timeOffset_.size();
+      }
+      /**
+       * <pre>
+       *milliseconds from the time
+       * </pre>
+       *
+       * <code>repeated sint64 timeOffset = 6 [packed = true];</code>
+       */
+      public long getTimeOffset(int index) {
+        return timeOffset_.get(index);
+      }
+      /**
+       * <pre>
+       *milliseconds from the time
+       * </pre>
+       *
+       * <code>repeated sint64 timeOffset = 6 [packed = true];</code>
+       */
+      public Builder setTimeOffset(
+          int index, long value) {
+        ensureTimeOffsetIsMutable();
+        timeOffset_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *milliseconds from the time
+       * </pre>
+       *
+       * <code>repeated sint64 timeOffset = 6 [packed = true];</code>
+       */
+      public Builder addTimeOffset(long value) {
+        ensureTimeOffsetIsMutable();
+        timeOffset_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *milliseconds from the time
+       * </pre>
+       *
+       * <code>repeated sint64 timeOffset = 6 [packed = true];</code>
+       */
+      public Builder addAllTimeOffset(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureTimeOffsetIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, timeOffset_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *milliseconds from the time
+       * </pre>
+       *
+       * <code>repeated sint64 timeOffset = 6 [packed = true];</code>
+       */
+      public Builder clearTimeOffset() {
+        timeOffset_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Long> altitude_ = java.util.Collections.emptyList();
+      private void ensureAltitudeIsMutable() {
+        if (!((bitField0_ & 0x00000040) == 0x00000040)) {
+          altitude_ = new java.util.ArrayList<java.lang.Long>(altitude_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+      /**
+       * <pre>
+       *centimeters
+       * </pre>
+       *
+       * <code>repeated sint64 altitude = 7 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Long>
+          getAltitudeList() {
+        return java.util.Collections.unmodifiableList(altitude_);
+      }
+      /**
+       * <pre>
+       *centimeters
+       * </pre>
+       *
+       * <code>repeated sint64 altitude = 7 [packed = true];</code>
+       */
+      public int getAltitudeCount() {
+        return altitude_.size();
+      }
+      /**
+       * <pre>
+       *centimeters
+       * </pre>
+       *
+       * <code>repeated sint64 altitude = 7 [packed = true];</code>
+       */
+      public long getAltitude(int index) {
+        return altitude_.get(index);
+      }
+      /**
+       * <pre>
+       *centimeters
+       * </pre>
+       *
+       * <code>repeated sint64 altitude = 7 [packed = true];</code>
+       */
+      public Builder setAltitude(
+          int index, long value) {
+        ensureAltitudeIsMutable();
+        altitude_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *centimeters
+       * </pre>
+       *
+       * <code>repeated sint64 altitude = 7 [packed = true];</code>
+       */
+      public Builder addAltitude(long value) {
+        ensureAltitudeIsMutable();
+        altitude_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *centimeters
+       * </pre>
+       *
+       * <code>repeated sint64 altitude = 7 [packed = true];</code>
+       */
+      public Builder addAllAltitude(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureAltitudeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, altitude_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *centimeters
+       * </pre>
+       *
+       * <code>repeated sint64 altitude = 7 [packed = true];</code>
+       */
+      public Builder clearAltitude() {
+        altitude_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Long> latitude_ = java.util.Collections.emptyList();
+      private void ensureLatitudeIsMutable() {
+        if (!((bitField0_ & 0x00000080) == 0x00000080)) {
+          latitude_ = new java.util.ArrayList<java.lang.Long>(latitude_);
+          bitField0_ |= 0x00000080;
+         }
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 latitude = 8 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Long>
+          getLatitudeList() {
+        return java.util.Collections.unmodifiableList(latitude_);
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 latitude = 8 [packed = true];</code>
+       */
+      public int getLatitudeCount() {
+        return latitude_.size();
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 latitude = 8 [packed = true];</code>
+       */
+      public long getLatitude(int index) {
+        return latitude_.get(index);
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 latitude = 8 [packed = true];</code>
+       */
+      public Builder setLatitude(
+          int index, long value) {
+        ensureLatitudeIsMutable();
+        latitude_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 latitude = 8 [packed = true];</code>
+       */
+      public Builder addLatitude(long value) {
+        ensureLatitudeIsMutable();
+        latitude_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 latitude = 8 [packed = true];</code>
+       */
+      public Builder addAllLatitude(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureLatitudeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, latitude_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 latitude = 8 [packed = true];</code>
+       */
+      public Builder clearLatitude() {
+        latitude_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000080);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Long> longitude_ = java.util.Collections.emptyList();
+      private void ensureLongitudeIsMutable() {
+        if (!((bitField0_ & 0x00000100) == 0x00000100)) {
+          longitude_ = new java.util.ArrayList<java.lang.Long>(longitude_);
+          bitField0_ |= 0x00000100;
+         }
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 longitude = 9 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Long>
+          getLongitudeList() {
+        return java.util.Collections.unmodifiableList(longitude_);
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 longitude = 9 [packed = true];</code>
+       */
+      public int getLongitudeCount() {
+        return longitude_.size();
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 longitude = 9 [packed = true];</code>
+       */
+      public long getLongitude(int index) {
+        return longitude_.get(index);
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 longitude = 9 [packed = true];</code>
+       */
+      public Builder setLongitude(
+          int index, long value) {
+        ensureLongitudeIsMutable();
+        longitude_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 longitude = 9 [packed = true];</code>
+       */
+      public Builder addLongitude(long value) {
+        ensureLongitudeIsMutable();
+        longitude_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 longitude = 9 [packed = true];</code>
+       */
+      public Builder addAllLongitude(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureLongitudeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, longitude_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 longitude = 9 [packed = true];</code>
+       */
+      public Builder clearLongitude() {
+        longitude_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Long> dr_ = java.util.Collections.emptyList();
+      private void ensureDrIsMutable() {
+        if (!((bitField0_ & 0x00000200) == 0x00000200)) {
+          dr_ = new java.util.ArrayList<java.lang.Long>(dr_);
+          bitField0_ |= 0x00000200;
+         }
+      }
+      /**
+       * <pre>
+       *centimeters per second
+       * </pre>
+       *
+       * <code>repeated sint64 dr = 10 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Long>
+          getDrList() {
+        return java.util.Collections.unmodifiableList(dr_);
+      }
+      /**
+       * <pre>
+       *centimeters per second
+       * </pre>
+       *
+       * <code>repeated sint64 dr = 10 [packed = true];</code>
+       */
+      public int getDrCount() {
+        return dr_.size();
+      }
+      /**
+       * <pre>
+       *centimeters per second
+       * </pre>
+       *
+       * <code>repeated sint64 dr = 10 [packed = true];</code>
+       */
+      public long getDr(int index) {
+        return dr_.get(index);
+      }
+      /**
+       * <pre>
+       *centimeters per second
+       * </pre>
+       *
+       * <code>repeated sint64 dr = 10 [packed = true];</code>
+       */
+      public Builder setDr(
+          int index, long value) {
+        ensureDrIsMutable();
+        dr_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *centimeters per second
+       * </pre>
+       *
+       * <code>repeated sint64 dr = 10 [packed = true];</code>
+       */
+      public Builder addDr(long value) {
+        ensureDrIsMutable();
+        dr_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *centimeters per second
+       * </pre>
+       *
+       * <code>repeated sint64 dr = 10 [packed = true];</code>
+       */
+      public Builder addAllDr(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureDrIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, dr_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *centimeters per second
+       * </pre>
+       *
+       * <code>repeated sint64 dr = 10 [packed = true];</code>
+       */
+      public Builder clearDr() {
+        dr_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000200);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Long> dtheta_ = java.util.Collections.emptyList();
+      private void ensureDthetaIsMutable() {
+        if (!((bitField0_ & 0x00000400) == 0x00000400)) {
+          dtheta_ = new java.util.ArrayList<java.lang.Long>(dtheta_);
+          bitField0_ |= 0x00000400;
+         }
+      }
+      /**
+       * <pre>
+       *1e-10 radians per second
+       * </pre>
+       *
+       * <code>repeated sint64 dtheta = 11 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Long>
+          getDthetaList() {
+        return java.util.Collections.unmodifiableList(dtheta_);
+      }
+      /**
+       * <pre>
+       *1e-10 radians per second
+       * </pre>
+       *
+       * <code>repeated sint64 dtheta = 11 [packed = true];</code>
        */
-      public int getAircraftStateCount() {
-        if (aircraftStateBuilder_ == null) {
-          return aircraftState_.size();
-        } else {
-          return aircraftStateBuilder_.getCount();
-        }
+      public int getDthetaCount() {
+        return dtheta_.size();
       }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <pre>
+       *1e-10 radians per second
+       * </pre>
+       *
+       * <code>repeated sint64 dtheta = 11 [packed = true];</code>
        */
-      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage getAircraftState(int index) {
-        if (aircraftStateBuilder_ == null) {
-          return aircraftState_.get(index);
-        } else {
-          return aircraftStateBuilder_.getMessage(index);
-        }
+      public long getDtheta(int index) {
+        return dtheta_.get(index);
       }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <pre>
+       *1e-10 radians per second
+       * </pre>
+       *
+       * <code>repeated sint64 dtheta = 11 [packed = true];</code>
        */
-      public Builder setAircraftState(
-          int index, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage value) {
-        if (aircraftStateBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureAircraftStateIsMutable();
-          aircraftState_.set(index, value);
-          onChanged();
-        } else {
-          aircraftStateBuilder_.setMessage(index, value);
-        }
+      public Builder setDtheta(
+          int index, long value) {
+        ensureDthetaIsMutable();
+        dtheta_.set(index, value);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <pre>
+       *1e-10 radians per second
+       * </pre>
+       *
+       * <code>repeated sint64 dtheta = 11 [packed = true];</code>
        */
-      public Builder setAircraftState(
-          int index, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder builderForValue) {
-        if (aircraftStateBuilder_ == null) {
-          ensureAircraftStateIsMutable();
-          aircraftState_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          aircraftStateBuilder_.setMessage(index, builderForValue.build());
-        }
+      public Builder addDtheta(long value) {
+        ensureDthetaIsMutable();
+        dtheta_.add(value);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <pre>
+       *1e-10 radians per second
+       * </pre>
+       *
+       * <code>repeated sint64 dtheta = 11 [packed = true];</code>
        */
-      public Builder addAircraftState(com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage value) {
-        if (aircraftStateBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureAircraftStateIsMutable();
-          aircraftState_.add(value);
-          onChanged();
-        } else {
-          aircraftStateBuilder_.addMessage(value);
-        }
+      public Builder addAllDtheta(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureDthetaIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, dtheta_);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <pre>
+       *1e-10 radians per second
+       * </pre>
+       *
+       * <code>repeated sint64 dtheta = 11 [packed = true];</code>
        */
-      public Builder addAircraftState(
-          int index, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage value) {
-        if (aircraftStateBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureAircraftStateIsMutable();
-          aircraftState_.add(index, value);
-          onChanged();
-        } else {
-          aircraftStateBuilder_.addMessage(index, value);
-        }
+      public Builder clearDtheta() {
+        dtheta_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000400);
+        onChanged();
         return this;
       }
+
+      private java.util.List<java.lang.Long> dphi_ = java.util.Collections.emptyList();
+      private void ensureDphiIsMutable() {
+        if (!((bitField0_ & 0x00000800) == 0x00000800)) {
+          dphi_ = new java.util.ArrayList<java.lang.Long>(dphi_);
+          bitField0_ |= 0x00000800;
+         }
+      }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <pre>
+       *1e-10 radians per second
+       * </pre>
+       *
+       * <code>repeated sint64 dphi = 12 [packed = true];</code>
        */
-      public Builder addAircraftState(
-          com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder builderForValue) {
-        if (aircraftStateBuilder_ == null) {
-          ensureAircraftStateIsMutable();
-          aircraftState_.add(builderForValue.build());
-          onChanged();
-        } else {
-          aircraftStateBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
+      public java.util.List<java.lang.Long>
+          getDphiList() {
+        return java.util.Collections.unmodifiableList(dphi_);
       }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <pre>
+       *1e-10 radians per second
+       * </pre>
+       *
+       * <code>repeated sint64 dphi = 12 [packed = true];</code>
        */
-      public Builder addAircraftState(
-          int index, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder builderForValue) {
-        if (aircraftStateBuilder_ == null) {
-          ensureAircraftStateIsMutable();
-          aircraftState_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          aircraftStateBuilder_.addMessage(index, builderForValue.build());
-        }
+      public int getDphiCount() {
+        return dphi_.size();
+      }
+      /**
+       * <pre>
+       *1e-10 radians per second
+       * </pre>
+       *
+       * <code>repeated sint64 dphi = 12 [packed = true];</code>
+       */
+      public long getDphi(int index) {
+        return dphi_.get(index);
+      }
+      /**
+       * <pre>
+       *1e-10 radians per second
+       * </pre>
+       *
+       * <code>repeated sint64 dphi = 12 [packed = true];</code>
+       */
+      public Builder setDphi(
+          int index, long value) {
+        ensureDphiIsMutable();
+        dphi_.set(index, value);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <pre>
+       *1e-10 radians per second
+       * </pre>
+       *
+       * <code>repeated sint64 dphi = 12 [packed = true];</code>
        */
-      public Builder addAllAircraftState(
-          java.lang.Iterable<? extends com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage> values) {
-        if (aircraftStateBuilder_ == null) {
-          ensureAircraftStateIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, aircraftState_);
-          onChanged();
-        } else {
-          aircraftStateBuilder_.addAllMessages(values);
-        }
+      public Builder addDphi(long value) {
+        ensureDphiIsMutable();
+        dphi_.add(value);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <pre>
+       *1e-10 radians per second
+       * </pre>
+       *
+       * <code>repeated sint64 dphi = 12 [packed = true];</code>
        */
-      public Builder clearAircraftState() {
-        if (aircraftStateBuilder_ == null) {
-          aircraftState_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000002);
-          onChanged();
-        } else {
-          aircraftStateBuilder_.clear();
-        }
+      public Builder addAllDphi(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureDphiIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, dphi_);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <pre>
+       *1e-10 radians per second
+       * </pre>
+       *
+       * <code>repeated sint64 dphi = 12 [packed = true];</code>
        */
-      public Builder removeAircraftState(int index) {
-        if (aircraftStateBuilder_ == null) {
-          ensureAircraftStateIsMutable();
-          aircraftState_.remove(index);
-          onChanged();
-        } else {
-          aircraftStateBuilder_.remove(index);
-        }
+      public Builder clearDphi() {
+        dphi_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000800);
+        onChanged();
         return this;
       }
+
+      private java.util.List<java.lang.Long> heading_ = java.util.Collections.emptyList();
+      private void ensureHeadingIsMutable() {
+        if (!((bitField0_ & 0x00001000) == 0x00001000)) {
+          heading_ = new java.util.ArrayList<java.lang.Long>(heading_);
+          bitField0_ |= 0x00001000;
+         }
+      }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 heading = 13 [packed = true];</code>
        */
-      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder getAircraftStateBuilder(
-          int index) {
-        return getAircraftStateFieldBuilder().getBuilder(index);
+      public java.util.List<java.lang.Long>
+          getHeadingList() {
+        return java.util.Collections.unmodifiableList(heading_);
       }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 heading = 13 [packed = true];</code>
        */
-      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder getAircraftStateOrBuilder(
-          int index) {
-        if (aircraftStateBuilder_ == null) {
-          return aircraftState_.get(index);  } else {
-          return aircraftStateBuilder_.getMessageOrBuilder(index);
-        }
+      public int getHeadingCount() {
+        return heading_.size();
       }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 heading = 13 [packed = true];</code>
        */
-      public java.util.List<? extends com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder>
-           getAircraftStateOrBuilderList() {
-        if (aircraftStateBuilder_ != null) {
-          return aircraftStateBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(aircraftState_);
-        }
+      public long getHeading(int index) {
+        return heading_.get(index);
       }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 heading = 13 [packed = true];</code>
        */
-      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder addAircraftStateBuilder() {
-        return getAircraftStateFieldBuilder().addBuilder(
-            com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.getDefaultInstance());
+      public Builder setHeading(
+          int index, long value) {
+        ensureHeadingIsMutable();
+        heading_.set(index, value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 heading = 13 [packed = true];</code>
        */
-      public com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder addAircraftStateBuilder(
-          int index) {
-        return getAircraftStateFieldBuilder().addBuilder(
-            index, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.getDefaultInstance());
+      public Builder addHeading(long value) {
+        ensureHeadingIsMutable();
+        heading_.add(value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .AircraftStateMessage aircraftState = 2;</code>
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 heading = 13 [packed = true];</code>
        */
-      public java.util.List<com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder>
-           getAircraftStateBuilderList() {
-        return getAircraftStateFieldBuilder().getBuilderList();
+      public Builder addAllHeading(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureHeadingIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, heading_);
+        onChanged();
+        return this;
       }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder>
-          getAircraftStateFieldBuilder() {
-        if (aircraftStateBuilder_ == null) {
-          aircraftStateBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessage.Builder, com.atc.simulator.protocol_buffers.DebugDataFeedServe.AircraftStateMessageOrBuilder>(
-                  aircraftState_,
-                  ((bitField0_ & 0x00000002) == 0x00000002),
-                  getParentForChildren(),
-                  isClean());
-          aircraftState_ = null;
-        }
-        return aircraftStateBuilder_;
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint64 heading = 13 [packed = true];</code>
+       */
+      public Builder clearHeading() {
+        heading_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00001000);
+        onChanged();
+        return this;
       }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -3422,6 +6667,11 @@ public final class DebugDataFeedServe {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_AircraftStateMessage_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AircraftHandleMessage_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AircraftHandleMessage_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_SystemStateMessage_descriptor;
   private static final 
@@ -3445,10 +6695,18 @@ public final class DebugDataFeedServe {
       "\n\004time\030\002 \002(\003\022.\n\010position\030\003 \002(\0132\034.Geograp" +
       "hicCoordinateMessage\022+\n\010velocity\030\004 \002(\0132\031" +
       ".SphericalVelocityMessage\022\017\n\007heading\030\005 \002" +
-      "(\001\"P\n\022SystemStateMessage\022\014\n\004time\030\001 \002(\003\022,",
-      "\n\raircraftState\030\002 \003(\0132\025.AircraftStateMes" +
-      "sageB7\n!com.atc.simulator.ProtocolBuffer" +
-      "sB\022DebugDataFeedServe"
+      "(\001\";\n\025AircraftHandleMessage\022\016\n\006handle\030\001 ",
+      "\002(\r\022\022\n\naircraftID\030\002 \002(\t\"\323\002\n\022SystemStateM" +
+      "essage\022\014\n\004time\030\001 \002(\003\022,\n\raircraftState\030\002 " +
+      "\003(\0132\025.AircraftStateMessage\022\027\n\010keyframe\030\003" +
+      " \001(\010:\005false\022.\n\016aircraftHandle\030\004 \003(\0132\026.Ai" +
+      "rcraftHandleMessage\022\022\n\006handle\030\005 \003(\rB\002\020\001\022" +
+      "\026\n\ntimeOffset\030\006 \003(\022B\002\020\001\022\024\n\010altitude\030\007 \003(" +
+      "\022B\002\020\001\022\024\n\010latitude\030\010 \003(\022B\002\020\001\022\025\n\tlongitude" +
+      "\030\t \003(\022B\002\020\001\022\016\n\002dr\030\n \003(\022B\002\020\001\022\022\n\006dtheta\030\013 \003" +
+      "(\022B\002\020\001\022\020\n\004dphi\030\014 \003(\022B\002\020\001\022\023\n\007heading\030\r \003(" +
+      "\022B\002\020\001B8\n\"com.atc.simulator.protocol_buff",
+      "ersB\022DebugDataFeedServe"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -3480,12 +6738,18 @@ public final class DebugDataFeedServe {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_AircraftStateMessage_descriptor,
         new java.lang.String[] { "AircraftID", "Time", "Position", "Velocity", "Heading", });
-    internal_static_SystemStateMessage_descriptor =
+    internal_static_AircraftHandleMessage_descriptor =
       getDescriptor().getMessageTypes().get(3);
+    internal_static_AircraftHandleMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AircraftHandleMessage_descriptor,
+        new java.lang.String[] { "Handle", "AircraftID", });
+    internal_static_SystemStateMessage_descriptor =
+      getDescriptor().getMessageTypes().get(4);
     internal_static_SystemStateMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_SystemStateMessage_descriptor,
-        new java.lang.String[] { "Time", "AircraftState", });
+        new java.lang.String[] { "Time", "AircraftState", "Keyframe", "AircraftHandle", "Handle", "TimeOffset", "Altitude", "Latitude", "Longitude", "Dr", "Dtheta", "Dphi", "Heading", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
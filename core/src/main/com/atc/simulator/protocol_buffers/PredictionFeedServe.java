@@ -3040,117 +3040,167 @@ public final class PredictionFeedServe {
 
   }
 
-  public interface AircraftPredictionMessageOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:AircraftPredictionMessage)
+  public interface CompactTrackOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CompactTrack)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required string aircraftID = 1;</code>
-     */
-    boolean hasAircraftID();
-    /**
-     * <code>required string aircraftID = 1;</code>
+     * <pre>
+     *time of the first state, milliseconds since epoch
+     * </pre>
+     *
+     * <code>required int64 startTime = 1;</code>
      */
-    java.lang.String getAircraftID();
+    boolean hasStartTime();
     /**
-     * <code>required string aircraftID = 1;</code>
+     * <pre>
+     *time of the first state, milliseconds since epoch
+     * </pre>
+     *
+     * <code>required int64 startTime = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getAircraftIDBytes();
+    long getStartTime();
 
     /**
      * <pre>
-     *milliseconds since epoch
+     *milliseconds between states
      * </pre>
      *
-     * <code>required int64 time = 2;</code>
+     * <code>required int32 timeStep = 2;</code>
      */
-    boolean hasTime();
+    boolean hasTimeStep();
     /**
      * <pre>
-     *milliseconds since epoch
+     *milliseconds between states
      * </pre>
      *
-     * <code>required int64 time = 2;</code>
+     * <code>required int32 timeStep = 2;</code>
      */
-    long getTime();
+    int getTimeStep();
 
     /**
-     * <code>optional .Track leftTrack = 3;</code>
+     * <pre>
+     *velocity of every state
+     * </pre>
+     *
+     * <code>required .SphericalVelocityMessage velocity = 3;</code>
      */
-    boolean hasLeftTrack();
+    boolean hasVelocity();
     /**
-     * <code>optional .Track leftTrack = 3;</code>
+     * <pre>
+     *velocity of every state
+     * </pre>
+     *
+     * <code>required .SphericalVelocityMessage velocity = 3;</code>
      */
-    com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getLeftTrack();
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage getVelocity();
     /**
-     * <code>optional .Track leftTrack = 3;</code>
+     * <pre>
+     *velocity of every state
+     * </pre>
+     *
+     * <code>required .SphericalVelocityMessage velocity = 3;</code>
      */
-    com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getLeftTrackOrBuilder();
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessageOrBuilder getVelocityOrBuilder();
 
     /**
-     * <code>required .Track centreTrack = 4;</code>
+     * <pre>
+     *meters
+     * </pre>
+     *
+     * <code>repeated sint32 altitude = 4 [packed = true];</code>
      */
-    boolean hasCentreTrack();
+    java.util.List<java.lang.Integer> getAltitudeList();
     /**
-     * <code>required .Track centreTrack = 4;</code>
+     * <pre>
+     *meters
+     * </pre>
+     *
+     * <code>repeated sint32 altitude = 4 [packed = true];</code>
      */
-    com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getCentreTrack();
+    int getAltitudeCount();
     /**
-     * <code>required .Track centreTrack = 4;</code>
+     * <pre>
+     *meters
+     * </pre>
+     *
+     * <code>repeated sint32 altitude = 4 [packed = true];</code>
      */
-    com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getCentreTrackOrBuilder();
+    int getAltitude(int index);
 
     /**
-     * <code>optional .Track rightTrack = 5;</code>
-     */
-    boolean hasRightTrack();
-    /**
-     * <code>optional .Track rightTrack = 5;</code>
-     */
-    com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getRightTrack();
-    /**
-     * <code>optional .Track rightTrack = 5;</code>
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint32 latitude = 5 [packed = true];</code>
      */
-    com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getRightTrackOrBuilder();
-
+    java.util.List<java.lang.Integer> getLatitudeList();
     /**
-     * <code>required .AircraftPredictionMessage.State state = 6;</code>
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint32 latitude = 5 [packed = true];</code>
      */
-    boolean hasState();
+    int getLatitudeCount();
     /**
-     * <code>required .AircraftPredictionMessage.State state = 6;</code>
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint32 latitude = 5 [packed = true];</code>
      */
-    com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State getState();
+    int getLatitude(int index);
 
     /**
-     * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint32 longitude = 6 [packed = true];</code>
      */
-    boolean hasAircraftState();
+    java.util.List<java.lang.Integer> getLongitudeList();
     /**
-     * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint32 longitude = 6 [packed = true];</code>
      */
-    com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage getAircraftState();
+    int getLongitudeCount();
     /**
-     * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint32 longitude = 6 [packed = true];</code>
      */
-    com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessageOrBuilder getAircraftStateOrBuilder();
+    int getLongitude(int index);
   }
   /**
-   * Protobuf type {@code AircraftPredictionMessage}
+   * <pre>
+   * A track whose states are evenly spaced in time and share the same velocity, encoded compactly.
+   * The positions are in fixed point, and each is the difference from the position of the previous
+   * state (the first is the difference from 0).
+   * </pre>
+   *
+   * Protobuf type {@code CompactTrack}
    */
-  public  static final class AircraftPredictionMessage extends
+  public  static final class CompactTrack extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:AircraftPredictionMessage)
-      AircraftPredictionMessageOrBuilder {
-    // Use AircraftPredictionMessage.newBuilder() to construct.
-    private AircraftPredictionMessage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:CompactTrack)
+      CompactTrackOrBuilder {
+    // Use CompactTrack.newBuilder() to construct.
+    private CompactTrack(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private AircraftPredictionMessage() {
-      aircraftID_ = "";
-      time_ = 0L;
-      state_ = 0;
+    private CompactTrack() {
+      startTime_ = 0L;
+      timeStep_ = 0;
+      altitude_ = java.util.Collections.emptyList();
+      latitude_ = java.util.Collections.emptyList();
+      longitude_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -3158,7 +3208,7 @@ public final class PredictionFeedServe {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private AircraftPredictionMessage(
+    private CompactTrack(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3181,78 +3231,90 @@ public final class PredictionFeedServe {
               }
               break;
             }
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
+            case 8: {
               bitField0_ |= 0x00000001;
-              aircraftID_ = bs;
+              startTime_ = input.readInt64();
               break;
             }
             case 16: {
               bitField0_ |= 0x00000002;
-              time_ = input.readInt64();
+              timeStep_ = input.readInt32();
               break;
             }
             case 26: {
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder subBuilder = null;
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage.Builder subBuilder = null;
               if (((bitField0_ & 0x00000004) == 0x00000004)) {
-                subBuilder = leftTrack_.toBuilder();
+                subBuilder = velocity_.toBuilder();
               }
-              leftTrack_ = input.readMessage(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.PARSER, extensionRegistry);
+              velocity_ = input.readMessage(com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(leftTrack_);
-                leftTrack_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(velocity_);
+                velocity_ = subBuilder.buildPartial();
               }
               bitField0_ |= 0x00000004;
               break;
             }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                altitude_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              altitude_.add(input.readSInt32());
+              break;
+            }
             case 34: {
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000008) == 0x00000008)) {
-                subBuilder = centreTrack_.toBuilder();
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008) && input.getBytesUntilLimit() > 0) {
+                altitude_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000008;
               }
-              centreTrack_ = input.readMessage(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(centreTrack_);
-                centreTrack_ = subBuilder.buildPartial();
+              while (input.getBytesUntilLimit() > 0) {
+                altitude_.add(input.readSInt32());
               }
-              bitField0_ |= 0x00000008;
+              input.popLimit(limit);
+              break;
+            }
+            case 40: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                latitude_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              latitude_.add(input.readSInt32());
               break;
             }
             case 42: {
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000010) == 0x00000010)) {
-                subBuilder = rightTrack_.toBuilder();
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010) && input.getBytesUntilLimit() > 0) {
+                latitude_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000010;
               }
-              rightTrack_ = input.readMessage(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(rightTrack_);
-                rightTrack_ = subBuilder.buildPartial();
+              while (input.getBytesUntilLimit() > 0) {
+                latitude_.add(input.readSInt32());
               }
-              bitField0_ |= 0x00000010;
+              input.popLimit(limit);
               break;
             }
             case 48: {
-              int rawValue = input.readEnum();
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State value = com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State.valueOf(rawValue);
-              if (value == null) {
-                unknownFields.mergeVarintField(6, rawValue);
-              } else {
-                bitField0_ |= 0x00000020;
-                state_ = rawValue;
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                longitude_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000020;
               }
+              longitude_.add(input.readSInt32());
               break;
             }
-            case 58: {
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000040) == 0x00000040)) {
-                subBuilder = aircraftState_.toBuilder();
+            case 50: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020) && input.getBytesUntilLimit() > 0) {
+                longitude_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000020;
               }
-              aircraftState_ = input.readMessage(com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(aircraftState_);
-                aircraftState_ = subBuilder.buildPartial();
+              while (input.getBytesUntilLimit() > 0) {
+                longitude_.add(input.readSInt32());
               }
-              bitField0_ |= 0x00000040;
+              input.popLimit(limit);
               break;
             }
           }
@@ -3263,295 +3325,215 @@ public final class PredictionFeedServe {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          altitude_ = java.util.Collections.unmodifiableList(altitude_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          latitude_ = java.util.Collections.unmodifiableList(latitude_);
+        }
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          longitude_ = java.util.Collections.unmodifiableList(longitude_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_AircraftPredictionMessage_descriptor;
+      return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_CompactTrack_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_AircraftPredictionMessage_fieldAccessorTable
+      return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_CompactTrack_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.class, com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.Builder.class);
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.class, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder.class);
     }
 
+    private int bitField0_;
+    public static final int STARTTIME_FIELD_NUMBER = 1;
+    private long startTime_;
     /**
-     * Protobuf enum {@code AircraftPredictionMessage.State}
+     * <pre>
+     *time of the first state, milliseconds since epoch
+     * </pre>
+     *
+     * <code>required int64 startTime = 1;</code>
      */
-    public enum State
-        implements com.google.protobuf.ProtocolMessageEnum {
-      /**
-       * <code>STOPPED = 0;</code>
-       */
-      STOPPED(0),
-      /**
-       * <code>STRAIGHT = 1;</code>
-       */
-      STRAIGHT(1),
-      /**
-       * <code>LEFT_TURN = 2;</code>
-       */
-      LEFT_TURN(2),
-      /**
-       * <code>RIGHT_TURN = 3;</code>
-       */
-      RIGHT_TURN(3),
-      ;
-
-      /**
-       * <code>STOPPED = 0;</code>
-       */
-      public static final int STOPPED_VALUE = 0;
-      /**
-       * <code>STRAIGHT = 1;</code>
-       */
-      public static final int STRAIGHT_VALUE = 1;
-      /**
-       * <code>LEFT_TURN = 2;</code>
-       */
-      public static final int LEFT_TURN_VALUE = 2;
-      /**
-       * <code>RIGHT_TURN = 3;</code>
-       */
-      public static final int RIGHT_TURN_VALUE = 3;
-
-
-      public final int getNumber() {
-        return value;
-      }
-
-      /**
-       * @deprecated Use {@link #forNumber(int)} instead.
-       */
-      @java.lang.Deprecated
-      public static State valueOf(int value) {
-        return forNumber(value);
-      }
+    public boolean hasStartTime() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <pre>
+     *time of the first state, milliseconds since epoch
+     * </pre>
+     *
+     * <code>required int64 startTime = 1;</code>
+     */
+    public long getStartTime() {
+      return startTime_;
+    }
 
-      public static State forNumber(int value) {
-        switch (value) {
-          case 0: return STOPPED;
-          case 1: return STRAIGHT;
-          case 2: return LEFT_TURN;
-          case 3: return RIGHT_TURN;
-          default: return null;
-        }
-      }
+    public static final int TIMESTEP_FIELD_NUMBER = 2;
+    private int timeStep_;
+    /**
+     * <pre>
+     *milliseconds between states
+     * </pre>
+     *
+     * <code>required int32 timeStep = 2;</code>
+     */
+    public boolean hasTimeStep() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <pre>
+     *milliseconds between states
+     * </pre>
+     *
+     * <code>required int32 timeStep = 2;</code>
+     */
+    public int getTimeStep() {
+      return timeStep_;
+    }
 
-      public static com.google.protobuf.Internal.EnumLiteMap<State>
-          internalGetValueMap() {
-        return internalValueMap;
-      }
-      private static final com.google.protobuf.Internal.EnumLiteMap<
-          State> internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<State>() {
-              public State findValueByNumber(int number) {
-                return State.forNumber(number);
-              }
-            };
-
-      public final com.google.protobuf.Descriptors.EnumValueDescriptor
-          getValueDescriptor() {
-        return getDescriptor().getValues().get(ordinal());
-      }
-      public final com.google.protobuf.Descriptors.EnumDescriptor
-          getDescriptorForType() {
-        return getDescriptor();
-      }
-      public static final com.google.protobuf.Descriptors.EnumDescriptor
-          getDescriptor() {
-        return com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.getDescriptor().getEnumTypes().get(0);
-      }
-
-      private static final State[] VALUES = values();
-
-      public static State valueOf(
-          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
-        if (desc.getType() != getDescriptor()) {
-          throw new java.lang.IllegalArgumentException(
-            "EnumValueDescriptor is not for this type.");
-        }
-        return VALUES[desc.getIndex()];
-      }
-
-      private final int value;
-
-      private State(int value) {
-        this.value = value;
-      }
-
-      // @@protoc_insertion_point(enum_scope:AircraftPredictionMessage.State)
-    }
-
-    private int bitField0_;
-    public static final int AIRCRAFTID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object aircraftID_;
-    /**
-     * <code>required string aircraftID = 1;</code>
-     */
-    public boolean hasAircraftID() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
-    /**
-     * <code>required string aircraftID = 1;</code>
-     */
-    public java.lang.String getAircraftID() {
-      java.lang.Object ref = aircraftID_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          aircraftID_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>required string aircraftID = 1;</code>
-     */
-    public com.google.protobuf.ByteString
-        getAircraftIDBytes() {
-      java.lang.Object ref = aircraftID_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        aircraftID_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int TIME_FIELD_NUMBER = 2;
-    private long time_;
+    public static final int VELOCITY_FIELD_NUMBER = 3;
+    private com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage velocity_;
     /**
      * <pre>
-     *milliseconds since epoch
+     *velocity of every state
      * </pre>
      *
-     * <code>required int64 time = 2;</code>
+     * <code>required .SphericalVelocityMessage velocity = 3;</code>
      */
-    public boolean hasTime() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasVelocity() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
      * <pre>
-     *milliseconds since epoch
+     *velocity of every state
      * </pre>
      *
-     * <code>required int64 time = 2;</code>
-     */
-    public long getTime() {
-      return time_;
-    }
-
-    public static final int LEFTTRACK_FIELD_NUMBER = 3;
-    private com.atc.simulator.protocol_buffers.PredictionFeedServe.Track leftTrack_;
-    /**
-     * <code>optional .Track leftTrack = 3;</code>
-     */
-    public boolean hasLeftTrack() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
-    }
-    /**
-     * <code>optional .Track leftTrack = 3;</code>
+     * <code>required .SphericalVelocityMessage velocity = 3;</code>
      */
-    public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getLeftTrack() {
-      return leftTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : leftTrack_;
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage getVelocity() {
+      return velocity_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage.getDefaultInstance() : velocity_;
     }
     /**
-     * <code>optional .Track leftTrack = 3;</code>
+     * <pre>
+     *velocity of every state
+     * </pre>
+     *
+     * <code>required .SphericalVelocityMessage velocity = 3;</code>
      */
-    public com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getLeftTrackOrBuilder() {
-      return leftTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : leftTrack_;
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessageOrBuilder getVelocityOrBuilder() {
+      return velocity_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage.getDefaultInstance() : velocity_;
     }
 
-    public static final int CENTRETRACK_FIELD_NUMBER = 4;
-    private com.atc.simulator.protocol_buffers.PredictionFeedServe.Track centreTrack_;
+    public static final int ALTITUDE_FIELD_NUMBER = 4;
+    private java.util.List<java.lang.Integer> altitude_;
     /**
-     * <code>required .Track centreTrack = 4;</code>
+     * <pre>
+     *meters
+     * </pre>
+     *
+     * <code>repeated sint32 altitude = 4 [packed = true];</code>
      */
-    public boolean hasCentreTrack() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+    public java.util.List<java.lang.Integer>
+        getAltitudeList() {
+      return altitude_;
     }
     /**
-     * <code>required .Track centreTrack = 4;</code>
+     * <pre>
+     *meters
+     * </pre>
+     *
+     * <code>repeated sint32 altitude = 4 [packed = true];</code>
      */
-    public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getCentreTrack() {
-      return centreTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : centreTrack_;
+    public int getAltitudeCount() {
+      return altitude_.size();
     }
     /**
-     * <code>required .Track centreTrack = 4;</code>
+     * <pre>
+     *meters
+     * </pre>
+     *
+     * <code>repeated sint32 altitude = 4 [packed = true];</code>
      */
-    public com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getCentreTrackOrBuilder() {
-      return centreTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : centreTrack_;
+    public int getAltitude(int index) {
+      return altitude_.get(index);
     }
+    private int altitudeMemoizedSerializedSize = -1;
 
-    public static final int RIGHTTRACK_FIELD_NUMBER = 5;
-    private com.atc.simulator.protocol_buffers.PredictionFeedServe.Track rightTrack_;
-    /**
-     * <code>optional .Track rightTrack = 5;</code>
-     */
-    public boolean hasRightTrack() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
-    }
-    /**
-     * <code>optional .Track rightTrack = 5;</code>
-     */
-    public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getRightTrack() {
-      return rightTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : rightTrack_;
-    }
+    public static final int LATITUDE_FIELD_NUMBER = 5;
+    private java.util.List<java.lang.Integer> latitude_;
     /**
-     * <code>optional .Track rightTrack = 5;</code>
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint32 latitude = 5 [packed = true];</code>
      */
-    public com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getRightTrackOrBuilder() {
-      return rightTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : rightTrack_;
+    public java.util.List<java.lang.Integer>
+        getLatitudeList() {
+      return latitude_;
     }
-
-    public static final int STATE_FIELD_NUMBER = 6;
-    private int state_;
     /**
-     * <code>required .AircraftPredictionMessage.State state = 6;</code>
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint32 latitude = 5 [packed = true];</code>
      */
-    public boolean hasState() {
-      return ((bitField0_ & 0x00000020) == 0x00000020);
+    public int getLatitudeCount() {
+      return latitude_.size();
     }
     /**
-     * <code>required .AircraftPredictionMessage.State state = 6;</code>
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint32 latitude = 5 [packed = true];</code>
      */
-    public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State getState() {
-      com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State result = com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State.valueOf(state_);
-      return result == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State.STOPPED : result;
+    public int getLatitude(int index) {
+      return latitude_.get(index);
     }
+    private int latitudeMemoizedSerializedSize = -1;
 
-    public static final int AIRCRAFTSTATE_FIELD_NUMBER = 7;
-    private com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage aircraftState_;
+    public static final int LONGITUDE_FIELD_NUMBER = 6;
+    private java.util.List<java.lang.Integer> longitude_;
     /**
-     * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint32 longitude = 6 [packed = true];</code>
      */
-    public boolean hasAircraftState() {
-      return ((bitField0_ & 0x00000040) == 0x00000040);
+    public java.util.List<java.lang.Integer>
+        getLongitudeList() {
+      return longitude_;
     }
     /**
-     * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint32 longitude = 6 [packed = true];</code>
      */
-    public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage getAircraftState() {
-      return aircraftState_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.getDefaultInstance() : aircraftState_;
+    public int getLongitudeCount() {
+      return longitude_.size();
     }
     /**
-     * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+     * <pre>
+     *microdegrees
+     * </pre>
+     *
+     * <code>repeated sint32 longitude = 6 [packed = true];</code>
      */
-    public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessageOrBuilder getAircraftStateOrBuilder() {
-      return aircraftState_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.getDefaultInstance() : aircraftState_;
+    public int getLongitude(int index) {
+      return longitude_.get(index);
     }
+    private int longitudeMemoizedSerializedSize = -1;
 
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -3559,43 +3541,19 @@ public final class PredictionFeedServe {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasAircraftID()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasTime()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasCentreTrack()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasState()) {
+      if (!hasStartTime()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasAircraftState()) {
+      if (!hasTimeStep()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (hasLeftTrack()) {
-        if (!getLeftTrack().isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-      }
-      if (!getCentreTrack().isInitialized()) {
+      if (!hasVelocity()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (hasRightTrack()) {
-        if (!getRightTrack().isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-      }
-      if (!getAircraftState().isInitialized()) {
+      if (!getVelocity().isInitialized()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -3605,26 +3563,36 @@ public final class PredictionFeedServe {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, aircraftID_);
+        output.writeInt64(1, startTime_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeInt64(2, time_);
+        output.writeInt32(2, timeStep_);
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeMessage(3, getLeftTrack());
+        output.writeMessage(3, getVelocity());
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeMessage(4, getCentreTrack());
+      if (getAltitudeList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(altitudeMemoizedSerializedSize);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        output.writeMessage(5, getRightTrack());
+      for (int i = 0; i < altitude_.size(); i++) {
+        output.writeSInt32NoTag(altitude_.get(i));
       }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        output.writeEnum(6, state_);
+      if (getLatitudeList().size() > 0) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(latitudeMemoizedSerializedSize);
       }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
-        output.writeMessage(7, getAircraftState());
+      for (int i = 0; i < latitude_.size(); i++) {
+        output.writeSInt32NoTag(latitude_.get(i));
+      }
+      if (getLongitudeList().size() > 0) {
+        output.writeUInt32NoTag(50);
+        output.writeUInt32NoTag(longitudeMemoizedSerializedSize);
+      }
+      for (int i = 0; i < longitude_.size(); i++) {
+        output.writeSInt32NoTag(longitude_.get(i));
       }
       unknownFields.writeTo(output);
     }
@@ -3635,31 +3603,58 @@ public final class PredictionFeedServe {
 
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, aircraftID_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, startTime_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(2, time_);
+          .computeInt32Size(2, timeStep_);
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, getLeftTrack());
+          .computeMessageSize(3, getVelocity());
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(4, getCentreTrack());
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(5, getRightTrack());
+      {
+        int dataSize = 0;
+        for (int i = 0; i < altitude_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt32SizeNoTag(altitude_.get(i));
+        }
+        size += dataSize;
+        if (!getAltitudeList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        altitudeMemoizedSerializedSize = dataSize;
       }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeEnumSize(6, state_);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < latitude_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt32SizeNoTag(latitude_.get(i));
+        }
+        size += dataSize;
+        if (!getLatitudeList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        latitudeMemoizedSerializedSize = dataSize;
       }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(7, getAircraftState());
+      {
+        int dataSize = 0;
+        for (int i = 0; i < longitude_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt32SizeNoTag(longitude_.get(i));
+        }
+        size += dataSize;
+        if (!getLongitudeList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        longitudeMemoizedSerializedSize = dataSize;
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -3672,46 +3667,33 @@ public final class PredictionFeedServe {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage)) {
+      if (!(obj instanceof com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack)) {
         return super.equals(obj);
       }
-      com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage other = (com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage) obj;
+      com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack other = (com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack) obj;
 
       boolean result = true;
-      result = result && (hasAircraftID() == other.hasAircraftID());
-      if (hasAircraftID()) {
-        result = result && getAircraftID()
-            .equals(other.getAircraftID());
-      }
-      result = result && (hasTime() == other.hasTime());
-      if (hasTime()) {
-        result = result && (getTime()
-            == other.getTime());
-      }
-      result = result && (hasLeftTrack() == other.hasLeftTrack());
-      if (hasLeftTrack()) {
-        result = result && getLeftTrack()
-            .equals(other.getLeftTrack());
-      }
-      result = result && (hasCentreTrack() == other.hasCentreTrack());
-      if (hasCentreTrack()) {
-        result = result && getCentreTrack()
-            .equals(other.getCentreTrack());
-      }
-      result = result && (hasRightTrack() == other.hasRightTrack());
-      if (hasRightTrack()) {
-        result = result && getRightTrack()
-            .equals(other.getRightTrack());
+      result = result && (hasStartTime() == other.hasStartTime());
+      if (hasStartTime()) {
+        result = result && (getStartTime()
+            == other.getStartTime());
       }
-      result = result && (hasState() == other.hasState());
-      if (hasState()) {
-        result = result && state_ == other.state_;
+      result = result && (hasTimeStep() == other.hasTimeStep());
+      if (hasTimeStep()) {
+        result = result && (getTimeStep()
+            == other.getTimeStep());
       }
-      result = result && (hasAircraftState() == other.hasAircraftState());
-      if (hasAircraftState()) {
-        result = result && getAircraftState()
-            .equals(other.getAircraftState());
+      result = result && (hasVelocity() == other.hasVelocity());
+      if (hasVelocity()) {
+        result = result && getVelocity()
+            .equals(other.getVelocity());
       }
+      result = result && getAltitudeList()
+          .equals(other.getAltitudeList());
+      result = result && getLatitudeList()
+          .equals(other.getLatitudeList());
+      result = result && getLongitudeList()
+          .equals(other.getLongitudeList());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -3723,92 +3705,88 @@ public final class PredictionFeedServe {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptorForType().hashCode();
-      if (hasAircraftID()) {
-        hash = (37 * hash) + AIRCRAFTID_FIELD_NUMBER;
-        hash = (53 * hash) + getAircraftID().hashCode();
-      }
-      if (hasTime()) {
-        hash = (37 * hash) + TIME_FIELD_NUMBER;
+      if (hasStartTime()) {
+        hash = (37 * hash) + STARTTIME_FIELD_NUMBER;
         hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            getTime());
+            getStartTime());
       }
-      if (hasLeftTrack()) {
-        hash = (37 * hash) + LEFTTRACK_FIELD_NUMBER;
-        hash = (53 * hash) + getLeftTrack().hashCode();
+      if (hasTimeStep()) {
+        hash = (37 * hash) + TIMESTEP_FIELD_NUMBER;
+        hash = (53 * hash) + getTimeStep();
       }
-      if (hasCentreTrack()) {
-        hash = (37 * hash) + CENTRETRACK_FIELD_NUMBER;
-        hash = (53 * hash) + getCentreTrack().hashCode();
+      if (hasVelocity()) {
+        hash = (37 * hash) + VELOCITY_FIELD_NUMBER;
+        hash = (53 * hash) + getVelocity().hashCode();
       }
-      if (hasRightTrack()) {
-        hash = (37 * hash) + RIGHTTRACK_FIELD_NUMBER;
-        hash = (53 * hash) + getRightTrack().hashCode();
+      if (getAltitudeCount() > 0) {
+        hash = (37 * hash) + ALTITUDE_FIELD_NUMBER;
+        hash = (53 * hash) + getAltitudeList().hashCode();
       }
-      if (hasState()) {
-        hash = (37 * hash) + STATE_FIELD_NUMBER;
-        hash = (53 * hash) + state_;
+      if (getLatitudeCount() > 0) {
+        hash = (37 * hash) + LATITUDE_FIELD_NUMBER;
+        hash = (53 * hash) + getLatitudeList().hashCode();
       }
-      if (hasAircraftState()) {
-        hash = (37 * hash) + AIRCRAFTSTATE_FIELD_NUMBER;
-        hash = (53 * hash) + getAircraftState().hashCode();
+      if (getLongitudeCount() > 0) {
+        hash = (37 * hash) + LONGITUDE_FIELD_NUMBER;
+        hash = (53 * hash) + getLongitudeList().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseFrom(
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseFrom(
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseFrom(byte[] data)
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseFrom(
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseFrom(java.io.InputStream input)
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseFrom(
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseDelimitedFrom(java.io.InputStream input)
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseDelimitedFrom(
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseFrom(
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseFrom(
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3820,7 +3798,7 @@ public final class PredictionFeedServe {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage prototype) {
+    public static Builder newBuilder(com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -3835,25 +3813,31 @@ public final class PredictionFeedServe {
       return builder;
     }
     /**
-     * Protobuf type {@code AircraftPredictionMessage}
+     * <pre>
+     * A track whose states are evenly spaced in time and share the same velocity, encoded compactly.
+     * The positions are in fixed point, and each is the difference from the position of the previous
+     * state (the first is the difference from 0).
+     * </pre>
+     *
+     * Protobuf type {@code CompactTrack}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:AircraftPredictionMessage)
-        com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessageOrBuilder {
+        // @@protoc_insertion_point(builder_implements:CompactTrack)
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_AircraftPredictionMessage_descriptor;
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_CompactTrack_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_AircraftPredictionMessage_fieldAccessorTable
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_CompactTrack_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.class, com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.Builder.class);
+                com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.class, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder.class);
       }
 
-      // Construct using com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.newBuilder()
+      // Construct using com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3866,112 +3850,82 @@ public final class PredictionFeedServe {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getLeftTrackFieldBuilder();
-          getCentreTrackFieldBuilder();
-          getRightTrackFieldBuilder();
-          getAircraftStateFieldBuilder();
+          getVelocityFieldBuilder();
         }
       }
       public Builder clear() {
         super.clear();
-        aircraftID_ = "";
+        startTime_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000001);
-        time_ = 0L;
+        timeStep_ = 0;
         bitField0_ = (bitField0_ & ~0x00000002);
-        if (leftTrackBuilder_ == null) {
-          leftTrack_ = null;
+        if (velocityBuilder_ == null) {
+          velocity_ = null;
         } else {
-          leftTrackBuilder_.clear();
+          velocityBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000004);
-        if (centreTrackBuilder_ == null) {
-          centreTrack_ = null;
-        } else {
-          centreTrackBuilder_.clear();
-        }
+        altitude_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000008);
-        if (rightTrackBuilder_ == null) {
-          rightTrack_ = null;
-        } else {
-          rightTrackBuilder_.clear();
-        }
+        latitude_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000010);
-        state_ = 0;
+        longitude_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000020);
-        if (aircraftStateBuilder_ == null) {
-          aircraftState_ = null;
-        } else {
-          aircraftStateBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_AircraftPredictionMessage_descriptor;
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_CompactTrack_descriptor;
       }
 
-      public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage getDefaultInstanceForType() {
-        return com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.getDefaultInstance();
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack getDefaultInstanceForType() {
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance();
       }
 
-      public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage build() {
-        com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage result = buildPartial();
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack build() {
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage buildPartial() {
-        com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage result = new com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage(this);
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack buildPartial() {
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack result = new com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.aircraftID_ = aircraftID_;
+        result.startTime_ = startTime_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.time_ = time_;
+        result.timeStep_ = timeStep_;
         if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
           to_bitField0_ |= 0x00000004;
         }
-        if (leftTrackBuilder_ == null) {
-          result.leftTrack_ = leftTrack_;
-        } else {
-          result.leftTrack_ = leftTrackBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
-        }
-        if (centreTrackBuilder_ == null) {
-          result.centreTrack_ = centreTrack_;
-        } else {
-          result.centreTrack_ = centreTrackBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-          to_bitField0_ |= 0x00000010;
-        }
-        if (rightTrackBuilder_ == null) {
-          result.rightTrack_ = rightTrack_;
+        if (velocityBuilder_ == null) {
+          result.velocity_ = velocity_;
         } else {
-          result.rightTrack_ = rightTrackBuilder_.build();
+          result.velocity_ = velocityBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
-          to_bitField0_ |= 0x00000020;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          altitude_ = java.util.Collections.unmodifiableList(altitude_);
+          bitField0_ = (bitField0_ & ~0x00000008);
         }
-        result.state_ = state_;
-        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
-          to_bitField0_ |= 0x00000040;
+        result.altitude_ = altitude_;
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          latitude_ = java.util.Collections.unmodifiableList(latitude_);
+          bitField0_ = (bitField0_ & ~0x00000010);
         }
-        if (aircraftStateBuilder_ == null) {
-          result.aircraftState_ = aircraftState_;
-        } else {
-          result.aircraftState_ = aircraftStateBuilder_.build();
+        result.latitude_ = latitude_;
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          longitude_ = java.util.Collections.unmodifiableList(longitude_);
+          bitField0_ = (bitField0_ & ~0x00000020);
         }
+        result.longitude_ = longitude_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -4004,38 +3958,54 @@ public final class PredictionFeedServe {
         return (Builder) super.addRepeatedField(field, value);
       }
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage) {
-          return mergeFrom((com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage)other);
+        if (other instanceof com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack) {
+          return mergeFrom((com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage other) {
-        if (other == com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.getDefaultInstance()) return this;
-        if (other.hasAircraftID()) {
-          bitField0_ |= 0x00000001;
-          aircraftID_ = other.aircraftID_;
-          onChanged();
+      public Builder mergeFrom(com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack other) {
+        if (other == com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance()) return this;
+        if (other.hasStartTime()) {
+          setStartTime(other.getStartTime());
         }
-        if (other.hasTime()) {
-          setTime(other.getTime());
-        }
-        if (other.hasLeftTrack()) {
-          mergeLeftTrack(other.getLeftTrack());
+        if (other.hasTimeStep()) {
+          setTimeStep(other.getTimeStep());
         }
-        if (other.hasCentreTrack()) {
-          mergeCentreTrack(other.getCentreTrack());
+        if (other.hasVelocity()) {
+          mergeVelocity(other.getVelocity());
         }
-        if (other.hasRightTrack()) {
-          mergeRightTrack(other.getRightTrack());
+        if (!other.altitude_.isEmpty()) {
+          if (altitude_.isEmpty()) {
+            altitude_ = other.altitude_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureAltitudeIsMutable();
+            altitude_.addAll(other.altitude_);
+          }
+          onChanged();
         }
-        if (other.hasState()) {
-          setState(other.getState());
+        if (!other.latitude_.isEmpty()) {
+          if (latitude_.isEmpty()) {
+            latitude_ = other.latitude_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureLatitudeIsMutable();
+            latitude_.addAll(other.latitude_);
+          }
+          onChanged();
         }
-        if (other.hasAircraftState()) {
-          mergeAircraftState(other.getAircraftState());
+        if (!other.longitude_.isEmpty()) {
+          if (longitude_.isEmpty()) {
+            longitude_ = other.longitude_;
+            bitField0_ = (bitField0_ & ~0x00000020);
+          } else {
+            ensureLongitudeIsMutable();
+            longitude_.addAll(other.longitude_);
+          }
+          onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -4043,35 +4013,16 @@ public final class PredictionFeedServe {
       }
 
       public final boolean isInitialized() {
-        if (!hasAircraftID()) {
-          return false;
-        }
-        if (!hasTime()) {
-          return false;
-        }
-        if (!hasCentreTrack()) {
-          return false;
-        }
-        if (!hasState()) {
+        if (!hasStartTime()) {
           return false;
         }
-        if (!hasAircraftState()) {
+        if (!hasTimeStep()) {
           return false;
         }
-        if (hasLeftTrack()) {
-          if (!getLeftTrack().isInitialized()) {
-            return false;
-          }
-        }
-        if (!getCentreTrack().isInitialized()) {
+        if (!hasVelocity()) {
           return false;
         }
-        if (hasRightTrack()) {
-          if (!getRightTrack().isInitialized()) {
-            return false;
-          }
-        }
-        if (!getAircraftState().isInitialized()) {
+        if (!getVelocity().isInitialized()) {
           return false;
         }
         return true;
@@ -4081,11 +4032,11 @@ public final class PredictionFeedServe {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parsedMessage = null;
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage) e.getUnfinishedMessage();
+          parsedMessage = (com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -4096,636 +4047,4230 @@ public final class PredictionFeedServe {
       }
       private int bitField0_;
 
-      private java.lang.Object aircraftID_ = "";
+      private long startTime_ ;
       /**
-       * <code>required string aircraftID = 1;</code>
+       * <pre>
+       *time of the first state, milliseconds since epoch
+       * </pre>
+       *
+       * <code>required int64 startTime = 1;</code>
        */
-      public boolean hasAircraftID() {
+      public boolean hasStartTime() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required string aircraftID = 1;</code>
+       * <pre>
+       *time of the first state, milliseconds since epoch
+       * </pre>
+       *
+       * <code>required int64 startTime = 1;</code>
        */
-      public java.lang.String getAircraftID() {
-        java.lang.Object ref = aircraftID_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            aircraftID_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>required string aircraftID = 1;</code>
-       */
-      public com.google.protobuf.ByteString
-          getAircraftIDBytes() {
-        java.lang.Object ref = aircraftID_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          aircraftID_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public long getStartTime() {
+        return startTime_;
       }
       /**
-       * <code>required string aircraftID = 1;</code>
+       * <pre>
+       *time of the first state, milliseconds since epoch
+       * </pre>
+       *
+       * <code>required int64 startTime = 1;</code>
        */
-      public Builder setAircraftID(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        aircraftID_ = value;
+      public Builder setStartTime(long value) {
+        bitField0_ |= 0x00000001;
+        startTime_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required string aircraftID = 1;</code>
+       * <pre>
+       *time of the first state, milliseconds since epoch
+       * </pre>
+       *
+       * <code>required int64 startTime = 1;</code>
        */
-      public Builder clearAircraftID() {
+      public Builder clearStartTime() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        aircraftID_ = getDefaultInstance().getAircraftID();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required string aircraftID = 1;</code>
-       */
-      public Builder setAircraftIDBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        aircraftID_ = value;
+        startTime_ = 0L;
         onChanged();
         return this;
       }
 
-      private long time_ ;
+      private int timeStep_ ;
       /**
        * <pre>
-       *milliseconds since epoch
+       *milliseconds between states
        * </pre>
        *
-       * <code>required int64 time = 2;</code>
+       * <code>required int32 timeStep = 2;</code>
        */
-      public boolean hasTime() {
+      public boolean hasTimeStep() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
        * <pre>
-       *milliseconds since epoch
+       *milliseconds between states
        * </pre>
        *
-       * <code>required int64 time = 2;</code>
+       * <code>required int32 timeStep = 2;</code>
        */
-      public long getTime() {
-        return time_;
+      public int getTimeStep() {
+        return timeStep_;
       }
       /**
        * <pre>
-       *milliseconds since epoch
+       *milliseconds between states
        * </pre>
        *
-       * <code>required int64 time = 2;</code>
+       * <code>required int32 timeStep = 2;</code>
        */
-      public Builder setTime(long value) {
+      public Builder setTimeStep(int value) {
         bitField0_ |= 0x00000002;
-        time_ = value;
+        timeStep_ = value;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       *milliseconds since epoch
+       *milliseconds between states
        * </pre>
        *
-       * <code>required int64 time = 2;</code>
+       * <code>required int32 timeStep = 2;</code>
        */
-      public Builder clearTime() {
+      public Builder clearTimeStep() {
         bitField0_ = (bitField0_ & ~0x00000002);
-        time_ = 0L;
+        timeStep_ = 0;
         onChanged();
         return this;
       }
 
-      private com.atc.simulator.protocol_buffers.PredictionFeedServe.Track leftTrack_ = null;
+      private com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage velocity_ = null;
       private com.google.protobuf.SingleFieldBuilderV3<
-          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder> leftTrackBuilder_;
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage, com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessageOrBuilder> velocityBuilder_;
       /**
-       * <code>optional .Track leftTrack = 3;</code>
+       * <pre>
+       *velocity of every state
+       * </pre>
+       *
+       * <code>required .SphericalVelocityMessage velocity = 3;</code>
        */
-      public boolean hasLeftTrack() {
+      public boolean hasVelocity() {
         return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>optional .Track leftTrack = 3;</code>
+       * <pre>
+       *velocity of every state
+       * </pre>
+       *
+       * <code>required .SphericalVelocityMessage velocity = 3;</code>
        */
-      public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getLeftTrack() {
-        if (leftTrackBuilder_ == null) {
-          return leftTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : leftTrack_;
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage getVelocity() {
+        if (velocityBuilder_ == null) {
+          return velocity_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage.getDefaultInstance() : velocity_;
         } else {
-          return leftTrackBuilder_.getMessage();
+          return velocityBuilder_.getMessage();
         }
       }
       /**
-       * <code>optional .Track leftTrack = 3;</code>
+       * <pre>
+       *velocity of every state
+       * </pre>
+       *
+       * <code>required .SphericalVelocityMessage velocity = 3;</code>
        */
-      public Builder setLeftTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track value) {
-        if (leftTrackBuilder_ == null) {
+      public Builder setVelocity(com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage value) {
+        if (velocityBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          leftTrack_ = value;
+          velocity_ = value;
           onChanged();
         } else {
-          leftTrackBuilder_.setMessage(value);
+          velocityBuilder_.setMessage(value);
         }
         bitField0_ |= 0x00000004;
         return this;
       }
       /**
-       * <code>optional .Track leftTrack = 3;</code>
+       * <pre>
+       *velocity of every state
+       * </pre>
+       *
+       * <code>required .SphericalVelocityMessage velocity = 3;</code>
        */
-      public Builder setLeftTrack(
-          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder builderForValue) {
-        if (leftTrackBuilder_ == null) {
-          leftTrack_ = builderForValue.build();
+      public Builder setVelocity(
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage.Builder builderForValue) {
+        if (velocityBuilder_ == null) {
+          velocity_ = builderForValue.build();
           onChanged();
         } else {
-          leftTrackBuilder_.setMessage(builderForValue.build());
+          velocityBuilder_.setMessage(builderForValue.build());
         }
         bitField0_ |= 0x00000004;
         return this;
       }
       /**
-       * <code>optional .Track leftTrack = 3;</code>
+       * <pre>
+       *velocity of every state
+       * </pre>
+       *
+       * <code>required .SphericalVelocityMessage velocity = 3;</code>
        */
-      public Builder mergeLeftTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track value) {
-        if (leftTrackBuilder_ == null) {
+      public Builder mergeVelocity(com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage value) {
+        if (velocityBuilder_ == null) {
           if (((bitField0_ & 0x00000004) == 0x00000004) &&
-              leftTrack_ != null &&
-              leftTrack_ != com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance()) {
-            leftTrack_ =
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.newBuilder(leftTrack_).mergeFrom(value).buildPartial();
+              velocity_ != null &&
+              velocity_ != com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage.getDefaultInstance()) {
+            velocity_ =
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage.newBuilder(velocity_).mergeFrom(value).buildPartial();
           } else {
-            leftTrack_ = value;
+            velocity_ = value;
           }
           onChanged();
         } else {
-          leftTrackBuilder_.mergeFrom(value);
+          velocityBuilder_.mergeFrom(value);
         }
         bitField0_ |= 0x00000004;
         return this;
       }
       /**
-       * <code>optional .Track leftTrack = 3;</code>
+       * <pre>
+       *velocity of every state
+       * </pre>
+       *
+       * <code>required .SphericalVelocityMessage velocity = 3;</code>
        */
-      public Builder clearLeftTrack() {
-        if (leftTrackBuilder_ == null) {
-          leftTrack_ = null;
+      public Builder clearVelocity() {
+        if (velocityBuilder_ == null) {
+          velocity_ = null;
           onChanged();
         } else {
-          leftTrackBuilder_.clear();
+          velocityBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
       /**
-       * <code>optional .Track leftTrack = 3;</code>
+       * <pre>
+       *velocity of every state
+       * </pre>
+       *
+       * <code>required .SphericalVelocityMessage velocity = 3;</code>
        */
-      public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder getLeftTrackBuilder() {
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage.Builder getVelocityBuilder() {
         bitField0_ |= 0x00000004;
         onChanged();
-        return getLeftTrackFieldBuilder().getBuilder();
+        return getVelocityFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .Track leftTrack = 3;</code>
+       * <pre>
+       *velocity of every state
+       * </pre>
+       *
+       * <code>required .SphericalVelocityMessage velocity = 3;</code>
        */
-      public com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getLeftTrackOrBuilder() {
-        if (leftTrackBuilder_ != null) {
-          return leftTrackBuilder_.getMessageOrBuilder();
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessageOrBuilder getVelocityOrBuilder() {
+        if (velocityBuilder_ != null) {
+          return velocityBuilder_.getMessageOrBuilder();
         } else {
-          return leftTrack_ == null ?
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : leftTrack_;
+          return velocity_ == null ?
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage.getDefaultInstance() : velocity_;
         }
       }
       /**
-       * <code>optional .Track leftTrack = 3;</code>
+       * <pre>
+       *velocity of every state
+       * </pre>
+       *
+       * <code>required .SphericalVelocityMessage velocity = 3;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder>
-          getLeftTrackFieldBuilder() {
-        if (leftTrackBuilder_ == null) {
-          leftTrackBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder>(
-                  getLeftTrack(),
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage, com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessageOrBuilder>
+          getVelocityFieldBuilder() {
+        if (velocityBuilder_ == null) {
+          velocityBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage, com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessage.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.SphericalVelocityMessageOrBuilder>(
+                  getVelocity(),
                   getParentForChildren(),
                   isClean());
-          leftTrack_ = null;
+          velocity_ = null;
         }
-        return leftTrackBuilder_;
+        return velocityBuilder_;
       }
 
-      private com.atc.simulator.protocol_buffers.PredictionFeedServe.Track centreTrack_ = null;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder> centreTrackBuilder_;
+      private java.util.List<java.lang.Integer> altitude_ = java.util.Collections.emptyList();
+      private void ensureAltitudeIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          altitude_ = new java.util.ArrayList<java.lang.Integer>(altitude_);
+          bitField0_ |= 0x00000008;
+         }
+      }
       /**
-       * <code>required .Track centreTrack = 4;</code>
+       * <pre>
+       *meters
+       * </pre>
+       *
+       * <code>repeated sint32 altitude = 4 [packed = true];</code>
        */
-      public boolean hasCentreTrack() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public java.util.List<java.lang.Integer>
+          getAltitudeList() {
+        return java.util.Collections.unmodifiableList(altitude_);
       }
       /**
-       * <code>required .Track centreTrack = 4;</code>
+       * <pre>
+       *meters
+       * </pre>
+       *
+       * <code>repeated sint32 altitude = 4 [packed = true];</code>
        */
-      public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getCentreTrack() {
-        if (centreTrackBuilder_ == null) {
-          return centreTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : centreTrack_;
-        } else {
-          return centreTrackBuilder_.getMessage();
-        }
+      public int getAltitudeCount() {
+        return altitude_.size();
       }
       /**
-       * <code>required .Track centreTrack = 4;</code>
+       * <pre>
+       *meters
+       * </pre>
+       *
+       * <code>repeated sint32 altitude = 4 [packed = true];</code>
        */
-      public Builder setCentreTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track value) {
-        if (centreTrackBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          centreTrack_ = value;
-          onChanged();
-        } else {
-          centreTrackBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000008;
-        return this;
+      public int getAltitude(int index) {
+        return altitude_.get(index);
       }
       /**
-       * <code>required .Track centreTrack = 4;</code>
+       * <pre>
+       *meters
+       * </pre>
+       *
+       * <code>repeated sint32 altitude = 4 [packed = true];</code>
        */
-      public Builder setCentreTrack(
-          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder builderForValue) {
-        if (centreTrackBuilder_ == null) {
-          centreTrack_ = builderForValue.build();
-          onChanged();
-        } else {
-          centreTrackBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000008;
+      public Builder setAltitude(
+          int index, int value) {
+        ensureAltitudeIsMutable();
+        altitude_.set(index, value);
+        onChanged();
         return this;
       }
       /**
-       * <code>required .Track centreTrack = 4;</code>
+       * <pre>
+       *meters
+       * </pre>
+       *
+       * <code>repeated sint32 altitude = 4 [packed = true];</code>
        */
-      public Builder mergeCentreTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track value) {
-        if (centreTrackBuilder_ == null) {
-          if (((bitField0_ & 0x00000008) == 0x00000008) &&
-              centreTrack_ != null &&
-              centreTrack_ != com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance()) {
-            centreTrack_ =
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.newBuilder(centreTrack_).mergeFrom(value).buildPartial();
-          } else {
-            centreTrack_ = value;
-          }
-          onChanged();
-        } else {
-          centreTrackBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000008;
+      public Builder addAltitude(int value) {
+        ensureAltitudeIsMutable();
+        altitude_.add(value);
+        onChanged();
         return this;
       }
       /**
-       * <code>required .Track centreTrack = 4;</code>
+       * <pre>
+       *meters
+       * </pre>
+       *
+       * <code>repeated sint32 altitude = 4 [packed = true];</code>
        */
-      public Builder clearCentreTrack() {
-        if (centreTrackBuilder_ == null) {
-          centreTrack_ = null;
-          onChanged();
-        } else {
-          centreTrackBuilder_.clear();
-        }
+      public Builder addAllAltitude(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureAltitudeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, altitude_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *meters
+       * </pre>
+       *
+       * <code>repeated sint32 altitude = 4 [packed = true];</code>
+       */
+      public Builder clearAltitude() {
+        altitude_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
         return this;
       }
+
+      private java.util.List<java.lang.Integer> latitude_ = java.util.Collections.emptyList();
+      private void ensureLatitudeIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          latitude_ = new java.util.ArrayList<java.lang.Integer>(latitude_);
+          bitField0_ |= 0x00000010;
+         }
+      }
       /**
-       * <code>required .Track centreTrack = 4;</code>
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint32 latitude = 5 [packed = true];</code>
        */
-      public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder getCentreTrackBuilder() {
-        bitField0_ |= 0x00000008;
+      public java.util.List<java.lang.Integer>
+          getLatitudeList() {
+        return java.util.Collections.unmodifiableList(latitude_);
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint32 latitude = 5 [packed = true];</code>
+       */
+      public int getLatitudeCount() {
+        return latitude_.size();
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint32 latitude = 5 [packed = true];</code>
+       */
+      public int getLatitude(int index) {
+        return latitude_.get(index);
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint32 latitude = 5 [packed = true];</code>
+       */
+      public Builder setLatitude(
+          int index, int value) {
+        ensureLatitudeIsMutable();
+        latitude_.set(index, value);
         onChanged();
-        return getCentreTrackFieldBuilder().getBuilder();
+        return this;
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint32 latitude = 5 [packed = true];</code>
+       */
+      public Builder addLatitude(int value) {
+        ensureLatitudeIsMutable();
+        latitude_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint32 latitude = 5 [packed = true];</code>
+       */
+      public Builder addAllLatitude(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureLatitudeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, latitude_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint32 latitude = 5 [packed = true];</code>
+       */
+      public Builder clearLatitude() {
+        latitude_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Integer> longitude_ = java.util.Collections.emptyList();
+      private void ensureLongitudeIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          longitude_ = new java.util.ArrayList<java.lang.Integer>(longitude_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint32 longitude = 6 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getLongitudeList() {
+        return java.util.Collections.unmodifiableList(longitude_);
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint32 longitude = 6 [packed = true];</code>
+       */
+      public int getLongitudeCount() {
+        return longitude_.size();
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint32 longitude = 6 [packed = true];</code>
+       */
+      public int getLongitude(int index) {
+        return longitude_.get(index);
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint32 longitude = 6 [packed = true];</code>
+       */
+      public Builder setLongitude(
+          int index, int value) {
+        ensureLongitudeIsMutable();
+        longitude_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint32 longitude = 6 [packed = true];</code>
+       */
+      public Builder addLongitude(int value) {
+        ensureLongitudeIsMutable();
+        longitude_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint32 longitude = 6 [packed = true];</code>
+       */
+      public Builder addAllLongitude(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureLongitudeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, longitude_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *microdegrees
+       * </pre>
+       *
+       * <code>repeated sint32 longitude = 6 [packed = true];</code>
+       */
+      public Builder clearLongitude() {
+        longitude_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:CompactTrack)
+    }
+
+    // @@protoc_insertion_point(class_scope:CompactTrack)
+    private static final com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack();
+    }
+
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<CompactTrack>
+        PARSER = new com.google.protobuf.AbstractParser<CompactTrack>() {
+      public CompactTrack parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new CompactTrack(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CompactTrack> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CompactTrack> getParserForType() {
+      return PARSER;
+    }
+
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AircraftPredictionMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:AircraftPredictionMessage)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string aircraftID = 1;</code>
+     */
+    boolean hasAircraftID();
+    /**
+     * <code>required string aircraftID = 1;</code>
+     */
+    java.lang.String getAircraftID();
+    /**
+     * <code>required string aircraftID = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getAircraftIDBytes();
+
+    /**
+     * <pre>
+     *milliseconds since epoch
+     * </pre>
+     *
+     * <code>required int64 time = 2;</code>
+     */
+    boolean hasTime();
+    /**
+     * <pre>
+     *milliseconds since epoch
+     * </pre>
+     *
+     * <code>required int64 time = 2;</code>
+     */
+    long getTime();
+
+    /**
+     * <code>optional .Track leftTrack = 3;</code>
+     */
+    boolean hasLeftTrack();
+    /**
+     * <code>optional .Track leftTrack = 3;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getLeftTrack();
+    /**
+     * <code>optional .Track leftTrack = 3;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getLeftTrackOrBuilder();
+
+    /**
+     * <code>required .Track centreTrack = 4;</code>
+     */
+    boolean hasCentreTrack();
+    /**
+     * <code>required .Track centreTrack = 4;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getCentreTrack();
+    /**
+     * <code>required .Track centreTrack = 4;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getCentreTrackOrBuilder();
+
+    /**
+     * <code>optional .Track rightTrack = 5;</code>
+     */
+    boolean hasRightTrack();
+    /**
+     * <code>optional .Track rightTrack = 5;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getRightTrack();
+    /**
+     * <code>optional .Track rightTrack = 5;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getRightTrackOrBuilder();
+
+    /**
+     * <code>required .AircraftPredictionMessage.State state = 6;</code>
+     */
+    boolean hasState();
+    /**
+     * <code>required .AircraftPredictionMessage.State state = 6;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State getState();
+
+    /**
+     * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+     */
+    boolean hasAircraftState();
+    /**
+     * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage getAircraftState();
+    /**
+     * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessageOrBuilder getAircraftStateOrBuilder();
+
+    /**
+     * <pre>
+     * the tracks encoded compactly (version 3 of the feed), a track sent this way is empty in the
+     * Track field above (which are left empty rather than removed, for version 2 clients)
+     * </pre>
+     *
+     * <code>optional .CompactTrack compactLeftTrack = 8;</code>
+     */
+    boolean hasCompactLeftTrack();
+    /**
+     * <pre>
+     * the tracks encoded compactly (version 3 of the feed), a track sent this way is empty in the
+     * Track field above (which are left empty rather than removed, for version 2 clients)
+     * </pre>
+     *
+     * <code>optional .CompactTrack compactLeftTrack = 8;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack getCompactLeftTrack();
+    /**
+     * <pre>
+     * the tracks encoded compactly (version 3 of the feed), a track sent this way is empty in the
+     * Track field above (which are left empty rather than removed, for version 2 clients)
+     * </pre>
+     *
+     * <code>optional .CompactTrack compactLeftTrack = 8;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder getCompactLeftTrackOrBuilder();
+
+    /**
+     * <code>optional .CompactTrack compactCentreTrack = 9;</code>
+     */
+    boolean hasCompactCentreTrack();
+    /**
+     * <code>optional .CompactTrack compactCentreTrack = 9;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack getCompactCentreTrack();
+    /**
+     * <code>optional .CompactTrack compactCentreTrack = 9;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder getCompactCentreTrackOrBuilder();
+
+    /**
+     * <code>optional .CompactTrack compactRightTrack = 10;</code>
+     */
+    boolean hasCompactRightTrack();
+    /**
+     * <code>optional .CompactTrack compactRightTrack = 10;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack getCompactRightTrack();
+    /**
+     * <code>optional .CompactTrack compactRightTrack = 10;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder getCompactRightTrackOrBuilder();
+  }
+  /**
+   * Protobuf type {@code AircraftPredictionMessage}
+   */
+  public  static final class AircraftPredictionMessage extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:AircraftPredictionMessage)
+      AircraftPredictionMessageOrBuilder {
+    // Use AircraftPredictionMessage.newBuilder() to construct.
+    private AircraftPredictionMessage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private AircraftPredictionMessage() {
+      aircraftID_ = "";
+      time_ = 0L;
+      state_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private AircraftPredictionMessage(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              aircraftID_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              time_ = input.readInt64();
+              break;
+            }
+            case 26: {
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) == 0x00000004)) {
+                subBuilder = leftTrack_.toBuilder();
+              }
+              leftTrack_ = input.readMessage(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(leftTrack_);
+                leftTrack_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+            case 34: {
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000008) == 0x00000008)) {
+                subBuilder = centreTrack_.toBuilder();
+              }
+              centreTrack_ = input.readMessage(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(centreTrack_);
+                centreTrack_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000008;
+              break;
+            }
+            case 42: {
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000010) == 0x00000010)) {
+                subBuilder = rightTrack_.toBuilder();
+              }
+              rightTrack_ = input.readMessage(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(rightTrack_);
+                rightTrack_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000010;
+              break;
+            }
+            case 48: {
+              int rawValue = input.readEnum();
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State value = com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(6, rawValue);
+              } else {
+                bitField0_ |= 0x00000020;
+                state_ = rawValue;
+              }
+              break;
+            }
+            case 58: {
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000040) == 0x00000040)) {
+                subBuilder = aircraftState_.toBuilder();
+              }
+              aircraftState_ = input.readMessage(com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(aircraftState_);
+                aircraftState_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000040;
+              break;
+            }
+            case 66: {
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000080) == 0x00000080)) {
+                subBuilder = compactLeftTrack_.toBuilder();
+              }
+              compactLeftTrack_ = input.readMessage(com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(compactLeftTrack_);
+                compactLeftTrack_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000080;
+              break;
+            }
+            case 74: {
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000100) == 0x00000100)) {
+                subBuilder = compactCentreTrack_.toBuilder();
+              }
+              compactCentreTrack_ = input.readMessage(com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(compactCentreTrack_);
+                compactCentreTrack_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000100;
+              break;
+            }
+            case 82: {
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000200) == 0x00000200)) {
+                subBuilder = compactRightTrack_.toBuilder();
+              }
+              compactRightTrack_ = input.readMessage(com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(compactRightTrack_);
+                compactRightTrack_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000200;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_AircraftPredictionMessage_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_AircraftPredictionMessage_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.class, com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.Builder.class);
+    }
+
+    /**
+     * Protobuf enum {@code AircraftPredictionMessage.State}
+     */
+    public enum State
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>STOPPED = 0;</code>
+       */
+      STOPPED(0),
+      /**
+       * <code>STRAIGHT = 1;</code>
+       */
+      STRAIGHT(1),
+      /**
+       * <code>LEFT_TURN = 2;</code>
+       */
+      LEFT_TURN(2),
+      /**
+       * <code>RIGHT_TURN = 3;</code>
+       */
+      RIGHT_TURN(3),
+      ;
+
+      /**
+       * <code>STOPPED = 0;</code>
+       */
+      public static final int STOPPED_VALUE = 0;
+      /**
+       * <code>STRAIGHT = 1;</code>
+       */
+      public static final int STRAIGHT_VALUE = 1;
+      /**
+       * <code>LEFT_TURN = 2;</code>
+       */
+      public static final int LEFT_TURN_VALUE = 2;
+      /**
+       * <code>RIGHT_TURN = 3;</code>
+       */
+      public static final int RIGHT_TURN_VALUE = 3;
+
+
+      public final int getNumber() {
+        return value;
+      }
+
+      /**
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static State valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static State forNumber(int value) {
+        switch (value) {
+          case 0: return STOPPED;
+          case 1: return STRAIGHT;
+          case 2: return LEFT_TURN;
+          case 3: return RIGHT_TURN;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<State>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          State> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<State>() {
+              public State findValueByNumber(int number) {
+                return State.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final State[] VALUES = values();
+
+      public static State valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private State(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:AircraftPredictionMessage.State)
+    }
+
+    private int bitField0_;
+    public static final int AIRCRAFTID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object aircraftID_;
+    /**
+     * <code>required string aircraftID = 1;</code>
+     */
+    public boolean hasAircraftID() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string aircraftID = 1;</code>
+     */
+    public java.lang.String getAircraftID() {
+      java.lang.Object ref = aircraftID_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          aircraftID_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string aircraftID = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAircraftIDBytes() {
+      java.lang.Object ref = aircraftID_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        aircraftID_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TIME_FIELD_NUMBER = 2;
+    private long time_;
+    /**
+     * <pre>
+     *milliseconds since epoch
+     * </pre>
+     *
+     * <code>required int64 time = 2;</code>
+     */
+    public boolean hasTime() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <pre>
+     *milliseconds since epoch
+     * </pre>
+     *
+     * <code>required int64 time = 2;</code>
+     */
+    public long getTime() {
+      return time_;
+    }
+
+    public static final int LEFTTRACK_FIELD_NUMBER = 3;
+    private com.atc.simulator.protocol_buffers.PredictionFeedServe.Track leftTrack_;
+    /**
+     * <code>optional .Track leftTrack = 3;</code>
+     */
+    public boolean hasLeftTrack() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional .Track leftTrack = 3;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getLeftTrack() {
+      return leftTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : leftTrack_;
+    }
+    /**
+     * <code>optional .Track leftTrack = 3;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getLeftTrackOrBuilder() {
+      return leftTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : leftTrack_;
+    }
+
+    public static final int CENTRETRACK_FIELD_NUMBER = 4;
+    private com.atc.simulator.protocol_buffers.PredictionFeedServe.Track centreTrack_;
+    /**
+     * <code>required .Track centreTrack = 4;</code>
+     */
+    public boolean hasCentreTrack() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required .Track centreTrack = 4;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getCentreTrack() {
+      return centreTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : centreTrack_;
+    }
+    /**
+     * <code>required .Track centreTrack = 4;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getCentreTrackOrBuilder() {
+      return centreTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : centreTrack_;
+    }
+
+    public static final int RIGHTTRACK_FIELD_NUMBER = 5;
+    private com.atc.simulator.protocol_buffers.PredictionFeedServe.Track rightTrack_;
+    /**
+     * <code>optional .Track rightTrack = 5;</code>
+     */
+    public boolean hasRightTrack() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional .Track rightTrack = 5;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getRightTrack() {
+      return rightTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : rightTrack_;
+    }
+    /**
+     * <code>optional .Track rightTrack = 5;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getRightTrackOrBuilder() {
+      return rightTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : rightTrack_;
+    }
+
+    public static final int STATE_FIELD_NUMBER = 6;
+    private int state_;
+    /**
+     * <code>required .AircraftPredictionMessage.State state = 6;</code>
+     */
+    public boolean hasState() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>required .AircraftPredictionMessage.State state = 6;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State getState() {
+      com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State result = com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State.valueOf(state_);
+      return result == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State.STOPPED : result;
+    }
+
+    public static final int AIRCRAFTSTATE_FIELD_NUMBER = 7;
+    private com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage aircraftState_;
+    /**
+     * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+     */
+    public boolean hasAircraftState() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage getAircraftState() {
+      return aircraftState_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.getDefaultInstance() : aircraftState_;
+    }
+    /**
+     * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessageOrBuilder getAircraftStateOrBuilder() {
+      return aircraftState_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.getDefaultInstance() : aircraftState_;
+    }
+
+    public static final int COMPACTLEFTTRACK_FIELD_NUMBER = 8;
+    private com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack compactLeftTrack_;
+    /**
+     * <pre>
+     * the tracks encoded compactly (version 3 of the feed), a track sent this way is empty in the
+     * Track field above (which are left empty rather than removed, for version 2 clients)
+     * </pre>
+     *
+     * <code>optional .CompactTrack compactLeftTrack = 8;</code>
+     */
+    public boolean hasCompactLeftTrack() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <pre>
+     * the tracks encoded compactly (version 3 of the feed), a track sent this way is empty in the
+     * Track field above (which are left empty rather than removed, for version 2 clients)
+     * </pre>
+     *
+     * <code>optional .CompactTrack compactLeftTrack = 8;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack getCompactLeftTrack() {
+      return compactLeftTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance() : compactLeftTrack_;
+    }
+    /**
+     * <pre>
+     * the tracks encoded compactly (version 3 of the feed), a track sent this way is empty in the
+     * Track field above (which are left empty rather than removed, for version 2 clients)
+     * </pre>
+     *
+     * <code>optional .CompactTrack compactLeftTrack = 8;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder getCompactLeftTrackOrBuilder() {
+      return compactLeftTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance() : compactLeftTrack_;
+    }
+
+    public static final int COMPACTCENTRETRACK_FIELD_NUMBER = 9;
+    private com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack compactCentreTrack_;
+    /**
+     * <code>optional .CompactTrack compactCentreTrack = 9;</code>
+     */
+    public boolean hasCompactCentreTrack() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional .CompactTrack compactCentreTrack = 9;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack getCompactCentreTrack() {
+      return compactCentreTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance() : compactCentreTrack_;
+    }
+    /**
+     * <code>optional .CompactTrack compactCentreTrack = 9;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder getCompactCentreTrackOrBuilder() {
+      return compactCentreTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance() : compactCentreTrack_;
+    }
+
+    public static final int COMPACTRIGHTTRACK_FIELD_NUMBER = 10;
+    private com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack compactRightTrack_;
+    /**
+     * <code>optional .CompactTrack compactRightTrack = 10;</code>
+     */
+    public boolean hasCompactRightTrack() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional .CompactTrack compactRightTrack = 10;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack getCompactRightTrack() {
+      return compactRightTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance() : compactRightTrack_;
+    }
+    /**
+     * <code>optional .CompactTrack compactRightTrack = 10;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder getCompactRightTrackOrBuilder() {
+      return compactRightTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance() : compactRightTrack_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasAircraftID()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasTime()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasCentreTrack()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasState()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasAircraftState()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (hasLeftTrack()) {
+        if (!getLeftTrack().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (!getCentreTrack().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (hasRightTrack()) {
+        if (!getRightTrack().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (!getAircraftState().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (hasCompactLeftTrack()) {
+        if (!getCompactLeftTrack().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasCompactCentreTrack()) {
+        if (!getCompactCentreTrack().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasCompactRightTrack()) {
+        if (!getCompactRightTrack().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, aircraftID_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(2, time_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(3, getLeftTrack());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeMessage(4, getCentreTrack());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeMessage(5, getRightTrack());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeEnum(6, state_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeMessage(7, getAircraftState());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeMessage(8, getCompactLeftTrack());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeMessage(9, getCompactCentreTrack());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        output.writeMessage(10, getCompactRightTrack());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, aircraftID_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, time_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getLeftTrack());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getCentreTrack());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, getRightTrack());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(6, state_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, getAircraftState());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, getCompactLeftTrack());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, getCompactCentreTrack());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, getCompactRightTrack());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage)) {
+        return super.equals(obj);
+      }
+      com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage other = (com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage) obj;
+
+      boolean result = true;
+      result = result && (hasAircraftID() == other.hasAircraftID());
+      if (hasAircraftID()) {
+        result = result && getAircraftID()
+            .equals(other.getAircraftID());
+      }
+      result = result && (hasTime() == other.hasTime());
+      if (hasTime()) {
+        result = result && (getTime()
+            == other.getTime());
+      }
+      result = result && (hasLeftTrack() == other.hasLeftTrack());
+      if (hasLeftTrack()) {
+        result = result && getLeftTrack()
+            .equals(other.getLeftTrack());
+      }
+      result = result && (hasCentreTrack() == other.hasCentreTrack());
+      if (hasCentreTrack()) {
+        result = result && getCentreTrack()
+            .equals(other.getCentreTrack());
+      }
+      result = result && (hasRightTrack() == other.hasRightTrack());
+      if (hasRightTrack()) {
+        result = result && getRightTrack()
+            .equals(other.getRightTrack());
+      }
+      result = result && (hasState() == other.hasState());
+      if (hasState()) {
+        result = result && state_ == other.state_;
+      }
+      result = result && (hasAircraftState() == other.hasAircraftState());
+      if (hasAircraftState()) {
+        result = result && getAircraftState()
+            .equals(other.getAircraftState());
+      }
+      result = result && (hasCompactLeftTrack() == other.hasCompactLeftTrack());
+      if (hasCompactLeftTrack()) {
+        result = result && getCompactLeftTrack()
+            .equals(other.getCompactLeftTrack());
+      }
+      result = result && (hasCompactCentreTrack() == other.hasCompactCentreTrack());
+      if (hasCompactCentreTrack()) {
+        result = result && getCompactCentreTrack()
+            .equals(other.getCompactCentreTrack());
+      }
+      result = result && (hasCompactRightTrack() == other.hasCompactRightTrack());
+      if (hasCompactRightTrack()) {
+        result = result && getCompactRightTrack()
+            .equals(other.getCompactRightTrack());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasAircraftID()) {
+        hash = (37 * hash) + AIRCRAFTID_FIELD_NUMBER;
+        hash = (53 * hash) + getAircraftID().hashCode();
+      }
+      if (hasTime()) {
+        hash = (37 * hash) + TIME_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTime());
+      }
+      if (hasLeftTrack()) {
+        hash = (37 * hash) + LEFTTRACK_FIELD_NUMBER;
+        hash = (53 * hash) + getLeftTrack().hashCode();
+      }
+      if (hasCentreTrack()) {
+        hash = (37 * hash) + CENTRETRACK_FIELD_NUMBER;
+        hash = (53 * hash) + getCentreTrack().hashCode();
+      }
+      if (hasRightTrack()) {
+        hash = (37 * hash) + RIGHTTRACK_FIELD_NUMBER;
+        hash = (53 * hash) + getRightTrack().hashCode();
+      }
+      if (hasState()) {
+        hash = (37 * hash) + STATE_FIELD_NUMBER;
+        hash = (53 * hash) + state_;
+      }
+      if (hasAircraftState()) {
+        hash = (37 * hash) + AIRCRAFTSTATE_FIELD_NUMBER;
+        hash = (53 * hash) + getAircraftState().hashCode();
+      }
+      if (hasCompactLeftTrack()) {
+        hash = (37 * hash) + COMPACTLEFTTRACK_FIELD_NUMBER;
+        hash = (53 * hash) + getCompactLeftTrack().hashCode();
+      }
+      if (hasCompactCentreTrack()) {
+        hash = (37 * hash) + COMPACTCENTRETRACK_FIELD_NUMBER;
+        hash = (53 * hash) + getCompactCentreTrack().hashCode();
+      }
+      if (hasCompactRightTrack()) {
+        hash = (37 * hash) + COMPACTRIGHTTRACK_FIELD_NUMBER;
+        hash = (53 * hash) + getCompactRightTrack().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code AircraftPredictionMessage}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:AircraftPredictionMessage)
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessageOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_AircraftPredictionMessage_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_AircraftPredictionMessage_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.class, com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.Builder.class);
+      }
+
+      // Construct using com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getLeftTrackFieldBuilder();
+          getCentreTrackFieldBuilder();
+          getRightTrackFieldBuilder();
+          getAircraftStateFieldBuilder();
+          getCompactLeftTrackFieldBuilder();
+          getCompactCentreTrackFieldBuilder();
+          getCompactRightTrackFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        aircraftID_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        time_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (leftTrackBuilder_ == null) {
+          leftTrack_ = null;
+        } else {
+          leftTrackBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (centreTrackBuilder_ == null) {
+          centreTrack_ = null;
+        } else {
+          centreTrackBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (rightTrackBuilder_ == null) {
+          rightTrack_ = null;
+        } else {
+          rightTrackBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        state_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        if (aircraftStateBuilder_ == null) {
+          aircraftState_ = null;
+        } else {
+          aircraftStateBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        if (compactLeftTrackBuilder_ == null) {
+          compactLeftTrack_ = null;
+        } else {
+          compactLeftTrackBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000080);
+        if (compactCentreTrackBuilder_ == null) {
+          compactCentreTrack_ = null;
+        } else {
+          compactCentreTrackBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000100);
+        if (compactRightTrackBuilder_ == null) {
+          compactRightTrack_ = null;
+        } else {
+          compactRightTrackBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000200);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_AircraftPredictionMessage_descriptor;
+      }
+
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage getDefaultInstanceForType() {
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.getDefaultInstance();
+      }
+
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage build() {
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage buildPartial() {
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage result = new com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.aircraftID_ = aircraftID_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.time_ = time_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (leftTrackBuilder_ == null) {
+          result.leftTrack_ = leftTrack_;
+        } else {
+          result.leftTrack_ = leftTrackBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        if (centreTrackBuilder_ == null) {
+          result.centreTrack_ = centreTrack_;
+        } else {
+          result.centreTrack_ = centreTrackBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        if (rightTrackBuilder_ == null) {
+          result.rightTrack_ = rightTrack_;
+        } else {
+          result.rightTrack_ = rightTrackBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.state_ = state_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        if (aircraftStateBuilder_ == null) {
+          result.aircraftState_ = aircraftState_;
+        } else {
+          result.aircraftState_ = aircraftStateBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        if (compactLeftTrackBuilder_ == null) {
+          result.compactLeftTrack_ = compactLeftTrack_;
+        } else {
+          result.compactLeftTrack_ = compactLeftTrackBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        if (compactCentreTrackBuilder_ == null) {
+          result.compactCentreTrack_ = compactCentreTrack_;
+        } else {
+          result.compactCentreTrack_ = compactCentreTrackBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        if (compactRightTrackBuilder_ == null) {
+          result.compactRightTrack_ = compactRightTrack_;
+        } else {
+          result.compactRightTrack_ = compactRightTrackBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage) {
+          return mergeFrom((com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage other) {
+        if (other == com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.getDefaultInstance()) return this;
+        if (other.hasAircraftID()) {
+          bitField0_ |= 0x00000001;
+          aircraftID_ = other.aircraftID_;
+          onChanged();
+        }
+        if (other.hasTime()) {
+          setTime(other.getTime());
+        }
+        if (other.hasLeftTrack()) {
+          mergeLeftTrack(other.getLeftTrack());
+        }
+        if (other.hasCentreTrack()) {
+          mergeCentreTrack(other.getCentreTrack());
+        }
+        if (other.hasRightTrack()) {
+          mergeRightTrack(other.getRightTrack());
+        }
+        if (other.hasState()) {
+          setState(other.getState());
+        }
+        if (other.hasAircraftState()) {
+          mergeAircraftState(other.getAircraftState());
+        }
+        if (other.hasCompactLeftTrack()) {
+          mergeCompactLeftTrack(other.getCompactLeftTrack());
+        }
+        if (other.hasCompactCentreTrack()) {
+          mergeCompactCentreTrack(other.getCompactCentreTrack());
+        }
+        if (other.hasCompactRightTrack()) {
+          mergeCompactRightTrack(other.getCompactRightTrack());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasAircraftID()) {
+          return false;
+        }
+        if (!hasTime()) {
+          return false;
+        }
+        if (!hasCentreTrack()) {
+          return false;
+        }
+        if (!hasState()) {
+          return false;
+        }
+        if (!hasAircraftState()) {
+          return false;
+        }
+        if (hasLeftTrack()) {
+          if (!getLeftTrack().isInitialized()) {
+            return false;
+          }
+        }
+        if (!getCentreTrack().isInitialized()) {
+          return false;
+        }
+        if (hasRightTrack()) {
+          if (!getRightTrack().isInitialized()) {
+            return false;
+          }
+        }
+        if (!getAircraftState().isInitialized()) {
+          return false;
+        }
+        if (hasCompactLeftTrack()) {
+          if (!getCompactLeftTrack().isInitialized()) {
+            return false;
+          }
+        }
+        if (hasCompactCentreTrack()) {
+          if (!getCompactCentreTrack().isInitialized()) {
+            return false;
+          }
+        }
+        if (hasCompactRightTrack()) {
+          if (!getCompactRightTrack().isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object aircraftID_ = "";
+      /**
+       * <code>required string aircraftID = 1;</code>
+       */
+      public boolean hasAircraftID() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string aircraftID = 1;</code>
+       */
+      public java.lang.String getAircraftID() {
+        java.lang.Object ref = aircraftID_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            aircraftID_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string aircraftID = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAircraftIDBytes() {
+        java.lang.Object ref = aircraftID_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          aircraftID_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string aircraftID = 1;</code>
+       */
+      public Builder setAircraftID(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        aircraftID_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string aircraftID = 1;</code>
+       */
+      public Builder clearAircraftID() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        aircraftID_ = getDefaultInstance().getAircraftID();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string aircraftID = 1;</code>
+       */
+      public Builder setAircraftIDBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        aircraftID_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long time_ ;
+      /**
+       * <pre>
+       *milliseconds since epoch
+       * </pre>
+       *
+       * <code>required int64 time = 2;</code>
+       */
+      public boolean hasTime() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <pre>
+       *milliseconds since epoch
+       * </pre>
+       *
+       * <code>required int64 time = 2;</code>
+       */
+      public long getTime() {
+        return time_;
+      }
+      /**
+       * <pre>
+       *milliseconds since epoch
+       * </pre>
+       *
+       * <code>required int64 time = 2;</code>
+       */
+      public Builder setTime(long value) {
+        bitField0_ |= 0x00000002;
+        time_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       *milliseconds since epoch
+       * </pre>
+       *
+       * <code>required int64 time = 2;</code>
+       */
+      public Builder clearTime() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        time_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.atc.simulator.protocol_buffers.PredictionFeedServe.Track leftTrack_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder> leftTrackBuilder_;
+      /**
+       * <code>optional .Track leftTrack = 3;</code>
+       */
+      public boolean hasLeftTrack() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .Track leftTrack = 3;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getLeftTrack() {
+        if (leftTrackBuilder_ == null) {
+          return leftTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : leftTrack_;
+        } else {
+          return leftTrackBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Track leftTrack = 3;</code>
+       */
+      public Builder setLeftTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track value) {
+        if (leftTrackBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          leftTrack_ = value;
+          onChanged();
+        } else {
+          leftTrackBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .Track leftTrack = 3;</code>
+       */
+      public Builder setLeftTrack(
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder builderForValue) {
+        if (leftTrackBuilder_ == null) {
+          leftTrack_ = builderForValue.build();
+          onChanged();
+        } else {
+          leftTrackBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .Track leftTrack = 3;</code>
+       */
+      public Builder mergeLeftTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track value) {
+        if (leftTrackBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              leftTrack_ != null &&
+              leftTrack_ != com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance()) {
+            leftTrack_ =
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.newBuilder(leftTrack_).mergeFrom(value).buildPartial();
+          } else {
+            leftTrack_ = value;
+          }
+          onChanged();
+        } else {
+          leftTrackBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .Track leftTrack = 3;</code>
+       */
+      public Builder clearLeftTrack() {
+        if (leftTrackBuilder_ == null) {
+          leftTrack_ = null;
+          onChanged();
+        } else {
+          leftTrackBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>optional .Track leftTrack = 3;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder getLeftTrackBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getLeftTrackFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Track leftTrack = 3;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getLeftTrackOrBuilder() {
+        if (leftTrackBuilder_ != null) {
+          return leftTrackBuilder_.getMessageOrBuilder();
+        } else {
+          return leftTrack_ == null ?
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : leftTrack_;
+        }
+      }
+      /**
+       * <code>optional .Track leftTrack = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder>
+          getLeftTrackFieldBuilder() {
+        if (leftTrackBuilder_ == null) {
+          leftTrackBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder>(
+                  getLeftTrack(),
+                  getParentForChildren(),
+                  isClean());
+          leftTrack_ = null;
+        }
+        return leftTrackBuilder_;
+      }
+
+      private com.atc.simulator.protocol_buffers.PredictionFeedServe.Track centreTrack_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder> centreTrackBuilder_;
+      /**
+       * <code>required .Track centreTrack = 4;</code>
+       */
+      public boolean hasCentreTrack() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>required .Track centreTrack = 4;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getCentreTrack() {
+        if (centreTrackBuilder_ == null) {
+          return centreTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : centreTrack_;
+        } else {
+          return centreTrackBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .Track centreTrack = 4;</code>
+       */
+      public Builder setCentreTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track value) {
+        if (centreTrackBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          centreTrack_ = value;
+          onChanged();
+        } else {
+          centreTrackBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>required .Track centreTrack = 4;</code>
+       */
+      public Builder setCentreTrack(
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder builderForValue) {
+        if (centreTrackBuilder_ == null) {
+          centreTrack_ = builderForValue.build();
+          onChanged();
+        } else {
+          centreTrackBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>required .Track centreTrack = 4;</code>
+       */
+      public Builder mergeCentreTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track value) {
+        if (centreTrackBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              centreTrack_ != null &&
+              centreTrack_ != com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance()) {
+            centreTrack_ =
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.newBuilder(centreTrack_).mergeFrom(value).buildPartial();
+          } else {
+            centreTrack_ = value;
+          }
+          onChanged();
+        } else {
+          centreTrackBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>required .Track centreTrack = 4;</code>
+       */
+      public Builder clearCentreTrack() {
+        if (centreTrackBuilder_ == null) {
+          centreTrack_ = null;
+          onChanged();
+        } else {
+          centreTrackBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+      /**
+       * <code>required .Track centreTrack = 4;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder getCentreTrackBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getCentreTrackFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .Track centreTrack = 4;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getCentreTrackOrBuilder() {
+        if (centreTrackBuilder_ != null) {
+          return centreTrackBuilder_.getMessageOrBuilder();
+        } else {
+          return centreTrack_ == null ?
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : centreTrack_;
+        }
+      }
+      /**
+       * <code>required .Track centreTrack = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder>
+          getCentreTrackFieldBuilder() {
+        if (centreTrackBuilder_ == null) {
+          centreTrackBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder>(
+                  getCentreTrack(),
+                  getParentForChildren(),
+                  isClean());
+          centreTrack_ = null;
+        }
+        return centreTrackBuilder_;
+      }
+
+      private com.atc.simulator.protocol_buffers.PredictionFeedServe.Track rightTrack_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder> rightTrackBuilder_;
+      /**
+       * <code>optional .Track rightTrack = 5;</code>
+       */
+      public boolean hasRightTrack() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional .Track rightTrack = 5;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getRightTrack() {
+        if (rightTrackBuilder_ == null) {
+          return rightTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : rightTrack_;
+        } else {
+          return rightTrackBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Track rightTrack = 5;</code>
+       */
+      public Builder setRightTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track value) {
+        if (rightTrackBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          rightTrack_ = value;
+          onChanged();
+        } else {
+          rightTrackBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .Track rightTrack = 5;</code>
+       */
+      public Builder setRightTrack(
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder builderForValue) {
+        if (rightTrackBuilder_ == null) {
+          rightTrack_ = builderForValue.build();
+          onChanged();
+        } else {
+          rightTrackBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .Track rightTrack = 5;</code>
+       */
+      public Builder mergeRightTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track value) {
+        if (rightTrackBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010) &&
+              rightTrack_ != null &&
+              rightTrack_ != com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance()) {
+            rightTrack_ =
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.newBuilder(rightTrack_).mergeFrom(value).buildPartial();
+          } else {
+            rightTrack_ = value;
+          }
+          onChanged();
+        } else {
+          rightTrackBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .Track rightTrack = 5;</code>
+       */
+      public Builder clearRightTrack() {
+        if (rightTrackBuilder_ == null) {
+          rightTrack_ = null;
+          onChanged();
+        } else {
+          rightTrackBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+      /**
+       * <code>optional .Track rightTrack = 5;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder getRightTrackBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getRightTrackFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Track rightTrack = 5;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getRightTrackOrBuilder() {
+        if (rightTrackBuilder_ != null) {
+          return rightTrackBuilder_.getMessageOrBuilder();
+        } else {
+          return rightTrack_ == null ?
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : rightTrack_;
+        }
+      }
+      /**
+       * <code>optional .Track rightTrack = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder>
+          getRightTrackFieldBuilder() {
+        if (rightTrackBuilder_ == null) {
+          rightTrackBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder>(
+                  getRightTrack(),
+                  getParentForChildren(),
+                  isClean());
+          rightTrack_ = null;
+        }
+        return rightTrackBuilder_;
+      }
+
+      private int state_ = 0;
+      /**
+       * <code>required .AircraftPredictionMessage.State state = 6;</code>
+       */
+      public boolean hasState() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>required .AircraftPredictionMessage.State state = 6;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State getState() {
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State result = com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State.valueOf(state_);
+        return result == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State.STOPPED : result;
+      }
+      /**
+       * <code>required .AircraftPredictionMessage.State state = 6;</code>
+       */
+      public Builder setState(com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000020;
+        state_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required .AircraftPredictionMessage.State state = 6;</code>
+       */
+      public Builder clearState() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        state_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage aircraftState_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage, com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessageOrBuilder> aircraftStateBuilder_;
+      /**
+       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       */
+      public boolean hasAircraftState() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage getAircraftState() {
+        if (aircraftStateBuilder_ == null) {
+          return aircraftState_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.getDefaultInstance() : aircraftState_;
+        } else {
+          return aircraftStateBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       */
+      public Builder setAircraftState(com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage value) {
+        if (aircraftStateBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          aircraftState_ = value;
+          onChanged();
+        } else {
+          aircraftStateBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       */
+      public Builder setAircraftState(
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.Builder builderForValue) {
+        if (aircraftStateBuilder_ == null) {
+          aircraftState_ = builderForValue.build();
+          onChanged();
+        } else {
+          aircraftStateBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       */
+      public Builder mergeAircraftState(com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage value) {
+        if (aircraftStateBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) == 0x00000040) &&
+              aircraftState_ != null &&
+              aircraftState_ != com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.getDefaultInstance()) {
+            aircraftState_ =
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.newBuilder(aircraftState_).mergeFrom(value).buildPartial();
+          } else {
+            aircraftState_ = value;
+          }
+          onChanged();
+        } else {
+          aircraftStateBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       */
+      public Builder clearAircraftState() {
+        if (aircraftStateBuilder_ == null) {
+          aircraftState_ = null;
+          onChanged();
+        } else {
+          aircraftStateBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+      /**
+       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.Builder getAircraftStateBuilder() {
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return getAircraftStateFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessageOrBuilder getAircraftStateOrBuilder() {
+        if (aircraftStateBuilder_ != null) {
+          return aircraftStateBuilder_.getMessageOrBuilder();
+        } else {
+          return aircraftState_ == null ?
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.getDefaultInstance() : aircraftState_;
+        }
+      }
+      /**
+       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage, com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessageOrBuilder>
+          getAircraftStateFieldBuilder() {
+        if (aircraftStateBuilder_ == null) {
+          aircraftStateBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage, com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessageOrBuilder>(
+                  getAircraftState(),
+                  getParentForChildren(),
+                  isClean());
+          aircraftState_ = null;
+        }
+        return aircraftStateBuilder_;
+      }
+
+      private com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack compactLeftTrack_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder> compactLeftTrackBuilder_;
+      /**
+       * <pre>
+       * the tracks encoded compactly (version 3 of the feed), a track sent this way is empty in the
+       * Track field above (which are left empty rather than removed, for version 2 clients)
+       * </pre>
+       *
+       * <code>optional .CompactTrack compactLeftTrack = 8;</code>
+       */
+      public boolean hasCompactLeftTrack() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <pre>
+       * the tracks encoded compactly (version 3 of the feed), a track sent this way is empty in the
+       * Track field above (which are left empty rather than removed, for version 2 clients)
+       * </pre>
+       *
+       * <code>optional .CompactTrack compactLeftTrack = 8;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack getCompactLeftTrack() {
+        if (compactLeftTrackBuilder_ == null) {
+          return compactLeftTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance() : compactLeftTrack_;
+        } else {
+          return compactLeftTrackBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * the tracks encoded compactly (version 3 of the feed), a track sent this way is empty in the
+       * Track field above (which are left empty rather than removed, for version 2 clients)
+       * </pre>
+       *
+       * <code>optional .CompactTrack compactLeftTrack = 8;</code>
+       */
+      public Builder setCompactLeftTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack value) {
+        if (compactLeftTrackBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          compactLeftTrack_ = value;
+          onChanged();
+        } else {
+          compactLeftTrackBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <pre>
+       * the tracks encoded compactly (version 3 of the feed), a track sent this way is empty in the
+       * Track field above (which are left empty rather than removed, for version 2 clients)
+       * </pre>
+       *
+       * <code>optional .CompactTrack compactLeftTrack = 8;</code>
+       */
+      public Builder setCompactLeftTrack(
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder builderForValue) {
+        if (compactLeftTrackBuilder_ == null) {
+          compactLeftTrack_ = builderForValue.build();
+          onChanged();
+        } else {
+          compactLeftTrackBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <pre>
+       * the tracks encoded compactly (version 3 of the feed), a track sent this way is empty in the
+       * Track field above (which are left empty rather than removed, for version 2 clients)
+       * </pre>
+       *
+       * <code>optional .CompactTrack compactLeftTrack = 8;</code>
+       */
+      public Builder mergeCompactLeftTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack value) {
+        if (compactLeftTrackBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) == 0x00000080) &&
+              compactLeftTrack_ != null &&
+              compactLeftTrack_ != com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance()) {
+            compactLeftTrack_ =
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.newBuilder(compactLeftTrack_).mergeFrom(value).buildPartial();
+          } else {
+            compactLeftTrack_ = value;
+          }
+          onChanged();
+        } else {
+          compactLeftTrackBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000080;
+        return this;
+      }
+      /**
+       * <pre>
+       * the tracks encoded compactly (version 3 of the feed), a track sent this way is empty in the
+       * Track field above (which are left empty rather than removed, for version 2 clients)
+       * </pre>
+       *
+       * <code>optional .CompactTrack compactLeftTrack = 8;</code>
+       */
+      public Builder clearCompactLeftTrack() {
+        if (compactLeftTrackBuilder_ == null) {
+          compactLeftTrack_ = null;
+          onChanged();
+        } else {
+          compactLeftTrackBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000080);
+        return this;
+      }
+      /**
+       * <pre>
+       * the tracks encoded compactly (version 3 of the feed), a track sent this way is empty in the
+       * Track field above (which are left empty rather than removed, for version 2 clients)
+       * </pre>
+       *
+       * <code>optional .CompactTrack compactLeftTrack = 8;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder getCompactLeftTrackBuilder() {
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return getCompactLeftTrackFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * the tracks encoded compactly (version 3 of the feed), a track sent this way is empty in the
+       * Track field above (which are left empty rather than removed, for version 2 clients)
+       * </pre>
+       *
+       * <code>optional .CompactTrack compactLeftTrack = 8;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder getCompactLeftTrackOrBuilder() {
+        if (compactLeftTrackBuilder_ != null) {
+          return compactLeftTrackBuilder_.getMessageOrBuilder();
+        } else {
+          return compactLeftTrack_ == null ?
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance() : compactLeftTrack_;
+        }
+      }
+      /**
+       * <pre>
+       * the tracks encoded compactly (version 3 of the feed), a track sent this way is empty in the
+       * Track field above (which are left empty rather than removed, for version 2 clients)
+       * </pre>
+       *
+       * <code>optional .CompactTrack compactLeftTrack = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder>
+          getCompactLeftTrackFieldBuilder() {
+        if (compactLeftTrackBuilder_ == null) {
+          compactLeftTrackBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder>(
+                  getCompactLeftTrack(),
+                  getParentForChildren(),
+                  isClean());
+          compactLeftTrack_ = null;
+        }
+        return compactLeftTrackBuilder_;
+      }
+
+      private com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack compactCentreTrack_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder> compactCentreTrackBuilder_;
+      /**
+       * <code>optional .CompactTrack compactCentreTrack = 9;</code>
+       */
+      public boolean hasCompactCentreTrack() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional .CompactTrack compactCentreTrack = 9;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack getCompactCentreTrack() {
+        if (compactCentreTrackBuilder_ == null) {
+          return compactCentreTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance() : compactCentreTrack_;
+        } else {
+          return compactCentreTrackBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .CompactTrack compactCentreTrack = 9;</code>
+       */
+      public Builder setCompactCentreTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack value) {
+        if (compactCentreTrackBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          compactCentreTrack_ = value;
+          onChanged();
+        } else {
+          compactCentreTrackBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000100;
+        return this;
+      }
+      /**
+       * <code>optional .CompactTrack compactCentreTrack = 9;</code>
+       */
+      public Builder setCompactCentreTrack(
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder builderForValue) {
+        if (compactCentreTrackBuilder_ == null) {
+          compactCentreTrack_ = builderForValue.build();
+          onChanged();
+        } else {
+          compactCentreTrackBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000100;
+        return this;
+      }
+      /**
+       * <code>optional .CompactTrack compactCentreTrack = 9;</code>
+       */
+      public Builder mergeCompactCentreTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack value) {
+        if (compactCentreTrackBuilder_ == null) {
+          if (((bitField0_ & 0x00000100) == 0x00000100) &&
+              compactCentreTrack_ != null &&
+              compactCentreTrack_ != com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance()) {
+            compactCentreTrack_ =
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.newBuilder(compactCentreTrack_).mergeFrom(value).buildPartial();
+          } else {
+            compactCentreTrack_ = value;
+          }
+          onChanged();
+        } else {
+          compactCentreTrackBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000100;
+        return this;
+      }
+      /**
+       * <code>optional .CompactTrack compactCentreTrack = 9;</code>
+       */
+      public Builder clearCompactCentreTrack() {
+        if (compactCentreTrackBuilder_ == null) {
+          compactCentreTrack_ = null;
+          onChanged();
+        } else {
+          compactCentreTrackBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000100);
+        return this;
+      }
+      /**
+       * <code>optional .CompactTrack compactCentreTrack = 9;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder getCompactCentreTrackBuilder() {
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return getCompactCentreTrackFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .CompactTrack compactCentreTrack = 9;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder getCompactCentreTrackOrBuilder() {
+        if (compactCentreTrackBuilder_ != null) {
+          return compactCentreTrackBuilder_.getMessageOrBuilder();
+        } else {
+          return compactCentreTrack_ == null ?
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance() : compactCentreTrack_;
+        }
+      }
+      /**
+       * <code>optional .CompactTrack compactCentreTrack = 9;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder>
+          getCompactCentreTrackFieldBuilder() {
+        if (compactCentreTrackBuilder_ == null) {
+          compactCentreTrackBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder>(
+                  getCompactCentreTrack(),
+                  getParentForChildren(),
+                  isClean());
+          compactCentreTrack_ = null;
+        }
+        return compactCentreTrackBuilder_;
+      }
+
+      private com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack compactRightTrack_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder> compactRightTrackBuilder_;
+      /**
+       * <code>optional .CompactTrack compactRightTrack = 10;</code>
+       */
+      public boolean hasCompactRightTrack() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional .CompactTrack compactRightTrack = 10;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack getCompactRightTrack() {
+        if (compactRightTrackBuilder_ == null) {
+          return compactRightTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance() : compactRightTrack_;
+        } else {
+          return compactRightTrackBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .CompactTrack compactRightTrack = 10;</code>
+       */
+      public Builder setCompactRightTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack value) {
+        if (compactRightTrackBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          compactRightTrack_ = value;
+          onChanged();
+        } else {
+          compactRightTrackBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000200;
+        return this;
+      }
+      /**
+       * <code>optional .CompactTrack compactRightTrack = 10;</code>
+       */
+      public Builder setCompactRightTrack(
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder builderForValue) {
+        if (compactRightTrackBuilder_ == null) {
+          compactRightTrack_ = builderForValue.build();
+          onChanged();
+        } else {
+          compactRightTrackBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000200;
+        return this;
+      }
+      /**
+       * <code>optional .CompactTrack compactRightTrack = 10;</code>
+       */
+      public Builder mergeCompactRightTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack value) {
+        if (compactRightTrackBuilder_ == null) {
+          if (((bitField0_ & 0x00000200) == 0x00000200) &&
+              compactRightTrack_ != null &&
+              compactRightTrack_ != com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance()) {
+            compactRightTrack_ =
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.newBuilder(compactRightTrack_).mergeFrom(value).buildPartial();
+          } else {
+            compactRightTrack_ = value;
+          }
+          onChanged();
+        } else {
+          compactRightTrackBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000200;
+        return this;
+      }
+      /**
+       * <code>optional .CompactTrack compactRightTrack = 10;</code>
+       */
+      public Builder clearCompactRightTrack() {
+        if (compactRightTrackBuilder_ == null) {
+          compactRightTrack_ = null;
+          onChanged();
+        } else {
+          compactRightTrackBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000200);
+        return this;
+      }
+      /**
+       * <code>optional .CompactTrack compactRightTrack = 10;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder getCompactRightTrackBuilder() {
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return getCompactRightTrackFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .CompactTrack compactRightTrack = 10;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder getCompactRightTrackOrBuilder() {
+        if (compactRightTrackBuilder_ != null) {
+          return compactRightTrackBuilder_.getMessageOrBuilder();
+        } else {
+          return compactRightTrack_ == null ?
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.getDefaultInstance() : compactRightTrack_;
+        }
+      }
+      /**
+       * <code>optional .CompactTrack compactRightTrack = 10;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder>
+          getCompactRightTrackFieldBuilder() {
+        if (compactRightTrackBuilder_ == null) {
+          compactRightTrackBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrack.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.CompactTrackOrBuilder>(
+                  getCompactRightTrack(),
+                  getParentForChildren(),
+                  isClean());
+          compactRightTrack_ = null;
+        }
+        return compactRightTrackBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:AircraftPredictionMessage)
+    }
+
+    // @@protoc_insertion_point(class_scope:AircraftPredictionMessage)
+    private static final com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage();
+    }
+
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<AircraftPredictionMessage>
+        PARSER = new com.google.protobuf.AbstractParser<AircraftPredictionMessage>() {
+      public AircraftPredictionMessage parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new AircraftPredictionMessage(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<AircraftPredictionMessage> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AircraftPredictionMessage> getParserForType() {
+      return PARSER;
+    }
+
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PredictionFeedHelloOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PredictionFeedHello)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required uint32 version = 100;</code>
+     */
+    boolean hasVersion();
+    /**
+     * <code>required uint32 version = 100;</code>
+     */
+    int getVersion();
+  }
+  /**
+   * <pre>
+   * Sent by a client when it connects, and by the server in reply, to agree on the version of the feed:
+   *   1 - each AircraftPredictionMessage is sent on its own (clients which don't send a hello)
+   *   2 - the predictions are sent in PredictionBatch messages
+   *   3 - as for 2, with the tracks sent as CompactTrack's where they can be
+   * The version's field number isn't used by AircraftPredictionMessage, so that a client can tell the
+   * server's hello from the first prediction of a server which doesn't know about the handshake.
+   * </pre>
+   *
+   * Protobuf type {@code PredictionFeedHello}
+   */
+  public  static final class PredictionFeedHello extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:PredictionFeedHello)
+      PredictionFeedHelloOrBuilder {
+    // Use PredictionFeedHello.newBuilder() to construct.
+    private PredictionFeedHello(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PredictionFeedHello() {
+      version_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PredictionFeedHello(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 800: {
+              bitField0_ |= 0x00000001;
+              version_ = input.readUInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_PredictionFeedHello_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_PredictionFeedHello_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello.class, com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int VERSION_FIELD_NUMBER = 100;
+    private int version_;
+    /**
+     * <code>required uint32 version = 100;</code>
+     */
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint32 version = 100;</code>
+     */
+    public int getVersion() {
+      return version_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasVersion()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(100, version_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(100, version_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello)) {
+        return super.equals(obj);
+      }
+      com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello other = (com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello) obj;
+
+      boolean result = true;
+      result = result && (hasVersion() == other.hasVersion());
+      if (hasVersion()) {
+        result = result && (getVersion()
+            == other.getVersion());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + getVersion();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Sent by a client when it connects, and by the server in reply, to agree on the version of the feed:
+     *   1 - each AircraftPredictionMessage is sent on its own (clients which don't send a hello)
+     *   2 - the predictions are sent in PredictionBatch messages
+     *   3 - as for 2, with the tracks sent as CompactTrack's where they can be
+     * The version's field number isn't used by AircraftPredictionMessage, so that a client can tell the
+     * server's hello from the first prediction of a server which doesn't know about the handshake.
+     * </pre>
+     *
+     * Protobuf type {@code PredictionFeedHello}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:PredictionFeedHello)
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHelloOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_PredictionFeedHello_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_PredictionFeedHello_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello.class, com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello.Builder.class);
+      }
+
+      // Construct using com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        version_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_PredictionFeedHello_descriptor;
+      }
+
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello getDefaultInstanceForType() {
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello.getDefaultInstance();
+      }
+
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello build() {
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello buildPartial() {
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello result = new com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.version_ = version_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello) {
+          return mergeFrom((com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello other) {
+        if (other == com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello.getDefaultInstance()) return this;
+        if (other.hasVersion()) {
+          setVersion(other.getVersion());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasVersion()) {
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int version_ ;
+      /**
+       * <code>required uint32 version = 100;</code>
+       */
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 version = 100;</code>
+       */
+      public int getVersion() {
+        return version_;
+      }
+      /**
+       * <code>required uint32 version = 100;</code>
+       */
+      public Builder setVersion(int value) {
+        bitField0_ |= 0x00000001;
+        version_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 version = 100;</code>
+       */
+      public Builder clearVersion() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        version_ = 0;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:PredictionFeedHello)
+    }
+
+    // @@protoc_insertion_point(class_scope:PredictionFeedHello)
+    private static final com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello();
+    }
+
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<PredictionFeedHello>
+        PARSER = new com.google.protobuf.AbstractParser<PredictionFeedHello>() {
+      public PredictionFeedHello parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new PredictionFeedHello(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<PredictionFeedHello> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PredictionFeedHello> getParserForType() {
+      return PARSER;
+    }
+
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionFeedHello getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PredictionBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PredictionBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
+     */
+    java.util.List<com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage>
+        getPredictionList();
+    /**
+     * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage getPrediction(int index);
+    /**
+     * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
+     */
+    int getPredictionCount();
+    /**
+     * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
+     */
+    java.util.List<? extends com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessageOrBuilder>
+        getPredictionOrBuilderList();
+    /**
+     * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
+     */
+    com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessageOrBuilder getPredictionOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * Many aircraft predictions sent together, at most one per aircraft
+   * </pre>
+   *
+   * Protobuf type {@code PredictionBatch}
+   */
+  public  static final class PredictionBatch extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:PredictionBatch)
+      PredictionBatchOrBuilder {
+    // Use PredictionBatch.newBuilder() to construct.
+    private PredictionBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PredictionBatch() {
+      prediction_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PredictionBatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                prediction_ = new java.util.ArrayList<com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              prediction_.add(
+                  input.readMessage(com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          prediction_ = java.util.Collections.unmodifiableList(prediction_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_PredictionBatch_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_PredictionBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch.class, com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch.Builder.class);
+    }
+
+    public static final int PREDICTION_FIELD_NUMBER = 1;
+    private java.util.List<com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage> prediction_;
+    /**
+     * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
+     */
+    public java.util.List<com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage> getPredictionList() {
+      return prediction_;
+    }
+    /**
+     * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
+     */
+    public java.util.List<? extends com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessageOrBuilder>
+        getPredictionOrBuilderList() {
+      return prediction_;
+    }
+    /**
+     * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
+     */
+    public int getPredictionCount() {
+      return prediction_.size();
+    }
+    /**
+     * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage getPrediction(int index) {
+      return prediction_.get(index);
+    }
+    /**
+     * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
+     */
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessageOrBuilder getPredictionOrBuilder(
+        int index) {
+      return prediction_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getPredictionCount(); i++) {
+        if (!getPrediction(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < prediction_.size(); i++) {
+        output.writeMessage(1, prediction_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < prediction_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, prediction_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch)) {
+        return super.equals(obj);
+      }
+      com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch other = (com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch) obj;
+
+      boolean result = true;
+      result = result && getPredictionList()
+          .equals(other.getPredictionList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (getPredictionCount() > 0) {
+        hash = (37 * hash) + PREDICTION_FIELD_NUMBER;
+        hash = (53 * hash) + getPredictionList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Many aircraft predictions sent together, at most one per aircraft
+     * </pre>
+     *
+     * Protobuf type {@code PredictionBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:PredictionBatch)
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_PredictionBatch_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_PredictionBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch.class, com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch.Builder.class);
+      }
+
+      // Construct using com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getPredictionFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (predictionBuilder_ == null) {
+          prediction_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          predictionBuilder_.clear();
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.internal_static_PredictionBatch_descriptor;
+      }
+
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch getDefaultInstanceForType() {
+        return com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch.getDefaultInstance();
+      }
+
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch build() {
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch buildPartial() {
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch result = new com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch(this);
+        int from_bitField0_ = bitField0_;
+        if (predictionBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            prediction_ = java.util.Collections.unmodifiableList(prediction_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.prediction_ = prediction_;
+        } else {
+          result.prediction_ = predictionBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch) {
+          return mergeFrom((com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch other) {
+        if (other == com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch.getDefaultInstance()) return this;
+        if (predictionBuilder_ == null) {
+          if (!other.prediction_.isEmpty()) {
+            if (prediction_.isEmpty()) {
+              prediction_ = other.prediction_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensurePredictionIsMutable();
+              prediction_.addAll(other.prediction_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.prediction_.isEmpty()) {
+            if (predictionBuilder_.isEmpty()) {
+              predictionBuilder_.dispose();
+              predictionBuilder_ = null;
+              prediction_ = other.prediction_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              predictionBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPredictionFieldBuilder() : null;
+            } else {
+              predictionBuilder_.addAllMessages(other.prediction_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getPredictionCount(); i++) {
+          if (!getPrediction(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage> prediction_ =
+        java.util.Collections.emptyList();
+      private void ensurePredictionIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          prediction_ = new java.util.ArrayList<com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage>(prediction_);
+          bitField0_ |= 0x00000001;
+         }
       }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage, com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessageOrBuilder> predictionBuilder_;
+
       /**
-       * <code>required .Track centreTrack = 4;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      public com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getCentreTrackOrBuilder() {
-        if (centreTrackBuilder_ != null) {
-          return centreTrackBuilder_.getMessageOrBuilder();
+      public java.util.List<com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage> getPredictionList() {
+        if (predictionBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(prediction_);
         } else {
-          return centreTrack_ == null ?
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : centreTrack_;
+          return predictionBuilder_.getMessageList();
         }
       }
       /**
-       * <code>required .Track centreTrack = 4;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder>
-          getCentreTrackFieldBuilder() {
-        if (centreTrackBuilder_ == null) {
-          centreTrackBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder>(
-                  getCentreTrack(),
-                  getParentForChildren(),
-                  isClean());
-          centreTrack_ = null;
+      public int getPredictionCount() {
+        if (predictionBuilder_ == null) {
+          return prediction_.size();
+        } else {
+          return predictionBuilder_.getCount();
         }
-        return centreTrackBuilder_;
-      }
-
-      private com.atc.simulator.protocol_buffers.PredictionFeedServe.Track rightTrack_ = null;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder> rightTrackBuilder_;
-      /**
-       * <code>optional .Track rightTrack = 5;</code>
-       */
-      public boolean hasRightTrack() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
       }
       /**
-       * <code>optional .Track rightTrack = 5;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track getRightTrack() {
-        if (rightTrackBuilder_ == null) {
-          return rightTrack_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : rightTrack_;
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage getPrediction(int index) {
+        if (predictionBuilder_ == null) {
+          return prediction_.get(index);
         } else {
-          return rightTrackBuilder_.getMessage();
+          return predictionBuilder_.getMessage(index);
         }
       }
       /**
-       * <code>optional .Track rightTrack = 5;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      public Builder setRightTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track value) {
-        if (rightTrackBuilder_ == null) {
+      public Builder setPrediction(
+          int index, com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage value) {
+        if (predictionBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          rightTrack_ = value;
+          ensurePredictionIsMutable();
+          prediction_.set(index, value);
           onChanged();
         } else {
-          rightTrackBuilder_.setMessage(value);
+          predictionBuilder_.setMessage(index, value);
         }
-        bitField0_ |= 0x00000010;
         return this;
       }
       /**
-       * <code>optional .Track rightTrack = 5;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      public Builder setRightTrack(
-          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder builderForValue) {
-        if (rightTrackBuilder_ == null) {
-          rightTrack_ = builderForValue.build();
+      public Builder setPrediction(
+          int index, com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.Builder builderForValue) {
+        if (predictionBuilder_ == null) {
+          ensurePredictionIsMutable();
+          prediction_.set(index, builderForValue.build());
           onChanged();
         } else {
-          rightTrackBuilder_.setMessage(builderForValue.build());
+          predictionBuilder_.setMessage(index, builderForValue.build());
         }
-        bitField0_ |= 0x00000010;
         return this;
       }
       /**
-       * <code>optional .Track rightTrack = 5;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      public Builder mergeRightTrack(com.atc.simulator.protocol_buffers.PredictionFeedServe.Track value) {
-        if (rightTrackBuilder_ == null) {
-          if (((bitField0_ & 0x00000010) == 0x00000010) &&
-              rightTrack_ != null &&
-              rightTrack_ != com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance()) {
-            rightTrack_ =
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.newBuilder(rightTrack_).mergeFrom(value).buildPartial();
-          } else {
-            rightTrack_ = value;
+      public Builder addPrediction(com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage value) {
+        if (predictionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensurePredictionIsMutable();
+          prediction_.add(value);
           onChanged();
         } else {
-          rightTrackBuilder_.mergeFrom(value);
+          predictionBuilder_.addMessage(value);
         }
-        bitField0_ |= 0x00000010;
         return this;
       }
       /**
-       * <code>optional .Track rightTrack = 5;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      public Builder clearRightTrack() {
-        if (rightTrackBuilder_ == null) {
-          rightTrack_ = null;
+      public Builder addPrediction(
+          int index, com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage value) {
+        if (predictionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePredictionIsMutable();
+          prediction_.add(index, value);
           onChanged();
         } else {
-          rightTrackBuilder_.clear();
+          predictionBuilder_.addMessage(index, value);
         }
-        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
       /**
-       * <code>optional .Track rightTrack = 5;</code>
-       */
-      public com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder getRightTrackBuilder() {
-        bitField0_ |= 0x00000010;
-        onChanged();
-        return getRightTrackFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .Track rightTrack = 5;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      public com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder getRightTrackOrBuilder() {
-        if (rightTrackBuilder_ != null) {
-          return rightTrackBuilder_.getMessageOrBuilder();
+      public Builder addPrediction(
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.Builder builderForValue) {
+        if (predictionBuilder_ == null) {
+          ensurePredictionIsMutable();
+          prediction_.add(builderForValue.build());
+          onChanged();
         } else {
-          return rightTrack_ == null ?
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.getDefaultInstance() : rightTrack_;
-        }
-      }
-      /**
-       * <code>optional .Track rightTrack = 5;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder>
-          getRightTrackFieldBuilder() {
-        if (rightTrackBuilder_ == null) {
-          rightTrackBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.Track, com.atc.simulator.protocol_buffers.PredictionFeedServe.Track.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.TrackOrBuilder>(
-                  getRightTrack(),
-                  getParentForChildren(),
-                  isClean());
-          rightTrack_ = null;
-        }
-        return rightTrackBuilder_;
-      }
-
-      private int state_ = 0;
-      /**
-       * <code>required .AircraftPredictionMessage.State state = 6;</code>
-       */
-      public boolean hasState() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
-      }
-      /**
-       * <code>required .AircraftPredictionMessage.State state = 6;</code>
-       */
-      public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State getState() {
-        com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State result = com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State.valueOf(state_);
-        return result == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State.STOPPED : result;
-      }
-      /**
-       * <code>required .AircraftPredictionMessage.State state = 6;</code>
-       */
-      public Builder setState(com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.State value) {
-        if (value == null) {
-          throw new NullPointerException();
+          predictionBuilder_.addMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000020;
-        state_ = value.getNumber();
-        onChanged();
         return this;
       }
       /**
-       * <code>required .AircraftPredictionMessage.State state = 6;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      public Builder clearState() {
-        bitField0_ = (bitField0_ & ~0x00000020);
-        state_ = 0;
-        onChanged();
+      public Builder addPrediction(
+          int index, com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.Builder builderForValue) {
+        if (predictionBuilder_ == null) {
+          ensurePredictionIsMutable();
+          prediction_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          predictionBuilder_.addMessage(index, builderForValue.build());
+        }
         return this;
       }
-
-      private com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage aircraftState_ = null;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage, com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessageOrBuilder> aircraftStateBuilder_;
-      /**
-       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
-       */
-      public boolean hasAircraftState() {
-        return ((bitField0_ & 0x00000040) == 0x00000040);
-      }
       /**
-       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage getAircraftState() {
-        if (aircraftStateBuilder_ == null) {
-          return aircraftState_ == null ? com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.getDefaultInstance() : aircraftState_;
+      public Builder addAllPrediction(
+          java.lang.Iterable<? extends com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage> values) {
+        if (predictionBuilder_ == null) {
+          ensurePredictionIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, prediction_);
+          onChanged();
         } else {
-          return aircraftStateBuilder_.getMessage();
+          predictionBuilder_.addAllMessages(values);
         }
+        return this;
       }
       /**
-       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      public Builder setAircraftState(com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage value) {
-        if (aircraftStateBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          aircraftState_ = value;
+      public Builder clearPrediction() {
+        if (predictionBuilder_ == null) {
+          prediction_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
           onChanged();
         } else {
-          aircraftStateBuilder_.setMessage(value);
+          predictionBuilder_.clear();
         }
-        bitField0_ |= 0x00000040;
         return this;
       }
       /**
-       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      public Builder setAircraftState(
-          com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.Builder builderForValue) {
-        if (aircraftStateBuilder_ == null) {
-          aircraftState_ = builderForValue.build();
+      public Builder removePrediction(int index) {
+        if (predictionBuilder_ == null) {
+          ensurePredictionIsMutable();
+          prediction_.remove(index);
           onChanged();
         } else {
-          aircraftStateBuilder_.setMessage(builderForValue.build());
+          predictionBuilder_.remove(index);
         }
-        bitField0_ |= 0x00000040;
         return this;
       }
       /**
-       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      public Builder mergeAircraftState(com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage value) {
-        if (aircraftStateBuilder_ == null) {
-          if (((bitField0_ & 0x00000040) == 0x00000040) &&
-              aircraftState_ != null &&
-              aircraftState_ != com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.getDefaultInstance()) {
-            aircraftState_ =
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.newBuilder(aircraftState_).mergeFrom(value).buildPartial();
-          } else {
-            aircraftState_ = value;
-          }
-          onChanged();
-        } else {
-          aircraftStateBuilder_.mergeFrom(value);
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.Builder getPredictionBuilder(
+          int index) {
+        return getPredictionFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
+       */
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessageOrBuilder getPredictionOrBuilder(
+          int index) {
+        if (predictionBuilder_ == null) {
+          return prediction_.get(index);  } else {
+          return predictionBuilder_.getMessageOrBuilder(index);
         }
-        bitField0_ |= 0x00000040;
-        return this;
       }
       /**
-       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      public Builder clearAircraftState() {
-        if (aircraftStateBuilder_ == null) {
-          aircraftState_ = null;
-          onChanged();
+      public java.util.List<? extends com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessageOrBuilder>
+           getPredictionOrBuilderList() {
+        if (predictionBuilder_ != null) {
+          return predictionBuilder_.getMessageOrBuilderList();
         } else {
-          aircraftStateBuilder_.clear();
+          return java.util.Collections.unmodifiableList(prediction_);
         }
-        bitField0_ = (bitField0_ & ~0x00000040);
-        return this;
       }
       /**
-       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.Builder getAircraftStateBuilder() {
-        bitField0_ |= 0x00000040;
-        onChanged();
-        return getAircraftStateFieldBuilder().getBuilder();
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.Builder addPredictionBuilder() {
+        return getPredictionFieldBuilder().addBuilder(
+            com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.getDefaultInstance());
       }
       /**
-       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessageOrBuilder getAircraftStateOrBuilder() {
-        if (aircraftStateBuilder_ != null) {
-          return aircraftStateBuilder_.getMessageOrBuilder();
-        } else {
-          return aircraftState_ == null ?
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.getDefaultInstance() : aircraftState_;
-        }
+      public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.Builder addPredictionBuilder(
+          int index) {
+        return getPredictionFieldBuilder().addBuilder(
+            index, com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.getDefaultInstance());
       }
       /**
-       * <code>required .PredictionAircraftStateMessage aircraftState = 7;</code>
+       * <code>repeated .AircraftPredictionMessage prediction = 1;</code>
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage, com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessageOrBuilder>
-          getAircraftStateFieldBuilder() {
-        if (aircraftStateBuilder_ == null) {
-          aircraftStateBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage, com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessage.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionAircraftStateMessageOrBuilder>(
-                  getAircraftState(),
+      public java.util.List<com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.Builder>
+           getPredictionBuilderList() {
+        return getPredictionFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage, com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessageOrBuilder>
+          getPredictionFieldBuilder() {
+        if (predictionBuilder_ == null) {
+          predictionBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage, com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage.Builder, com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessageOrBuilder>(
+                  prediction_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
                   getParentForChildren(),
                   isClean());
-          aircraftState_ = null;
+          prediction_ = null;
         }
-        return aircraftStateBuilder_;
+        return predictionBuilder_;
       }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -4738,39 +8283,39 @@ public final class PredictionFeedServe {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:AircraftPredictionMessage)
+      // @@protoc_insertion_point(builder_scope:PredictionBatch)
     }
 
-    // @@protoc_insertion_point(class_scope:AircraftPredictionMessage)
-    private static final com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:PredictionBatch)
+    private static final com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage();
+      DEFAULT_INSTANCE = new com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch();
     }
 
-    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage getDefaultInstance() {
+    public static com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<AircraftPredictionMessage>
-        PARSER = new com.google.protobuf.AbstractParser<AircraftPredictionMessage>() {
-      public AircraftPredictionMessage parsePartialFrom(
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<PredictionBatch>
+        PARSER = new com.google.protobuf.AbstractParser<PredictionBatch>() {
+      public PredictionBatch parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new AircraftPredictionMessage(input, extensionRegistry);
+          return new PredictionBatch(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<AircraftPredictionMessage> parser() {
+    public static com.google.protobuf.Parser<PredictionBatch> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<AircraftPredictionMessage> getParserForType() {
+    public com.google.protobuf.Parser<PredictionBatch> getParserForType() {
       return PARSER;
     }
 
-    public com.atc.simulator.protocol_buffers.PredictionFeedServe.AircraftPredictionMessage getDefaultInstanceForType() {
+    public com.atc.simulator.protocol_buffers.PredictionFeedServe.PredictionBatch getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -4796,11 +8341,26 @@ public final class PredictionFeedServe {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_Track_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CompactTrack_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CompactTrack_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_AircraftPredictionMessage_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_AircraftPredictionMessage_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PredictionFeedHello_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PredictionFeedHello_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PredictionBatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PredictionBatch_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -4820,15 +8380,25 @@ public final class PredictionFeedServe {
       "nateMessage\022+\n\010velocity\030\003 \002(\0132\031.Spherica" +
       "lVelocityMessage\"?\n\005Track\0226\n\raircraftSta" +
       "te\030\001 \003(\0132\037.PredictionAircraftStateMessag",
-      "e\"\275\002\n\031AircraftPredictionMessage\022\022\n\naircr" +
-      "aftID\030\001 \002(\t\022\014\n\004time\030\002 \002(\003\022\031\n\tleftTrack\030\003" +
-      " \001(\0132\006.Track\022\033\n\013centreTrack\030\004 \002(\0132\006.Trac" +
-      "k\022\032\n\nrightTrack\030\005 \001(\0132\006.Track\022/\n\005state\030\006" +
-      " \002(\0162 .AircraftPredictionMessage.State\0226" +
-      "\n\raircraftState\030\007 \002(\0132\037.PredictionAircra" +
-      "ftStateMessage\"A\n\005State\022\013\n\007STOPPED\020\000\022\014\n\010" +
-      "STRAIGHT\020\001\022\r\n\tLEFT_TURN\020\002\022\016\n\nRIGHT_TURN\020" +
-      "\003B8\n!com.atc.simulator.ProtocolBuffersB\023" +
+      "e\"\243\001\n\014CompactTrack\022\021\n\tstartTime\030\001 \002(\003\022\020\n" +
+      "\010timeStep\030\002 \002(\005\022+\n\010velocity\030\003 \002(\0132\031.Sphe" +
+      "ricalVelocityMessage\022\024\n\010altitude\030\004 \003(\021B\002" +
+      "\020\001\022\024\n\010latitude\030\005 \003(\021B\002\020\001\022\025\n\tlongitude\030\006 " +
+      "\003(\021B\002\020\001\"\273\003\n\031AircraftPredictionMessage\022\022\n" +
+      "\naircraftID\030\001 \002(\t\022\014\n\004time\030\002 \002(\003\022\031\n\tleftT" +
+      "rack\030\003 \001(\0132\006.Track\022\033\n\013centreTrack\030\004 \002(\0132" +
+      "\006.Track\022\032\n\nrightTrack\030\005 \001(\0132\006.Track\022/\n\005s" +
+      "tate\030\006 \002(\0162 .AircraftPredictionMessage.S" +
+      "tate\0226\n\raircraftState\030\007 \002(\0132\037.Prediction",
+      "AircraftStateMessage\022\'\n\020compactLeftTrack" +
+      "\030\010 \001(\0132\r.CompactTrack\022)\n\022compactCentreTr" +
+      "ack\030\t \001(\0132\r.CompactTrack\022(\n\021compactRight" +
+      "Track\030\n \001(\0132\r.CompactTrack\"A\n\005State\022\013\n\007S" +
+      "TOPPED\020\000\022\014\n\010STRAIGHT\020\001\022\r\n\tLEFT_TURN\020\002\022\016\n" +
+      "\nRIGHT_TURN\020\003\"&\n\023PredictionFeedHello\022\017\n\007" +
+      "version\030d \002(\r\"A\n\017PredictionBatch\022.\n\npred" +
+      "iction\030\001 \003(\0132\032.AircraftPredictionMessage" +
+      "B9\n\"com.atc.simulator.protocol_buffersB\023" +
       "PredictionFeedServe"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
@@ -4867,12 +8437,30 @@ public final class PredictionFeedServe {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Track_descriptor,
         new java.lang.String[] { "AircraftState", });
-    internal_static_AircraftPredictionMessage_descriptor =
+    internal_static_CompactTrack_descriptor =
       getDescriptor().getMessageTypes().get(4);
+    internal_static_CompactTrack_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CompactTrack_descriptor,
+        new java.lang.String[] { "StartTime", "TimeStep", "Velocity", "Altitude", "Latitude", "Longitude", });
+    internal_static_AircraftPredictionMessage_descriptor =
+      getDescriptor().getMessageTypes().get(5);
     internal_static_AircraftPredictionMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_AircraftPredictionMessage_descriptor,
-        new java.lang.String[] { "AircraftID", "Time", "LeftTrack", "CentreTrack", "RightTrack", "State", "AircraftState", });
+        new java.lang.String[] { "AircraftID", "Time", "LeftTrack", "CentreTrack", "RightTrack", "State", "AircraftState", "CompactLeftTrack", "CompactCentreTrack", "CompactRightTrack", });
+    internal_static_PredictionFeedHello_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_PredictionFeedHello_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PredictionFeedHello_descriptor,
+        new java.lang.String[] { "Version", });
+    internal_static_PredictionBatch_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_PredictionBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PredictionBatch_descriptor,
+        new java.lang.String[] { "Prediction", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -0,0 +1,429 @@
+package com.atc.simulator.vectors;
+
+import pythagoras.d.Circle;
+import pythagoras.d.Vector3;
+
+import java.util.Arrays;
+
+/**
+ * A reusable workspace for fitting a circle to a set of 2d points, which does not allocate
+ * anything once it has grown to the number of points being fitted.
+ *
+ * {@link #fitAlgebraic()} is the Kasa algebraic fit (a closed form linear least squares solution),
+ * which is used as the starting point for {@link #fitGeometric()}, a Levenberg-Marquardt fit minimising
+ * the sum of the squared distances of the points from the circle, using the analytic jacobian.
+ * The points are centred on their mean before fitting, so that the fit is well conditioned for
+ * points a long way from the origin.
+ *
+ * A CircleFit must only be used by one thread at a time, {@link #getThreadInstance()} provides
+ * one for each thread.
+ *
+ * @author Luke Frisken
+ */
+public class CircleFit {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_ITERATIONS = 100;
+    private static final double TOLERANCE = 1e-12;
+
+    private static final ThreadLocal<CircleFit> threadInstance = new ThreadLocal<CircleFit>() {
+        @Override
+        protected CircleFit initialValue() {
+            return new CircleFit();
+        }
+    };
+
+    private double[] x;
+    private double[] y;
+    private int size;
+
+    private double meanX;
+    private double meanY;
+
+    // the current fit, relative to the mean
+    private double centreU;
+    private double centreV;
+    private double radius;
+    private int iterations;
+
+    /**
+     * Constructor for CircleFit
+     */
+    public CircleFit()
+    {
+        x = new double[DEFAULT_CAPACITY];
+        y = new double[DEFAULT_CAPACITY];
+        clear();
+    }
+
+    /**
+     * Get the CircleFit workspace for the current thread
+     * @return
+     */
+    public static CircleFit getThreadInstance()
+    {
+        return threadInstance.get();
+    }
+
+    /**
+     * Remove all the points, and reset the fit.
+     */
+    public void clear()
+    {
+        size = 0;
+        meanX = 0;
+        meanY = 0;
+        centreU = 0;
+        centreV = 0;
+        radius = Double.POSITIVE_INFINITY;
+        iterations = 0;
+    }
+
+    /**
+     * Add a point to fit the circle to
+     * @param px
+     * @param py
+     */
+    public void add(double px, double py)
+    {
+        if (size == x.length)
+        {
+            x = Arrays.copyOf(x, size * 2);
+            y = Arrays.copyOf(y, size * 2);
+        }
+        x[size] = px;
+        y[size] = py;
+        size++;
+    }
+
+    /**
+     * Add a point to fit the circle to, the z component is ignored.
+     * @param point
+     */
+    public void add(Vector3 point)
+    {
+        add(point.x, point.y);
+    }
+
+    /**
+     * Get the number of points to fit the circle to
+     * @return
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Fit the circle using the Kasa algebraic method, which minimises the sum of
+     * (distance squared - radius squared)^2. This tends to underestimate the radius of short
+     * arcs of noisy points, but is a good starting point for {@link #fitGeometric()}.
+     * @return false if the points are (numerically) in a line, or there are less than 3 of them.
+     *          The radius is then infinite.
+     */
+    public boolean fitAlgebraic()
+    {
+        iterations = 0;
+        if (size < 3)
+        {
+            radius = Double.POSITIVE_INFINITY;
+            return false;
+        }
+
+        computeMean();
+
+        double suu = 0, svv = 0, suv = 0;
+        double suuu = 0, svvv = 0, suvv = 0, svuu = 0;
+        for (int i = 0; i < size; i++)
+        {
+            double u = x[i] - meanX;
+            double v = y[i] - meanY;
+            double uu = u*u;
+            double vv = v*v;
+            suu += uu;
+            svv += vv;
+            suv += u*v;
+            suuu += uu*u;
+            svvv += vv*v;
+            suvv += u*vv;
+            svuu += v*uu;
+        }
+
+        double det = suu*svv - suv*suv;
+        if (!(Math.abs(det) > TOLERANCE*suu*svv))
+        {
+            radius = Double.POSITIVE_INFINITY;
+            return false;
+        }
+
+        double b1 = 0.5*(suuu + suvv);
+        double b2 = 0.5*(svvv + svuu);
+        centreU = (svv*b1 - suv*b2)/det;
+        centreV = (suu*b2 - suv*b1)/det;
+        radius = Math.sqrt(centreU*centreU + centreV*centreV + (suu + svv)/size);
+        return true;
+    }
+
+    /**
+     * Fit the circle geometrically, starting from the algebraic fit.
+     * @see #fitGeometric(double, double, double)
+     * @return false if the fit failed, and the radius is infinite.
+     */
+    public boolean fitGeometric()
+    {
+        if (!fitAlgebraic())
+        {
+            return false;
+        }
+        return refine();
+    }
+
+    /**
+     * Fit the circle geometrically using Levenberg-Marquardt, starting from the given circle.
+     * This minimises the sum of the squared distances of the points from the circle.
+     * @param startX x coordinate of the centre of the initial circle
+     * @param startY y coordinate of the centre of the initial circle
+     * @param startRadius radius of the initial circle
+     * @return false if the fit failed (less than 3 points, or the initial circle is not finite),
+     *          and the radius is infinite.
+     */
+    public boolean fitGeometric(double startX, double startY, double startRadius)
+    {
+        iterations = 0;
+        if (size < 3 || Double.isInfinite(startRadius) || Double.isNaN(startX + startY + startRadius))
+        {
+            radius = Double.POSITIVE_INFINITY;
+            return false;
+        }
+
+        computeMean();
+        centreU = startX - meanX;
+        centreV = startY - meanY;
+        radius = startRadius;
+        return refine();
+    }
+
+    /**
+     * Get the sum of the squared distances of the points from a circle, which is what
+     * {@link #fitGeometric()} minimises.
+     * @param centreX
+     * @param centreY
+     * @param radius
+     * @return
+     */
+    public double getSquaredError(double centreX, double centreY, double radius)
+    {
+        computeMean();
+        return cost(centreX - meanX, centreY - meanY, radius);
+    }
+
+    /**
+     * Levenberg-Marquardt iterations from the current fit.
+     * @return false if the fit failed
+     */
+    private boolean refine()
+    {
+        double a = centreU;
+        double b = centreV;
+        double r = radius;
+        double lambda = 1e-3;
+        double cost = cost(a, b, r);
+
+        for (iterations = 0; iterations < MAX_ITERATIONS; iterations++)
+        {
+            // J^T J and J^T residuals, for the residual distance - r with respect to (a, b, r)
+            double haa = 0, hab = 0, har = 0, hbb = 0, hbr = 0;
+            double ga = 0, gb = 0, gr = 0;
+            for (int i = 0; i < size; i++)
+            {
+                double du = (x[i] - meanX) - a;
+                double dv = (y[i] - meanY) - b;
+                double d = Math.sqrt(du*du + dv*dv);
+                double ja = 0, jb = 0;
+                if (d > 0)
+                {
+                    ja = -du/d;
+                    jb = -dv/d;
+                }
+                double residual = d - r;
+                haa += ja*ja;
+                hab += ja*jb;
+                har -= ja;
+                hbb += jb*jb;
+                hbr -= jb;
+                ga += ja*residual;
+                gb += jb*residual;
+                gr -= residual;
+            }
+            double hrr = size;
+
+            boolean improved = false;
+            while (!improved)
+            {
+                // damp the diagonal, and solve (H + lambda*diag(H)) step = -g with Cholesky
+                double l11 = haa*(1 + lambda);
+                double l22 = hbb*(1 + lambda);
+                double l33 = hrr*(1 + lambda);
+                if (!(l11 > 0))
+                {
+                    return fail();
+                }
+                l11 = Math.sqrt(l11);
+                double l21 = hab/l11;
+                double l31 = har/l11;
+                l22 = l22 - l21*l21;
+                if (!(l22 > 0))
+                {
+                    return fail();
+                }
+                l22 = Math.sqrt(l22);
+                double l32 = (hbr - l31*l21)/l22;
+                l33 = l33 - l31*l31 - l32*l32;
+                if (!(l33 > 0))
+                {
+                    return fail();
+                }
+                l33 = Math.sqrt(l33);
+
+                double z1 = -ga/l11;
+                double z2 = (-gb - l21*z1)/l22;
+                double z3 = (-gr - l31*z1 - l32*z2)/l33;
+                double stepR = z3/l33;
+                double stepB = (z2 - l32*stepR)/l22;
+                double stepA = (z1 - l21*stepB - l31*stepR)/l11;
+
+                double newA = a + stepA;
+                double newB = b + stepB;
+                double newR = r + stepR;
+                double newCost = cost(newA, newB, newR);
+
+                if (newCost <= cost)
+                {
+                    improved = true;
+                    double stepSize = Math.abs(stepA) + Math.abs(stepB) + Math.abs(stepR);
+                    double scale = Math.abs(a) + Math.abs(b) + Math.abs(r);
+                    boolean converged = stepSize <= TOLERANCE*(scale + TOLERANCE)
+                            || (cost - newCost) <= TOLERANCE*cost;
+                    a = newA;
+                    b = newB;
+                    r = newR;
+                    cost = newCost;
+                    lambda = Math.max(lambda*0.1, 1e-12);
+                    if (converged)
+                    {
+                        return accept(a, b, r);
+                    }
+                } else {
+                    lambda *= 10;
+                    if (lambda > 1e16)
+                    {
+                        // can't improve on the current fit
+                        return accept(a, b, r);
+                    }
+                }
+            }
+        }
+
+        return accept(a, b, r);
+    }
+
+    private boolean accept(double a, double b, double r)
+    {
+        if (Double.isNaN(a + b + r))
+        {
+            return fail();
+        }
+        centreU = a;
+        centreV = b;
+        // a negative radius with the same centre fits the points equally well
+        radius = Math.abs(r);
+        return true;
+    }
+
+    private boolean fail()
+    {
+        radius = Double.POSITIVE_INFINITY;
+        return false;
+    }
+
+    /**
+     * Sum of the squared distances of the points from a circle (relative to the mean)
+     */
+    private double cost(double a, double b, double r)
+    {
+        double sum = 0;
+        for (int i = 0; i < size; i++)
+        {
+            double du = (x[i] - meanX) - a;
+            double dv = (y[i] - meanY) - b;
+            double residual = Math.sqrt(du*du + dv*dv) - r;
+            sum += residual*residual;
+        }
+        return sum;
+    }
+
+    private void computeMean()
+    {
+        double sumX = 0, sumY = 0;
+        for (int i = 0; i < size; i++)
+        {
+            sumX += x[i];
+            sumY += y[i];
+        }
+        meanX = sumX/size;
+        meanY = sumY/size;
+    }
+
+    /**
+     * Get the x coordinate of the centre of the fitted circle
+     * @return
+     */
+    public double getCentreX()
+    {
+        return centreU + meanX;
+    }
+
+    /**
+     * Get the y coordinate of the centre of the fitted circle
+     * @return
+     */
+    public double getCentreY()
+    {
+        return centreV + meanY;
+    }
+
+    /**
+     * Get the radius of the fitted circle
+     * @return radius, infinite if the fit failed
+     */
+    public double getRadius()
+    {
+        return radius;
+    }
+
+    /**
+     * Get the number of Levenberg-Marquardt iterations used by the last geometric fit
+     * @return
+     */
+    public int getIterations()
+    {
+        return iterations;
+    }
+
+    /**
+     * Get the root mean square distance of the points from the fitted circle
+     * @return
+     */
+    public double getRMSError()
+    {
+        return Math.sqrt(cost(centreU, centreV, radius)/size);
+    }
+
+    /**
+     * Create a new Circle with the fitted centre and radius
+     * @return
+     */
+    public Circle toCircle()
+    {
+        return new Circle(getCentreX(), getCentreY(), radius);
+    }
+}
@@ -91,6 +91,26 @@ public class CircleSolver {
         return new Circle(found[0], found[1], found[2]);
     }
 
+    /**
+     * Find the circle which best matches a set of points, using the current thread's
+     * {@link CircleFit} (the points should be in a flat coordinate system, the z component is ignored).
+     * Unlike {@link #LeastSquares(List, Circle)} this minimises the sum of the squared distances
+     * of the points from the circle, and doesn't need an initial circle.
+     * @param points points to match
+     * @return the fitted circle, which has an infinite radius if the points are in a line
+     */
+    public static Circle GeometricLeastSquares(List<Vector3> points)
+    {
+        CircleFit fit = CircleFit.getThreadInstance();
+        fit.clear();
+        for (int i = 0; i < points.size(); i++)
+        {
+            fit.add(points.get(i));
+        }
+        fit.fitGeometric();
+        return fit.toCircle();
+    }
+
     /**
      * The distance squared of a point from a circle
      * @param c
@@ -35,6 +35,30 @@ public class GeographicCoordinate extends SphericalCoordinate
         return new GeographicCoordinate(SphericalCoordinate.fromCartesian(cv));
     }
 
+    /**
+     * Create a new GeographicCoordinate directly from its spherical components
+     * (as returned by {@link #getR()}, {@link #getTheta()} and {@link #getPhi()}),
+     * without any conversion.
+     * @param r radius in meters
+     * @param theta
+     * @param phi
+     * @return
+     */
+    public static GeographicCoordinate fromSpherical(double r, double theta, double phi)
+    {
+        return new GeographicCoordinate(Sphere.EARTH, r, theta, phi);
+    }
+
+    /**
+     * Constructor from the spherical components
+     * @see #fromSpherical(double, double, double)
+     */
+    private GeographicCoordinate(Spheroid spheroid, double r, double theta, double phi)
+    {
+        super(r, theta, phi);
+        this.spheroid = spheroid;
+    }
+
     public GeographicCoordinate(Vector3 other)
     {
         super(other);
@@ -1,21 +1,32 @@
 package com.atc.simulator.vectors;
 
-import pythagoras.d.Plane;
-import pythagoras.d.Ray3;
 import pythagoras.d.Vector3;
 
 /**
  * Created by luke on 13/07/16.
  * Represents a Gnomonic map projection
+ *
+ * As well as the {@link Projection} methods, there is a primitive api
+ * ({@link #transformPositionTo(double, double, double, double[], int)},
+ * {@link #transformPositionFrom(double, double, double, double[], int)} and the batch versions of them)
+ * which writes into a caller supplied array instead of creating new objects. Both use closed form
+ * gnomonic formulas with the basis of the projection plane calculated once in the constructor.
+ * A GnomonicProjection is immutable, so it can be shared between threads.
+ *
  * @author Luke Frisken
  */
 public class GnomonicProjection extends Projection {
-    private GeographicCoordinate projectionReference;
-    private Vector3 northNormal;
-    private Vector3 eastNormal;
-    private Vector3 projectionPlanePosition;
-    private static Vector3 zeroVector = new Vector3(0,0,0);
-    private Plane projectionPlane;
+    public static final int BASIS_SIZE = 10; // the number of values written by getBasis()
+
+    private final GeographicCoordinate projectionReference;
+
+    // distance from the centre of the earth to the projection plane
+    private final double planeDistance;
+    // unit normal of the projection plane (pointing away from the earth), and the east and north
+    // unit vectors in the plane, in cartesian coordinates
+    private final double normalX, normalY, normalZ;
+    private final double eastX, eastY, eastZ;
+    private final double northX, northY, northZ;
 
 
     /**
@@ -26,23 +37,159 @@ public class GnomonicProjection extends Projection {
     {
         this.projectionReference = projectionReference;
 
-        //get the position of the plane in cartesian space
-        projectionPlanePosition = projectionReference.getCartesian();
+        //the plane of projection touches the earth at the projection reference. use the reference
+        //position to figure out which way is north and east in the gnomonic coordinate space
+        //(the same as SphericalCoordinate's phiCartesianUnitVector() and thetaCartesianUnitVector()).
+        SphericalCoordinate rectified = new SphericalCoordinate(projectionReference).rectifyBounds();
+        double sinTheta = Math.sin(rectified.getTheta());
+        double cosTheta = Math.cos(rectified.getTheta());
+        double sinPhi = Math.sin(rectified.getPhi());
+        double cosPhi = Math.cos(rectified.getPhi());
+
+        planeDistance = rectified.getR();
+        normalX = cosTheta*sinPhi;
+        normalY = sinTheta*sinPhi;
+        normalZ = cosPhi;
+        eastX = -sinTheta;
+        eastY = cosTheta;
+        eastZ = 0;
+        northX = cosPhi*cosTheta;
+        northY = cosPhi*sinTheta;
+        northZ = -sinPhi;
+    }
+
+    /**
+     * Get the basis of the projection plane, for code which implements the transforms itself
+     * (such as a vectorized batch transform). Writes {@link #BASIS_SIZE} values: the distance
+     * from the centre of the earth to the plane, then the x, y and z components of the plane's
+     * normal, east and north unit vectors.
+     * @param result array to put the basis into
+     * @param resultOffset index in result of the plane distance
+     */
+    public void getBasis(double[] result, int resultOffset)
+    {
+        result[resultOffset] = planeDistance;
+        result[resultOffset+1] = normalX;
+        result[resultOffset+2] = normalY;
+        result[resultOffset+3] = normalZ;
+        result[resultOffset+4] = eastX;
+        result[resultOffset+5] = eastY;
+        result[resultOffset+6] = eastZ;
+        result[resultOffset+7] = northX;
+        result[resultOffset+8] = northY;
+        result[resultOffset+9] = northZ;
+    }
 
-        //get the normal of the projection (from the centre of the earth to the projection reference)
-        Vector3 projectionNormal = projectionPlanePosition.normalize();
+    /**
+     * Transform a position from geographic coordinates into this projection's cartesian coordinate
+     * space, without creating any objects.
+     *
+     * The position is projected from the centre of the earth onto the projection plane, so positions
+     * 90 degrees or more away from the projection reference can't be projected, and are NaN.
+     * @param altitude in meters, copied to the z component of the result
+     * @param latitude in radians
+     * @param longitude in radians
+     * @param result array to put the x, y and z components into
+     * @param resultOffset index in result of the x component
+     */
+    public void transformPositionTo(double altitude, double latitude, double longitude,
+                                    double[] result, int resultOffset)
+    {
+        // direction of the position from the centre of the earth, see SphericalCoordinate.getCartesian()
+        // (theta = longitude + PI, phi = latitude + PI/2)
+        double cosLatitude = Math.cos(latitude);
+        double dx = -Math.cos(longitude)*cosLatitude;
+        double dy = -Math.sin(longitude)*cosLatitude;
+        double dz = -Math.sin(latitude);
+
+        double dNormal = dx*normalX + dy*normalY + dz*normalZ;
+        double scale = dNormal > 0 ? planeDistance/dNormal : Double.NaN;
+
+        result[resultOffset] = scale*(dx*eastX + dy*eastY + dz*eastZ);
+        result[resultOffset+1] = scale*(dx*northX + dy*northY + dz*northZ);
+        result[resultOffset+2] = altitude;
+    }
+
+    /**
+     * Get the distance in this projection between the projection reference and a position given
+     * as a cartesian vector from the centre of the earth (see {@link SphericalCoordinate#getCartesian()}),
+     * without creating any objects. This is the length of the x and y components of
+     * {@link #transformPositionTo(double, double, double, double[], int)}.
+     * @param x
+     * @param y
+     * @param z
+     * @return in meters, or NaN if the position can't be projected
+     */
+    public double getReferenceDistance(double x, double y, double z)
+    {
+        double dNormal = (x*normalX + y*normalY + z*normalZ) / Math.sqrt(x*x + y*y + z*z);
+        if (!(dNormal > 0))
+        {
+            return Double.NaN;
+        }
+        return planeDistance*Math.sqrt(Math.max(0.0, 1.0 - dNormal*dNormal))/dNormal;
+    }
 
-        //create the projection plane. ensure that the plane normal is facing towards the earth
-        //so that intersections will work.
-        projectionPlane = new Plane().fromPointNormal(projectionPlanePosition, projectionNormal.negate());
+    /**
+     * Transform a batch of positions from geographic coordinates into this projection's cartesian
+     * coordinate space.
+     * @see #transformPositionTo(double, double, double, double[], int)
+     * @param geographic altitude, latitude, longitude of each position, one after the other
+     * @param geographicOffset index in geographic of the first position
+     * @param result array to put the x, y and z components of each position into, one after the other
+     * @param resultOffset index in result of the first position
+     * @param count number of positions to transform
+     */
+    public void transformPositionsTo(double[] geographic, int geographicOffset,
+                                     double[] result, int resultOffset, int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            int g = geographicOffset + i*3;
+            transformPositionTo(geographic[g], geographic[g+1], geographic[g+2], result, resultOffset + i*3);
+        }
+    }
 
-        //use this intersection point to figure out which way is north in the
-        //gnomonic coordinate space.
-        SphericalCoordinate sphericalProjectionPlanePosition =  new SphericalCoordinate(projectionReference);
+    /**
+     * Transform a position in this projection's cartesian coordinate space into geographic coordinates,
+     * without creating any objects.
+     * @param x
+     * @param y
+     * @param z altitude in meters, copied to the altitude of the result
+     * @param result array to put the altitude, latitude and longitude (radians) into
+     * @param resultOffset index in result of the altitude
+     */
+    public void transformPositionFrom(double x, double y, double z, double[] result, int resultOffset)
+    {
+        // position on the projection plane, only its direction from the centre of the earth matters
+        double cx = planeDistance*normalX + x*eastX + y*northX;
+        double cy = planeDistance*normalY + x*eastY + y*northY;
+        double cz = planeDistance*normalZ + x*eastZ + y*northZ;
 
+        result[resultOffset] = z;
+        result[resultOffset+1] = Math.atan2(-cz, Math.sqrt(cx*cx + cy*cy));
+        result[resultOffset+2] = Math.atan2(-cy, -cx);
+    }
 
-        northNormal = sphericalProjectionPlanePosition.phiCartesianUnitVector();
-        eastNormal = sphericalProjectionPlanePosition.thetaCartesianUnitVector();
+    /**
+     * Transform a batch of positions in this projection's cartesian coordinate space into
+     * geographic coordinates.
+     * @see #transformPositionFrom(double, double, double, double[], int)
+     * @param projected x, y, z of each position, one after the other
+     * @param projectedOffset index in projected of the first position
+     * @param result array to put the altitude, latitude and longitude of each position into,
+     *               one after the other
+     * @param resultOffset index in result of the first position
+     * @param count number of positions to transform
+     */
+    public void transformPositionsFrom(double[] projected, int projectedOffset,
+                                       double[] result, int resultOffset, int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            int p = projectedOffset + i*3;
+            transformPositionFrom(projected[p], projected[p+1], projected[p+2], result, resultOffset + i*3);
+        }
     }
 
     /**
@@ -53,23 +200,13 @@ public class GnomonicProjection extends Projection {
      */
     @Override
     public Vector3 transformPositionTo(GeographicCoordinate geographicCoordinate) {
-        Vector3 coordinateNormal = geographicCoordinate.getCartesian().normalize();
-        Ray3 coordinateRay = new Ray3(zeroVector, coordinateNormal);
-
-        //everthing before this could probably be moved into a "projection" class
-        //because it only really needs to get executed once per projection.
-
-        Vector3 cartesianCoordinateProjection = new Vector3();
-        boolean found = projectionPlane.intersection(coordinateRay, cartesianCoordinateProjection);
-
-        //the projection of the coordinate on the plane of projection.
-        Vector3 gnomonicVector = cartesianCoordinateProjection.subtract(projectionPlanePosition);
-
-        //vector projection to get the coordinates
-        return new Vector3(
-                gnomonicVector.dot(eastNormal),
-                gnomonicVector.dot(northNormal),
-                geographicCoordinate.getAltitude());
+        double[] result = new double[3];
+        transformPositionTo(
+                geographicCoordinate.getAltitude(),
+                geographicCoordinate.getLatitude(),
+                geographicCoordinate.getLongitude(),
+                result, 0);
+        return new Vector3(result[0], result[1], result[2]);
     }
 
     /**
@@ -80,13 +217,9 @@ public class GnomonicProjection extends Projection {
      */
     @Override
     public GeographicCoordinate transformPositionFrom(Vector3 projectionCoordinate) {
-        Vector3 relativeToPlane = northNormal.mult(projectionCoordinate.y).add(eastNormal.mult(projectionCoordinate.x));
-        Vector3 cartesianPosition = projectionPlanePosition.add(relativeToPlane);
-
-        GeographicCoordinate position = GeographicCoordinate.fromCartesian(cartesianPosition);
-        position.setAltitude(projectionCoordinate.z);
-
-        return position;
+        double[] result = new double[3];
+        transformPositionFrom(projectionCoordinate.x, projectionCoordinate.y, projectionCoordinate.z, result, 0);
+        return new GeographicCoordinate(result[0], result[1], result[2]);
     }
 
     /**
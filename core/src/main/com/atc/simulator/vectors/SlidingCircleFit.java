@@ -0,0 +1,311 @@
+package com.atc.simulator.vectors;
+
+/**
+ * Fits a circle to a sliding window of timestamped 2d points, where points are added to the front
+ * of the window and removed from the back, as an aircraft flies along its track.
+ *
+ * Adding and removing a point is O(1): the points are kept in a ring buffer, along with running sums
+ * of their moments (relative to a reference point near the window, to keep the sums well conditioned)
+ * from which the Kasa algebraic fit can be calculated without looking at the points again. The
+ * geometric fit ({@link CircleFit#fitGeometric(double, double, double)}) is warm started from the
+ * previous solution where it fits the current window better than the algebraic fit, which avoids
+ * the geometric fit jumping between local minima as the window slides along a short noisy arc.
+ *
+ * To avoid the running sums drifting, they are recalculated from the points in the window
+ * every {@link #RESUM_PERIOD} removals.
+ *
+ * A SlidingCircleFit must only be used by one thread at a time.
+ *
+ * @author Luke Frisken
+ */
+public class SlidingCircleFit {
+    public static final int RESUM_PERIOD = 256;
+
+    private final long[] times;
+    private final double[] x;
+    private final double[] y;
+    private final double[] algebraicFit;
+    private int head; // index of the oldest point
+    private int size;
+    private int removalsSinceResum;
+
+    // reference point for the running sums
+    private double referenceX;
+    private double referenceY;
+
+    // running sums of the moments of the points, relative to the reference point
+    private double su, sv, suu, svv, suv, suuu, svvv, suvv, svuu;
+
+    // previous solution
+    private boolean hasSolution;
+    private double centreX;
+    private double centreY;
+    private double radius;
+    private int iterations;
+
+    /**
+     * Constructor for SlidingCircleFit
+     * @param capacity the maximum number of points in the window, adding a point when the
+     *                 window is full removes the oldest one.
+     */
+    public SlidingCircleFit(int capacity)
+    {
+        times = new long[capacity];
+        x = new double[capacity];
+        y = new double[capacity];
+        algebraicFit = new double[3];
+        clear();
+    }
+
+    /**
+     * Remove all the points and the previous solution
+     */
+    public void clear()
+    {
+        head = 0;
+        size = 0;
+        removalsSinceResum = 0;
+        clearSums();
+        hasSolution = false;
+        centreX = 0;
+        centreY = 0;
+        radius = Double.POSITIVE_INFINITY;
+        iterations = 0;
+    }
+
+    private void clearSums()
+    {
+        su = sv = suu = svv = suv = suuu = svvv = suvv = svuu = 0;
+    }
+
+    /**
+     * Add a point to the front of the window
+     * @param time time of the point, which is used to line the window up with a track
+     * @param px
+     * @param py
+     */
+    public void add(long time, double px, double py)
+    {
+        if (size == times.length)
+        {
+            removeOldest();
+        }
+
+        if (size == 0)
+        {
+            referenceX = px;
+            referenceY = py;
+            clearSums();
+        }
+
+        int index = (head + size) % times.length;
+        times[index] = time;
+        x[index] = px;
+        y[index] = py;
+        size++;
+        accumulate(px - referenceX, py - referenceY, 1);
+    }
+
+    /**
+     * Remove the point at the back of the window
+     */
+    public void removeOldest()
+    {
+        if (size == 0)
+        {
+            throw new IllegalStateException("SlidingCircleFit is empty");
+        }
+
+        accumulate(x[head] - referenceX, y[head] - referenceY, -1);
+        head = (head + 1) % times.length;
+        size--;
+
+        removalsSinceResum++;
+        if (removalsSinceResum >= RESUM_PERIOD && size > 0)
+        {
+            resum();
+        }
+    }
+
+    /**
+     * Add (sign 1) or remove (sign -1) a point from the running sums
+     */
+    private void accumulate(double u, double v, int sign)
+    {
+        double uu = u*u;
+        double vv = v*v;
+        su += sign*u;
+        sv += sign*v;
+        suu += sign*uu;
+        svv += sign*vv;
+        suv += sign*u*v;
+        suuu += sign*uu*u;
+        svvv += sign*vv*v;
+        suvv += sign*u*vv;
+        svuu += sign*v*uu;
+    }
+
+    /**
+     * Recalculate the running sums from the points in the window, relative to the oldest point.
+     */
+    private void resum()
+    {
+        removalsSinceResum = 0;
+        referenceX = x[head];
+        referenceY = y[head];
+        clearSums();
+        for (int i = 0; i < size; i++)
+        {
+            int index = (head + i) % times.length;
+            accumulate(x[index] - referenceX, y[index] - referenceY, 1);
+        }
+    }
+
+    /**
+     * Get the number of points in the window
+     * @return
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Get the time of the oldest point in the window
+     * @return
+     */
+    public long getOldestTime()
+    {
+        return times[head];
+    }
+
+    /**
+     * Get the time of the newest point in the window
+     * @return
+     */
+    public long getNewestTime()
+    {
+        return times[(head + size - 1) % times.length];
+    }
+
+    /**
+     * Calculate the Kasa algebraic fit from the running sums, in O(1).
+     * @see CircleFit#fitAlgebraic()
+     * @param result where to put the centre x, centre y and radius of the fit
+     * @return false if the points are (numerically) in a line, or there are less than 3 of them.
+     */
+    public boolean fitAlgebraic(double[] result)
+    {
+        if (size < 3)
+        {
+            return false;
+        }
+
+        // move the moments from the reference point to the mean
+        double n = size;
+        double mu = su/n;
+        double mv = sv/n;
+        double cuu = suu - n*mu*mu;
+        double cvv = svv - n*mv*mv;
+        double cuv = suv - n*mu*mv;
+        double cuuu = suuu - 3*mu*suu + 2*n*mu*mu*mu;
+        double cvvv = svvv - 3*mv*svv + 2*n*mv*mv*mv;
+        double cuvv = suvv - 2*mv*suv - mu*svv + 2*n*mu*mv*mv;
+        double cvuu = svuu - 2*mu*suv - mv*suu + 2*n*mv*mu*mu;
+
+        double det = cuu*cvv - cuv*cuv;
+        if (!(Math.abs(det) > 1e-12*cuu*cvv))
+        {
+            return false;
+        }
+
+        double b1 = 0.5*(cuuu + cuvv);
+        double b2 = 0.5*(cvvv + cvuu);
+        double centreU = (cvv*b1 - cuv*b2)/det;
+        double centreV = (cuu*b2 - cuv*b1)/det;
+        result[0] = centreU + mu + referenceX;
+        result[1] = centreV + mv + referenceY;
+        result[2] = Math.sqrt(centreU*centreU + centreV*centreV + (cuu + cvv)/n);
+        return true;
+    }
+
+    /**
+     * Fit a circle to the points in the window geometrically, starting from whichever of the previous
+     * solution and the algebraic fit is closer to the points. Uses the current thread's {@link CircleFit}.
+     * @return false if the fit failed, and the radius is infinite.
+     */
+    public boolean fit()
+    {
+        iterations = 0;
+        if (size < 3)
+        {
+            hasSolution = false;
+            radius = Double.POSITIVE_INFINITY;
+            return false;
+        }
+
+        CircleFit circleFit = CircleFit.getThreadInstance();
+        circleFit.clear();
+        for (int i = 0; i < size; i++)
+        {
+            int index = (head + i) % times.length;
+            circleFit.add(x[index], y[index]);
+        }
+
+        // start from whichever of the previous solution and the algebraic fit is closer
+        boolean haveAlgebraic = fitAlgebraic(algebraicFit);
+        boolean success;
+        if (hasSolution && (!haveAlgebraic
+                || circleFit.getSquaredError(centreX, centreY, radius)
+                    < circleFit.getSquaredError(algebraicFit[0], algebraicFit[1], algebraicFit[2])))
+        {
+            success = circleFit.fitGeometric(centreX, centreY, radius);
+        } else {
+            success = haveAlgebraic
+                    && circleFit.fitGeometric(algebraicFit[0], algebraicFit[1], algebraicFit[2]);
+        }
+
+        iterations = circleFit.getIterations();
+        hasSolution = success;
+        centreX = circleFit.getCentreX();
+        centreY = circleFit.getCentreY();
+        radius = success ? circleFit.getRadius() : Double.POSITIVE_INFINITY;
+        return success;
+    }
+
+    /**
+     * Get the x coordinate of the centre of the last fit
+     * @return
+     */
+    public double getCentreX()
+    {
+        return centreX;
+    }
+
+    /**
+     * Get the y coordinate of the centre of the last fit
+     * @return
+     */
+    public double getCentreY()
+    {
+        return centreY;
+    }
+
+    /**
+     * Get the radius of the last fit
+     * @return radius, infinite if the fit failed
+     */
+    public double getRadius()
+    {
+        return radius;
+    }
+
+    /**
+     * Get the number of Levenberg-Marquardt iterations used by the last fit
+     * @return
+     */
+    public int getIterations()
+    {
+        return iterations;
+    }
+}
@@ -173,7 +173,7 @@ public class TestAccuracy implements PredictionListener, RunnableThread {
                 JsonArray jsonPredictionTrack = new JsonArray();
 
                 //Remove the list of jsonPredictions
-                ArrayList<AircraftState> predictionStates = predictionUnderTest.getCentreTrack();
+                Track predictionStates = predictionUnderTest.getCentreTrack();
 
                 //Check that our Scenario contains this Plane (sanity, if this fails we have messed up)
                 if(actualDataValues.containsKey(planeID))
@@ -0,0 +1,191 @@
+package com.atc.simulator.debug_data_feed;
+
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.SystemState;
+import com.atc.simulator.prediction_service.SystemStateDeltaDecoder;
+import com.atc.simulator.protocol_buffers.DebugDataFeedServe.SystemStateMessage;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+/**
+ * Tests delta encoding system states with the SystemStateDeltaEncoder, and decoding them again
+ * with the SystemStateDeltaDecoder.
+ * @author Luke Frisken
+ */
+public class SystemStateDeltaEncoderTest {
+    private static final long START_TIME = 1464297675000L;
+
+    /**
+     * The state of an aircraft flying along its great circle, after a number of seconds.
+     */
+    private static AircraftState aircraftState(int aircraft, int seconds)
+    {
+        SphericalVelocity velocity = new SphericalVelocity(2.5 - 0.01*seconds, 3e-5 + aircraft*1e-7, -1e-5);
+        GeographicCoordinate start = GeographicCoordinate.fromDegrees(3000.0 + aircraft*100.3,
+                -37.8 + aircraft*0.01, 144.9 - aircraft*0.02);
+        GeographicCoordinate position = new GeographicCoordinate(velocity.angularVelocityTranslate(start, seconds));
+        return new AircraftState("QFA" + aircraft, START_TIME + seconds*1000L, position, velocity,
+                338.0 + seconds*0.25);
+    }
+
+    private static SystemState systemState(int seconds, int aircraftCount)
+    {
+        ArrayList<AircraftState> aircraftStates = new ArrayList<AircraftState>();
+        for (int i = 0; i < aircraftCount; i++)
+        {
+            aircraftStates.add(aircraftState(i, seconds));
+        }
+        return new SystemState(START_TIME + seconds*1000L, aircraftStates);
+    }
+
+    private static void assertSystemStateEquals(SystemState expected, SystemState actual)
+    {
+        double angleTolerance = Math.toRadians(0.5e-6) + 1e-12;
+        Assert.assertEquals(expected.getTime(), actual.getTime());
+        Assert.assertEquals(expected.getAircraftStates().size(), actual.getAircraftStates().size());
+        for (int i = 0; i < expected.getAircraftStates().size(); i++)
+        {
+            AircraftState expectedState = expected.getAircraftStates().get(i);
+            AircraftState actualState = actual.getAircraftStates().get(i);
+            Assert.assertEquals(expectedState.getAircraftID(), actualState.getAircraftID());
+            Assert.assertEquals(expectedState.getTime(), actualState.getTime());
+            GeographicCoordinate expectedPosition = expectedState.getPosition();
+            GeographicCoordinate actualPosition = actualState.getPosition();
+            Assert.assertEquals(expectedPosition.getAltitude(), actualPosition.getAltitude(), 0.005 + 1e-9);
+            Assert.assertEquals(expectedPosition.getLatitude(), actualPosition.getLatitude(), angleTolerance);
+            Assert.assertEquals(expectedPosition.getLongitude(), actualPosition.getLongitude(), angleTolerance);
+            SphericalVelocity expectedVelocity = expectedState.getVelocity();
+            SphericalVelocity actualVelocity = actualState.getVelocity();
+            Assert.assertEquals(expectedVelocity.getDR(), actualVelocity.getDR(), 0.005 + 1e-9);
+            Assert.assertEquals(expectedVelocity.getDTheta(), actualVelocity.getDTheta(), 0.5e-10 + 1e-16);
+            Assert.assertEquals(expectedVelocity.getDPhi(), actualVelocity.getDPhi(), 0.5e-10 + 1e-16);
+            Assert.assertEquals(expectedState.getHeading(), actualState.getHeading(), 0.5e-6 + 1e-9);
+        }
+    }
+
+    /**
+     * The decoded states are the same as the encoded ones, to within the fixed point rounding,
+     * and the delta encoded messages are much smaller than the full ones.
+     */
+    @Test
+    public void testRoundTrip() throws Exception
+    {
+        SystemStateDeltaEncoder encoder = new SystemStateDeltaEncoder(10);
+        SystemStateDeltaDecoder decoder = new SystemStateDeltaDecoder();
+        int fullSize = 0;
+        int deltaSize = 0;
+        for (int seconds = 0; seconds < 25; seconds++)
+        {
+            SystemState systemState = systemState(seconds, 20);
+            SystemStateMessage message = encoder.encode(systemState);
+            Assert.assertEquals(seconds % 10 == 0, message.getKeyframe());
+            assertSystemStateEquals(systemState, decoder.decode(message));
+
+            fullSize += DebugDataFeedServerThread.buildMessage(systemState).getSerializedSize();
+            deltaSize += message.getSerializedSize();
+        }
+        Assert.assertEquals(20, encoder.getHandleCount());
+        Assert.assertTrue(fullSize >= 4 * deltaSize);
+    }
+
+    /**
+     * The aircraft ID is only sent the first time, in keyframes, and when the aircraft comes back.
+     */
+    @Test
+    public void testAircraftIDs() throws Exception
+    {
+        SystemStateDeltaEncoder encoder = new SystemStateDeltaEncoder(10);
+        SystemStateDeltaDecoder decoder = new SystemStateDeltaDecoder();
+
+        SystemStateMessage message = encoder.encode(systemState(0, 2));
+        Assert.assertEquals(2, message.getAircraftHandleCount());
+        Assert.assertEquals("QFA0", message.getAircraftHandle(0).getAircraftID());
+        Assert.assertEquals("QFA1", message.getAircraftHandle(1).getAircraftID());
+        decoder.decode(message);
+
+        // a new aircraft
+        SystemState systemState = systemState(1, 3);
+        message = encoder.encode(systemState);
+        Assert.assertEquals(1, message.getAircraftHandleCount());
+        Assert.assertEquals(2, message.getAircraftHandle(0).getHandle());
+        Assert.assertEquals("QFA2", message.getAircraftHandle(0).getAircraftID());
+        assertSystemStateEquals(systemState, decoder.decode(message));
+
+        // the first aircraft leaves, and comes back
+        ArrayList<AircraftState> aircraftStates = new ArrayList<AircraftState>();
+        aircraftStates.add(aircraftState(1, 2));
+        aircraftStates.add(aircraftState(2, 2));
+        systemState = new SystemState(START_TIME + 2000, aircraftStates);
+        message = encoder.encode(systemState);
+        Assert.assertEquals(0, message.getAircraftHandleCount());
+        assertSystemStateEquals(systemState, decoder.decode(message));
+
+        systemState = systemState(3, 3);
+        message = encoder.encode(systemState);
+        Assert.assertEquals(1, message.getAircraftHandleCount());
+        Assert.assertEquals(0, message.getAircraftHandle(0).getHandle());
+        Assert.assertEquals("QFA0", message.getAircraftHandle(0).getAircraftID());
+        assertSystemStateEquals(systemState, decoder.decode(message));
+        Assert.assertEquals(3, encoder.getHandleCount());
+    }
+
+    /**
+     * A decoder which starts part way through the session waits for the next keyframe, and so does one
+     * which has missed a message.
+     */
+    @Test
+    public void testKeyframeResync() throws Exception
+    {
+        SystemStateDeltaEncoder encoder = new SystemStateDeltaEncoder(5);
+        SystemStateDeltaDecoder decoder = new SystemStateDeltaDecoder();
+        for (int seconds = 0; seconds < 3; seconds++)
+        {
+            encoder.encode(systemState(seconds, 5));
+        }
+
+        for (int seconds = 3; seconds < 5; seconds++)
+        {
+            Assert.assertNull(decoder.decode(encoder.encode(systemState(seconds, 5))));
+            Assert.assertFalse(decoder.isSynced());
+        }
+        SystemState systemState = systemState(5, 5);
+        assertSystemStateEquals(systemState, decoder.decode(encoder.encode(systemState)));
+        Assert.assertTrue(decoder.isSynced());
+
+        // miss the message with a new aircraft in it
+        encoder.encode(systemState(6, 6));
+        Assert.assertNull(decoder.decode(encoder.encode(systemState(7, 6))));
+        Assert.assertFalse(decoder.isSynced());
+
+        // a new session
+        encoder.reset();
+        systemState = systemState(8, 6);
+        SystemStateMessage message = encoder.encode(systemState);
+        Assert.assertTrue(message.getKeyframe());
+        assertSystemStateEquals(systemState, decoder.decode(message));
+    }
+
+    /**
+     * An aircraft which is in the system state twice is sent (and decoded) twice.
+     */
+    @Test
+    public void testDuplicates() throws Exception
+    {
+        SystemStateDeltaEncoder encoder = new SystemStateDeltaEncoder(10);
+        SystemStateDeltaDecoder decoder = new SystemStateDeltaDecoder();
+        for (int seconds = 0; seconds < 3; seconds++)
+        {
+            ArrayList<AircraftState> aircraftStates = new ArrayList<AircraftState>();
+            aircraftStates.add(aircraftState(0, seconds));
+            aircraftStates.add(aircraftState(1, seconds));
+            aircraftStates.add(aircraftState(0, seconds + 1));
+            SystemState systemState = new SystemState(START_TIME + seconds*1000L, aircraftStates);
+            assertSystemStateEquals(systemState, decoder.decode(encoder.encode(systemState)));
+        }
+        Assert.assertEquals(2, encoder.getHandleCount());
+    }
+}
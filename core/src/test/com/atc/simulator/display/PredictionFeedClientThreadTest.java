@@ -0,0 +1,306 @@
+package com.atc.simulator.display;
+
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.Prediction;
+import com.atc.simulator.flightdata.Track;
+import com.atc.simulator.prediction_service.PredictionFeedServerThread;
+import com.atc.simulator.protocol_buffers.PredictionFeedServe;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.atc.simulator.flightdata.PredictionFixtures.newPrediction;
+import static com.atc.simulator.flightdata.PredictionFixtures.newTurnPrediction;
+
+/**
+ * Tests the PredictionFeedClientThread receiving batches of predictions (with compact tracks) from the
+ * PredictionFeedServerThread, and its handshake with a server which doesn't know about batches.
+ * @author Luke Frisken
+ */
+public class PredictionFeedClientThreadTest {
+    private static final long TIMEOUT = 10000;
+
+    /**
+     * Records the predictions it is given, and how many calls they were given in.
+     */
+    private static class RecordingListener implements PredictionBatchListener {
+        final ArrayList<Prediction> predictions = new ArrayList<Prediction>();
+        int callCount;
+
+        @Override
+        public synchronized void onPredictionUpdate(Prediction newPrediction) {
+            predictions.add(newPrediction);
+            callCount++;
+        }
+
+        @Override
+        public synchronized void onPredictionBatchUpdate(List<Prediction> newPredictions) {
+            predictions.addAll(newPredictions);
+            callCount++;
+        }
+
+        synchronized int getPredictionCount()
+        {
+            return predictions.size();
+        }
+
+        synchronized int getCallCount()
+        {
+            return callCount;
+        }
+    }
+
+    /**
+     * Records the predictions it is given one at a time.
+     */
+    private static class SingleListener implements PredictionListener {
+        final ArrayList<Prediction> predictions = new ArrayList<Prediction>();
+
+        @Override
+        public synchronized void onPredictionUpdate(Prediction newPrediction) {
+            predictions.add(newPrediction);
+        }
+
+        synchronized int getPredictionCount()
+        {
+            return predictions.size();
+        }
+    }
+
+    private static void assertTrackEquals(Track expected, Track actual)
+    {
+        // rounded to meters and microdegrees
+        double angleTolerance = Math.toRadians(0.5e-6) + 1e-12;
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++)
+        {
+            AircraftState expectedState = expected.get(i);
+            AircraftState actualState = actual.get(i);
+            Assert.assertEquals(expectedState.getTime(), actualState.getTime());
+            GeographicCoordinate expectedPosition = expectedState.getPosition();
+            GeographicCoordinate actualPosition = actualState.getPosition();
+            Assert.assertEquals(expectedPosition.getAltitude(), actualPosition.getAltitude(), 0.5 + 1e-6);
+            Assert.assertEquals(expectedPosition.getLatitude(), actualPosition.getLatitude(), angleTolerance);
+            Assert.assertEquals(expectedPosition.getLongitude(), actualPosition.getLongitude(), angleTolerance);
+            Assert.assertEquals(expectedState.getVelocity().getDR(), actualState.getVelocity().getDR(), 0.0);
+            Assert.assertEquals(expectedState.getVelocity().getDTheta(), actualState.getVelocity().getDTheta(), 0.0);
+            Assert.assertEquals(expectedState.getVelocity().getDPhi(), actualState.getVelocity().getDPhi(), 0.0);
+        }
+    }
+
+    private static void waitForClients(PredictionFeedServerThread server, int count) throws InterruptedException
+    {
+        long start = System.currentTimeMillis();
+        while (server.getClientCount() != count)
+        {
+            Assert.assertTrue("timed out waiting for the client", System.currentTimeMillis() - start < TIMEOUT);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void waitForPredictions(RecordingListener listener, int count) throws InterruptedException
+    {
+        long start = System.currentTimeMillis();
+        while (listener.getPredictionCount() < count)
+        {
+            Assert.assertTrue("timed out waiting for predictions", System.currentTimeMillis() - start < TIMEOUT);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Predictions sent together arrive in a few batches, which batch listeners get in one call each.
+     */
+    @Test
+    public void testBatches() throws Exception
+    {
+        PredictionFeedServerThread server = new PredictionFeedServerThread(0, 100, 65536, 20, 1000);
+        server.start();
+        PredictionFeedClientThread client = new PredictionFeedClientThread("localhost", server.getPort());
+        RecordingListener batchListener = new RecordingListener();
+        SingleListener singleListener = new SingleListener();
+        client.addListener(batchListener);
+        client.addListener(singleListener);
+        client.start();
+        waitForClients(server, 1);
+
+        for (int i = 0; i < 50; i++)
+        {
+            server.sendPrediction(newPrediction("A" + i, 1000));
+        }
+        waitForPredictions(batchListener, 50);
+
+        Assert.assertEquals(PredictionFeedServerThread.VERSION, client.getVersion());
+        Assert.assertEquals(50, batchListener.getPredictionCount());
+        Assert.assertTrue(batchListener.getCallCount() < 50);
+        Assert.assertEquals(batchListener.getCallCount(), server.getBatchCount());
+        Assert.assertEquals(50, singleListener.getPredictionCount());
+        for (int i = 0; i < 50; i++)
+        {
+            Prediction prediction = batchListener.predictions.get(i);
+            Assert.assertEquals("A" + i, prediction.getAircraftID());
+            Assert.assertEquals(1000, prediction.getAircraftState().getTime());
+        }
+
+        client.kill();
+        client.join();
+        server.kill();
+        server.join();
+    }
+
+    /**
+     * A batch is sent as soon as it reaches the batch size.
+     */
+    @Test
+    public void testBatchSize() throws Exception
+    {
+        PredictionFeedServerThread server = new PredictionFeedServerThread(0, 100, 1, 10000, 1000);
+        server.start();
+        PredictionFeedClientThread client = new PredictionFeedClientThread("localhost", server.getPort());
+        RecordingListener listener = new RecordingListener();
+        client.addListener(listener);
+        client.start();
+        waitForClients(server, 1);
+
+        for (int i = 0; i < 10; i++)
+        {
+            server.sendPrediction(newPrediction("A" + i, 1000));
+        }
+        waitForPredictions(listener, 10);
+        Assert.assertEquals(10, listener.getCallCount());
+        Assert.assertEquals(10, server.getBatchCount());
+
+        client.kill();
+        client.join();
+        server.kill();
+        server.join();
+    }
+
+    /**
+     * A listener throwing doesn't stop the client receiving the predictions after it.
+     */
+    @Test
+    public void testListenerThrows() throws Exception
+    {
+        PredictionFeedServerThread server = new PredictionFeedServerThread(0, 100, 1, 10000, 1000);
+        server.start();
+        PredictionFeedClientThread client = new PredictionFeedClientThread("localhost", server.getPort());
+        RecordingListener listener = new RecordingListener() {
+            @Override
+            public synchronized void onPredictionBatchUpdate(List<Prediction> newPredictions) {
+                super.onPredictionBatchUpdate(newPredictions);
+                if (callCount == 1)
+                {
+                    throw new IllegalStateException("Queue full");
+                }
+            }
+        };
+        client.addListener(listener);
+        client.start();
+        waitForClients(server, 1);
+
+        for (int i = 0; i < 5; i++)
+        {
+            server.sendPrediction(newPrediction("A" + i, 1000));
+        }
+        waitForPredictions(listener, 5);
+        Assert.assertEquals(5, listener.getCallCount());
+
+        client.kill();
+        client.join();
+        server.kill();
+        server.join();
+    }
+
+    /**
+     * A server which sends each prediction on its own (and doesn't send a hello) is still understood.
+     */
+    @Test
+    public void testVersion1Server() throws Exception
+    {
+        ServerSocket serverSocket = new ServerSocket(0);
+        PredictionFeedClientThread client = new PredictionFeedClientThread("localhost", serverSocket.getLocalPort());
+        RecordingListener listener = new RecordingListener();
+        client.addListener(listener);
+        client.start();
+
+        Socket socket = serverSocket.accept();
+        PredictionFeedServe.PredictionAircraftStateMessage state =
+                PredictionFeedServe.PredictionAircraftStateMessage.newBuilder()
+                        .setTime(1000)
+                        .setPosition(PredictionFeedServe.GeographicCoordinateMessage.newBuilder()
+                                .setAltitude(3000).setLatitude(-0.66).setLongitude(2.53))
+                        .setVelocity(PredictionFeedServe.SphericalVelocityMessage.newBuilder()
+                                .setDr(0).setDtheta(3e-5).setDphi(1e-5))
+                        .build();
+        for (int i = 0; i < 2; i++)
+        {
+            PredictionFeedServe.AircraftPredictionMessage.newBuilder()
+                    .setAircraftID("A" + i)
+                    .setTime(1000)
+                    .setState(PredictionFeedServe.AircraftPredictionMessage.State.STRAIGHT)
+                    .setCentreTrack(PredictionFeedServe.Track.newBuilder().addAircraftState(state))
+                    .setAircraftState(state)
+                    .build()
+                    .writeDelimitedTo(socket.getOutputStream());
+        }
+        waitForPredictions(listener, 2);
+
+        Assert.assertEquals(1, client.getVersion());
+        Assert.assertEquals(2, listener.getCallCount());
+        Assert.assertEquals("A0", listener.predictions.get(0).getAircraftID());
+        Assert.assertEquals("A1", listener.predictions.get(1).getAircraftID());
+
+        client.kill();
+        client.join();
+        socket.close();
+        serverSocket.close();
+    }
+
+    /**
+     * The tracks sent compactly come back to within a meter and a microdegree.
+     */
+    @Test
+    public void testCompactTrackPrecision() throws Exception
+    {
+        PredictionFeedServerThread server = new PredictionFeedServerThread(0, 100, 65536, 20, 1000);
+        server.start();
+        PredictionFeedClientThread client = new PredictionFeedClientThread("localhost", server.getPort());
+        RecordingListener listener = new RecordingListener();
+        client.addListener(listener);
+        client.start();
+        waitForClients(server, 1);
+
+        double[][] positions = {{-37.8, 144.9}, {51.47, -0.45}, {0.0, 0.0}, {-33.9, 179.999}, {64.1, -179.999}};
+        ArrayList<Prediction> sent = new ArrayList<Prediction>();
+        for (int i = 0; i < positions.length; i++)
+        {
+            Prediction prediction = newTurnPrediction("A" + i, 1464000000000L + i, positions[i][0], positions[i][1]);
+            sent.add(prediction);
+            server.sendPrediction(prediction);
+        }
+        waitForPredictions(listener, positions.length);
+        Assert.assertEquals(3, client.getVersion());
+
+        for (int i = 0; i < positions.length; i++)
+        {
+            Prediction expected = sent.get(i);
+            Prediction actual = listener.predictions.get(i);
+            Assert.assertEquals(expected.getAircraftID(), actual.getAircraftID());
+            Assert.assertEquals(expected.getPredictionState(), actual.getPredictionState());
+            assertTrackEquals(expected.getLeftTrack(), actual.getLeftTrack());
+            assertTrackEquals(expected.getCentreTrack(), actual.getCentreTrack());
+            assertTrackEquals(expected.getRightTrack(), actual.getRightTrack());
+        }
+
+        client.kill();
+        client.join();
+        server.kill();
+        server.join();
+    }
+}
@@ -0,0 +1,55 @@
+package com.atc.simulator.flightdata;
+
+import com.atc.simulator.prediction_service.engine.algorithms.PredictionAlgorithmType;
+import com.atc.simulator.prediction_service.engine.algorithms.java.JavaPredictionAlgorithm;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+
+import java.util.ArrayList;
+
+/**
+ * Predictions for the tests of sending predictions over the prediction feed.
+ * @author Luke Frisken
+ */
+public final class PredictionFixtures {
+    private PredictionFixtures()
+    {
+    }
+
+    /**
+     * A straight prediction of an aircraft flying near Melbourne airport.
+     */
+    public static Prediction newPrediction(String aircraftID, long time)
+    {
+        GeographicCoordinate position = GeographicCoordinate.fromDegrees(3000, -37.8, 144.9);
+        Track track = new Track();
+        track.add(new AircraftState(aircraftID, time, position, new SphericalVelocity(0, 3e-5, 1e-5), 0));
+        return JavaPredictionAlgorithm.getInstance(PredictionAlgorithmType.LINEAR).makePrediction(track, null);
+    }
+
+    /**
+     * A prediction with three tracks of 24 states, 5 seconds apart with the same velocity,
+     * like the turn predictions.
+     */
+    public static Prediction newTurnPrediction(String aircraftID, long time, double latitude, double longitude)
+    {
+        SphericalVelocity velocity = new SphericalVelocity(0.5, 3e-5, -1e-5);
+        AircraftState aircraftState = new AircraftState(aircraftID, time,
+                GeographicCoordinate.fromDegrees(3000.3, latitude, longitude), velocity, 0);
+        Track[] tracks = new Track[3];
+        for (int t = 0; t < tracks.length; t++)
+        {
+            ArrayList<AircraftState> states = new ArrayList<AircraftState>();
+            for (int i = 0; i < 24; i++)
+            {
+                double dt = (i + 1) * 5.0 * (0.9 + 0.1*t);
+                GeographicCoordinate position = new GeographicCoordinate(
+                        velocity.angularVelocityTranslate(aircraftState.getPosition(), dt));
+                states.add(new AircraftState(aircraftID, time + (i + 1)*5000L, position, velocity, 0));
+            }
+            tracks[t] = new Track(states);
+        }
+        return new Prediction(aircraftID, time, aircraftState, tracks[0], tracks[1], tracks[2],
+                Prediction.State.LEFT_TURN);
+    }
+}
@@ -0,0 +1,244 @@
+package com.atc.simulator.flightdata;
+
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+/**
+ * Tests the Track class, in particular its snapshots and history size.
+ * @author Luke Frisken
+ */
+public class TrackTest {
+
+    private static AircraftState newState(long time)
+    {
+        return new AircraftState("A", time,
+                new GeographicCoordinate(0, 0, 0),
+                new SphericalVelocity(0, 0, 0),
+                0);
+    }
+
+    @Test
+    public void testAddGet() throws Exception
+    {
+        Track track = new Track();
+        for (int i = 0; i < 100; i++)
+        {
+            track.add(newState(i));
+        }
+
+        Assert.assertEquals(100, track.size());
+        Assert.assertEquals(42, track.get(42).getTime());
+        Assert.assertEquals(99, track.getLatest().getTime());
+        Assert.assertEquals(10, track.subList(10, 20).size());
+    }
+
+    @Test
+    public void testStoredStateValues() throws Exception
+    {
+        GeographicCoordinate position = GeographicCoordinate.fromDegrees(1000, -37.67, 144.83);
+        SphericalVelocity velocity = new SphericalVelocity(1, 2e-5, -3e-5);
+        AircraftState state = new AircraftState(new String("QFA1"), 1234, position, velocity, 0.5);
+
+        Track track = new Track();
+        track.add(state);
+        track.add(new AircraftState(new String("QFA1"), 1235, position, velocity, 0.6));
+
+        AircraftState stored = track.get(0);
+        Assert.assertNotSame(state, stored);
+        Assert.assertEquals("QFA1", stored.getAircraftID());
+        Assert.assertEquals(1234, stored.getTime());
+        Assert.assertEquals(position.getR(), stored.getPosition().getR(), 0.0);
+        Assert.assertEquals(position.getTheta(), stored.getPosition().getTheta(), 0.0);
+        Assert.assertEquals(position.getPhi(), stored.getPosition().getPhi(), 0.0);
+        Assert.assertEquals(position.getAltitude(), stored.getPosition().getAltitude(), 1e-9);
+        Assert.assertEquals(velocity.getDR(), stored.getVelocity().getDR(), 0.0);
+        Assert.assertEquals(velocity.getDTheta(), stored.getVelocity().getDTheta(), 0.0);
+        Assert.assertEquals(velocity.getDPhi(), stored.getVelocity().getDPhi(), 0.0);
+        Assert.assertEquals(0.5, stored.getHeading(), 0.0);
+
+        Assert.assertEquals(1235, track.getTime(1));
+        Assert.assertEquals(position.getLatitude(), track.getLatitude(1), 0.0);
+        Assert.assertEquals(position.getLongitude(), track.getLongitude(1), 0.0);
+        Assert.assertEquals(position.getRadius(), track.getRadius(1), 0.0);
+        Assert.assertEquals(0.6, track.getHeading(1), 0.0);
+        Assert.assertEquals(position.getPhi(), track.getPosition(1).getPhi(), 0.0);
+        Assert.assertEquals(velocity.getDR(), track.getDR(1), 0.0);
+        Assert.assertEquals(velocity.getDTheta(), track.getDTheta(1), 0.0);
+        Assert.assertEquals(velocity.getDPhi(), track.getDPhi(1), 0.0);
+
+        // one ID string is kept for the whole track
+        Assert.assertSame(track.get(0).getAircraftID(), track.get(1).getAircraftID());
+
+        // the returned state is a copy, which can be copied to change it
+        AircraftState copy = new AircraftState(stored);
+        copy.setTime(0);
+        Assert.assertEquals(0, copy.getTime());
+        Assert.assertEquals(1234, track.get(0).getTime());
+    }
+
+    /**
+     * Changing a state returned by the track would lose the change, so it throws instead.
+     */
+    @Test
+    public void testStoredStateReadOnly() throws Exception
+    {
+        Track track = new Track();
+        track.add(newState(1));
+        AircraftState stored = track.get(0);
+
+        try {
+            stored.setTime(0);
+            Assert.fail("expected an UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+
+        try {
+            stored.copyData(newState(2));
+            Assert.fail("expected an UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+
+        Assert.assertEquals(1, stored.getTime());
+        track.set(0, newState(3));
+        Assert.assertEquals(3, track.get(0).getTime());
+    }
+
+    @Test
+    public void testSnapshotUnaffectedByAppend() throws Exception
+    {
+        Track track = new Track();
+        for (int i = 0; i < 16; i++)
+        {
+            track.add(newState(i));
+        }
+
+        Track snapshot = track.snapshot();
+
+        // grows the backing array, and appends past the end of the snapshot
+        for (int i = 16; i < 1000; i++)
+        {
+            track.add(newState(i));
+        }
+
+        Assert.assertEquals(16, snapshot.size());
+        Assert.assertEquals(15, snapshot.getLatest().getTime());
+        Assert.assertEquals(1000, track.size());
+    }
+
+    @Test
+    public void testSnapshotUnaffectedByModification() throws Exception
+    {
+        Track track = new Track();
+        for (int i = 0; i < 10; i++)
+        {
+            track.add(newState(i));
+        }
+
+        Track snapshot = track.snapshot();
+        track.set(0, newState(100));
+        track.remove(9);
+        track.add(0, newState(200));
+
+        Assert.assertEquals(0, snapshot.get(0).getTime());
+        Assert.assertEquals(9, snapshot.getLatest().getTime());
+        Assert.assertEquals(200, track.get(0).getTime());
+        Assert.assertEquals(100, track.get(1).getTime());
+        Assert.assertEquals(10, track.size());
+
+        track.clear();
+        Assert.assertEquals(10, snapshot.size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSnapshotReadOnly() throws Exception
+    {
+        Track track = new Track();
+        track.add(newState(0));
+        Track snapshot = track.snapshot();
+        Assert.assertTrue(snapshot.isReadOnly());
+        snapshot.add(newState(1));
+    }
+
+    /**
+     * Collects the archived states in memory
+     */
+    private static class ListTrackArchive implements TrackArchive {
+        private final ArrayList<AircraftState> archived = new ArrayList<AircraftState>();
+
+        @Override
+        public void archive(AircraftState aircraftState) {
+            archived.add(aircraftState);
+        }
+
+        @Override
+        public void flush() { }
+    }
+
+    @Test
+    public void testHistorySize() throws Exception
+    {
+        ListTrackArchive archive = new ListTrackArchive();
+        Track track = new Track(10, archive);
+        for (int i = 0; i < 1000; i++)
+        {
+            track.add(newState(i));
+            Assert.assertEquals(Math.min(i + 1, 10), track.size());
+            Assert.assertEquals(i, track.getLatest().getTime());
+        }
+
+        for (int i = 0; i < 10; i++)
+        {
+            Assert.assertEquals(990 + i, track.get(i).getTime());
+        }
+        Assert.assertEquals(990, track.getStartTime());
+        Assert.assertEquals(999, track.getEndTime());
+
+        // every dropped state is archived in order
+        Assert.assertEquals(990, archive.archived.size());
+        for (int i = 0; i < 990; i++)
+        {
+            Assert.assertEquals(i, archive.archived.get(i).getTime());
+        }
+
+        track.archiveRemaining();
+        Assert.assertEquals(1000, archive.archived.size());
+        Assert.assertEquals(10, track.size());
+    }
+
+    @Test
+    public void testSnapshotUnaffectedByHistorySize() throws Exception
+    {
+        Track track = new Track(10, null);
+        for (int i = 0; i < 15; i++)
+        {
+            track.add(newState(i));
+        }
+
+        Track snapshot = track.snapshot();
+
+        // slides the window past the snapshot, and compacts the backing array several times
+        for (int i = 15; i < 100; i++)
+        {
+            track.add(newState(i));
+        }
+
+        Assert.assertEquals(10, snapshot.size());
+        for (int i = 0; i < 10; i++)
+        {
+            Assert.assertEquals(5 + i, snapshot.get(i).getTime());
+            Assert.assertEquals(90 + i, track.get(i).getTime());
+        }
+
+        track.set(0, newState(1000));
+        track.add(0, newState(2000));
+        Assert.assertEquals(10, track.size());
+        Assert.assertEquals(1000, track.get(0).getTime());
+        Assert.assertEquals(5, snapshot.get(0).getTime());
+    }
+}
@@ -0,0 +1,143 @@
+package com.atc.simulator.flightdata.system_state_database;
+
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.TimeSource;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+/**
+ * Tests the SystemStateDatabase
+ * @author Luke Frisken
+ */
+public class SystemStateDatabaseTest {
+
+    /**
+     * Time source which can be set by the test
+     */
+    private static class TestTimeSource implements TimeSource {
+        private volatile long currentTime = 0;
+
+        @Override
+        public long getCurrentTime() {
+            return currentTime;
+        }
+    }
+
+    /**
+     * Counts the events it receives
+     */
+    private static class CountingListener implements SystemStateDatabaseListener {
+        private final ArrayList<ArrayList<String>> systemStateUpdates = new ArrayList<ArrayList<String>>();
+        private int newAircraftCount = 0;
+        private int updateAircraftCount = 0;
+        private int removeAircraftCount = 0;
+
+        @Override
+        public void onSystemStateUpdate(SystemStateDatabase stateDatabase, ArrayList<String> aircraftIDs) {
+            systemStateUpdates.add(aircraftIDs);
+        }
+
+        @Override
+        public void onNewAircraft(SystemStateDatabase stateDatabase, String aircraftID) {
+            newAircraftCount++;
+        }
+
+        @Override
+        public void onRemoveAircraft(SystemStateDatabase stateDatabase, String aircraftID) {
+            removeAircraftCount++;
+        }
+
+        @Override
+        public void onUpdateAircraft(SystemStateDatabase stateDatabase, String aircraftID) {
+            updateAircraftCount++;
+        }
+    }
+
+    private static AircraftState newState(String aircraftID, long time)
+    {
+        return new AircraftState(aircraftID, time,
+                new GeographicCoordinate(0, 0, 0),
+                new SphericalVelocity(0, 0, 0),
+                0);
+    }
+
+    @Test
+    public void testBatchUpdate() throws Exception
+    {
+        SystemStateDatabase database = new SystemStateDatabase(new TestTimeSource());
+        CountingListener listener = new CountingListener();
+        database.addListener(listener);
+
+        AircraftState[] batch = new AircraftState[200];
+        for (int i = 0; i < batch.length; i++)
+        {
+            batch[i] = newState("A" + i, 0);
+        }
+        database.update(batch);
+
+        Assert.assertEquals(1, listener.systemStateUpdates.size());
+        Assert.assertEquals(200, listener.systemStateUpdates.get(0).size());
+        Assert.assertEquals("A0", listener.systemStateUpdates.get(0).get(0));
+        Assert.assertEquals(200, listener.newAircraftCount);
+        Assert.assertEquals(200, listener.updateAircraftCount);
+        Assert.assertEquals(1, database.getTrack("A199").size());
+
+        // an aircraft which appears twice in a batch gets both states, but is only reported once
+        database.update(new AircraftState[]{newState("A0", 1), newState("A0", 2), newState("B", 2)});
+        Assert.assertEquals(2, listener.systemStateUpdates.size());
+        Assert.assertEquals(2, listener.systemStateUpdates.get(1).size());
+        Assert.assertEquals(3, database.getTrack("A0").size());
+        Assert.assertEquals(201, listener.newAircraftCount);
+        Assert.assertEquals(202, listener.updateAircraftCount);
+
+        // empty batches don't notify anyone
+        database.update(new AircraftState[0]);
+        Assert.assertEquals(2, listener.systemStateUpdates.size());
+    }
+
+    @Test
+    public void testCull() throws Exception
+    {
+        TestTimeSource timeSource = new TestTimeSource();
+        SystemStateDatabase database = new SystemStateDatabase(timeSource);
+        database.setCullTimeout(1000);
+        CountingListener listener = new CountingListener();
+        database.addListener(listener);
+
+        database.update(new AircraftState[]{newState("A", 0), newState("B", 0), newState("C", 500)});
+
+        timeSource.currentTime = 900;
+        database.update(newState("A", 900));
+        database.cull();
+        Assert.assertEquals(0, listener.removeAircraftCount);
+
+        // B has expired, A was updated since it was scheduled so it is rescheduled,
+        // C expires exactly now and is kept.
+        timeSource.currentTime = 1500;
+        database.cull();
+        Assert.assertEquals(1, listener.removeAircraftCount);
+        Assert.assertNull(database.getTrack("B"));
+        Assert.assertNotNull(database.getTrack("A"));
+        Assert.assertNotNull(database.getTrack("C"));
+
+        timeSource.currentTime = 1501;
+        database.cull();
+        Assert.assertEquals(2, listener.removeAircraftCount);
+        Assert.assertNull(database.getTrack("C"));
+
+        timeSource.currentTime = 1901;
+        database.cull();
+        Assert.assertEquals(3, listener.removeAircraftCount);
+        Assert.assertNull(database.getTrack("A"));
+        Assert.assertNull(database.snapshotTrack("A"));
+
+        // a culled aircraft which comes back gets a new track
+        database.update(newState("A", 2000));
+        Assert.assertEquals(1, database.getTrack("A").size());
+        Assert.assertEquals(4, listener.newAircraftCount);
+    }
+}
@@ -0,0 +1,138 @@
+package com.atc.simulator.prediction_service;
+
+import com.atc.simulator.protocol_buffers.PredictionFeedServe;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Tests encoding messages into pooled buffers with EncodedMessage
+ * @author Luke Frisken
+ */
+public class EncodedMessageTest {
+    private static PredictionFeedServe.AircraftPredictionMessage newMessage(int stateCount)
+    {
+        PredictionFeedServe.Track.Builder track = PredictionFeedServe.Track.newBuilder();
+        PredictionFeedServe.PredictionAircraftStateMessage.Builder state =
+                PredictionFeedServe.PredictionAircraftStateMessage.newBuilder()
+                        .setPosition(PredictionFeedServe.GeographicCoordinateMessage.newBuilder()
+                                .setAltitude(3000).setLatitude(-0.66).setLongitude(2.53))
+                        .setVelocity(PredictionFeedServe.SphericalVelocityMessage.newBuilder()
+                                .setDr(0).setDtheta(3e-5).setDphi(1e-5));
+        for (int i = 0; i < stateCount; i++)
+        {
+            track.addAircraftState(state.setTime(i * 5000L).build());
+        }
+        return PredictionFeedServe.AircraftPredictionMessage.newBuilder()
+                .setAircraftID("ABC123")
+                .setTime(1000)
+                .setState(PredictionFeedServe.AircraftPredictionMessage.State.STRAIGHT)
+                .setCentreTrack(track)
+                .setAircraftState(state.setTime(0).build())
+                .build();
+    }
+
+    private static byte[] getBytes(ByteBuffer view)
+    {
+        byte[] bytes = new byte[view.remaining()];
+        view.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * The encoded message is the same as writeDelimitedTo(), from every view.
+     */
+    @Test
+    public void testEncode() throws Exception
+    {
+        PredictionFeedServe.AircraftPredictionMessage message = newMessage(24);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        message.writeDelimitedTo(expected);
+
+        EncodedMessage encoded = EncodedMessage.encode("ABC123", message, new ByteBufferPool(16384, 4));
+        Assert.assertEquals("ABC123", encoded.getKey());
+        Assert.assertEquals(expected.size(), encoded.getLength());
+        Assert.assertArrayEquals(expected.toByteArray(), getBytes(encoded.getView()));
+        // a second view is independent of the first
+        byte[] bytes = getBytes(encoded.getView());
+        Assert.assertArrayEquals(expected.toByteArray(), bytes);
+        Assert.assertEquals(message,
+                PredictionFeedServe.AircraftPredictionMessage.parseDelimitedFrom(new ByteArrayInputStream(bytes)));
+    }
+
+    /**
+     * Messages encoded as elements of a repeated field, one after another, are the same as the
+     * enclosing message without its length.
+     */
+    @Test
+    public void testEncodeField() throws Exception
+    {
+        PredictionFeedServe.AircraftPredictionMessage first = newMessage(24);
+        PredictionFeedServe.AircraftPredictionMessage second = newMessage(2);
+        PredictionFeedServe.PredictionBatch batch = PredictionFeedServe.PredictionBatch.newBuilder()
+                .addPrediction(first)
+                .addPrediction(second)
+                .build();
+
+        ByteBufferPool pool = new ByteBufferPool(16384, 4);
+        int fieldNumber = PredictionFeedServe.PredictionBatch.PREDICTION_FIELD_NUMBER;
+        EncodedMessage firstEncoded = EncodedMessage.encodeField("ABC123", fieldNumber, first, pool);
+        EncodedMessage secondEncoded = EncodedMessage.encodeField("ABC123", fieldNumber, second, pool);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(getBytes(firstEncoded.getView()));
+        bytes.write(getBytes(secondEncoded.getView()));
+        Assert.assertEquals(batch.getSerializedSize(), firstEncoded.getLength() + secondEncoded.getLength());
+        Assert.assertArrayEquals(batch.toByteArray(), bytes.toByteArray());
+        firstEncoded.release();
+        secondEncoded.release();
+    }
+
+    /**
+     * The buffer goes back to the pool when the last reference is released.
+     */
+    @Test
+    public void testReferences() throws Exception
+    {
+        ByteBufferPool pool = new ByteBufferPool(16384, 4);
+        EncodedMessage encoded = EncodedMessage.encode("ABC123", newMessage(24), pool);
+        encoded.retain();
+        encoded.retain();
+        encoded.release();
+        encoded.release();
+        Assert.assertEquals(0, pool.getPooledCount());
+        encoded.release();
+        Assert.assertEquals(1, pool.getPooledCount());
+
+        EncodedMessage reused = EncodedMessage.encode("DEF456", newMessage(2), pool);
+        Assert.assertEquals(0, pool.getPooledCount());
+        reused.release();
+        Assert.assertEquals(1, pool.getPooledCount());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReleasedTooOften() throws Exception
+    {
+        EncodedMessage encoded = EncodedMessage.encode("ABC123", newMessage(1), new ByteBufferPool(16384, 4));
+        encoded.release();
+        encoded.release();
+    }
+
+    /**
+     * Messages too large for the pooled buffers are still encoded, but not pooled.
+     */
+    @Test
+    public void testLargeMessage() throws Exception
+    {
+        ByteBufferPool pool = new ByteBufferPool(256, 4);
+        PredictionFeedServe.AircraftPredictionMessage message = newMessage(24);
+        EncodedMessage encoded = EncodedMessage.encode("ABC123", message, pool);
+        Assert.assertTrue(encoded.getLength() > 256);
+        Assert.assertEquals(message, PredictionFeedServe.AircraftPredictionMessage.parseDelimitedFrom(
+                new ByteArrayInputStream(getBytes(encoded.getView()))));
+        encoded.release();
+        Assert.assertEquals(0, pool.getPooledCount());
+    }
+}
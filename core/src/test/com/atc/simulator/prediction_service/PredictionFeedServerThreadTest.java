@@ -0,0 +1,353 @@
+package com.atc.simulator.prediction_service;
+
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.Prediction;
+import com.atc.simulator.flightdata.Track;
+import com.atc.simulator.protocol_buffers.PredictionFeedServe;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.HashMap;
+
+import static com.atc.simulator.flightdata.PredictionFixtures.newPrediction;
+import static com.atc.simulator.flightdata.PredictionFixtures.newTurnPrediction;
+
+/**
+ * Tests the PredictionFeedServerThread with a number of local clients, most of which don't send a hello,
+ * so are sent each prediction on its own (version 1), and the compact encoding of the tracks.
+ * @author Luke Frisken
+ */
+public class PredictionFeedServerThreadTest {
+    private static final long TIMEOUT = 10000;
+
+    private PredictionFeedServerThread server;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        server = new PredictionFeedServerThread(0, 10, 65536, 20, 100);
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        server.kill();
+        server.join();
+    }
+
+    private Socket connect() throws IOException
+    {
+        Socket socket = new Socket();
+        socket.connect(new InetSocketAddress("localhost", server.getPort()));
+        return socket;
+    }
+
+    private void waitForClients(int count) throws InterruptedException
+    {
+        long start = System.currentTimeMillis();
+        while (server.getClientCount() != count)
+        {
+            Assert.assertTrue("timed out waiting for " + count + " clients",
+                    System.currentTimeMillis() - start < TIMEOUT);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Every client receives every prediction, in order, while their queues aren't full.
+     */
+    @Test
+    public void testMultipleClients() throws Exception
+    {
+        Socket[] clients = new Socket[3];
+        for (int i = 0; i < clients.length; i++)
+        {
+            clients[i] = connect();
+            clients[i].setSoTimeout((int) TIMEOUT);
+        }
+        waitForClients(clients.length);
+
+        for (int i = 0; i < 10; i++)
+        {
+            server.sendPrediction(newPrediction("A" + i, i*1000L));
+        }
+
+        for (Socket client : clients)
+        {
+            InputStream inputStream = client.getInputStream();
+            for (int i = 0; i < 10; i++)
+            {
+                PredictionFeedServe.AircraftPredictionMessage message =
+                        PredictionFeedServe.AircraftPredictionMessage.parseDelimitedFrom(inputStream);
+                Assert.assertEquals("A" + i, message.getAircraftID());
+                Assert.assertEquals(i*1000L, message.getTime());
+            }
+            client.close();
+        }
+        Assert.assertEquals(0, server.getDroppedCount());
+    }
+
+    /**
+     * A client which doesn't read doesn't hold up one that does, which gets the latest prediction of
+     * every aircraft.
+     */
+    @Test
+    public void testSlowClient() throws Exception
+    {
+        Socket slowClient = new Socket();
+        slowClient.setReceiveBufferSize(1024);
+        slowClient.connect(new InetSocketAddress("localhost", server.getPort()));
+        final Socket fastClient = connect();
+        fastClient.setSoTimeout((int) TIMEOUT);
+        waitForClients(2);
+
+        final int aircraftCount = 5;
+        final int lastTime = 3000;
+        final HashMap<String, Long> received = new HashMap<String, Long>();
+        Thread reader = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    InputStream inputStream = fastClient.getInputStream();
+                    while (!allLatest())
+                    {
+                        PredictionFeedServe.AircraftPredictionMessage message =
+                                PredictionFeedServe.AircraftPredictionMessage.parseDelimitedFrom(inputStream);
+                        synchronized (received)
+                        {
+                            Long previous = received.put(message.getAircraftID(), message.getTime());
+                            if (previous != null && previous >= message.getTime())
+                            {
+                                return; // out of order, fails the test below
+                            }
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            private boolean allLatest()
+            {
+                synchronized (received)
+                {
+                    if (received.size() < aircraftCount)
+                    {
+                        return false;
+                    }
+                    for (Long time : received.values())
+                    {
+                        if (time != lastTime)
+                        {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+            }
+        });
+        reader.start();
+
+        for (int time = 0; time <= lastTime; time++)
+        {
+            for (int i = 0; i < aircraftCount; i++)
+            {
+                server.sendPrediction(newPrediction("A" + i, time));
+            }
+        }
+
+        reader.join(TIMEOUT);
+        Assert.assertFalse("the fast client was held up", reader.isAlive());
+        synchronized (received)
+        {
+            Assert.assertEquals(aircraftCount, received.size());
+            for (Long time : received.values())
+            {
+                Assert.assertEquals(lastTime, time.longValue());
+            }
+        }
+        Assert.assertTrue(server.getDroppedCount() > 0);
+        Assert.assertEquals(2, server.getClientCount());
+
+        slowClient.close();
+        fastClient.close();
+    }
+
+    /**
+     * A client which disconnects is removed.
+     */
+    @Test
+    public void testDisconnect() throws Exception
+    {
+        Socket first = connect();
+        Socket second = connect();
+        waitForClients(2);
+
+        first.close();
+        waitForClients(1);
+
+        server.sendPrediction(newPrediction("A", 0));
+        second.setSoTimeout((int) TIMEOUT);
+        PredictionFeedServe.AircraftPredictionMessage message =
+                PredictionFeedServe.AircraftPredictionMessage.parseDelimitedFrom(second.getInputStream());
+        Assert.assertEquals("A", message.getAircraftID());
+
+        second.close();
+        waitForClients(0);
+    }
+
+    /**
+     * A version 2 client is sent batches, without compact tracks.
+     */
+    @Test
+    public void testVersion2Client() throws Exception
+    {
+        Socket client = connect();
+        client.setSoTimeout((int) TIMEOUT);
+        OutputStream outputStream = client.getOutputStream();
+        PredictionFeedServe.PredictionFeedHello.newBuilder().setVersion(2).build().writeDelimitedTo(outputStream);
+        outputStream.flush();
+
+        InputStream inputStream = client.getInputStream();
+        Assert.assertEquals(2, PredictionFeedServe.PredictionFeedHello.parseDelimitedFrom(inputStream).getVersion());
+        waitForClients(1);
+
+        server.sendPrediction(newTurnPrediction("A", 1000, -37.8, 144.9));
+        PredictionFeedServe.PredictionBatch batch = PredictionFeedServe.PredictionBatch.parseDelimitedFrom(inputStream);
+        Assert.assertEquals(1, batch.getPredictionCount());
+        PredictionFeedServe.AircraftPredictionMessage message = batch.getPrediction(0);
+        Assert.assertFalse(message.hasCompactCentreTrack());
+        Assert.assertEquals(24, message.getCentreTrack().getAircraftStateCount());
+        Assert.assertEquals(24, message.getLeftTrack().getAircraftStateCount());
+        Assert.assertEquals(1, server.getBatchCount());
+        client.close();
+    }
+
+    /**
+     * The predictions waiting for a slow version 2 client are replaced and dropped per aircraft, rather than
+     * per batch, so an aircraft's prediction isn't dropped because other aircraft have newer ones.
+     */
+    @Test
+    public void testSlowBatchedClient() throws Exception
+    {
+        server.kill();
+        server.join();
+        server = new PredictionFeedServerThread(0, 10, 1, 20, 100);
+        server.start();
+
+        Socket client = new Socket();
+        client.setReceiveBufferSize(1024);
+        client.connect(new InetSocketAddress("localhost", server.getPort()));
+        client.setSoTimeout((int) TIMEOUT);
+        OutputStream outputStream = client.getOutputStream();
+        PredictionFeedServe.PredictionFeedHello.newBuilder().setVersion(2).build().writeDelimitedTo(outputStream);
+        outputStream.flush();
+        waitForClients(1);
+
+        // fill the socket's buffers, until the client's queue is full and stays full
+        long time = 0;
+        long start = System.currentTimeMillis();
+        while (server.getDroppedCount() < 5000)
+        {
+            Assert.assertTrue("timed out filling the socket", System.currentTimeMillis() - start < TIMEOUT);
+            server.sendPrediction(newTurnPrediction("B", time++, -37.8, 144.9));
+        }
+        // then send many more predictions of another aircraft than the queue can hold
+        server.sendPrediction(newTurnPrediction("A", 0, -37.8, 144.9));
+        long dropped = server.getDroppedCount();
+        while (server.getDroppedCount() < dropped + 100)
+        {
+            Assert.assertTrue("timed out filling the queue", System.currentTimeMillis() - start < TIMEOUT);
+            server.sendPrediction(newTurnPrediction("B", time++, -37.8, 144.9));
+        }
+        long lastTime = time - 1;
+
+        // the server thread waits for the client to be writable, rather than waking up
+        // for the batch interval which has already passed
+        Thread.sleep(100);
+        long selectCount = server.getSelectCount();
+        Thread.sleep(500);
+        Assert.assertTrue("server thread is busy waiting", server.getSelectCount() - selectCount < 10);
+
+        InputStream inputStream = client.getInputStream();
+        Assert.assertEquals(2, PredictionFeedServe.PredictionFeedHello.parseDelimitedFrom(inputStream).getVersion());
+        boolean receivedA = false;
+        long latestB = -1;
+        while (!receivedA || latestB != lastTime)
+        {
+            PredictionFeedServe.PredictionBatch batch = PredictionFeedServe.PredictionBatch.parseDelimitedFrom(inputStream);
+            for (PredictionFeedServe.AircraftPredictionMessage message : batch.getPredictionList())
+            {
+                if (message.getAircraftID().equals("A"))
+                {
+                    receivedA = true;
+                } else {
+                    Assert.assertTrue(message.getTime() > latestB);
+                    latestB = message.getTime();
+                }
+            }
+        }
+        client.close();
+    }
+
+    /**
+     * The compact tracks make the messages at least 4 times smaller.
+     */
+    @Test
+    public void testCompactTrackSize() throws Exception
+    {
+        Prediction prediction = newTurnPrediction("ABC123", 1000, -37.8, 144.9);
+        PredictionFeedServe.AircraftPredictionMessage full = PredictionFeedServerThread.buildMessage(prediction, false);
+        PredictionFeedServe.AircraftPredictionMessage compact = PredictionFeedServerThread.buildMessage(prediction, true);
+        Assert.assertTrue(compact.hasCompactLeftTrack());
+        Assert.assertTrue(compact.hasCompactCentreTrack());
+        Assert.assertTrue(compact.hasCompactRightTrack());
+        Assert.assertFalse(compact.hasLeftTrack());
+        Assert.assertEquals(0, compact.getCentreTrack().getAircraftStateCount());
+        Assert.assertTrue(full.getSerializedSize() >= 4 * compact.getSerializedSize());
+
+        // a straight prediction, with just a centre track
+        prediction = newPrediction("ABC123", 1000);
+        full = PredictionFeedServerThread.buildMessage(prediction, false);
+        compact = PredictionFeedServerThread.buildMessage(prediction, true);
+        Assert.assertTrue(compact.hasCompactCentreTrack());
+        Assert.assertTrue(full.getSerializedSize() >= 4 * compact.getSerializedSize());
+    }
+
+    /**
+     * Tracks which aren't evenly spaced in time, or don't share the same velocity, aren't compacted.
+     */
+    @Test
+    public void testCompactTrackFallback() throws Exception
+    {
+        GeographicCoordinate position = GeographicCoordinate.fromDegrees(3000, -37.8, 144.9);
+        SphericalVelocity velocity = new SphericalVelocity(0, 3e-5, 1e-5);
+
+        Track track = new Track();
+        track.add(new AircraftState("A", 5000, position, velocity, 0));
+        Assert.assertNotNull(PredictionFeedServerThread.buildCompactTrackMessage(track));
+        track.add(new AircraftState("A", 10000, position, velocity, 0));
+        track.add(new AircraftState("A", 15000, position, velocity, 0));
+        Assert.assertNotNull(PredictionFeedServerThread.buildCompactTrackMessage(track));
+
+        track.add(new AircraftState("A", 21000, position, velocity, 0));
+        Assert.assertNull(PredictionFeedServerThread.buildCompactTrackMessage(track));
+
+        track = new Track();
+        track.add(new AircraftState("A", 5000, position, velocity, 0));
+        track.add(new AircraftState("A", 10000, position, new SphericalVelocity(0, 3e-5, 1.1e-5), 0));
+        Assert.assertNull(PredictionFeedServerThread.buildCompactTrackMessage(track));
+
+        Assert.assertNull(PredictionFeedServerThread.buildCompactTrackMessage(new Track()));
+    }
+}
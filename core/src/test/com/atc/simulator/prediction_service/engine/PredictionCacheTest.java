@@ -0,0 +1,190 @@
+package com.atc.simulator.prediction_service.engine;
+
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.Prediction;
+import com.atc.simulator.flightdata.Track;
+import com.atc.simulator.prediction_service.engine.algorithms.PredictionAlgorithmType;
+import com.atc.simulator.prediction_service.engine.algorithms.java.JavaPredictionAlgorithm;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+/**
+ * Tests reusing predictions with the PredictionCache
+ * @author Luke Frisken
+ */
+public class PredictionCacheTest {
+    private static final SphericalVelocity VELOCITY = new SphericalVelocity(0, 3e-5, 1e-5);
+    private static final GeographicCoordinate POSITION = GeographicCoordinate.fromDegrees(3000, -37.8, 144.9);
+
+    private static PredictionCache newCache()
+    {
+        return new PredictionCache(50.0, 2.0, 10000);
+    }
+
+    private static Prediction linearPrediction(AircraftState aircraftState)
+    {
+        Track track = new Track();
+        track.add(aircraftState);
+        return JavaPredictionAlgorithm.getInstance(PredictionAlgorithmType.LINEAR).makePrediction(track, null);
+    }
+
+    /**
+     * The state of the aircraft flying along its great circle from the initial state
+     * @param time in milliseconds
+     * @param velocity
+     */
+    private static AircraftState movedState(long time, SphericalVelocity velocity)
+    {
+        GeographicCoordinate position = new GeographicCoordinate(
+                VELOCITY.angularVelocityTranslate(POSITION, (time - 10000)/1000.0));
+        return new AircraftState("ABC123", time, position, velocity, 0);
+    }
+
+    private static Prediction stoppedPrediction(AircraftState aircraftState)
+    {
+        ArrayList<AircraftState> states = new ArrayList<AircraftState>();
+        for (int i = 0; i < 2; i++)
+        {
+            states.add(new AircraftState(aircraftState.getAircraftID(), aircraftState.getTime() + (i+1)*30000,
+                    aircraftState.getPosition(), aircraftState.getVelocity(), 0));
+        }
+        Track track = new Track(states);
+        return new Prediction(aircraftState.getAircraftID(), aircraftState.getTime(), aircraftState,
+                null, track, null, Prediction.State.STOPPED);
+    }
+
+    /**
+     * Assert that a prediction reused from the cache is the one which would have been computed
+     */
+    private static void assertShifted(Prediction expected, Prediction shifted)
+    {
+        Assert.assertEquals(expected.getPredictionTime(), shifted.getPredictionTime());
+        Assert.assertEquals(expected.getAircraftState().getTime(), shifted.getAircraftState().getTime());
+        Assert.assertEquals(expected.getPredictionState(), shifted.getPredictionState());
+        Track expectedTrack = expected.getCentreTrack();
+        Track shiftedTrack = shifted.getCentreTrack();
+        Assert.assertEquals(expectedTrack.size(), shiftedTrack.size());
+        for (int i = 0; i < expectedTrack.size(); i++)
+        {
+            Assert.assertEquals(expectedTrack.getTime(i), shiftedTrack.getTime(i));
+            // the test aircraft's spherical velocity takes it slightly off its great circle
+            Assert.assertEquals(0.0, expectedTrack.getPosition(i).cartesianDistance(shiftedTrack.getPosition(i)), 2.0);
+            Assert.assertEquals(expectedTrack.getDTheta(i), shiftedTrack.getDTheta(i), 0.0);
+            Assert.assertEquals(expectedTrack.getDPhi(i), shiftedTrack.getDPhi(i), 0.0);
+        }
+    }
+
+    @Test
+    public void testMiss() throws Exception
+    {
+        PredictionCache cache = newCache();
+        Assert.assertNull(cache.get("ABC123", movedState(10000, VELOCITY)));
+        Assert.assertEquals(0, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+    }
+
+    /**
+     * A straight prediction is reused while the aircraft is where it predicted, moved along
+     * with the aircraft
+     */
+    @Test
+    public void testStraight() throws Exception
+    {
+        PredictionCache cache = newCache();
+        Prediction prediction = linearPrediction(movedState(10000, VELOCITY));
+        cache.put(prediction);
+
+        Assert.assertSame(prediction, cache.get("ABC123", movedState(10000, VELOCITY)));
+        assertShifted(linearPrediction(movedState(12000, VELOCITY)), cache.get("ABC123", movedState(12000, VELOCITY)));
+        assertShifted(linearPrediction(movedState(20000, VELOCITY)), cache.get("ABC123", movedState(20000, VELOCITY)));
+        Assert.assertEquals(3, cache.getHitCount());
+        Assert.assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void testStopped() throws Exception
+    {
+        PredictionCache cache = newCache();
+        SphericalVelocity stopped = new SphericalVelocity(0, 0, 0);
+        Prediction prediction = stoppedPrediction(new AircraftState("ABC123", 10000, POSITION, stopped, 0));
+        cache.put(prediction);
+
+        AircraftState state = new AircraftState("ABC123", 15000, POSITION, stopped, 0);
+        Prediction shifted = cache.get("ABC123", state);
+        Assert.assertSame(state, shifted.getAircraftState());
+        Assert.assertEquals(15000, shifted.getPredictionTime());
+        Assert.assertEquals(45000, shifted.getCentreTrack().getTime(0));
+        Assert.assertEquals(75000, shifted.getCentreTrack().getTime(1));
+        Assert.assertEquals(POSITION.getPhi(), shifted.getCentreTrack().getPosition(1).getPhi(), 0.0);
+        Assert.assertEquals(POSITION.getTheta(), shifted.getCentreTrack().getPosition(1).getTheta(), 0.0);
+        Assert.assertNull(shifted.getLeftTrack());
+
+        // taxiing off
+        Assert.assertNull(cache.get("ABC123", new AircraftState("ABC123", 15000, POSITION,
+                new SphericalVelocity(0, 1e-6, 0), 0)));
+    }
+
+    @Test
+    public void testTolerances() throws Exception
+    {
+        PredictionCache cache = newCache();
+        cache.put(linearPrediction(movedState(10000, VELOCITY)));
+
+        // 100m north of where it should be
+        AircraftState moved = movedState(12000, VELOCITY);
+        GeographicCoordinate position = moved.getPosition();
+        GeographicCoordinate offPosition = new GeographicCoordinate(position.getAltitude(),
+                position.getLatitude() + 100.0/position.getRadius(), position.getLongitude());
+        Assert.assertNull(cache.get("ABC123", new AircraftState("ABC123", 12000, offPosition, VELOCITY, 0)));
+
+        // 100m climb
+        GeographicCoordinate climbedPosition = new GeographicCoordinate(position.getAltitude() + 100.0,
+                position.getLatitude(), position.getLongitude());
+        Assert.assertNull(cache.get("ABC123", new AircraftState("ABC123", 12000, climbedPosition, VELOCITY, 0)));
+
+        // about 6m/s faster
+        Assert.assertNull(cache.get("ABC123", movedState(12000, new SphericalVelocity(0, 3.1e-5, 1e-5))));
+        // climbing at 5m/s
+        Assert.assertNull(cache.get("ABC123", movedState(12000, new SphericalVelocity(5, 3e-5, 1e-5))));
+
+        // too old, and older than the cached prediction
+        Assert.assertNull(cache.get("ABC123", movedState(20001, VELOCITY)));
+        Assert.assertNull(cache.get("ABC123", movedState(9000, VELOCITY)));
+
+        Assert.assertNotNull(cache.get("ABC123", movedState(20000, VELOCITY)));
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(6, cache.getMissCount());
+    }
+
+    @Test
+    public void testTurnNotReused() throws Exception
+    {
+        PredictionCache cache = newCache();
+        Prediction prediction = linearPrediction(movedState(10000, VELOCITY));
+        prediction.setPredictionState(Prediction.State.LEFT_TURN);
+        cache.put(prediction);
+        Assert.assertNull(cache.get("ABC123", movedState(12000, VELOCITY)));
+    }
+
+    @Test
+    public void testPutKeepsNewest() throws Exception
+    {
+        PredictionCache cache = newCache();
+        cache.put(linearPrediction(movedState(12000, VELOCITY)));
+        cache.put(linearPrediction(movedState(10000, VELOCITY)));
+        Assert.assertEquals(1, cache.size());
+
+        // the prediction from 10000 is too old to be reused
+        Prediction prediction = cache.get("ABC123", movedState(21000, VELOCITY));
+        Assert.assertNotNull(prediction);
+        Assert.assertEquals(21000, prediction.getPredictionTime());
+
+        cache.remove("ABC123");
+        Assert.assertEquals(0, cache.size());
+        Assert.assertNull(cache.get("ABC123", movedState(21000, VELOCITY)));
+    }
+}
@@ -0,0 +1,171 @@
+package com.atc.simulator.prediction_service.engine;
+
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.Prediction;
+import com.atc.simulator.flightdata.TimeSource;
+import com.atc.simulator.flightdata.Track;
+import com.atc.simulator.flightdata.system_state_database.SystemStateDatabase;
+import com.atc.simulator.flightdata.system_state_database.SystemStateDatabaseListener;
+import com.atc.simulator.prediction_service.engine.algorithms.java.JavaLinearAlgorithm;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Stress tests the PredictionEngineSystemStateDatabase with several feed threads ingesting
+ * updates, while other threads cull the database and make predictions from snapshots of its tracks.
+ * @author Luke Frisken
+ */
+public class PredictionEngineSystemStateDatabaseTest {
+    private static final int N_FEEDS = 4;
+    private static final int N_PREDICTORS = 4;
+    private static final int N_AIRCRAFT = 50;
+    private static final int N_BATCHES = 500;
+
+    /**
+     * Stays at 0, so that nothing gets culled.
+     */
+    private static class ZeroTimeSource implements TimeSource {
+        @Override
+        public long getCurrentTime() {
+            return 0;
+        }
+    }
+
+    private static AircraftState newState(String aircraftID, long time)
+    {
+        return new AircraftState(aircraftID, time,
+                new GeographicCoordinate(0, 0, 0),
+                new SphericalVelocity(0, 1e-6, 0),
+                0);
+    }
+
+    @Test
+    public void testConcurrentIngestAndPrediction() throws Exception
+    {
+        final PredictionEngineSystemStateDatabase database = new PredictionEngineSystemStateDatabase(new ZeroTimeSource());
+        final ConcurrentLinkedQueue<String> updatedAircraft = new ConcurrentLinkedQueue<String>();
+        final AtomicInteger newAircraftCount = new AtomicInteger();
+        final AtomicInteger predictionCount = new AtomicInteger();
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        final AtomicInteger feedsRunning = new AtomicInteger(N_FEEDS);
+
+        database.addListener(new SystemStateDatabaseListener() {
+            @Override
+            public void onSystemStateUpdate(SystemStateDatabase stateDatabase, ArrayList<String> aircraftIDs) {
+                updatedAircraft.addAll(aircraftIDs);
+            }
+
+            @Override
+            public void onNewAircraft(SystemStateDatabase stateDatabase, String aircraftID) {
+                newAircraftCount.incrementAndGet();
+            }
+
+            @Override
+            public void onRemoveAircraft(SystemStateDatabase stateDatabase, String aircraftID) { }
+
+            @Override
+            public void onUpdateAircraft(SystemStateDatabase stateDatabase, String aircraftID) { }
+        });
+
+        ArrayList<Thread> threads = new ArrayList<Thread>();
+
+        // every feed updates every aircraft, in batches
+        for (int f = 0; f < N_FEEDS; f++)
+        {
+            final int feedID = f;
+            threads.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for (int b = 0; b < N_BATCHES; b++)
+                        {
+                            AircraftState[] batch = new AircraftState[N_AIRCRAFT];
+                            for (int a = 0; a < N_AIRCRAFT; a++)
+                            {
+                                batch[a] = newState("A" + ((a + feedID) % N_AIRCRAFT), -b);
+                            }
+                            database.update(batch);
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        feedsRunning.decrementAndGet();
+                    }
+                }
+            }, "feed " + f));
+        }
+
+        threads.add(new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (feedsRunning.get() > 0)
+                    {
+                        database.cull();
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+        }, "cull"));
+
+        for (int p = 0; p < N_PREDICTORS; p++)
+        {
+            threads.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    JavaLinearAlgorithm algorithm = new JavaLinearAlgorithm();
+                    try {
+                        while (feedsRunning.get() > 0 || !updatedAircraft.isEmpty())
+                        {
+                            String aircraftID = updatedAircraft.poll();
+                            if (aircraftID == null)
+                            {
+                                continue;
+                            }
+
+                            Track snapshot = database.snapshotTrack(aircraftID);
+                            int size = snapshot.size();
+                            Prediction prediction = algorithm.makePrediction(snapshot, null);
+                            Assert.assertEquals(aircraftID, prediction.getAircraftID());
+                            Assert.assertEquals(size, snapshot.size());
+                            for (int i = 0; i < size; i++)
+                            {
+                                Assert.assertEquals(aircraftID, snapshot.get(i).getAircraftID());
+                            }
+
+                            Object algorithmState = database.setAlgorithmStateIfAbsent(aircraftID, new Object());
+                            Assert.assertSame(algorithmState, database.getAlgorithmState(aircraftID));
+                            predictionCount.incrementAndGet();
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    }
+                }
+            }, "predictor " + p));
+        }
+
+        for (Thread thread : threads) { thread.start(); }
+        for (Thread thread : threads) { thread.join(); }
+
+        if (failure.get() != null)
+        {
+            throw new AssertionError(failure.get());
+        }
+
+        // no updates were lost, and each aircraft was only created once
+        Assert.assertEquals(N_AIRCRAFT, newAircraftCount.get());
+        for (int a = 0; a < N_AIRCRAFT; a++)
+        {
+            Assert.assertEquals(N_FEEDS * N_BATCHES, database.getTrack("A" + a).size());
+        }
+        Assert.assertEquals(N_FEEDS * N_BATCHES * N_AIRCRAFT, predictionCount.get());
+    }
+}
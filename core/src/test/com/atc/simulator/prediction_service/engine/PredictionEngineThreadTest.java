@@ -0,0 +1,95 @@
+package com.atc.simulator.prediction_service.engine;
+
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.Prediction;
+import com.atc.simulator.flightdata.Track;
+import com.atc.simulator.prediction_service.PredictionFeedServerThread;
+import com.atc.simulator.prediction_service.engine.algorithms.PredictionAlgorithmType;
+import com.atc.simulator.prediction_service.engine.algorithms.java.JavaPredictionAlgorithm;
+import com.atc.simulator.protocol_buffers.PredictionFeedServe;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * Tests the PredictionEngineThread sending the completed work items' predictions to the
+ * PredictionFeedServerThread's clients.
+ * @author Luke Frisken
+ */
+public class PredictionEngineThreadTest {
+    private static final long TIMEOUT = 10000;
+    private static final SphericalVelocity VELOCITY = new SphericalVelocity(0, 3e-5, 1e-5);
+    private static final GeographicCoordinate POSITION = GeographicCoordinate.fromDegrees(3000, -37.8, 144.9);
+
+    /**
+     * A track with the state of the aircraft flying along its great circle, at a time
+     * @param time in milliseconds
+     */
+    private static Track movedTrack(long time)
+    {
+        GeographicCoordinate position = new GeographicCoordinate(
+                VELOCITY.angularVelocityTranslate(POSITION, (time - 10000)/1000.0));
+        Track track = new Track();
+        track.add(new AircraftState("ABC123", time, position, VELOCITY, 0));
+        return track;
+    }
+
+    /**
+     * A client which connects after a prediction was sent gets it when it is reused from
+     * the prediction cache, from the aircraft's latest state.
+     */
+    @Test
+    public void testCachedPredictionSentToNewClient() throws Exception
+    {
+        PredictionFeedServerThread server = new PredictionFeedServerThread(0, 10, 65536, 20, 100);
+        server.start();
+        PredictionCache cache = new PredictionCache(50.0, 2.0, 10000);
+        PredictionEngineThread engine = new PredictionEngineThread(server, null, 0, cache);
+
+        // computed before the client connects
+        Track track = movedTrack(10000);
+        Prediction prediction = JavaPredictionAlgorithm.getInstance(PredictionAlgorithmType.LINEAR)
+                .makePrediction(track, null);
+        cache.put(prediction);
+        PredictionWorkItem workItem = new PredictionWorkItem("ABC123", track, PredictionAlgorithmType.LINEAR, null);
+        workItem.complete(prediction);
+        engine.completeWorkItem(workItem);
+
+        Socket client = new Socket();
+        client.connect(new InetSocketAddress("localhost", server.getPort()));
+        client.setSoTimeout((int) TIMEOUT);
+        long start = System.currentTimeMillis();
+        while (server.getClientCount() != 1)
+        {
+            Assert.assertTrue("timed out waiting for the client", System.currentTimeMillis() - start < TIMEOUT);
+            Thread.sleep(10);
+        }
+
+        // reused while the client is connected
+        track = movedTrack(12000);
+        Prediction cached = cache.get("ABC123", track.getLatest());
+        Assert.assertEquals(1, cache.getHitCount());
+        workItem = new PredictionWorkItem("ABC123", track, PredictionAlgorithmType.LINEAR, null);
+        workItem.complete(cached, true);
+        engine.completeWorkItem(workItem);
+
+        PredictionFeedServe.AircraftPredictionMessage message =
+                PredictionFeedServe.AircraftPredictionMessage.parseDelimitedFrom(client.getInputStream());
+        Assert.assertEquals("ABC123", message.getAircraftID());
+        Assert.assertEquals(12000, message.getTime());
+        Assert.assertEquals(12000, message.getAircraftState().getTime());
+        Assert.assertEquals(prediction.getCentreTrack().size(), message.getCentreTrack().getAircraftStateCount());
+        // moved along with the aircraft
+        Assert.assertEquals(prediction.getCentreTrack().getTime(0) + 2000,
+                message.getCentreTrack().getAircraftState(0).getTime());
+        Assert.assertEquals(PredictionFeedServe.AircraftPredictionMessage.State.STRAIGHT, message.getState());
+
+        client.close();
+        server.kill();
+        server.join();
+    }
+}
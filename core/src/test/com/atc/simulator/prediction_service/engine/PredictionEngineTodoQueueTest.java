@@ -0,0 +1,230 @@
+package com.atc.simulator.prediction_service.engine;
+
+import com.atc.simulator.flightdata.Track;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the earliest-deadline-first ordering of the PredictionEngineTodoQueue
+ * @author Luke Frisken
+ */
+public class PredictionEngineTodoQueueTest {
+    private static final long MAX_LATENCY = 400;
+
+    private static PredictionWorkItem newWorkItem(String aircraftID, long deadline)
+    {
+        return new PredictionWorkItem(aircraftID, null, null, null, 0, deadline);
+    }
+
+    @Test
+    public void testEarliestDeadlineFirst() throws Exception
+    {
+        PredictionEngineTodoQueue queue = new PredictionEngineTodoQueue();
+        queue.add(newWorkItem("B", 300));
+        queue.add(newWorkItem("A", 100));
+        queue.add(newWorkItem("C", 500));
+
+        Assert.assertEquals(3, queue.size());
+        Assert.assertEquals("A", queue.take().getAircraftID());
+        Assert.assertEquals("B", queue.take().getAircraftID());
+        Assert.assertEquals("C", queue.take().getAircraftID());
+        Assert.assertNull(queue.poll());
+    }
+
+    @Test
+    public void testEqualDeadlinesAreFifo() throws Exception
+    {
+        PredictionEngineTodoQueue queue = new PredictionEngineTodoQueue();
+        queue.add(newWorkItem("A", 100));
+        queue.add(newWorkItem("B", 100));
+        queue.add(newWorkItem("C", 100));
+
+        Assert.assertEquals("A", queue.poll().getAircraftID());
+        Assert.assertEquals("B", queue.poll().getAircraftID());
+        Assert.assertEquals("C", queue.poll().getAircraftID());
+    }
+
+    @Test
+    public void testCalculateDeadline() throws Exception
+    {
+        // fresh data, recently predicted aircraft gets the full latency budget
+        Assert.assertEquals(1400, PredictionWorkItem.calculateDeadline(1000, 0, 100, MAX_LATENCY));
+
+        // stale data is pulled forward, up to half the latency budget
+        Assert.assertEquals(1300, PredictionWorkItem.calculateDeadline(1000, 100, 100, MAX_LATENCY));
+        Assert.assertEquals(1200, PredictionWorkItem.calculateDeadline(1000, 10000, 100, MAX_LATENCY));
+
+        // aircraft which have not had a prediction for longer than the budget are pulled forward
+        Assert.assertEquals(1350, PredictionWorkItem.calculateDeadline(1000, 0, 450, MAX_LATENCY));
+        Assert.assertEquals(1200, PredictionWorkItem.calculateDeadline(1000, 0, Long.MAX_VALUE, MAX_LATENCY));
+
+        // never earlier than now
+        Assert.assertEquals(1000, PredictionWorkItem.calculateDeadline(1000, 10000, Long.MAX_VALUE, MAX_LATENCY));
+    }
+
+    /**
+     * A burst of 500 aircraft with random deadlines should come out of the queue in deadline order.
+     */
+    @Test
+    public void testBurstOrder() throws Exception
+    {
+        PredictionEngineTodoQueue queue = new PredictionEngineTodoQueue();
+        Random random = new Random(1234);
+        for (int i = 0; i < 500; i++)
+        {
+            queue.add(newWorkItem("A" + i, random.nextInt((int) MAX_LATENCY)));
+        }
+
+        long previousDeadline = Long.MIN_VALUE;
+        while (!queue.isEmpty())
+        {
+            PredictionWorkItem item = queue.take();
+            Assert.assertTrue(item.getDeadline() >= previousDeadline);
+            previousDeadline = item.getDeadline();
+        }
+    }
+
+    @Test
+    public void testCoalescePendingWorkItem() throws Exception
+    {
+        PredictionEngineTodoQueue queue = new PredictionEngineTodoQueue();
+        Track oldTrack = new Track();
+        Track newTrack = new Track();
+        PredictionWorkItem oldItem = new PredictionWorkItem("A", oldTrack, null, null, 0, 100);
+        PredictionWorkItem newItem = new PredictionWorkItem("A", newTrack, null, null, 50, 150);
+
+        Assert.assertTrue(queue.add(oldItem));
+        Assert.assertTrue(queue.add(newWorkItem("B", 120)));
+        Assert.assertFalse(queue.add(newItem));
+        Assert.assertEquals(2, queue.size());
+        Assert.assertEquals(1, queue.getCoalescedCount());
+
+        // the pending item keeps its place in the queue, but uses the latest track
+        PredictionWorkItem taken = queue.take();
+        Assert.assertSame(oldItem, taken);
+        Assert.assertSame(newTrack, taken.getTrack());
+        Assert.assertEquals(100, taken.getDeadline());
+    }
+
+    @Test
+    public void testStartedWorkItemNotCoalesced() throws Exception
+    {
+        PredictionEngineTodoQueue queue = new PredictionEngineTodoQueue();
+        queue.add(newWorkItem("A", 100));
+        PredictionWorkItem started = queue.take();
+
+        // a worker has this item now, so a new update should be queued separately
+        Assert.assertTrue(queue.add(newWorkItem("A", 200)));
+        Assert.assertEquals(1, queue.size());
+        Assert.assertEquals(0, queue.getCoalescedCount());
+        Assert.assertNotSame(started, queue.take());
+    }
+
+    @Test
+    public void testAddAll() throws Exception
+    {
+        PredictionEngineTodoQueue queue = new PredictionEngineTodoQueue();
+        queue.add(newWorkItem("A", 50));
+
+        ArrayList<PredictionWorkItem> batch = new ArrayList<PredictionWorkItem>();
+        batch.add(newWorkItem("C", 300));
+        PredictionWorkItem coalescedItem = newWorkItem("A", 200);
+        batch.add(coalescedItem);
+        batch.add(newWorkItem("B", 100));
+
+        ArrayList<PredictionWorkItem> coalesced = queue.addAll(batch);
+        Assert.assertEquals(1, coalesced.size());
+        Assert.assertSame(coalescedItem, coalesced.get(0));
+        Assert.assertEquals(3, queue.size());
+
+        Assert.assertEquals("A", queue.take().getAircraftID());
+        Assert.assertEquals("B", queue.take().getAircraftID());
+        Assert.assertEquals("C", queue.take().getAircraftID());
+        Assert.assertNull(queue.poll());
+    }
+
+    @Test
+    public void testDrainTo() throws Exception
+    {
+        PredictionEngineTodoQueue queue = new PredictionEngineTodoQueue();
+        queue.add(newWorkItem("C", 300));
+        queue.add(newWorkItem("A", 100));
+        queue.add(newWorkItem("B", 200));
+
+        ArrayList<PredictionWorkItem> batch = new ArrayList<PredictionWorkItem>();
+        Assert.assertEquals(2, queue.drainTo(batch, 2));
+        Assert.assertEquals("A", batch.get(0).getAircraftID());
+        Assert.assertEquals("B", batch.get(1).getAircraftID());
+        Assert.assertEquals(1, queue.size());
+
+        Assert.assertEquals(1, queue.drainTo(batch, 10));
+        Assert.assertEquals("C", batch.get(2).getAircraftID());
+        Assert.assertEquals(0, queue.drainTo(batch, 10));
+        Assert.assertNull(queue.poll());
+    }
+
+    /**
+     * Several producers and consumers at once: every work item should either be taken
+     * exactly once, or have been coalesced into a pending work item for the same aircraft.
+     */
+    @Test
+    public void testMultipleProducersAndConsumers() throws Exception
+    {
+        final PredictionEngineTodoQueue queue = new PredictionEngineTodoQueue();
+        final int nProducers = 4;
+        final int nConsumers = 8;
+        final int itemsPerProducer = 5000;
+        final ConcurrentHashMap<PredictionWorkItem, Boolean> takenItems = new ConcurrentHashMap<PredictionWorkItem, Boolean>();
+        final AtomicInteger addedCount = new AtomicInteger();
+        final AtomicInteger takenCount = new AtomicInteger();
+
+        ArrayList<Thread> producers = new ArrayList<Thread>();
+        for (int p = 0; p < nProducers; p++)
+        {
+            final int producerID = p;
+            producers.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < itemsPerProducer; i++)
+                    {
+                        if (queue.add(newWorkItem("P" + producerID + "A" + (i % 50), i)))
+                        {
+                            addedCount.incrementAndGet();
+                        }
+                    }
+                }
+            }));
+        }
+
+        ArrayList<Thread> consumers = new ArrayList<Thread>();
+        for (int c = 0; c < nConsumers; c++)
+        {
+            consumers.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    PredictionWorkItem item;
+                    while ((item = queue.poll(500)) != null)
+                    {
+                        takenItems.put(item, Boolean.TRUE);
+                        takenCount.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        for (Thread thread : consumers) { thread.start(); }
+        for (Thread thread : producers) { thread.start(); }
+        for (Thread thread : producers) { thread.join(); }
+        for (Thread thread : consumers) { thread.join(); }
+
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertEquals(addedCount.get(), takenCount.get());
+        Assert.assertEquals(addedCount.get(), takenItems.size());
+        Assert.assertEquals(nProducers * itemsPerProducer, addedCount.get() + queue.getCoalescedCount());
+    }
+}
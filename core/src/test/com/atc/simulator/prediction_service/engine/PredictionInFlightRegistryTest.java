@@ -0,0 +1,60 @@
+package com.atc.simulator.prediction_service.engine;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+/**
+ * Tests the PredictionInFlightRegistry
+ * @author Luke Frisken
+ */
+public class PredictionInFlightRegistryTest {
+
+    private static PredictionWorkItem newWorkItem(String aircraftID, long enqueueTime)
+    {
+        return new PredictionWorkItem(aircraftID, null, null, null, enqueueTime, enqueueTime + 400);
+    }
+
+    @Test
+    public void testEnqueueComplete() throws Exception
+    {
+        PredictionInFlightRegistry registry = new PredictionInFlightRegistry();
+        PredictionWorkItem a = newWorkItem("A", 0);
+        PredictionWorkItem b = newWorkItem("A", 0);
+
+        registry.enqueue(a);
+        registry.enqueue(b);
+        Assert.assertEquals(2, registry.size());
+
+        Assert.assertTrue(registry.complete(a));
+        Assert.assertFalse(registry.contains(a));
+        Assert.assertTrue(registry.contains(b));
+        Assert.assertFalse(registry.complete(a));
+        Assert.assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void testSweepOverdue() throws Exception
+    {
+        PredictionInFlightRegistry registry = new PredictionInFlightRegistry();
+        PredictionWorkItem old = newWorkItem("A", 0);
+        PredictionWorkItem recent = newWorkItem("B", 900);
+        registry.enqueue(old);
+        registry.enqueue(recent);
+
+        ArrayList<PredictionWorkItem> overdue = registry.sweepOverdue(1000, 400);
+        Assert.assertEquals(1, overdue.size());
+        Assert.assertSame(old, overdue.get(0));
+
+        // already reported items are not reported again
+        Assert.assertTrue(registry.sweepOverdue(1100, 400).isEmpty());
+
+        overdue = registry.sweepOverdue(1400, 400);
+        Assert.assertEquals(1, overdue.size());
+        Assert.assertSame(recent, overdue.get(0));
+
+        // still in flight until they are completed
+        Assert.assertEquals(2, registry.size());
+    }
+}
@@ -0,0 +1,48 @@
+package com.atc.simulator.prediction_service.engine;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the PredictionLatencyHistogram
+ * @author Luke Frisken
+ */
+public class PredictionLatencyHistogramTest {
+
+    @Test
+    public void testPercentile() throws Exception
+    {
+        PredictionLatencyHistogram histogram = new PredictionLatencyHistogram(1000);
+        for (int i = 1; i <= 100; i++)
+        {
+            histogram.record(i);
+        }
+
+        Assert.assertEquals(100, histogram.getCount());
+        Assert.assertEquals(50, histogram.getPercentile(0.5));
+        Assert.assertEquals(99, histogram.getPercentile(0.99));
+        Assert.assertEquals(100, histogram.getMax());
+    }
+
+    @Test
+    public void testOverflow() throws Exception
+    {
+        PredictionLatencyHistogram histogram = new PredictionLatencyHistogram(10);
+        histogram.record(5);
+        histogram.record(5000);
+
+        Assert.assertEquals(11, histogram.getPercentile(0.99));
+        Assert.assertEquals(5000, histogram.getMax());
+    }
+
+    @Test
+    public void testReset() throws Exception
+    {
+        PredictionLatencyHistogram histogram = new PredictionLatencyHistogram(10);
+        histogram.record(5);
+        histogram.reset();
+
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertEquals(0, histogram.getPercentile(0.99));
+    }
+}
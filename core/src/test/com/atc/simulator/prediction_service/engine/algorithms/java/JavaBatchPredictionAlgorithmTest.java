@@ -0,0 +1,186 @@
+package com.atc.simulator.prediction_service.engine.algorithms.java;
+
+import com.atc.simulator.debug_data_feed.scenarios.ADSBRealtimeScenario;
+import com.atc.simulator.debug_data_feed.scenarios.Scenario;
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.Prediction;
+import com.atc.simulator.flightdata.Track;
+import com.atc.simulator.prediction_service.engine.PredictionWorkItem;
+import com.atc.simulator.prediction_service.engine.algorithms.PredictionAlgorithmType;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.SphericalVelocity;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests that the batched predictions are the same as the single item JavaLinear2dAlgorithm and
+ * JavaCurvilinear2dAlgorithm predictions (to within rounding).
+ * @author Luke Frisken
+ */
+public class JavaBatchPredictionAlgorithmTest {
+    private static final double ANGLE_TOLERANCE = 1e-12; // radians, well under a millimeter
+    private static final double ALTITUDE_TOLERANCE = 1e-6; // meters
+    private static final double LATITUDE = Math.toRadians(-37.8136);
+    private static final double LONGITUDE = Math.toRadians(144.9631);
+
+    @BeforeClass
+    public static void setUpScenario()
+    {
+        Scenario.setCurrentScenario(new ADSBRealtimeScenario(GeographicCoordinate.fromDegrees(0, -37.8136, 144.9631)));
+    }
+
+    /**
+     * Create a track of 6 positions, 5 seconds apart, moving at about 200m/s
+     * @param aircraftID
+     * @param offset offset of the start position (radians)
+     * @param turnRate rate of turn (radians per second, positive turns right), or 0 for a straight track
+     * @param climbRate in meters per second
+     */
+    public static Track newTrack(String aircraftID, double offset, double turnRate, double climbRate)
+    {
+        double speed = 3e-5; // radians per second
+        ArrayList<AircraftState> states = new ArrayList<AircraftState>();
+        for (int i = 0; i < 6; i++)
+        {
+            double t = i * 5.0;
+            double latitude, longitude, dLatitude, dLongitude;
+            if (turnRate == 0)
+            {
+                latitude = LATITUDE + offset + speed * t;
+                longitude = LONGITUDE + offset + speed * t;
+                dLatitude = speed;
+                dLongitude = speed;
+            } else {
+                double radius = speed / Math.abs(turnRate);
+                latitude = LATITUDE + offset + radius * Math.sin(turnRate * t);
+                longitude = LONGITUDE + offset + radius * (1 - Math.cos(turnRate * t));
+                dLatitude = speed * Math.cos(turnRate * t) * Math.signum(turnRate);
+                dLongitude = speed * Math.sin(turnRate * t) * Math.signum(turnRate);
+            }
+            states.add(new AircraftState(
+                    aircraftID,
+                    1000000 + (long) (t * 1000),
+                    new GeographicCoordinate(3000 + climbRate * t, latitude, longitude),
+                    new SphericalVelocity(climbRate, dLongitude, dLatitude),
+                    0));
+        }
+        return new Track(states);
+    }
+
+    private static void assertSamePrediction(Prediction expected, Prediction actual)
+    {
+        Assert.assertEquals(expected.getPredictionState(), actual.getPredictionState());
+        Assert.assertEquals(expected.getPredictionTime(), actual.getPredictionTime());
+        Track expectedTrack = expected.getCentreTrack();
+        Track actualTrack = actual.getCentreTrack();
+        Assert.assertEquals(expectedTrack.size(), actualTrack.size());
+        for (int i = 0; i < expectedTrack.size(); i++)
+        {
+            Assert.assertEquals(expectedTrack.getTime(i), actualTrack.getTime(i));
+            Assert.assertEquals(expectedTrack.getLatitude(i), actualTrack.getLatitude(i), ANGLE_TOLERANCE);
+            Assert.assertEquals(expectedTrack.getLongitude(i), actualTrack.getLongitude(i), ANGLE_TOLERANCE);
+            Assert.assertEquals(expectedTrack.getAltitude(i), actualTrack.getAltitude(i), ALTITUDE_TOLERANCE);
+            SphericalVelocity expectedVelocity = expectedTrack.get(i).getVelocity();
+            SphericalVelocity actualVelocity = actualTrack.get(i).getVelocity();
+            Assert.assertEquals(expectedVelocity.getDR(), actualVelocity.getDR(), 0);
+            Assert.assertEquals(expectedVelocity.getDTheta(), actualVelocity.getDTheta(), 0);
+            Assert.assertEquals(expectedVelocity.getDPhi(), actualVelocity.getDPhi(), 0);
+        }
+    }
+
+    private static ArrayList<PredictionWorkItem> newBatch(int n)
+    {
+        ArrayList<PredictionWorkItem> batch = new ArrayList<PredictionWorkItem>();
+        for (int k = 0; k < n; k++)
+        {
+            double turnRate = (k % 3 == 0) ? 0 : (k % 3 == 1 ? 0.03 : -0.02);
+            PredictionAlgorithmType type = (k % 2 == 0)
+                    ? PredictionAlgorithmType.CURVILINEAR2D : PredictionAlgorithmType.LINEAR2D;
+            Track track = newTrack("A" + k, k * 1e-4, turnRate, (k % 5) - 2);
+            batch.add(new PredictionWorkItem("A" + k, track, type, null));
+        }
+        return batch;
+    }
+
+    private static void assertBatchMatches(ArrayList<PredictionWorkItem> batch)
+    {
+        for (PredictionWorkItem workItem : batch)
+        {
+            Assert.assertTrue(workItem.isCompleted());
+            Prediction expected = JavaPredictionAlgorithm.getInstance(workItem.getAlgorithmType())
+                    .makePrediction(workItem.getTrack(), null);
+            assertSamePrediction(expected, workItem.getPrediction());
+        }
+    }
+
+    @Test
+    public void testMatchesSingleItemAlgorithms() throws Exception
+    {
+        JavaBatchPredictionAlgorithm algorithm = new JavaBatchPredictionAlgorithm(null);
+        ArrayList<PredictionWorkItem> batch = newBatch(12);
+        algorithm.run(batch);
+        assertBatchMatches(batch);
+
+        Prediction.State[] expectedStates = {
+                Prediction.State.STRAIGHT, Prediction.State.RIGHT_TURN, Prediction.State.LEFT_TURN};
+        for (int k = 0; k < batch.size(); k += 2)
+        {
+            Assert.assertEquals(expectedStates[k % 3], batch.get(k).getPrediction().getPredictionState());
+        }
+
+        // the arrays are reused (and grown) for the next batch
+        batch = newBatch(100);
+        algorithm.run(batch);
+        assertBatchMatches(batch);
+    }
+
+    @Test
+    public void testForkJoinPool() throws Exception
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            JavaBatchPredictionAlgorithm algorithm = new JavaBatchPredictionAlgorithm(pool);
+            ArrayList<PredictionWorkItem> batch = newBatch(500);
+            algorithm.run(batch);
+            assertBatchMatches(batch);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Climbing and descending aircraft keep the single item algorithms' altitudes: extrapolated by
+     * LINEAR2D, and dropped by CURVILINEAR2D.
+     */
+    @Test
+    public void testAltitude() throws Exception
+    {
+        ArrayList<PredictionWorkItem> batch = new ArrayList<PredictionWorkItem>();
+        batch.add(new PredictionWorkItem("A", newTrack("A", 0, 0.03, 10), PredictionAlgorithmType.LINEAR2D, null));
+        batch.add(new PredictionWorkItem("B", newTrack("B", 0, 0.03, 10), PredictionAlgorithmType.CURVILINEAR2D, null));
+        batch.add(new PredictionWorkItem("C", newTrack("C", 0, 0, -5), PredictionAlgorithmType.CURVILINEAR2D, null));
+        new JavaBatchPredictionAlgorithm(null).run(batch);
+        assertBatchMatches(batch);
+
+        Track track = batch.get(0).getTrack();
+        Track predictionTrack = batch.get(0).getPrediction().getCentreTrack();
+        double latestAltitude = track.getLatest().getPosition().getAltitude();
+        for (int i = 0; i < predictionTrack.size(); i++)
+        {
+            double t = (predictionTrack.getTime(i) - track.getLatest().getTime()) / 1000.0;
+            Assert.assertEquals(latestAltitude + 10 * t, predictionTrack.getAltitude(i), 1e-6);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedAlgorithmType() throws Exception
+    {
+        ArrayList<PredictionWorkItem> batch = new ArrayList<PredictionWorkItem>();
+        batch.add(new PredictionWorkItem("A", newTrack("A", 0, 0, 0), PredictionAlgorithmType.LMLEASTSQUARESV3, null));
+        new JavaBatchPredictionAlgorithm(null).run(batch);
+    }
+}
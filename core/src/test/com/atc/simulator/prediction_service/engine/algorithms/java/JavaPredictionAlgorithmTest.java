@@ -0,0 +1,39 @@
+package com.atc.simulator.prediction_service.engine.algorithms.java;
+
+import com.atc.simulator.debug_data_feed.scenarios.ADSBRealtimeScenario;
+import com.atc.simulator.debug_data_feed.scenarios.Scenario;
+import com.atc.simulator.prediction_service.engine.algorithms.PredictionAlgorithmType;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the shared algorithm instances and scenario projection.
+ * @author Luke Frisken
+ */
+public class JavaPredictionAlgorithmTest {
+
+    @Test
+    public void testGetInstance() throws Exception
+    {
+        for (PredictionAlgorithmType type : PredictionAlgorithmType.values())
+        {
+            JavaPredictionAlgorithm algorithm = JavaPredictionAlgorithm.getInstance(type);
+            Assert.assertSame(algorithm, JavaPredictionAlgorithm.getInstance(type));
+        }
+
+        Assert.assertTrue(JavaPredictionAlgorithm.getInstance(PredictionAlgorithmType.LMLEASTSQUARESV3)
+                instanceof JavaLMLeastSquaresAlgorithmV3);
+        Assert.assertNull(JavaPredictionAlgorithm.getInstance(PredictionAlgorithmType.PARALLEL_TEST));
+    }
+
+    @Test
+    public void testScenarioProjection() throws Exception
+    {
+        Scenario scenario = new ADSBRealtimeScenario(GeographicCoordinate.fromDegrees(0, -37.8136, 144.9631));
+        Assert.assertSame(scenario.getProjection(), scenario.getProjection());
+
+        Scenario otherScenario = new ADSBRealtimeScenario(GeographicCoordinate.fromDegrees(0, -35.3075, 149.1244));
+        Assert.assertNotSame(scenario.getProjection(), otherScenario.getProjection());
+    }
+}
@@ -0,0 +1,201 @@
+package com.atc.simulator.prediction_service.engine.algorithms.java;
+
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.GnomonicProjection;
+import com.atc.simulator.vectors.SphericalCoordinate;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import pythagoras.d.Matrix3;
+import pythagoras.d.Vector3;
+
+import java.util.Random;
+
+/**
+ * Tests the scalar propagator against the object based calculations it replaced, and the
+ * vector propagator (when it is available in this JVM) against the scalar propagator.
+ * @author Luke Frisken
+ */
+public class JavaPredictionPropagatorTest {
+    private static final int N = 24;
+    private static final double DT = 5.0;
+    // the vector trigonometric functions may differ from Math's by an ulp, and the sums are
+    // not always done in the same order, so allow a few ulps of the size of the inputs.
+    private static final int ULPS = 16;
+
+    private final GnomonicProjection projection =
+            new GnomonicProjection(GeographicCoordinate.fromDegrees(0, -37.8136, 144.9631));
+
+    private static void assertUlps(double[] expected, double[] actual, int offset, int n, double scale)
+    {
+        double tolerance = ULPS * Math.ulp(scale);
+        for (int i = offset; i < offset + n; i++)
+        {
+            Assert.assertEquals("step " + (i - offset), expected[i], actual[i], tolerance);
+        }
+    }
+
+    @Test
+    public void testGetInstance() throws Exception
+    {
+        JavaPredictionPropagator propagator = JavaPredictionPropagator.getInstance();
+        Assert.assertNotNull(propagator);
+        Assert.assertSame(propagator, JavaPredictionPropagator.getInstance());
+    }
+
+    @Test
+    public void testGreatCircle() throws Exception
+    {
+        JavaPredictionPropagator propagator = new ScalarJavaPredictionPropagator();
+        Vector3 position = GeographicCoordinate.fromDegrees(3000, -37.8, 144.9).getCartesian();
+        Vector3 axis = new Vector3(0.3, -0.5, 0.8).normalize();
+        double angularSpeed = 4e-5;
+
+        double[] theta = new double[N];
+        double[] phi = new double[N];
+        propagator.propagateGreatCircle(position.x, position.y, position.z, axis.x, axis.y, axis.z,
+                angularSpeed, DT, N, theta, phi, 0);
+
+        for (int i = 0; i < N; i++)
+        {
+            Matrix3 rotation = new Matrix3().setToRotation(angularSpeed*(i+1)*DT, axis);
+            SphericalCoordinate expected = SphericalCoordinate.fromCartesian(rotation.transform(position));
+            Assert.assertEquals(expected.getTheta(), theta[i], 1e-12);
+            Assert.assertEquals(expected.getPhi(), phi[i], 1e-12);
+        }
+    }
+
+    @Test
+    public void testTurn() throws Exception
+    {
+        JavaPredictionPropagator propagator = new ScalarJavaPredictionPropagator();
+        Vector3 centre = new Vector3(12000, -3000, 0);
+        Vector3 rVec = new Vector3(-2500, 4000, 0);
+        double w = -0.03;
+
+        double[] x = new double[N];
+        double[] y = new double[N];
+        propagator.propagateTurn(centre.x, centre.y, rVec.x, rVec.y, w, DT, N, x, y, 0);
+
+        for (int i = 0; i < N; i++)
+        {
+            Matrix3 rotation = new Matrix3().setToRotation(w*(i+1)*DT, new Vector3(0, 0, 1));
+            Vector3 expected = centre.add(rotation.transform(rVec));
+            Assert.assertEquals(expected.x, x[i], 1e-8);
+            Assert.assertEquals(expected.y, y[i], 1e-8);
+        }
+    }
+
+    @Test
+    public void testLineAndProjectFrom() throws Exception
+    {
+        JavaPredictionPropagator propagator = new ScalarJavaPredictionPropagator();
+        double[] x = new double[N];
+        double[] y = new double[N];
+        double[] latitude = new double[N];
+        double[] longitude = new double[N];
+        propagator.propagateLine(-4000, 7000, 150, -120, DT, N, x, y, 0);
+        propagator.projectFrom(projection, x, y, N, latitude, longitude, 0);
+
+        for (int i = 0; i < N; i++)
+        {
+            double t = (i+1)*DT;
+            Assert.assertEquals(-4000 + 150*t, x[i], 1e-9);
+            Assert.assertEquals(7000 - 120*t, y[i], 1e-9);
+
+            GeographicCoordinate expected = projection.transformPositionFrom(new Vector3(x[i], y[i], 0));
+            Assert.assertEquals(expected.getLatitude(), latitude[i], 1e-12);
+            Assert.assertEquals(expected.getLongitude(), longitude[i], 1e-12);
+        }
+    }
+
+    /**
+     * A right turn fast enough to go past half a circle: both tracks follow their circles for
+     * the same number of steps, and then go straight along the tangent at the same speed.
+     */
+    @Test
+    public void testTurnTracks() throws Exception
+    {
+        JavaPredictionPropagator propagator = new ScalarJavaPredictionPropagator();
+        PredictionBuffers buffers = new PredictionBuffers();
+        double speed = 200;
+        double radius = 2000;
+        double w = speed/radius; // past half a circle after 6 steps
+        double offset = 1.5;
+        propagator.propagateTurnTracks(projection, 0, 0, 0, speed, radius, 0, w, offset, -1.0,
+                DT, N, buffers);
+
+        double[] x = buffers.getX(), y = buffers.getY();
+        double[] centreX = buffers.getCentreX(), centreY = buffers.getCentreY();
+        int nTurn = 6;
+        for (int i = 0; i < N; i++)
+        {
+            if (i < nTurn)
+            {
+                Assert.assertEquals(radius, Math.hypot(x[i] - radius, y[i]), 1e-6);
+                Assert.assertEquals(radius*offset, Math.hypot(centreX[i] - radius*offset, centreY[i]), 1e-6);
+            } else {
+                Assert.assertEquals(speed*DT, Math.hypot(x[i] - x[i-1], y[i] - y[i-1]), 1e-6);
+                Assert.assertEquals(speed*DT, Math.hypot(centreX[i] - centreX[i-1], centreY[i] - centreY[i-1]), 1e-6);
+            }
+
+            GeographicCoordinate expected = projection.transformPositionFrom(new Vector3(x[i], y[i], 0));
+            Assert.assertEquals(expected.getLatitude(), buffers.getLatitude()[i], 1e-12);
+            Assert.assertEquals(expected.getLongitude(), buffers.getLongitude()[i], 1e-12);
+        }
+
+        // the straight line carries on along the tangent at the end of the turn
+        double dot = (x[nTurn] - x[nTurn-1])*(x[nTurn-1] - radius) + (y[nTurn] - y[nTurn-1])*y[nTurn-1];
+        Assert.assertEquals(0, dot, 1e-3);
+    }
+
+    /**
+     * The vector propagator should match the scalar propagator to within a few ulps, for any
+     * number of steps (including partial vectors) and offset.
+     */
+    @Test
+    public void testVectorMatchesScalar() throws Exception
+    {
+        JavaPredictionPropagator vector = JavaPredictionPropagator.loadVectorPropagator();
+        Assume.assumeNotNull(vector);
+        JavaPredictionPropagator scalar = new ScalarJavaPredictionPropagator();
+
+        Random random = new Random(1234);
+        int size = 64;
+        double[] expectedA = new double[size], expectedB = new double[size];
+        double[] actualA = new double[size], actualB = new double[size];
+        for (int n = 1; n <= 37; n++)
+        {
+            int offset = random.nextInt(size - n + 1);
+
+            Vector3 position = GeographicCoordinate.fromDegrees(0,
+                    -30 - random.nextDouble()*10, 140 + random.nextDouble()*10).getCartesian();
+            Vector3 axis = new Vector3(random.nextGaussian(), random.nextGaussian(), random.nextGaussian()).normalize();
+            double angularSpeed = random.nextDouble()*1e-4;
+            scalar.propagateGreatCircle(position.x, position.y, position.z, axis.x, axis.y, axis.z,
+                    angularSpeed, DT, n, expectedA, expectedB, offset);
+            vector.propagateGreatCircle(position.x, position.y, position.z, axis.x, axis.y, axis.z,
+                    angularSpeed, DT, n, actualA, actualB, offset);
+            assertUlps(expectedA, actualA, offset, n, 2*Math.PI);
+            assertUlps(expectedB, actualB, offset, n, Math.PI);
+
+            double x = random.nextGaussian()*50000, y = random.nextGaussian()*50000;
+            double vx = random.nextGaussian()*200, vy = random.nextGaussian()*200;
+            scalar.propagateLine(x, y, vx, vy, DT, n, expectedA, expectedB, offset);
+            vector.propagateLine(x, y, vx, vy, DT, n, actualA, actualB, offset);
+            assertUlps(expectedA, actualA, offset, n, 100000);
+            assertUlps(expectedB, actualB, offset, n, 100000);
+
+            scalar.projectFrom(projection, expectedA, expectedB, n, expectedA, expectedB, offset);
+            vector.projectFrom(projection, actualA, actualB, n, actualA, actualB, offset);
+            assertUlps(expectedA, actualA, offset, n, Math.PI);
+            assertUlps(expectedB, actualB, offset, n, Math.PI);
+
+            double w = (random.nextDouble() - 0.5)*0.1;
+            scalar.propagateTurn(x, y, vx*20, vy*20, w, DT, n, expectedA, expectedB, offset);
+            vector.propagateTurn(x, y, vx*20, vy*20, w, DT, n, actualA, actualB, offset);
+            assertUlps(expectedA, actualA, offset, n, 100000);
+            assertUlps(expectedB, actualB, offset, n, 100000);
+        }
+    }
+}
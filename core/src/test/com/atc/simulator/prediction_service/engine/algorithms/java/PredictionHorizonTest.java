@@ -0,0 +1,99 @@
+package com.atc.simulator.prediction_service.engine.algorithms.java;
+
+import com.atc.simulator.flightdata.Prediction;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the fixed and adaptive prediction horizon policies.
+ * @author Luke Frisken
+ */
+public class PredictionHorizonTest {
+    private static final PredictionHorizon ADAPTIVE = new PredictionHorizon(
+            120000, 5000, true, 10000, 2.0, 60000, 30000, 250.0, 150000.0, 2.0);
+
+    @Test
+    public void testFixed() throws Exception
+    {
+        PredictionHorizon horizon = new PredictionHorizon(120000, 5000);
+        for (Prediction.State state : Prediction.State.values())
+        {
+            int stepTime = horizon.getStepTime(state, 0.5, 1e6);
+            Assert.assertEquals(5000, stepTime);
+            Assert.assertEquals(24, horizon.getStepCount(state, 0.5, stepTime));
+        }
+        Assert.assertEquals(24, horizon.getMaxStepCount());
+    }
+
+    @Test
+    public void testStates() throws Exception
+    {
+        int turnStep = ADAPTIVE.getStepTime(Prediction.State.LEFT_TURN, 200, 0);
+        Assert.assertEquals(5000, turnStep);
+        Assert.assertEquals(24, ADAPTIVE.getStepCount(Prediction.State.LEFT_TURN, 200, turnStep));
+        Assert.assertEquals(5000, ADAPTIVE.getStepTime(Prediction.State.RIGHT_TURN, 200, 0));
+
+        int straightStep = ADAPTIVE.getStepTime(Prediction.State.STRAIGHT, 200, 0);
+        Assert.assertEquals(10000, straightStep);
+        Assert.assertEquals(12, ADAPTIVE.getStepCount(Prediction.State.STRAIGHT, 200, straightStep));
+
+        // stopped, either by state or by speed
+        int stoppedStep = ADAPTIVE.getStepTime(Prediction.State.STOPPED, 200, 0);
+        Assert.assertEquals(30000, stoppedStep);
+        Assert.assertEquals(2, ADAPTIVE.getStepCount(Prediction.State.STOPPED, 200, stoppedStep));
+        stoppedStep = ADAPTIVE.getStepTime(Prediction.State.STRAIGHT, 1.0, 0);
+        Assert.assertEquals(30000, stoppedStep);
+        Assert.assertEquals(60000, ADAPTIVE.getHorizon(Prediction.State.STRAIGHT, 1.0));
+        Assert.assertEquals(2, ADAPTIVE.getStepCount(Prediction.State.STRAIGHT, 1.0, stoppedStep));
+    }
+
+    @Test
+    public void testMinStepDistance() throws Exception
+    {
+        // 250m at 20m/s is 12.5s, rounded up to 13s
+        int stepTime = ADAPTIVE.getStepTime(Prediction.State.STRAIGHT, 20, 0);
+        Assert.assertEquals(13000, stepTime);
+        Assert.assertEquals(9, ADAPTIVE.getStepCount(Prediction.State.STRAIGHT, 20, stepTime));
+
+        // never longer than the horizon
+        stepTime = ADAPTIVE.getStepTime(Prediction.State.LEFT_TURN, 2.5, 0);
+        Assert.assertEquals(100000, stepTime);
+        stepTime = ADAPTIVE.getStepTime(Prediction.State.LEFT_TURN, 2.01, 0);
+        Assert.assertEquals(120000, stepTime);
+        Assert.assertEquals(1, ADAPTIVE.getStepCount(Prediction.State.LEFT_TURN, 2.01, stepTime));
+    }
+
+    @Test
+    public void testFarDistance() throws Exception
+    {
+        Assert.assertEquals(5000, ADAPTIVE.getStepTime(Prediction.State.LEFT_TURN, 200, 150000));
+        Assert.assertEquals(10000, ADAPTIVE.getStepTime(Prediction.State.LEFT_TURN, 200, 150001));
+        Assert.assertEquals(20000, ADAPTIVE.getStepTime(Prediction.State.STRAIGHT, 200, 200000));
+    }
+
+    @Test
+    public void testMaxStepCount() throws Exception
+    {
+        int max = ADAPTIVE.getMaxStepCount();
+        Assert.assertEquals(24, max);
+        Prediction.State[] states = Prediction.State.values();
+        for (double speed = 0; speed < 400; speed += 0.7)
+        {
+            for (Prediction.State state : states)
+            {
+                for (double distance = 0; distance < 300000; distance += 70000)
+                {
+                    int stepTime = ADAPTIVE.getStepTime(state, speed, distance);
+                    Assert.assertTrue(stepTime > 0);
+                    Assert.assertTrue(ADAPTIVE.getStepCount(state, speed, stepTime) <= max);
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidStep() throws Exception
+    {
+        new PredictionHorizon(120000, 0);
+    }
+}
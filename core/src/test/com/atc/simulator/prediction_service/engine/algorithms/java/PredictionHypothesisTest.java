@@ -0,0 +1,101 @@
+package com.atc.simulator.prediction_service.engine.algorithms.java;
+
+import com.atc.simulator.flightdata.AircraftState;
+import com.atc.simulator.flightdata.Track;
+import com.atc.simulator.vectors.GeographicCoordinate;
+import com.atc.simulator.vectors.GnomonicProjection;
+import com.atc.simulator.vectors.SphericalVelocity;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the prediction hypotheses against the propagator loops they are made of, and the
+ * sharing of tracks between repeated hypotheses.
+ * @author Luke Frisken
+ */
+public class PredictionHypothesisTest {
+    private static final int N = 24;
+    private static final double DT = 5.0;
+
+    private final GnomonicProjection projection =
+            new GnomonicProjection(GeographicCoordinate.fromDegrees(0, -37.8136, 144.9631));
+    private final AircraftState aircraftState = new AircraftState("ABC123", 10000,
+            GeographicCoordinate.fromDegrees(3000, -37.8, 144.9), new SphericalVelocity(0, 3e-5, 1e-5), 0);
+
+    private PredictionInput newInput()
+    {
+        return new PredictionInput(aircraftState, projection, 3000, -4000, 7000, 0, 200, DT, N);
+    }
+
+    private static void assertTrack(Track track, double[] latitude, double[] longitude)
+    {
+        Assert.assertEquals(N, track.size());
+        for (int i = 0; i < N; i++)
+        {
+            Assert.assertEquals("ABC123", track.get(i).getAircraftID());
+            Assert.assertEquals(10000 + (i+1)*5000, track.getTime(i));
+            Assert.assertEquals(3000, track.getAltitude(i), 1e-6);
+            Assert.assertEquals(latitude[i], track.getLatitude(i), 1e-12);
+            Assert.assertEquals(longitude[i], track.getLongitude(i), 1e-12);
+        }
+    }
+
+    @Test
+    public void testStraight() throws Exception
+    {
+        JavaPredictionPropagator propagator = new ScalarJavaPredictionPropagator();
+        double[] x = new double[N], y = new double[N];
+        double[] latitude = new double[N], longitude = new double[N];
+        propagator.propagateLine(-4000, 7000, 0, 200, DT, N, x, y, 0);
+        propagator.projectFrom(projection, x, y, N, latitude, longitude, 0);
+
+        Track track = PredictionHypothesis.STRAIGHT.predict(newInput(), propagator, new PredictionBuffers());
+        assertTrack(track, latitude, longitude);
+    }
+
+    /**
+     * The turn and blended hypotheses should be the main and centre tracks of
+     * {@link JavaPredictionPropagator#propagateTurnTracks}.
+     */
+    @Test
+    public void testTurnAndBlended() throws Exception
+    {
+        JavaPredictionPropagator propagator = new ScalarJavaPredictionPropagator();
+        PredictionBuffers expected = new PredictionBuffers();
+        propagator.propagateTurnTracks(projection, -4000, 7000, 0, 200, -1000, 7000, 200.0/3000.0, 2.5, 1.0,
+                DT, N, expected);
+
+        PredictionInput input = newInput();
+        input.setTurn(-1000, 7000, 200.0/3000.0, 1.0, 2.5);
+        Track turn = PredictionHypothesis.TURN.predict(input, propagator, new PredictionBuffers());
+        Track blended = PredictionHypothesis.BLENDED.predict(input, propagator, new PredictionBuffers());
+        assertTrack(turn, expected.getLatitude(), expected.getLongitude());
+        assertTrack(blended, expected.getCentreLatitude(), expected.getCentreLongitude());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTurnNotTurning() throws Exception
+    {
+        PredictionHypothesis.TURN.predict(newInput(), new ScalarJavaPredictionPropagator(), new PredictionBuffers());
+    }
+
+    @Test
+    public void testPredictAll() throws Exception
+    {
+        PredictionInput input = newInput();
+        input.setTurn(-1000, 7000, 200.0/3000.0, 1.0, 2.5);
+        Track[] tracks = PredictionHypothesis.predictAll(input,
+                PredictionHypothesis.STRAIGHT, PredictionHypothesis.TURN,
+                PredictionHypothesis.STRAIGHT, PredictionHypothesis.BLENDED);
+
+        Assert.assertEquals(4, tracks.length);
+        Assert.assertSame(tracks[0], tracks[2]);
+        Assert.assertNotSame(tracks[0], tracks[1]);
+        Assert.assertNotSame(tracks[1], tracks[3]);
+
+        // the tracks don't share the buffers they were predicted in
+        Track straight = PredictionHypothesis.STRAIGHT.predict(input, new ScalarJavaPredictionPropagator(), new PredictionBuffers());
+        Assert.assertEquals(straight.getLatitude(N-1), tracks[0].getLatitude(N-1), 1e-9);
+        Assert.assertEquals(straight.getLongitude(N-1), tracks[0].getLongitude(N-1), 1e-9);
+    }
+}
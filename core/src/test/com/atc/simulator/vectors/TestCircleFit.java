@@ -0,0 +1,122 @@
+package com.atc.simulator.vectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import pythagoras.d.Circle;
+import pythagoras.d.Vector3;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * CircleFit Tester, checking that it agrees with the FromThreePoints cases in {@link TestCircleSolver},
+ * and with the ddogleg least squares fit in {@link CircleSolver#LeastSquares(java.util.List, Circle)}.
+ *
+ * @author Luke Frisken
+ */
+public class TestCircleFit {
+
+    private static CircleFit fitPoints(Vector3... points)
+    {
+        CircleFit fit = new CircleFit();
+        for (Vector3 point : points)
+        {
+            fit.add(point);
+        }
+        return fit;
+    }
+
+    private static void assertThreePointFit(Vector3 p1, Vector3 p2, Vector3 p3, double tolerance)
+    {
+        Circle expected = CircleSolver.FromThreePoints(p1, p2, p3);
+
+        CircleFit fit = fitPoints(p1, p2, p3);
+        Assert.assertTrue(fit.fitAlgebraic());
+        Assert.assertEquals(expected.x, fit.getCentreX(), tolerance);
+        Assert.assertEquals(expected.y, fit.getCentreY(), tolerance);
+        Assert.assertEquals(expected.radius, fit.getRadius(), tolerance);
+
+        Assert.assertTrue(fit.fitGeometric());
+        Assert.assertEquals(expected.x, fit.getCentreX(), tolerance);
+        Assert.assertEquals(expected.y, fit.getCentreY(), tolerance);
+        Assert.assertEquals(expected.radius, fit.getRadius(), tolerance);
+    }
+
+    /**
+     * The same cases as TestCircleSolver's FromThreePoints tests, three points define the circle exactly.
+     */
+    @Test
+    public void testThreePoints() throws Exception
+    {
+        assertThreePointFit(new Vector3(1, 0, 0), new Vector3(0, 1, 0), new Vector3(-1, 0, 0), 0.0001);
+        assertThreePointFit(new Vector3(-4, 4, 0), new Vector3(-7, 3, 0), new Vector3(-8, 2, 0), 0.0001);
+        assertThreePointFit(new Vector3(-23, 8, 0), new Vector3(4.231, 82.5, 0), new Vector3(1000.123, 456, 0), 0.0001);
+
+        // an almost straight line, the radius is huge so compare relative to it
+        assertThreePointFit(
+                new Vector3(-6743.5805059626455, 10149.280369155487, 1295.4000000003725),
+                new Vector3(-7442.60149559384, 9987.464109221019, 1318.2599999997765),
+                new Vector3(-8141.269484977976, 9825.68682477462, 1341.1200000001118),
+                1.2354542105430165E7 * 1e-4);
+    }
+
+    @Test
+    public void testStraightLine() throws Exception
+    {
+        CircleFit fit = fitPoints(new Vector3(0, 0, 0), new Vector3(1, 1, 0), new Vector3(2, 2, 0), new Vector3(3, 3, 0));
+        Assert.assertFalse(fit.fitAlgebraic());
+        Assert.assertFalse(fit.fitGeometric());
+        Assert.assertTrue(Double.isInfinite(fit.getRadius()));
+
+        fit = fitPoints(new Vector3(0, 0, 0), new Vector3(1, 1, 0));
+        Assert.assertFalse(fit.fitGeometric());
+    }
+
+    /**
+     * A moving window of an aircraft in a turn, in a projected coordinate system (metres):
+     * the fit should agree with the ddogleg fit, and be at least as good a geometric fit.
+     */
+    @Test
+    public void testParityWithLeastSquares() throws Exception
+    {
+        Random random = new Random(42);
+        for (int test = 0; test < 100; test++)
+        {
+            double centreX = (random.nextDouble() - 0.5) * 100000;
+            double centreY = (random.nextDouble() - 0.5) * 100000;
+            double radius = 2000 + random.nextDouble() * 20000;
+            double startAngle = random.nextDouble() * 2 * Math.PI;
+            double arcLength = 0.2 + random.nextDouble();
+            double noise = radius * 1e-4;
+
+            ArrayList<Vector3> points = new ArrayList<Vector3>();
+            for (int i = 0; i < 10; i++)
+            {
+                double angle = startAngle + arcLength * i / 9.0;
+                points.add(new Vector3(
+                        centreX + radius * Math.cos(angle) + random.nextGaussian() * noise,
+                        centreY + radius * Math.sin(angle) + random.nextGaussian() * noise,
+                        0));
+            }
+
+            Circle beta = CircleSolver.FromThreePoints(points.get(9), points.get(4), points.get(0));
+            Circle expected = CircleSolver.LeastSquares(points, beta);
+            Circle fitted = CircleSolver.GeometricLeastSquares(points);
+
+            Assert.assertEquals(expected.radius, fitted.radius, expected.radius * 0.02);
+            Assert.assertEquals(expected.x, fitted.x, expected.radius * 0.02);
+            Assert.assertEquals(expected.y, fitted.y, expected.radius * 0.02);
+            Assert.assertEquals(radius, fitted.radius, radius * 0.02);
+
+            CircleFit fit = CircleFit.getThreadInstance();
+            double expectedRMS = 0;
+            for (Vector3 point : points)
+            {
+                double d = Math.sqrt(CircleSolver.distance2FromCircle(expected, point));
+                expectedRMS += d*d;
+            }
+            expectedRMS = Math.sqrt(expectedRMS / points.size());
+            Assert.assertTrue(fit.getRMSError() <= expectedRMS * (1 + 1e-6));
+        }
+    }
+}
@@ -2,39 +2,181 @@ package com.atc.simulator.vectors;
 
 import org.junit.Assert;
 import org.junit.Test;
+import pythagoras.d.Plane;
+import pythagoras.d.Ray3;
 import pythagoras.d.Vector3;
 
+import java.util.Random;
+
 import static org.junit.Assert.*;
 
 /**
  * Created by Adam on 13/09/2016.
  * For conversion. Using http://keisan.casio.com/exec/system/1359534351
  *
+ * Positions are checked against the projection calculated by intersecting a ray from the centre
+ * of the earth with the projection plane (the way GnomonicProjection originally did it).
+ *
  * @author Adam
  * @author Luke Frisken
  */
 public class TestGnomonicProjection {
+    private static final GeographicCoordinate REFERENCE = GeographicCoordinate.fromDegrees(0, -37.8136, 144.9631);
+
+    //within 1 meter, SphericalCoordinate.getCartesian() is only single precision
+    private static final double TOLERANCE = 1.0;
+
+    private static Vector3 rayIntersectionProjection(GeographicCoordinate reference, GeographicCoordinate position)
+    {
+        Vector3 planePosition = reference.getCartesian();
+        Plane plane = new Plane().fromPointNormal(planePosition, planePosition.normalize().negate());
+        SphericalCoordinate sphericalReference = new SphericalCoordinate(reference);
+        Vector3 north = sphericalReference.phiCartesianUnitVector();
+        Vector3 east = sphericalReference.thetaCartesianUnitVector();
+
+        Vector3 intersection = new Vector3();
+        assertTrue(plane.intersection(new Ray3(new Vector3(0, 0, 0), position.getCartesian().normalize()), intersection));
+        Vector3 gnomonicVector = intersection.subtract(planePosition);
+        return new Vector3(gnomonicVector.dot(east), gnomonicVector.dot(north), position.getAltitude());
+    }
+
+    private static GeographicCoordinate randomPosition(Random random)
+    {
+        return GeographicCoordinate.fromDegrees(
+                random.nextDouble()*12000,
+                -37.8136 + (random.nextDouble() - 0.5)*10,
+                144.9631 + (random.nextDouble() - 0.5)*10);
+    }
 
     //Geographic -> Cartesian
     @Test
     public void transformPositionTo() throws Exception {
+        GnomonicProjection projection = new GnomonicProjection(REFERENCE);
+
+        Vector3 origin = projection.transformPositionTo(REFERENCE);
+        assertEquals(0, origin.x, TOLERANCE);
+        assertEquals(0, origin.y, TOLERANCE);
+
+        Random random = new Random(5);
+        double[] result = new double[4];
+        for (int i = 0; i < 100; i++)
+        {
+            GeographicCoordinate position = randomPosition(random);
+            Vector3 expected = rayIntersectionProjection(REFERENCE, position);
+
+            Vector3 actual = projection.transformPositionTo(position);
+            assertEquals(expected.x, actual.x, TOLERANCE);
+            assertEquals(expected.y, actual.y, TOLERANCE);
+            assertEquals(expected.z, actual.z, TOLERANCE);
 
+            projection.transformPositionTo(position.getAltitude(), position.getLatitude(), position.getLongitude(), result, 1);
+            assertEquals(actual.x, result[1], 0);
+            assertEquals(actual.y, result[2], 0);
+            assertEquals(actual.z, result[3], 0);
+        }
+
+        //the other side of the earth can't be projected
+        projection.transformPositionTo(0, -REFERENCE.getLatitude(), REFERENCE.getLongitude() + Math.PI, result, 0);
+        assertTrue(Double.isNaN(result[0]));
     }
 
     //Cartesian -> Geographic
     @Test
     public void transformPositionFrom() throws Exception {
+        GnomonicProjection projection = new GnomonicProjection(REFERENCE);
+
+        Random random = new Random(6);
+        for (int i = 0; i < 100; i++)
+        {
+            GeographicCoordinate position = randomPosition(random);
+            GeographicCoordinate roundTrip = projection.transformPositionFrom(projection.transformPositionTo(position));
+            assertEquals(position.getAltitude(), roundTrip.getAltitude(), 1e-6);
+            assertEquals(position.getLatitude(), roundTrip.getLatitude(), 1e-12);
+            assertEquals(position.getLongitude(), roundTrip.getLongitude(), 1e-12);
+        }
+    }
+
+    @Test
+    public void transformPositionsBatch() throws Exception {
+        GnomonicProjection projection = new GnomonicProjection(REFERENCE);
+
+        Random random = new Random(7);
+        int count = 20;
+        double[] geographic = new double[count*3 + 3];
+        for (int i = 0; i < count; i++)
+        {
+            GeographicCoordinate position = randomPosition(random);
+            geographic[3 + i*3] = position.getAltitude();
+            geographic[3 + i*3 + 1] = position.getLatitude();
+            geographic[3 + i*3 + 2] = position.getLongitude();
+        }
+
+        double[] projected = new double[count*3];
+        projection.transformPositionsTo(geographic, 3, projected, 0, count);
+        double[] single = new double[3];
+        for (int i = 0; i < count; i++)
+        {
+            projection.transformPositionTo(geographic[3 + i*3], geographic[3 + i*3 + 1], geographic[3 + i*3 + 2], single, 0);
+            assertEquals(single[0], projected[i*3], 0);
+            assertEquals(single[1], projected[i*3 + 1], 0);
+            assertEquals(single[2], projected[i*3 + 2], 0);
+        }
+
+        double[] roundTrip = new double[count*3 + 3];
+        projection.transformPositionsFrom(projected, 0, roundTrip, 3, count);
+        for (int i = 3; i < roundTrip.length; i++)
+        {
+            assertEquals(geographic[i], roundTrip[i], 1e-6);
+        }
+    }
+
+    @Test
+    public void getReferenceDistance() throws Exception {
+        GnomonicProjection projection = new GnomonicProjection(REFERENCE);
+        GeographicCoordinate[] positions = {
+                GeographicCoordinate.fromDegrees(3000, -37, 145),
+                GeographicCoordinate.fromDegrees(0, -30, 150),
+                new GeographicCoordinate(REFERENCE)
+        };
+        for (GeographicCoordinate position : positions)
+        {
+            Vector3 projectedPosition = projection.transformPositionTo(position);
+            Vector3 cartesian = position.getCartesian();
+            assertEquals(Math.hypot(projectedPosition.x, projectedPosition.y),
+                    projection.getReferenceDistance(cartesian.x, cartesian.y, cartesian.z), 10.0);
+        }
 
+        // the other side of the earth can't be projected
+        Vector3 antipode = REFERENCE.getCartesian().mult(-1);
+        assertTrue(Double.isNaN(projection.getReferenceDistance(antipode.x, antipode.y, antipode.z)));
     }
 
     @Test
     public void tranformVelocityTo() throws Exception {
+        GnomonicProjection projection = new GnomonicProjection(REFERENCE);
+        GeographicCoordinate position = GeographicCoordinate.fromDegrees(3000, -37, 145);
+        Vector3 projectedPosition = projection.transformPositionTo(position);
+        SphericalVelocity velocity = new SphericalVelocity(0, 1e-5, 2e-5);
 
+        Vector3 projectedVelocity = projection.tranformVelocityTo(velocity, position, projectedPosition);
+        Vector3 expected = rayIntersectionProjection(REFERENCE, new GeographicCoordinate(position.add(velocity)))
+                .subtract(rayIntersectionProjection(REFERENCE, position));
+        assertEquals(expected.x, projectedVelocity.x, TOLERANCE);
+        assertEquals(expected.y, projectedVelocity.y, TOLERANCE);
     }
 
     @Test
     public void transformVelocityFrom() throws Exception {
+        GnomonicProjection projection = new GnomonicProjection(REFERENCE);
+        GeographicCoordinate position = GeographicCoordinate.fromDegrees(3000, -37, 145);
+        Vector3 projectedPosition = projection.transformPositionTo(position);
+        SphericalVelocity velocity = new SphericalVelocity(0, 1e-5, 2e-5);
 
+        Vector3 projectedVelocity = projection.tranformVelocityTo(velocity, position, projectedPosition);
+        SphericalVelocity roundTrip = projection.transformVelocityFrom(projectedVelocity, position, projectedPosition);
+        assertEquals(velocity.getDR(), roundTrip.getDR(), 1e-6);
+        assertEquals(velocity.getDTheta(), roundTrip.getDTheta(), 1e-12);
+        assertEquals(velocity.getDPhi(), roundTrip.getDPhi(), 1e-12);
     }
 
 }
\ No newline at end of file
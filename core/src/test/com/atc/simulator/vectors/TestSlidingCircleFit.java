@@ -0,0 +1,162 @@
+package com.atc.simulator.vectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * SlidingCircleFit Tester, checking that sliding the window along an arc gives the same fit as
+ * fitting a {@link CircleFit} to the points in the window from scratch.
+ *
+ * @author Luke Frisken
+ */
+public class TestSlidingCircleFit {
+    private static final int WINDOW_SIZE = 10;
+    private static final double CENTRE_X = 25000;
+    private static final double CENTRE_Y = -40000;
+    private static final double RADIUS = 5000;
+
+    private static double arcX(int i, Random random)
+    {
+        return CENTRE_X + RADIUS*Math.cos(i*0.02) + random.nextGaussian();
+    }
+
+    private static double arcY(int i, Random random)
+    {
+        return CENTRE_Y + RADIUS*Math.sin(i*0.02) + random.nextGaussian();
+    }
+
+    /**
+     * Slide the window along a noisy arc, for long enough that the running sums are recalculated
+     * a few times, and compare each fit against a fresh CircleFit of the same points.
+     */
+    @Test
+    public void testSlidingMatchesFromScratch() throws Exception
+    {
+        Random random = new Random(1234);
+        double[] px = new double[1000];
+        double[] py = new double[1000];
+        for (int i = 0; i < px.length; i++)
+        {
+            px[i] = arcX(i, random);
+            py[i] = arcY(i, random);
+        }
+
+        SlidingCircleFit slidingFit = new SlidingCircleFit(WINDOW_SIZE);
+        CircleFit circleFit = new CircleFit();
+        double[] algebraic = new double[3];
+
+        for (int i = 0; i < px.length; i++)
+        {
+            slidingFit.add(i*1000, px[i], py[i]);
+            if (i < 2)
+            {
+                Assert.assertFalse(slidingFit.fit());
+                continue;
+            }
+
+            int from = Math.max(0, i - WINDOW_SIZE + 1);
+            Assert.assertEquals(i - from + 1, slidingFit.size());
+            Assert.assertEquals(from*1000, slidingFit.getOldestTime());
+            Assert.assertEquals(i*1000, slidingFit.getNewestTime());
+
+            circleFit.clear();
+            for (int j = from; j <= i; j++)
+            {
+                circleFit.add(px[j], py[j]);
+            }
+
+            Assert.assertTrue(circleFit.fitAlgebraic());
+            Assert.assertTrue(slidingFit.fitAlgebraic(algebraic));
+            double tolerance = circleFit.getRadius()*1e-6;
+            Assert.assertEquals(circleFit.getCentreX(), algebraic[0], tolerance);
+            Assert.assertEquals(circleFit.getCentreY(), algebraic[1], tolerance);
+            Assert.assertEquals(circleFit.getRadius(), algebraic[2], tolerance);
+
+            Assert.assertTrue(circleFit.fitGeometric());
+            Assert.assertTrue(slidingFit.fit());
+            tolerance = circleFit.getRadius()*1e-6;
+            Assert.assertEquals(circleFit.getCentreX(), slidingFit.getCentreX(), tolerance);
+            Assert.assertEquals(circleFit.getCentreY(), slidingFit.getCentreY(), tolerance);
+            Assert.assertEquals(circleFit.getRadius(), slidingFit.getRadius(), tolerance);
+        }
+    }
+
+    /**
+     * Removing points from the back of the window, and clearing it.
+     */
+    @Test
+    public void testRemoveOldest() throws Exception
+    {
+        SlidingCircleFit slidingFit = new SlidingCircleFit(WINDOW_SIZE);
+        Random random = new Random(42);
+        for (int i = 0; i < 5; i++)
+        {
+            slidingFit.add(i, arcX(i*20, random), arcY(i*20, random));
+        }
+        slidingFit.removeOldest();
+        slidingFit.removeOldest();
+        Assert.assertEquals(3, slidingFit.size());
+        Assert.assertEquals(2, slidingFit.getOldestTime());
+        Assert.assertTrue(slidingFit.fit());
+        Assert.assertEquals(RADIUS, slidingFit.getRadius(), 100);
+
+        slidingFit.removeOldest();
+        Assert.assertFalse(slidingFit.fit());
+        Assert.assertTrue(Double.isInfinite(slidingFit.getRadius()));
+
+        slidingFit.clear();
+        Assert.assertEquals(0, slidingFit.size());
+        try {
+            slidingFit.removeOldest();
+            Assert.fail("expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Warm starting from the previous solution should take no more iterations overall than
+     * starting each fit from the algebraic solution.
+     */
+    @Test
+    public void testWarmStart() throws Exception
+    {
+        Random random = new Random(99);
+        double[] px = new double[200];
+        double[] py = new double[200];
+        for (int i = 0; i < px.length; i++)
+        {
+            px[i] = arcX(i, random);
+            py[i] = arcY(i, random);
+        }
+
+        SlidingCircleFit slidingFit = new SlidingCircleFit(WINDOW_SIZE);
+        CircleFit circleFit = new CircleFit();
+        int warmIterations = 0;
+        int coldIterations = 0;
+        for (int i = 0; i < px.length; i++)
+        {
+            slidingFit.add(i, px[i], py[i]);
+            if (slidingFit.size() < WINDOW_SIZE)
+            {
+                continue;
+            }
+
+            Assert.assertTrue(slidingFit.fit());
+            warmIterations += slidingFit.getIterations();
+
+            circleFit.clear();
+            for (int j = i - WINDOW_SIZE + 1; j <= i; j++)
+            {
+                circleFit.add(px[j], py[j]);
+            }
+            Assert.assertTrue(circleFit.fitGeometric());
+            coldIterations += circleFit.getIterations();
+        }
+
+        Assert.assertTrue("warm " + warmIterations + " cold " + coldIterations,
+                warmIterations <= coldIterations);
+    }
+}
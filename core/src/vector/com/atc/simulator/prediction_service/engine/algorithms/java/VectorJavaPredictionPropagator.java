@@ -0,0 +1,214 @@
+package com.atc.simulator.prediction_service.engine.algorithms.java;
+
+import com.atc.simulator.vectors.GnomonicProjection;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The Vector API (jdk.incubator.vector) implementation of the {@link JavaPredictionPropagator},
+ * which calculates as many steps at once as there are lanes in the platform's preferred vector
+ * size. The steps left over after the last whole vector are calculated with one more whole vector
+ * which ends at the last step, overlapping the previous one (the overlapping steps are calculated
+ * again, with the same results). Only fewer steps than there are lanes (and the left over steps
+ * of a projection in place) are calculated one at a time, masked loads and stores aren't
+ * intrinsified on every platform, and allocate when they aren't.
+ *
+ * This is in the optional vector source set, which is only built with a JDK 16 or newer, and can
+ * only be loaded if the JVM was started with --add-modules jdk.incubator.vector.
+ * {@link JavaPredictionPropagator#getInstance()} falls back to the {@link ScalarJavaPredictionPropagator}
+ * otherwise.
+ *
+ * The trigonometric functions are the Vector API's, which are allowed to differ from
+ * {@link Math}'s by 1 ulp, so the results are not bit identical with the scalar implementation.
+ *
+ * @author Luke Frisken
+ */
+public class VectorJavaPredictionPropagator extends JavaPredictionPropagator {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final double TWOPI = Math.PI * 2.0;
+
+    // the step number of each lane, starting at 1
+    private static final double[] LANE_STEPS = new double[SPECIES.length()];
+    static {
+        for (int i = 0; i < LANE_STEPS.length; i++)
+        {
+            LANE_STEPS[i] = i + 1;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "vector " + SPECIES;
+    }
+
+    /**
+     * Get the step to start the next whole vector at, after the one starting at step i
+     * @param i
+     * @param n number of steps
+     * @return the next step, or n if the vector at i was the last one
+     */
+    private static int nextVector(int i, int n)
+    {
+        int last = n - SPECIES.length();
+        if (i == last)
+        {
+            return n;
+        }
+        return Math.min(i + SPECIES.length(), last);
+    }
+
+    /**
+     * The times of the steps starting at step i, in seconds
+     */
+    private static DoubleVector stepTimes(DoubleVector laneSteps, int i, double dt)
+    {
+        return laneSteps.add(i).mul(dt);
+    }
+
+    @Override
+    public void propagateGreatCircle(double x, double y, double z,
+                                     double axisX, double axisY, double axisZ,
+                                     double angularSpeed, double dt, int n,
+                                     double[] theta, double[] phi, int offset)
+    {
+        double r = Math.sqrt(x*x + y*y + z*z);
+
+        // rodrigues' rotation formula: p*cos + (k x p)*sin + k*(k.p)*(1 - cos)
+        double crossX = axisY*z - axisZ*y;
+        double crossY = axisZ*x - axisX*z;
+        double crossZ = axisX*y - axisY*x;
+        double dot = axisX*x + axisY*y + axisZ*z;
+
+        DoubleVector laneSteps = DoubleVector.fromArray(SPECIES, LANE_STEPS, 0);
+        int i = 0;
+        if (n >= SPECIES.length())
+        {
+            for (; i < n; i = nextVector(i, n))
+            {
+                DoubleVector angle = stepTimes(laneSteps, i, dt).mul(angularSpeed);
+                DoubleVector cos = angle.lanewise(VectorOperators.COS);
+                DoubleVector sin = angle.lanewise(VectorOperators.SIN);
+                DoubleVector parallel = cos.neg().add(1.0).mul(dot);
+                DoubleVector rx = cos.mul(x).add(sin.mul(crossX)).add(parallel.mul(axisX));
+                DoubleVector ry = cos.mul(y).add(sin.mul(crossY)).add(parallel.mul(axisY));
+                DoubleVector rz = cos.mul(z).add(sin.mul(crossZ)).add(parallel.mul(axisZ));
+
+                DoubleVector stepTheta = ry.lanewise(VectorOperators.ATAN2, rx);
+                stepTheta = stepTheta.blend(stepTheta.add(TWOPI), stepTheta.lt(0.0));
+                stepTheta.intoArray(theta, offset + i);
+                rz.div(r).lanewise(VectorOperators.ACOS).intoArray(phi, offset + i);
+            }
+        }
+        for (; i < n; i++)
+        {
+            double angle = angularSpeed * ((i + 1) * dt);
+            double cos = Math.cos(angle);
+            double sin = Math.sin(angle);
+            double parallel = dot * (1.0 - cos);
+            double rx = x*cos + crossX*sin + axisX*parallel;
+            double ry = y*cos + crossY*sin + axisY*parallel;
+            double rz = z*cos + crossZ*sin + axisZ*parallel;
+
+            double stepTheta = Math.atan2(ry, rx);
+            theta[offset + i] = stepTheta < 0 ? stepTheta + TWOPI : stepTheta;
+            phi[offset + i] = Math.acos(rz / r);
+        }
+    }
+
+    @Override
+    public void propagateLine(double x, double y, double velocityX, double velocityY,
+                              double dt, int n,
+                              double[] resultX, double[] resultY, int offset)
+    {
+        DoubleVector laneSteps = DoubleVector.fromArray(SPECIES, LANE_STEPS, 0);
+        int i = 0;
+        if (n >= SPECIES.length())
+        {
+            for (; i < n; i = nextVector(i, n))
+            {
+                DoubleVector t = stepTimes(laneSteps, i, dt);
+                t.mul(velocityX).add(x).intoArray(resultX, offset + i);
+                t.mul(velocityY).add(y).intoArray(resultY, offset + i);
+            }
+        }
+        for (; i < n; i++)
+        {
+            double t = (i + 1) * dt;
+            resultX[offset + i] = x + velocityX * t;
+            resultY[offset + i] = y + velocityY * t;
+        }
+    }
+
+    @Override
+    public void propagateTurn(double centreX, double centreY, double radiusX, double radiusY,
+                              double angularVelocity, double dt, int n,
+                              double[] resultX, double[] resultY, int offset)
+    {
+        DoubleVector laneSteps = DoubleVector.fromArray(SPECIES, LANE_STEPS, 0);
+        int i = 0;
+        if (n >= SPECIES.length())
+        {
+            for (; i < n; i = nextVector(i, n))
+            {
+                DoubleVector angle = stepTimes(laneSteps, i, dt).mul(angularVelocity);
+                DoubleVector cos = angle.lanewise(VectorOperators.COS);
+                DoubleVector sin = angle.lanewise(VectorOperators.SIN);
+                cos.mul(radiusX).sub(sin.mul(radiusY)).add(centreX).intoArray(resultX, offset + i);
+                sin.mul(radiusX).add(cos.mul(radiusY)).add(centreY).intoArray(resultY, offset + i);
+            }
+        }
+        for (; i < n; i++)
+        {
+            double angle = angularVelocity * ((i + 1) * dt);
+            double cos = Math.cos(angle);
+            double sin = Math.sin(angle);
+            resultX[offset + i] = centreX + radiusX*cos - radiusY*sin;
+            resultY[offset + i] = centreY + radiusX*sin + radiusY*cos;
+        }
+    }
+
+    @Override
+    public void projectFrom(GnomonicProjection projection, double[] x, double[] y, int n,
+                            double[] latitude, double[] longitude, int offset)
+    {
+        double[] basis = new double[GnomonicProjection.BASIS_SIZE];
+        projection.getBasis(basis, 0);
+        double planeDistance = basis[0];
+        double originX = planeDistance*basis[1];
+        double originY = planeDistance*basis[2];
+        double originZ = planeDistance*basis[3];
+        double eastX = basis[4], eastY = basis[5], eastZ = basis[6];
+        double northX = basis[7], northY = basis[8], northZ = basis[9];
+        // an overlapping vector would read positions which have already been replaced,
+        // so in place the steps after the last whole vector are calculated one at a time.
+        boolean inPlace = x == latitude || x == longitude || y == latitude || y == longitude;
+        int end = inPlace ? SPECIES.loopBound(n) : n;
+
+        int i = 0;
+        if (n >= SPECIES.length())
+        {
+            for (; i < end; i = inPlace ? i + SPECIES.length() : nextVector(i, n))
+            {
+                DoubleVector px = DoubleVector.fromArray(SPECIES, x, offset + i);
+                DoubleVector py = DoubleVector.fromArray(SPECIES, y, offset + i);
+
+                // position on the projection plane, only its direction from the centre of the earth matters
+                DoubleVector cx = px.mul(eastX).add(py.mul(northX)).add(originX);
+                DoubleVector cy = px.mul(eastY).add(py.mul(northY)).add(originY);
+                DoubleVector cz = px.mul(eastZ).add(py.mul(northZ)).add(originZ);
+
+                DoubleVector horizontal = cx.mul(cx).add(cy.mul(cy)).sqrt();
+                cz.neg().lanewise(VectorOperators.ATAN2, horizontal).intoArray(latitude, offset + i);
+                cy.neg().lanewise(VectorOperators.ATAN2, cx.neg()).intoArray(longitude, offset + i);
+            }
+        }
+        double[] geographic = new double[3];
+        for (; i < n; i++)
+        {
+            projection.transformPositionFrom(x[offset + i], y[offset + i], 0, geographic, 0);
+            latitude[offset + i] = geographic[1];
+            longitude[offset + i] = geographic[2];
+        }
+    }
+}